@@ -67,6 +67,8 @@ public class PropertyKeyConst {
     
     public static final String NAMING_CACHE_REGISTRY_DIR = "namingCacheRegistryDir";
     
+    public static final String NAMING_CACHE_FLUSH_INTERVAL = "namingCacheFlushInterval";
+    
     public static final String NAMING_CLIENT_BEAT_THREAD_COUNT = "namingClientBeatThreadCount";
     
     public static final String NAMING_POLLING_THREAD_COUNT = "namingPollingThreadCount";
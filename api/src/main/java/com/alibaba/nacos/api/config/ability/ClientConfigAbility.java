@@ -33,6 +33,11 @@ public class ClientConfigAbility implements Serializable {
      */
     private boolean supportRemoteMetrics;
     
+    /**
+     * support receive a batch of changed configs in one notify request.
+     */
+    private boolean supportBatchChangeNotify;
+    
     public boolean isSupportRemoteMetrics() {
         return supportRemoteMetrics;
     }
@@ -40,4 +45,12 @@ public class ClientConfigAbility implements Serializable {
     public void setSupportRemoteMetrics(boolean supportRemoteMetrics) {
         this.supportRemoteMetrics = supportRemoteMetrics;
     }
+    
+    public boolean isSupportBatchChangeNotify() {
+        return supportBatchChangeNotify;
+    }
+    
+    public void setSupportBatchChangeNotify(boolean supportBatchChangeNotify) {
+        this.supportBatchChangeNotify = supportBatchChangeNotify;
+    }
 }
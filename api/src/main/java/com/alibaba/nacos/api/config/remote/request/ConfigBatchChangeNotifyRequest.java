@@ -0,0 +1,62 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.config.remote.request;
+
+import com.alibaba.nacos.api.common.Constants;
+import com.alibaba.nacos.api.config.remote.response.ConfigChangeBatchListenResponse.ConfigContext;
+import com.alibaba.nacos.api.remote.request.ServerRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Notify a batch of changed configs to client in one request, only sent to the client which supports it.
+ *
+ * @author xiweng.yy
+ */
+public class ConfigBatchChangeNotifyRequest extends ServerRequest {
+    
+    private List<ConfigContext> changedConfigs = new ArrayList<>();
+    
+    /**
+     * add changed config.
+     *
+     * @param dataId dataId.
+     * @param group  group.
+     * @param tenant tenant.
+     */
+    public void addChangeConfig(String dataId, String group, String tenant) {
+        ConfigContext configContext = new ConfigContext();
+        configContext.setDataId(dataId);
+        configContext.setGroup(group);
+        configContext.setTenant(tenant);
+        changedConfigs.add(configContext);
+    }
+    
+    public List<ConfigContext> getChangedConfigs() {
+        return changedConfigs;
+    }
+    
+    public void setChangedConfigs(List<ConfigContext> changedConfigs) {
+        this.changedConfigs = changedConfigs;
+    }
+    
+    @Override
+    public String getModule() {
+        return Constants.Config.CONFIG_MODULE;
+    }
+}
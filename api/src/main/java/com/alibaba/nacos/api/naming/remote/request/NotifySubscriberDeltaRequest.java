@@ -0,0 +1,115 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.naming.remote.request;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.remote.request.ServerRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.alibaba.nacos.api.common.Constants.Naming.NAMING_MODULE;
+
+/**
+ * Notify subscriber delta request, only contains the changed instances based on the revision client acknowledged.
+ *
+ * <p>The {@link #serviceInfo} only carries the service level information without hosts. Client should apply the delta
+ * only if its local revision equals to {@link #baseRevision}, otherwise reply failure to ask a full push.
+ *
+ * @author xiweng.yy
+ */
+public class NotifySubscriberDeltaRequest extends ServerRequest {
+    
+    private ServiceInfo serviceInfo;
+    
+    private long baseRevision;
+    
+    private long revision;
+    
+    private List<Instance> addedHosts = new ArrayList<>();
+    
+    private List<Instance> removedHosts = new ArrayList<>();
+    
+    private List<Instance> modifiedHosts = new ArrayList<>();
+    
+    public NotifySubscriberDeltaRequest() {
+    }
+    
+    @Override
+    public String getModule() {
+        return NAMING_MODULE;
+    }
+    
+    /**
+     * Build the key to identify an instance in delta push.
+     *
+     * @param instance instance
+     * @return key of instance
+     */
+    public static String buildInstanceKey(Instance instance) {
+        return instance.getIp() + "#" + instance.getPort() + "#" + instance.getClusterName();
+    }
+    
+    public ServiceInfo getServiceInfo() {
+        return serviceInfo;
+    }
+    
+    public void setServiceInfo(ServiceInfo serviceInfo) {
+        this.serviceInfo = serviceInfo;
+    }
+    
+    public long getBaseRevision() {
+        return baseRevision;
+    }
+    
+    public void setBaseRevision(long baseRevision) {
+        this.baseRevision = baseRevision;
+    }
+    
+    public long getRevision() {
+        return revision;
+    }
+    
+    public void setRevision(long revision) {
+        this.revision = revision;
+    }
+    
+    public List<Instance> getAddedHosts() {
+        return addedHosts;
+    }
+    
+    public void setAddedHosts(List<Instance> addedHosts) {
+        this.addedHosts = addedHosts;
+    }
+    
+    public List<Instance> getRemovedHosts() {
+        return removedHosts;
+    }
+    
+    public void setRemovedHosts(List<Instance> removedHosts) {
+        this.removedHosts = removedHosts;
+    }
+    
+    public List<Instance> getModifiedHosts() {
+        return modifiedHosts;
+    }
+    
+    public void setModifiedHosts(List<Instance> modifiedHosts) {
+        this.modifiedHosts = modifiedHosts;
+    }
+}
@@ -77,11 +77,26 @@ public class DefaultRequestFuture implements RequestFuture {
     
     public DefaultRequestFuture(String connectionId, String requestId, RequestCallBack requestCallBack,
             TimeoutInnerTrigger timeoutInnerTrigger) {
+        this(connectionId, requestId, requestCallBack, timeoutInnerTrigger, true);
+    }
+    
+    /**
+     * Create request future.
+     *
+     * @param connectionId        connection id
+     * @param requestId           request id
+     * @param requestCallBack     callback of request, can be null
+     * @param timeoutInnerTrigger trigger when timeout, can be null
+     * @param scheduleTimeout     whether schedule timeout of callback by {@link RpcScheduledExecutor#TIMEOUT_SCHEDULER},
+     *                            {@code false} if the timeout is tracked by caller
+     */
+    public DefaultRequestFuture(String connectionId, String requestId, RequestCallBack requestCallBack,
+            TimeoutInnerTrigger timeoutInnerTrigger, boolean scheduleTimeout) {
         this.timeStamp = System.currentTimeMillis();
         this.requestCallBack = requestCallBack;
         this.requestId = requestId;
         this.connectionId = connectionId;
-        if (requestCallBack != null) {
+        if (requestCallBack != null && scheduleTimeout) {
             this.timeoutFuture = RpcScheduledExecutor.TIMEOUT_SCHEDULER
                     .schedule(new TimeoutHandler(), requestCallBack.getTimeout(), TimeUnit.MILLISECONDS);
         }
@@ -17,6 +17,7 @@
 package com.alibaba.nacos.api.remote.ability;
 
 import java.io.Serializable;
+import java.util.List;
 
 /**
  * remote abilities of nacos client.
@@ -33,6 +34,11 @@ public class ClientRemoteAbility implements Serializable {
      */
     private boolean supportRemoteConnection;
     
+    /**
+     * names of payload codec supported by client, null means only json supported.
+     */
+    private List<String> supportedPayloadCodecs;
+    
     public boolean isSupportRemoteConnection() {
         return this.supportRemoteConnection;
     }
@@ -40,4 +46,12 @@ public class ClientRemoteAbility implements Serializable {
     public void setSupportRemoteConnection(boolean supportRemoteConnection) {
         this.supportRemoteConnection = supportRemoteConnection;
     }
+    
+    public List<String> getSupportedPayloadCodecs() {
+        return supportedPayloadCodecs;
+    }
+    
+    public void setSupportedPayloadCodecs(List<String> supportedPayloadCodecs) {
+        this.supportedPayloadCodecs = supportedPayloadCodecs;
+    }
 }
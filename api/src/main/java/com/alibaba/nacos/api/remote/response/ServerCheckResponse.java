@@ -16,6 +16,8 @@
 
 package com.alibaba.nacos.api.remote.response;
 
+import java.util.List;
+
 /**
  * response of server check.
  *
@@ -26,6 +28,11 @@ public class ServerCheckResponse extends Response {
     
     private String connectionId;
     
+    /**
+     * Names of payload codec supported by server, null means only json supported.
+     */
+    private List<String> supportedPayloadCodecs;
+    
     public ServerCheckResponse() {
     
     }
@@ -41,4 +48,12 @@ public class ServerCheckResponse extends Response {
     public void setConnectionId(String connectionId) {
         this.connectionId = connectionId;
     }
+    
+    public List<String> getSupportedPayloadCodecs() {
+        return supportedPayloadCodecs;
+    }
+    
+    public void setSupportedPayloadCodecs(List<String> supportedPayloadCodecs) {
+        this.supportedPayloadCodecs = supportedPayloadCodecs;
+    }
 }
@@ -0,0 +1,141 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.config;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of finding the long polling clients which listen one changed config.
+ *
+ * <p>Compares scanning all clients and looking up the group key in the md5 map of each client, as the data change
+ * task of {@code LongPollingService} did, with looking up the clients in the group key index. The clients are
+ * modeled by their md5 maps only, since the servlet async context of a real client is not needed to find it.
+ *
+ * @author xiweng.yy
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(1)
+@Fork(1)
+public class LongPollingFanOutBenchmark {
+    
+    @Param({"30000"})
+    private int clientCount;
+    
+    @Param({"10000"})
+    private int groupKeyCount;
+    
+    @Param({"10"})
+    private int listenPerClient;
+    
+    private String[] groupKeys;
+    
+    private Queue<Map<String, String>> allSubs;
+    
+    private Map<String, Set<Map<String, String>>> groupKeySubs;
+    
+    /**
+     * Prepare clients listening random group keys in both the client queue and the group key index.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        groupKeys = new String[groupKeyCount];
+        for (int i = 0; i < groupKeyCount; i++) {
+            groupKeys[i] = "dataId-" + i + "+DEFAULT_GROUP+public";
+        }
+        allSubs = new ConcurrentLinkedQueue<>();
+        groupKeySubs = new ConcurrentHashMap<>(groupKeyCount);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < clientCount; i++) {
+            Map<String, String> clientMd5Map = new HashMap<>(listenPerClient * 2);
+            for (int j = 0; j < listenPerClient; j++) {
+                clientMd5Map.put(groupKeys[random.nextInt(groupKeyCount)], "md5");
+            }
+            allSubs.add(clientMd5Map);
+            for (String each : clientMd5Map.keySet()) {
+                groupKeySubs.computeIfAbsent(each, key -> ConcurrentHashMap.newKeySet()).add(clientMd5Map);
+            }
+        }
+    }
+    
+    /**
+     * Previous path, one config change scans all clients.
+     */
+    @Benchmark
+    public int scanAllClients() {
+        String groupKey = randomGroupKey();
+        int result = 0;
+        for (Map<String, String> each : allSubs) {
+            if (each.containsKey(groupKey)) {
+                result++;
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Indexed path, one config change only visits the clients listening it.
+     */
+    @Benchmark
+    public int lookupIndex() {
+        Set<Map<String, String>> subs = groupKeySubs.get(randomGroupKey());
+        int result = 0;
+        if (null != subs) {
+            for (Map<String, String> each : subs) {
+                if (null != each) {
+                    result++;
+                }
+            }
+        }
+        return result;
+    }
+    
+    private String randomGroupKey() {
+        return groupKeys[ThreadLocalRandom.current().nextInt(groupKeyCount)];
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(LongPollingFanOutBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.core;
+
+import com.alibaba.nacos.common.executor.NameThreadFactory;
+import com.alibaba.nacos.core.utils.RemoteUtils;
+import com.alibaba.nacos.core.utils.VirtualThreadExecutors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency benchmark of rpc executor modes with blocking request handlers.
+ *
+ * <p>Each invocation submits a burst of requests which block like database or raft waits, and returns when all of them
+ * are handled, so the sampled percentiles show the tail latency of the burst. Run with {@code -prof gc} to compare
+ * memory. The virtual mode falls back to thread pool when the running JDK doesn't support virtual thread.
+ *
+ * @author xiweng.yy
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RpcExecutorBenchmark {
+    
+    private static final int THREAD_TIMES_OF_PROCESSORS = 16;
+    
+    @Param({RemoteUtils.REMOTE_EXECUTOR_MODE_PLATFORM, RemoteUtils.REMOTE_EXECUTOR_MODE_VIRTUAL})
+    private String executorMode;
+    
+    @Param({"1000", "10000"})
+    private int concurrentRequests;
+    
+    @Param({"5"})
+    private long blockingMills;
+    
+    private ExecutorService executor;
+    
+    /**
+     * Build executor as rpc server does.
+     */
+    @Setup
+    public void setUp() {
+        if (RemoteUtils.REMOTE_EXECUTOR_MODE_VIRTUAL.equals(executorMode) && VirtualThreadExecutors.isSupported()) {
+            executor = VirtualThreadExecutors.newVirtualThreadPerTaskExecutor("benchmark-vt-");
+        } else {
+            int threads = Runtime.getRuntime().availableProcessors() * THREAD_TIMES_OF_PROCESSORS;
+            executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                    new NameThreadFactory("benchmark-pool-"));
+        }
+    }
+    
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+    
+    /**
+     * Handle a burst of blocking requests.
+     */
+    @Benchmark
+    public void handleBurst() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(concurrentRequests);
+        for (int i = 0; i < concurrentRequests; i++) {
+            executor.execute(() -> {
+                try {
+                    TimeUnit.MILLISECONDS.sleep(blockingMills);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                latch.countDown();
+            });
+        }
+        latch.await();
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(RpcExecutorBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.core;
+
+import com.alibaba.nacos.core.remote.control.MonitorType;
+import com.alibaba.nacos.core.remote.control.TpsControlRule;
+import com.alibaba.nacos.core.remote.control.TpsMonitorManager;
+import com.alibaba.nacos.core.remote.control.TpsMonitorPoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput benchmark of {@link TpsMonitorManager#applyTpsForClientIp(String, String, String)}.
+ *
+ * <p>Many gRPC threads apply tps of one hot point with a client ip monitor rule, like config query requests from a
+ * large number of clients.
+ *
+ * @author xiweng.yy
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(32)
+@Fork(1)
+public class TpsMonitorBenchmark {
+    
+    private static final String POINT_NAME = "ConfigQuery";
+    
+    private static final String CONNECTION_ID = "benchmark-connection";
+    
+    @Param({"FUZZY", "PROTO"})
+    private String monitorKeyModel;
+    
+    @Param({"1000"})
+    private int clientCount;
+    
+    private TpsMonitorManager tpsMonitorManager;
+    
+    private String[] clientIps;
+    
+    /**
+     * Register the point and apply a monitor rule for all client ips.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        System.setProperty("nacos.home", Files.createTempDirectory("nacos-benchmark").toString());
+        tpsMonitorManager = new TpsMonitorManager();
+        TpsMonitorPoint point = new TpsMonitorPoint(POINT_NAME);
+        tpsMonitorManager.registerTpsControlPoint(point);
+        TpsControlRule rule = new TpsControlRule();
+        rule.setPointRule(new TpsControlRule.Rule(Long.MAX_VALUE, TimeUnit.SECONDS, TpsControlRule.Rule.MODEL_FUZZY,
+                MonitorType.MONITOR.getType()));
+        Map<String, TpsControlRule.Rule> monitorKeyRules = new HashMap<>(2);
+        monitorKeyRules.put("clientIp:*", new TpsControlRule.Rule(Long.MAX_VALUE, TimeUnit.SECONDS, monitorKeyModel,
+                MonitorType.MONITOR.getType()));
+        rule.setMonitorKeyRule(monitorKeyRules);
+        point.applyRule(rule);
+        clientIps = new String[clientCount];
+        for (int i = 0; i < clientCount; i++) {
+            clientIps[i] = "10.0." + (i / 256) + "." + (i % 256);
+        }
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        tpsMonitorManager.destroy();
+    }
+    
+    @Benchmark
+    public boolean applyTpsForClientIp() {
+        String clientIp = clientIps[ThreadLocalRandom.current().nextInt(clientCount)];
+        return tpsMonitorManager.applyTpsForClientIp(POINT_NAME, CONNECTION_ID, clientIp);
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(TpsMonitorBenchmark.class.getSimpleName()).build()).run();
+    }
+}
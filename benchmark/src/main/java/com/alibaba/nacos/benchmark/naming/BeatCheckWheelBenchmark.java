@@ -0,0 +1,158 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.naming;
+
+import com.alibaba.nacos.common.executor.NameThreadFactory;
+import com.alibaba.nacos.naming.healthcheck.heartbeat.BeatCheckTask;
+import com.alibaba.nacos.naming.healthcheck.heartbeat.BeatCheckWheel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of scheduling ephemeral client beat checks with a large number of clients.
+ *
+ * <p>Compares registering and cancelling the check of one client on {@link BeatCheckWheel} with the periodic future of
+ * a {@link ScheduledThreadPoolExecutor}, which keeps all clients in one delay heap. The beat benchmark measures the
+ * cost of one heartbeat, which only moves the last beat time of the client and is absorbed by the wheel lazily.
+ *
+ * @author xiweng.yy
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class BeatCheckWheelBenchmark {
+    
+    private static final long CHECK_INTERVAL = 5000L;
+    
+    private static final long BEAT_TIMEOUT = 15000L;
+    
+    @Param({"100000", "500000"})
+    private int clientCount;
+    
+    private MockClientBeatCheckTask[] tasks;
+    
+    private BeatCheckWheel wheel;
+    
+    private ScheduledThreadPoolExecutor executor;
+    
+    /**
+     * Schedule beat checks of all clients on both the wheel and the scheduled executor.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        wheel = new BeatCheckWheel(1000L, 64, CHECK_INTERVAL, Runnable::run);
+        executor = new ScheduledThreadPoolExecutor(1, new NameThreadFactory("benchmark-beat-check-"));
+        executor.setRemoveOnCancelPolicy(true);
+        tasks = new MockClientBeatCheckTask[clientCount];
+        for (int i = 0; i < clientCount; i++) {
+            tasks[i] = new MockClientBeatCheckTask("client-" + i);
+            wheel.schedule(tasks[i], tasks[i]);
+            executor.scheduleAtFixedRate(tasks[i], CHECK_INTERVAL, CHECK_INTERVAL, TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        wheel.shutdown();
+        executor.shutdownNow();
+    }
+    
+    /**
+     * Wheel path, register and cancel the check of one client.
+     */
+    @Benchmark
+    public boolean wheelScheduleAndCancel() {
+        MockClientBeatCheckTask task = randomTask();
+        return wheel.schedule(task, task).cancel();
+    }
+    
+    /**
+     * Previous path, register and cancel one periodic future in the delay heap holding all clients.
+     */
+    @Benchmark
+    public boolean executorScheduleAndCancel() {
+        MockClientBeatCheckTask task = randomTask();
+        ScheduledFuture<?> future = executor
+                .scheduleAtFixedRate(task, CHECK_INTERVAL, CHECK_INTERVAL, TimeUnit.MILLISECONDS);
+        return future.cancel(true);
+    }
+    
+    /**
+     * One heartbeat of a client, which postpones its next check without touching the wheel.
+     */
+    @Benchmark
+    public void beat() {
+        randomTask().lastBeatTime = System.currentTimeMillis();
+    }
+    
+    private MockClientBeatCheckTask randomTask() {
+        return tasks[ThreadLocalRandom.current().nextInt(clientCount)];
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(BeatCheckWheelBenchmark.class.getSimpleName()).build()).run();
+    }
+    
+    private static class MockClientBeatCheckTask implements BeatCheckTask {
+        
+        private final String taskKey;
+        
+        private volatile long lastBeatTime = System.currentTimeMillis();
+        
+        private MockClientBeatCheckTask(String taskKey) {
+            this.taskKey = taskKey;
+        }
+        
+        @Override
+        public String taskKey() {
+            return taskKey;
+        }
+        
+        @Override
+        public long nextCheckTime() {
+            return lastBeatTime + BEAT_TIMEOUT;
+        }
+        
+        @Override
+        public void run() {
+        }
+    }
+}
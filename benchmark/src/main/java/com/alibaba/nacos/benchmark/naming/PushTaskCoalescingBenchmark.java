@@ -0,0 +1,113 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.naming;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import com.alibaba.nacos.naming.misc.SwitchDomain;
+import com.alibaba.nacos.naming.push.v2.task.PushDelayTask;
+import com.alibaba.nacos.naming.push.v2.task.PushDelayTaskExecuteEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of recording service changes into {@link PushDelayTaskExecuteEngine}.
+ *
+ * <p>Compares merging a new {@link PushDelayTask} under the engine lock with marking the service in the lock-free
+ * dirty set, as happens when a large number of clients reconnect and publish instances at the same time. Push is
+ * disabled in the engine so only the cost of recording the change is measured.
+ *
+ * @author xiweng.yy
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class PushTaskCoalescingBenchmark {
+    
+    @Param({"1000"})
+    private int serviceCount;
+    
+    private Service[] services;
+    
+    private PushDelayTaskExecuteEngine executeEngine;
+    
+    /**
+     * Prepare services and an engine with push disabled.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        services = new Service[serviceCount];
+        for (int i = 0; i < serviceCount; i++) {
+            services[i] = Service.newService("benchmark", "DEFAULT_GROUP", "service-" + i);
+        }
+        SwitchDomain switchDomain = new SwitchDomain();
+        switchDomain.setPushEnabled(false);
+        executeEngine = new PushDelayTaskExecuteEngine(null, null, null, null, null, switchDomain);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() throws NacosException {
+        executeEngine.shutdown();
+    }
+    
+    /**
+     * Current path, each change creates a task and merges it under the engine lock.
+     */
+    @Benchmark
+    public void addTask() {
+        Service service = randomService();
+        executeEngine.addTask(service, new PushDelayTask(service, 500L));
+    }
+    
+    /**
+     * Coalescing path, each change only marks the service in the dirty set.
+     */
+    @Benchmark
+    public void addServiceChanged() {
+        executeEngine.addServiceChanged(randomService());
+    }
+    
+    private Service randomService() {
+        return services[ThreadLocalRandom.current().nextInt(serviceCount)];
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(PushTaskCoalescingBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.notify;
+
+import com.alibaba.nacos.common.notify.DefaultPublisher;
+import com.alibaba.nacos.common.notify.DefaultSharePublisher;
+import com.alibaba.nacos.common.notify.Event;
+import com.alibaba.nacos.common.notify.EventPublisher;
+import com.alibaba.nacos.common.notify.RingBufferEventPublisher;
+import com.alibaba.nacos.common.notify.SlowEvent;
+import com.alibaba.nacos.common.notify.listener.Subscriber;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput benchmark of {@link EventPublisher} implementations.
+ *
+ * <p>Several threads publish events to one publisher whose subscriber costs a little CPU for each event, like the
+ * gRPC threads publishing client operation events during a registration storm.
+ *
+ * @author xiweng.yy
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class EventPublisherBenchmark {
+    
+    private static final int BUFFER_SIZE = 16384;
+    
+    @Param({"default", "share", "ring"})
+    private String publisherType;
+    
+    @Param({"4"})
+    private int ringParallelism;
+    
+    @Param({"50"})
+    private long subscriberCost;
+    
+    private EventPublisher publisher;
+    
+    /**
+     * Create and start the publisher with one subscriber.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkSubscriber subscriber = new BenchmarkSubscriber(subscriberCost);
+        switch (publisherType) {
+            case "share":
+                DefaultSharePublisher sharePublisher = new DefaultSharePublisher();
+                sharePublisher.init(SlowEvent.class, BUFFER_SIZE);
+                sharePublisher.addSubscriber(subscriber, BenchmarkEvent.class);
+                publisher = sharePublisher;
+                return;
+            case "ring":
+                publisher = new RingBufferEventPublisher(ringParallelism, 128,
+                        RingBufferEventPublisher.BackpressurePolicy.BLOCK);
+                break;
+            default:
+                publisher = new DefaultPublisher();
+                break;
+        }
+        publisher.init(BenchmarkEvent.class, BUFFER_SIZE);
+        publisher.addSubscriber(subscriber);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        publisher.shutdown();
+    }
+    
+    @Benchmark
+    public boolean publish() {
+        return publisher.publish(new BenchmarkEvent());
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(EventPublisherBenchmark.class.getSimpleName()).build()).run();
+    }
+    
+    private static class BenchmarkEvent extends SlowEvent {
+        
+        private static final long serialVersionUID = -6316367455227380325L;
+    }
+    
+    private static class BenchmarkSubscriber extends Subscriber<BenchmarkEvent> {
+        
+        private final long cost;
+        
+        private BenchmarkSubscriber(long cost) {
+            this.cost = cost;
+        }
+        
+        @Override
+        public void onEvent(BenchmarkEvent event) {
+            Blackhole.consumeCPU(cost);
+        }
+        
+        @Override
+        public Class<? extends Event> subscribeType() {
+            return BenchmarkEvent.class;
+        }
+    }
+}
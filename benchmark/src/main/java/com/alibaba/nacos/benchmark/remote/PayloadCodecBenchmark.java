@@ -0,0 +1,200 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.remote;
+
+import com.alibaba.nacos.api.config.remote.response.ConfigQueryResponse;
+import com.alibaba.nacos.api.grpc.auto.Payload;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.common.remote.PayloadRegistry;
+import com.alibaba.nacos.common.remote.client.grpc.GrpcUtils;
+import com.alibaba.nacos.common.remote.codec.PayloadCodec;
+import com.alibaba.nacos.common.remote.codec.PayloadCodecManager;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.runner.IterationType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of encoding and decoding gRPC payload by different {@link PayloadCodec}.
+ *
+ * @author xiweng.yy
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PayloadCodecBenchmark {
+    
+    private static final String NOTIFY_SUBSCRIBER = "notifySubscriber";
+    
+    private static final int INSTANCE_COUNT = 50;
+    
+    private static final int CONFIG_LINES = 100;
+    
+    @Param({PayloadCodecManager.JSON, PayloadCodecManager.SMILE})
+    private String codecName;
+    
+    @Param({NOTIFY_SUBSCRIBER, "configQuery"})
+    private String payloadType;
+    
+    private PayloadCodec codec;
+    
+    private NotifySubscriberRequest request;
+    
+    private ConfigQueryResponse response;
+    
+    private Payload encoded;
+    
+    /**
+     * Build the request or response and encode it once for decoding.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        PayloadRegistry.init();
+        codec = PayloadCodecManager.getCodec(codecName);
+        request = NotifySubscriberRequest.buildNotifySubscriberRequest(buildServiceInfo());
+        response = buildConfigQueryResponse();
+        encoded = encodePayload();
+    }
+    
+    /**
+     * Encode the request or response and report the encoded body size.
+     *
+     * @param payloadSize aux counter of the encoded body size
+     * @return encoded payload
+     */
+    @Benchmark
+    public Payload encode(PayloadSize payloadSize) {
+        Payload result = encodePayload();
+        payloadSize.report(result);
+        return result;
+    }
+    
+    /**
+     * Decode the encoded request or response and report the encoded body size.
+     *
+     * @param payloadSize aux counter of the encoded body size
+     * @return decoded request or response
+     */
+    @Benchmark
+    public Object decode(PayloadSize payloadSize) {
+        payloadSize.report(encoded);
+        return GrpcUtils.parse(encoded);
+    }
+    
+    private Payload encodePayload() {
+        return NOTIFY_SUBSCRIBER.equals(payloadType) ? GrpcUtils.convert(request, codec)
+                : GrpcUtils.convert(response, codec);
+    }
+    
+    private ServiceInfo buildServiceInfo() {
+        ServiceInfo result = new ServiceInfo("DEFAULT_GROUP@@benchmark.service");
+        result.setClusters("DEFAULT");
+        result.setLastRefTime(System.currentTimeMillis());
+        List<Instance> hosts = new ArrayList<>(INSTANCE_COUNT);
+        for (int i = 0; i < INSTANCE_COUNT; i++) {
+            Instance instance = new Instance();
+            instance.setInstanceId("10.0.0." + i + "#8080#DEFAULT#DEFAULT_GROUP@@benchmark.service");
+            instance.setIp("10.0.0." + i);
+            instance.setPort(8080);
+            instance.setWeight(1.0D);
+            instance.setClusterName("DEFAULT");
+            instance.setServiceName("DEFAULT_GROUP@@benchmark.service");
+            Map<String, String> metadata = new HashMap<>(4);
+            metadata.put("version", "1.0.0");
+            metadata.put("zone", "zone-" + i % 3);
+            instance.setMetadata(metadata);
+            hosts.add(instance);
+        }
+        result.setHosts(hosts);
+        return result;
+    }
+    
+    private ConfigQueryResponse buildConfigQueryResponse() {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < CONFIG_LINES; i++) {
+            content.append("benchmark.config.key").append(i).append("=value").append(i).append('\n');
+        }
+        ConfigQueryResponse result = ConfigQueryResponse.buildSuccessResponse(content.toString());
+        result.setMd5("3c4c2f1ef8f7b0b3f3f4e49e0c0d6a7b");
+        result.setContentType("properties");
+        result.setLastModified(System.currentTimeMillis());
+        return result;
+    }
+    
+    /**
+     * Report the encoded body size of each codec and payload type together with the time.
+     *
+     * <p>Events counters are summed over measurement iterations, so the size is only reported in the first one.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+        
+        public int bodyBytes;
+        
+        private boolean reported;
+        
+        private boolean reporting;
+        
+        /**
+         * Only report in the first measurement iteration.
+         *
+         * @param params params of the iteration
+         */
+        @Setup(Level.Iteration)
+        public void setUp(IterationParams params) {
+            bodyBytes = 0;
+            reporting = !reported && IterationType.MEASUREMENT == params.getType();
+            reported |= reporting;
+        }
+        
+        private void report(Payload payload) {
+            if (reporting) {
+                bodyBytes = payload.getBody().getValue().size();
+            }
+        }
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(PayloadCodecBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -22,12 +22,14 @@ import com.alibaba.nacos.api.common.Constants;
 import com.alibaba.nacos.api.config.ConfigType;
 import com.alibaba.nacos.api.config.listener.Listener;
 import com.alibaba.nacos.api.config.remote.request.ClientConfigMetricRequest;
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchChangeNotifyRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigBatchListenRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigChangeNotifyRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigPublishRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigQueryRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigRemoveRequest;
 import com.alibaba.nacos.api.config.remote.response.ClientConfigMetricResponse;
+import com.alibaba.nacos.api.config.remote.response.ConfigBatchChangeNotifyResponse;
 import com.alibaba.nacos.api.config.remote.response.ConfigChangeBatchListenResponse;
 import com.alibaba.nacos.api.config.remote.response.ConfigChangeNotifyResponse;
 import com.alibaba.nacos.api.config.remote.response.ConfigPublishResponse;
@@ -35,6 +37,7 @@ import com.alibaba.nacos.api.config.remote.response.ConfigQueryResponse;
 import com.alibaba.nacos.api.config.remote.response.ConfigRemoveResponse;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.remote.RemoteConstants;
+import com.alibaba.nacos.api.remote.RequestFuture;
 import com.alibaba.nacos.api.remote.request.Request;
 import com.alibaba.nacos.api.remote.response.Response;
 import com.alibaba.nacos.plugin.auth.api.RequestResource;
@@ -49,6 +52,7 @@ import com.alibaba.nacos.client.utils.EnvUtil;
 import com.alibaba.nacos.client.utils.LogUtils;
 import com.alibaba.nacos.client.utils.ParamUtil;
 import com.alibaba.nacos.client.utils.TenantUtil;
+import com.alibaba.nacos.common.executor.NameThreadFactory;
 import com.alibaba.nacos.common.lifecycle.Closeable;
 import com.alibaba.nacos.common.notify.Event;
 import com.alibaba.nacos.common.notify.NotifyCenter;
@@ -58,6 +62,7 @@ import com.alibaba.nacos.common.remote.client.ConnectionEventListener;
 import com.alibaba.nacos.common.remote.client.RpcClient;
 import com.alibaba.nacos.common.remote.client.RpcClientFactory;
 import com.alibaba.nacos.common.remote.client.ServerListFactory;
+import com.alibaba.nacos.common.utils.ConcurrentHashSet;
 import com.alibaba.nacos.common.utils.ConvertUtils;
 import com.alibaba.nacos.common.utils.JacksonUtils;
 import com.alibaba.nacos.common.utils.MD5Utils;
@@ -80,10 +85,14 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicReference;
 
 import static com.alibaba.nacos.api.common.Constants.ENCODE;
 
@@ -111,7 +120,12 @@ public class ClientWorker implements Closeable {
     /**
      * groupKey -> cacheData.
      */
-    private final AtomicReference<Map<String, CacheData>> cacheMap = new AtomicReference<>(new HashMap<>());
+    private final Map<String, CacheData> cacheMap = new ConcurrentHashMap<>();
+    
+    /**
+     * Group keys of the caches which need to be synced with server in next listen round.
+     */
+    private final Set<String> dirtyCacheKeys = new ConcurrentHashSet<>();
     
     private final ConfigFilterChainManager configFilterChainManager;
     
@@ -147,6 +161,7 @@ public class ClientWorker implements Closeable {
                 cache.addListener(listener);
             }
             cache.setSyncWithServer(false);
+            markCacheDirty(cache);
             agent.notifyListenConfig();
             
         }
@@ -170,6 +185,7 @@ public class ClientWorker implements Closeable {
                 cache.addListener(listener);
             }
             cache.setSyncWithServer(false);
+            markCacheDirty(cache);
             agent.notifyListenConfig();
         }
         
@@ -197,6 +213,7 @@ public class ClientWorker implements Closeable {
                 cache.addListener(listener);
             }
             cache.setSyncWithServer(false);
+            markCacheDirty(cache);
             agent.notifyListenConfig();
         }
         
@@ -217,6 +234,7 @@ public class ClientWorker implements Closeable {
                 cache.removeListener(listener);
                 if (cache.getListeners().isEmpty()) {
                     cache.setSyncWithServer(false);
+                    markCacheDirty(cache);
                     agent.removeCache(dataId, group);
                 }
             }
@@ -240,6 +258,7 @@ public class ClientWorker implements Closeable {
                 cache.removeListener(listener);
                 if (cache.getListeners().isEmpty()) {
                     cache.setSyncWithServer(false);
+                    markCacheDirty(cache);
                     agent.removeCache(dataId, group);
                 }
             }
@@ -249,13 +268,11 @@ public class ClientWorker implements Closeable {
     void removeCache(String dataId, String group, String tenant) {
         String groupKey = GroupKey.getKeyTenant(dataId, group, tenant);
         synchronized (cacheMap) {
-            Map<String, CacheData> copy = new HashMap<>(cacheMap.get());
-            copy.remove(groupKey);
-            cacheMap.set(copy);
+            cacheMap.remove(groupKey);
         }
         LOGGER.info("[{}] [unsubscribe] {}", agent.getName(), groupKey);
         
-        MetricsMonitor.getListenConfigCountMonitor().set(cacheMap.get().size());
+        MetricsMonitor.getListenConfigCountMonitor().set(cacheMap.size());
     }
     
     /**
@@ -318,18 +335,16 @@ public class ClientWorker implements Closeable {
                 //reset so that server not hang this check
                 cache.setInitializing(true);
             } else {
-                int taskId = cacheMap.get().size() / (int) ParamUtil.getPerTaskConfigSize();
+                int taskId = cacheMap.size() / (int) ParamUtil.getPerTaskConfigSize();
                 cache.setTaskId(taskId);
             }
             
-            Map<String, CacheData> copy = new HashMap<>(cacheMap.get());
-            copy.put(key, cache);
-            cacheMap.set(copy);
+            cacheMap.put(key, cache);
         }
         
         LOGGER.info("[{}] [subscribe] {}", this.agent.getName(), key);
         
-        MetricsMonitor.getListenConfigCountMonitor().set(cacheMap.get().size());
+        MetricsMonitor.getListenConfigCountMonitor().set(cacheMap.size());
         
         return cache;
     }
@@ -359,7 +374,7 @@ public class ClientWorker implements Closeable {
                 cache.setInitializing(true);
             } else {
                 cache = new CacheData(configFilterChainManager, agent.getName(), dataId, group, tenant);
-                int taskId = cacheMap.get().size() / (int) ParamUtil.getPerTaskConfigSize();
+                int taskId = cacheMap.size() / (int) ParamUtil.getPerTaskConfigSize();
                 cache.setTaskId(taskId);
                 // fix issue # 1317
                 if (enableRemoteSyncConfig) {
@@ -369,13 +384,11 @@ public class ClientWorker implements Closeable {
                 }
             }
             
-            Map<String, CacheData> copy = new HashMap<>(this.cacheMap.get());
-            copy.put(key, cache);
-            cacheMap.set(copy);
+            cacheMap.put(key, cache);
         }
         LOGGER.info("[{}] [subscribe] {}", agent.getName(), key);
         
-        MetricsMonitor.getListenConfigCountMonitor().set(cacheMap.get().size());
+        MetricsMonitor.getListenConfigCountMonitor().set(cacheMap.size());
         
         return cache;
     }
@@ -388,7 +401,7 @@ public class ClientWorker implements Closeable {
         if (null == dataId || null == group) {
             throw new IllegalArgumentException();
         }
-        return cacheMap.get().get(GroupKey.getKeyTenant(dataId, group, tenant));
+        return cacheMap.get(GroupKey.getKeyTenant(dataId, group, tenant));
     }
     
     public ConfigResponse getServerConfig(String dataId, String group, String tenant, long readTimeout, boolean notify)
@@ -424,9 +437,13 @@ public class ClientWorker implements Closeable {
         
     }
     
+    private void markCacheDirty(CacheData cache) {
+        dirtyCacheKeys.add(GroupKey.getKeyTenant(cache.dataId, cache.group, cache.tenant));
+    }
+    
     private void refreshContentAndCheck(String groupKey, boolean notify) {
-        if (cacheMap.get() != null && cacheMap.get().containsKey(groupKey)) {
-            CacheData cache = cacheMap.get().get(groupKey);
+        CacheData cache = cacheMap.get(groupKey);
+        if (cache != null) {
             refreshContentAndCheck(cache, notify);
         }
     }
@@ -466,7 +483,7 @@ public class ClientWorker implements Closeable {
     
     private Map<String, Object> getMetrics(List<ClientConfigMetricRequest.MetricsKey> metricsKeys) {
         Map<String, Object> metric = new HashMap<>(16);
-        metric.put("listenConfigSize", String.valueOf(this.cacheMap.get().size()));
+        metric.put("listenConfigSize", String.valueOf(this.cacheMap.size()));
         metric.put("clientVersion", VersionUtils.getFullClientVersion());
         metric.put("snapshotDir", LocalConfigInfoProcessor.LOCAL_SNAPSHOT_PATH);
         boolean isFixServer = agent.serverListManager.isFixed;
@@ -489,7 +506,7 @@ public class ClientWorker implements Closeable {
         Map<ClientConfigMetricRequest.MetricsKey, Object> values = new HashMap<>(16);
         for (ClientConfigMetricRequest.MetricsKey metricsKey : metricsKeys) {
             if (ClientConfigMetricRequest.MetricsKey.CACHE_DATA.equals(metricsKey.getType())) {
-                CacheData cacheData = cacheMap.get().get(metricsKey.getKey());
+                CacheData cacheData = cacheMap.get(metricsKey.getKey());
                 values.putIfAbsent(metricsKey,
                         cacheData == null ? null : cacheData.getContent() + ":" + cacheData.getMd5());
             }
@@ -535,8 +552,23 @@ public class ClientWorker implements Closeable {
          */
         private static final long ALL_SYNC_INTERNAL = 5 * 60 * 1000L;
         
+        private static final long DEFAULT_LISTEN_TIMEOUT = 3000L;
+        
+        private static final int REFRESH_QUEUE_SIZE = 1024;
+        
+        /**
+         * Bounded executor to refresh changed configs in parallel, run in caller thread if the queue is full.
+         */
+        private final ThreadPoolExecutor refreshExecutor;
+        
         public ConfigRpcTransportClient(Properties properties, ServerListManager serverListManager) {
             super(properties, serverListManager);
+            int threadCount = Math.max(ThreadUtils.getSuitableThreadCount(THREAD_MULTIPLE), MIN_THREAD_NUM);
+            refreshExecutor = new ThreadPoolExecutor(threadCount, threadCount, 60L, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(REFRESH_QUEUE_SIZE),
+                    new NameThreadFactory("com.alibaba.nacos.client.config.refresh"),
+                    new ThreadPoolExecutor.CallerRunsPolicy());
+            refreshExecutor.allowCoreThreadTimeOut(true);
         }
         
         private ConnectionType getConnectionType() {
@@ -568,14 +600,33 @@ public class ClientWorker implements Closeable {
                 
                 LOGGER.info("Shutdown executor {}", executor);
                 executor.shutdown();
-                Map<String, CacheData> stringCacheDataMap = cacheMap.get();
-                for (Map.Entry<String, CacheData> entry : stringCacheDataMap.entrySet()) {
-                    entry.getValue().setSyncWithServer(false);
+                refreshExecutor.shutdown();
+                for (CacheData each : cacheMap.values()) {
+                    each.setSyncWithServer(false);
                 }
             }
             
         }
         
+        /**
+         * Mark the config should be synced with server again.
+         *
+         * @return {@code true} if the config is listened by this client
+         */
+        private boolean markConfigChanged(String dataId, String group, String tenant) {
+            String groupKey = GroupKey.getKeyTenant(dataId, group, tenant);
+            CacheData cacheData = cacheMap.get(groupKey);
+            if (cacheData == null) {
+                return false;
+            }
+            synchronized (cacheData) {
+                cacheData.getLastModifiedTs().set(System.currentTimeMillis());
+                cacheData.setSyncWithServer(false);
+            }
+            markCacheDirty(cacheData);
+            return true;
+        }
+        
         private Map<String, String> getLabels() {
             
             Map<String, String> labels = new HashMap<>(2, 1);
@@ -599,24 +650,33 @@ public class ClientWorker implements Closeable {
                     LOGGER.info("[{}] [server-push] config changed. dataId={}, group={},tenant={}",
                             rpcClientInner.getName(), configChangeNotifyRequest.getDataId(),
                             configChangeNotifyRequest.getGroup(), configChangeNotifyRequest.getTenant());
-                    String groupKey = GroupKey
-                            .getKeyTenant(configChangeNotifyRequest.getDataId(), configChangeNotifyRequest.getGroup(),
-                                    configChangeNotifyRequest.getTenant());
-                    
-                    CacheData cacheData = cacheMap.get().get(groupKey);
-                    if (cacheData != null) {
-                        synchronized (cacheData) {
-                            cacheData.getLastModifiedTs().set(System.currentTimeMillis());
-                            cacheData.setSyncWithServer(false);
-                            notifyListenConfig();
-                        }
-                        
+                    if (markConfigChanged(configChangeNotifyRequest.getDataId(),
+                            configChangeNotifyRequest.getGroup(), configChangeNotifyRequest.getTenant())) {
+                        notifyListenConfig();
                     }
                     return new ConfigChangeNotifyResponse();
                 }
                 return null;
             });
             
+            rpcClientInner.registerServerRequestHandler((request) -> {
+                if (request instanceof ConfigBatchChangeNotifyRequest) {
+                    List<ConfigChangeBatchListenResponse.ConfigContext> changedConfigs =
+                            ((ConfigBatchChangeNotifyRequest) request).getChangedConfigs();
+                    LOGGER.info("[{}] [server-push] {} configs changed.", rpcClientInner.getName(),
+                            changedConfigs.size());
+                    boolean changed = false;
+                    for (ConfigChangeBatchListenResponse.ConfigContext each : changedConfigs) {
+                        changed |= markConfigChanged(each.getDataId(), each.getGroup(), each.getTenant());
+                    }
+                    if (changed) {
+                        notifyListenConfig();
+                    }
+                    return new ConfigBatchChangeNotifyResponse();
+                }
+                return null;
+            });
+            
             rpcClientInner.registerServerRequestHandler((request) -> {
                 if (request instanceof ClientConfigMetricRequest) {
                     ClientConfigMetricResponse response = new ClientConfigMetricResponse();
@@ -638,15 +698,17 @@ public class ClientWorker implements Closeable {
                 public void onDisConnect() {
                     String taskId = rpcClientInner.getLabels().get("taskId");
                     LOGGER.info("[{}] DisConnected,clear listen context...", rpcClientInner.getName());
-                    Collection<CacheData> values = cacheMap.get().values();
+                    Collection<CacheData> values = cacheMap.values();
                     
                     for (CacheData cacheData : values) {
                         if (StringUtils.isNotBlank(taskId)) {
                             if (Integer.valueOf(taskId).equals(cacheData.getTaskId())) {
                                 cacheData.setSyncWithServer(false);
+                                markCacheDirty(cacheData);
                             }
                         } else {
                             cacheData.setSyncWithServer(false);
+                            markCacheDirty(cacheData);
                         }
                     }
                 }
@@ -721,7 +783,8 @@ public class ClientWorker implements Closeable {
             Map<String, List<CacheData>> removeListenCachesMap = new HashMap<>(16);
             long now = System.currentTimeMillis();
             boolean needAllSync = now - lastAllSyncTime >= ALL_SYNC_INTERNAL;
-            for (CacheData cache : cacheMap.get().values()) {
+            Collection<CacheData> caches = needAllSync ? cacheMap.values() : drainDirtyCaches();
+            for (CacheData cache : caches) {
                 
                 synchronized (cache) {
                     
@@ -763,73 +826,7 @@ public class ClientWorker implements Closeable {
             boolean hasChangedKeys = false;
             
             if (!listenCachesMap.isEmpty()) {
-                for (Map.Entry<String, List<CacheData>> entry : listenCachesMap.entrySet()) {
-                    String taskId = entry.getKey();
-                    Map<String, Long> timestampMap = new HashMap<>(listenCachesMap.size() * 2);
-                    
-                    List<CacheData> listenCaches = entry.getValue();
-                    for (CacheData cacheData : listenCaches) {
-                        timestampMap.put(GroupKey.getKeyTenant(cacheData.dataId, cacheData.group, cacheData.tenant),
-                                cacheData.getLastModifiedTs().longValue());
-                    }
-                    
-                    ConfigBatchListenRequest configChangeListenRequest = buildConfigRequest(listenCaches);
-                    configChangeListenRequest.setListen(true);
-                    try {
-                        RpcClient rpcClient = ensureRpcClient(taskId);
-                        ConfigChangeBatchListenResponse configChangeBatchListenResponse = (ConfigChangeBatchListenResponse) requestProxy(
-                                rpcClient, configChangeListenRequest);
-                        if (configChangeBatchListenResponse != null && configChangeBatchListenResponse.isSuccess()) {
-                            
-                            Set<String> changeKeys = new HashSet<>();
-                            //handle changed keys,notify listener
-                            if (!CollectionUtils.isEmpty(configChangeBatchListenResponse.getChangedConfigs())) {
-                                hasChangedKeys = true;
-                                for (ConfigChangeBatchListenResponse.ConfigContext changeConfig : configChangeBatchListenResponse
-                                        .getChangedConfigs()) {
-                                    String changeKey = GroupKey
-                                            .getKeyTenant(changeConfig.getDataId(), changeConfig.getGroup(),
-                                                    changeConfig.getTenant());
-                                    changeKeys.add(changeKey);
-                                    boolean isInitializing = cacheMap.get().get(changeKey).isInitializing();
-                                    refreshContentAndCheck(changeKey, !isInitializing);
-                                }
-                                
-                            }
-                            
-                            //handler content configs
-                            for (CacheData cacheData : listenCaches) {
-                                String groupKey = GroupKey
-                                        .getKeyTenant(cacheData.dataId, cacheData.group, cacheData.getTenant());
-                                if (!changeKeys.contains(groupKey)) {
-                                    //sync:cache data md5 = server md5 && cache data md5 = all listeners md5.
-                                    synchronized (cacheData) {
-                                        if (!cacheData.getListeners().isEmpty()) {
-                                            
-                                            Long previousTimesStamp = timestampMap.get(groupKey);
-                                            if (previousTimesStamp != null && !cacheData.getLastModifiedTs().compareAndSet(previousTimesStamp,
-                                                    System.currentTimeMillis())) {
-                                                continue;
-                                            }
-                                            cacheData.setSyncWithServer(true);
-                                        }
-                                    }
-                                }
-                                
-                                cacheData.setInitializing(false);
-                            }
-                            
-                        }
-                    } catch (Exception e) {
-                        
-                        LOGGER.error("Async listen config change error ", e);
-                        try {
-                            Thread.sleep(50L);
-                        } catch (InterruptedException interruptedException) {
-                            //ignore
-                        }
-                    }
-                }
+                hasChangedKeys = executeBatchListen(listenCachesMap);
             }
             
             if (!removeListenCachesMap.isEmpty()) {
@@ -863,6 +860,10 @@ public class ClientWorker implements Closeable {
                 }
             }
             
+            // caches failed or changed in this round should be listened again in next round.
+            remarkUnsyncedCaches(listenCachesMap);
+            remarkUnsyncedCaches(removeListenCachesMap);
+            
             if (needAllSync) {
                 lastAllSyncTime = now;
             }
@@ -872,6 +873,142 @@ public class ClientWorker implements Closeable {
             }
         }
         
+        private Collection<CacheData> drainDirtyCaches() {
+            List<CacheData> result = new LinkedList<>();
+            Iterator<String> iterator = dirtyCacheKeys.iterator();
+            while (iterator.hasNext()) {
+                CacheData cacheData = cacheMap.get(iterator.next());
+                iterator.remove();
+                if (cacheData != null) {
+                    result.add(cacheData);
+                }
+            }
+            return result;
+        }
+        
+        private void remarkUnsyncedCaches(Map<String, List<CacheData>> cachesMap) {
+            for (List<CacheData> caches : cachesMap.values()) {
+                for (CacheData cacheData : caches) {
+                    if (!cacheData.isSyncWithServer()) {
+                        markCacheDirty(cacheData);
+                    }
+                }
+            }
+        }
+        
+        /**
+         * Send the batch listen requests of all tasks without waiting for each other, then handle the responses.
+         *
+         * <p>Changed configs are refreshed in parallel, and this method returns after all refreshes finished, so the
+         * refreshes of one config are still executed in order between listen rounds.
+         *
+         * @param listenCachesMap listened caches of each task
+         * @return {@code true} if some configs changed
+         */
+        private boolean executeBatchListen(Map<String, List<CacheData>> listenCachesMap) {
+            Map<String, RequestFuture> requestFutures = new HashMap<>(listenCachesMap.size() * 2);
+            Map<String, Map<String, Long>> timestampMaps = new HashMap<>(listenCachesMap.size() * 2);
+            boolean hasError = false;
+            for (Map.Entry<String, List<CacheData>> entry : listenCachesMap.entrySet()) {
+                String taskId = entry.getKey();
+                Map<String, Long> timestampMap = new HashMap<>(entry.getValue().size() * 2);
+                for (CacheData cacheData : entry.getValue()) {
+                    timestampMap.put(GroupKey.getKeyTenant(cacheData.dataId, cacheData.group, cacheData.tenant),
+                            cacheData.getLastModifiedTs().longValue());
+                }
+                timestampMaps.put(taskId, timestampMap);
+                ConfigBatchListenRequest configChangeListenRequest = buildConfigRequest(entry.getValue());
+                configChangeListenRequest.setListen(true);
+                try {
+                    RpcClient rpcClient = ensureRpcClient(taskId);
+                    requestFutures.put(taskId, requestFutureProxy(rpcClient, configChangeListenRequest));
+                } catch (Exception e) {
+                    LOGGER.error("Async listen config change error ", e);
+                    hasError = true;
+                }
+            }
+            
+            boolean hasChangedKeys = false;
+            List<Future<?>> refreshFutures = new LinkedList<>();
+            for (Map.Entry<String, RequestFuture> entry : requestFutures.entrySet()) {
+                String taskId = entry.getKey();
+                try {
+                    Response response = entry.getValue().get(DEFAULT_LISTEN_TIMEOUT);
+                    hasChangedKeys |= handleListenResponse((ConfigChangeBatchListenResponse) response,
+                            listenCachesMap.get(taskId), timestampMaps.get(taskId), refreshFutures);
+                } catch (Exception e) {
+                    LOGGER.error("Async listen config change error ", e);
+                    hasError = true;
+                }
+            }
+            
+            for (Future<?> each : refreshFutures) {
+                try {
+                    each.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                } catch (ExecutionException e) {
+                    LOGGER.error("Refresh changed config error ", e);
+                }
+            }
+            
+            if (hasError) {
+                try {
+                    Thread.sleep(50L);
+                } catch (InterruptedException interruptedException) {
+                    //ignore
+                }
+            }
+            return hasChangedKeys;
+        }
+        
+        private boolean handleListenResponse(ConfigChangeBatchListenResponse response, List<CacheData> listenCaches,
+                Map<String, Long> timestampMap, List<Future<?>> refreshFutures) {
+            if (response == null || !response.isSuccess()) {
+                return false;
+            }
+            boolean hasChangedKeys = false;
+            Set<String> changeKeys = new HashSet<>();
+            //handle changed keys,notify listener
+            if (!CollectionUtils.isEmpty(response.getChangedConfigs())) {
+                hasChangedKeys = true;
+                for (ConfigChangeBatchListenResponse.ConfigContext changeConfig : response.getChangedConfigs()) {
+                    String changeKey = GroupKey
+                            .getKeyTenant(changeConfig.getDataId(), changeConfig.getGroup(), changeConfig.getTenant());
+                    changeKeys.add(changeKey);
+                    CacheData changeCache = cacheMap.get(changeKey);
+                    if (changeCache == null) {
+                        continue;
+                    }
+                    boolean notify = !changeCache.isInitializing();
+                    refreshFutures.add(refreshExecutor.submit(() -> refreshContentAndCheck(changeKey, notify)));
+                }
+            }
+            
+            //handler content configs
+            for (CacheData cacheData : listenCaches) {
+                String groupKey = GroupKey.getKeyTenant(cacheData.dataId, cacheData.group, cacheData.getTenant());
+                if (!changeKeys.contains(groupKey)) {
+                    //sync:cache data md5 = server md5 && cache data md5 = all listeners md5.
+                    synchronized (cacheData) {
+                        if (!cacheData.getListeners().isEmpty()) {
+                            
+                            Long previousTimesStamp = timestampMap.get(groupKey);
+                            if (previousTimesStamp != null && !cacheData.getLastModifiedTs()
+                                    .compareAndSet(previousTimesStamp, System.currentTimeMillis())) {
+                                continue;
+                            }
+                            cacheData.setSyncWithServer(true);
+                        }
+                    }
+                }
+                
+                cacheData.setInitializing(false);
+            }
+            return hasChangedKeys;
+        }
+        
         private RpcClient ensureRpcClient(String taskId) throws NacosException {
             synchronized (ClientWorker.this) {
                 
@@ -897,6 +1034,7 @@ public class ClientWorker implements Closeable {
             ClientAbilities clientAbilities = new ClientAbilities();
             clientAbilities.getRemoteAbility().setSupportRemoteConnection(true);
             clientAbilities.getConfigAbility().setSupportRemoteMetrics(true);
+            clientAbilities.getConfigAbility().setSupportBatchChangeNotify(true);
             return clientAbilities;
         }
         
@@ -942,7 +1080,7 @@ public class ClientWorker implements Closeable {
             request.putHeader(NOTIFY_HEADER, String.valueOf(notify));
             RpcClient rpcClient = getOneRunningClient();
             if (notify) {
-                CacheData cacheData = cacheMap.get().get(GroupKey.getKeyTenant(dataId, group, tenant));
+                CacheData cacheData = cacheMap.get(GroupKey.getKeyTenant(dataId, group, tenant));
                 if (cacheData != null) {
                     rpcClient = ensureRpcClient(String.valueOf(cacheData.getTaskId()));
                 }
@@ -991,6 +1129,16 @@ public class ClientWorker implements Closeable {
         
         private Response requestProxy(RpcClient rpcClientInner, Request request, long timeoutMills)
                 throws NacosException {
+            prepareRequest(request);
+            return rpcClientInner.request(request, timeoutMills);
+        }
+        
+        private RequestFuture requestFutureProxy(RpcClient rpcClientInner, Request request) throws NacosException {
+            prepareRequest(request);
+            return rpcClientInner.requestFuture(request);
+        }
+        
+        private void prepareRequest(Request request) throws NacosException {
             try {
                 request.putAllHeader(super.getSecurityHeaders(resourceBuild(request)));
                 request.putAllHeader(super.getCommonHeader());
@@ -1005,7 +1153,6 @@ public class ClientWorker implements Closeable {
                 throw new NacosException(NacosException.CLIENT_OVER_THRESHOLD,
                         "More than client-side current limit threshold");
             }
-            return rpcClientInner.request(request, timeoutMills);
         }
         
         private RequestResource resourceBuild(Request request) {
@@ -200,7 +200,7 @@ public class FailoverReactor implements Closeable {
                 }
                 
                 for (File file : files) {
-                    if (!file.isFile()) {
+                    if (!file.isFile() || DiskCache.isTempFile(file)) {
                         continue;
                     }
                     
@@ -25,9 +25,13 @@ import com.alibaba.nacos.common.utils.StringUtils;
 
 import java.io.BufferedReader;
 import java.io.File;
+import java.io.IOException;
 import java.io.StringReader;
 import java.net.URLDecoder;
 import java.nio.charset.Charset;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -42,26 +46,23 @@ import static com.alibaba.nacos.client.utils.LogUtils.NAMING_LOGGER;
  */
 public class DiskCache {
     
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    
     /**
      * Write service info to dir.
      *
+     * <p>The content is written into a temp file first and then renamed to the cache file, so readers never see a
+     * partially written cache file.
+     *
      * @param dom service info
      * @param dir directory
      */
     public static void write(ServiceInfo dom, String dir) {
         
+        File tempFile = null;
         try {
-            makeSureCacheDirExists(dir);
-            
-            File file = new File(dir, dom.getKeyEncoded());
-            if (!file.exists()) {
-                // add another !file.exists() to avoid conflicted creating-new-file from multi-instances
-                if (!file.createNewFile() && !file.exists()) {
-                    throw new IllegalStateException("failed to create cache file");
-                }
-            }
-            
-            StringBuilder keyContentBuffer = new StringBuilder();
+            File cacheDir = makeSureCacheDirExists(dir);
+            tempFile = File.createTempFile(dom.getKeyEncoded(), TEMP_FILE_SUFFIX, cacheDir);
             
             String json = dom.getJsonFromServer();
             
@@ -69,16 +70,37 @@ public class DiskCache {
                 json = JacksonUtils.toJson(dom);
             }
             
-            keyContentBuffer.append(json);
-            
             //Use the concurrent API to ensure the consistency.
-            ConcurrentDiskUtil.writeFileContent(file, keyContentBuffer.toString(), Charset.defaultCharset().toString());
+            ConcurrentDiskUtil.writeFileContent(tempFile, json, Charset.defaultCharset().toString());
+            moveFile(tempFile, new File(dir, dom.getKeyEncoded()));
             
         } catch (Throwable e) {
             NAMING_LOGGER.error("[NA] failed to write cache for dom:" + dom.getName(), e);
+            if (null != tempFile && tempFile.exists() && !tempFile.delete()) {
+                NAMING_LOGGER.warn("[NA] failed to delete temp cache file: {}", tempFile.getName());
+            }
         }
     }
     
+    private static void moveFile(File source, File target) throws IOException {
+        try {
+            Files.move(source.toPath(), target.toPath(), StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+    
+    /**
+     * Whether the file is a temp file which is being written by {@link #write(ServiceInfo, String)}.
+     *
+     * @param file file
+     * @return {@code true} if the file is a temp file
+     */
+    public static boolean isTempFile(File file) {
+        return file.getName().endsWith(TEMP_FILE_SUFFIX);
+    }
+    
     public static String getLineSeparator() {
         return System.getProperty("line.separator");
     }
@@ -91,16 +113,31 @@ public class DiskCache {
      */
     public static Map<String, ServiceInfo> read(String cacheDir) {
         Map<String, ServiceInfo> domMap = new HashMap<>(16);
-        
-        BufferedReader reader = null;
+        for (Map.Entry<String, File> entry : listCacheFiles(cacheDir).entrySet()) {
+            ServiceInfo dom = readFile(entry.getKey(), entry.getValue());
+            if (null != dom) {
+                domMap.put(entry.getKey(), dom);
+            }
+        }
+        return domMap;
+    }
+    
+    /**
+     * List the cache files in disk without reading them.
+     *
+     * @param cacheDir cache file dir
+     * @return cache files, key is the key of service info in the file
+     */
+    public static Map<String, File> listCacheFiles(String cacheDir) {
+        Map<String, File> result = new HashMap<>(16);
         try {
             File[] files = makeSureCacheDirExists(cacheDir).listFiles();
             if (files == null || files.length == 0) {
-                return domMap;
+                return result;
             }
             
             for (File file : files) {
-                if (!file.isFile()) {
+                if (!file.isFile() || isTempFile(file)) {
                     continue;
                 }
                 
@@ -108,58 +145,68 @@ public class DiskCache {
                 
                 if (!(fileName.endsWith(Constants.SERVICE_INFO_SPLITER + "meta") || fileName
                         .endsWith(Constants.SERVICE_INFO_SPLITER + "special-url"))) {
-                    ServiceInfo dom = new ServiceInfo(fileName);
-                    List<Instance> ips = new ArrayList<>();
-                    dom.setHosts(ips);
-                    
-                    ServiceInfo newFormat = null;
-                    
-                    try {
-                        String dataString = ConcurrentDiskUtil
-                                .getFileContent(file, Charset.defaultCharset().toString());
-                        reader = new BufferedReader(new StringReader(dataString));
-                        
-                        String json;
-                        while ((json = reader.readLine()) != null) {
-                            try {
-                                if (!json.startsWith("{")) {
-                                    continue;
-                                }
-                                
-                                newFormat = JacksonUtils.toObj(json, ServiceInfo.class);
-                                
-                                if (StringUtils.isEmpty(newFormat.getName())) {
-                                    ips.add(JacksonUtils.toObj(json, Instance.class));
-                                }
-                            } catch (Throwable e) {
-                                NAMING_LOGGER.error("[NA] error while parsing cache file: " + json, e);
-                            }
-                        }
-                    } catch (Exception e) {
-                        NAMING_LOGGER.error("[NA] failed to read cache for dom: " + file.getName(), e);
-                    } finally {
-                        try {
-                            if (reader != null) {
-                                reader.close();
-                            }
-                        } catch (Exception e) {
-                            //ignore
-                        }
-                    }
-                    if (newFormat != null && !StringUtils.isEmpty(newFormat.getName()) && !CollectionUtils
-                            .isEmpty(newFormat.getHosts())) {
-                        domMap.put(dom.getKey(), newFormat);
-                    } else if (!CollectionUtils.isEmpty(dom.getHosts())) {
-                        domMap.put(dom.getKey(), dom);
-                    }
+                    result.put(new ServiceInfo(fileName).getKey(), file);
                 }
-                
             }
         } catch (Throwable e) {
             NAMING_LOGGER.error("[NA] failed to read cache file", e);
         }
+        return result;
+    }
+    
+    /**
+     * Read service info from one cache file.
+     *
+     * @param key  key of service info
+     * @param file cache file
+     * @return service info, or {@code null} if the file contains no instance
+     */
+    public static ServiceInfo readFile(String key, File file) {
+        ServiceInfo dom = new ServiceInfo(key);
+        List<Instance> ips = new ArrayList<>();
+        dom.setHosts(ips);
         
-        return domMap;
+        ServiceInfo newFormat = null;
+        
+        BufferedReader reader = null;
+        try {
+            String dataString = ConcurrentDiskUtil.getFileContent(file, Charset.defaultCharset().toString());
+            reader = new BufferedReader(new StringReader(dataString));
+            
+            String json;
+            while ((json = reader.readLine()) != null) {
+                try {
+                    if (!json.startsWith("{")) {
+                        continue;
+                    }
+                    
+                    newFormat = JacksonUtils.toObj(json, ServiceInfo.class);
+                    
+                    if (StringUtils.isEmpty(newFormat.getName())) {
+                        ips.add(JacksonUtils.toObj(json, Instance.class));
+                    }
+                } catch (Throwable e) {
+                    NAMING_LOGGER.error("[NA] error while parsing cache file: " + json, e);
+                }
+            }
+        } catch (Exception e) {
+            NAMING_LOGGER.error("[NA] failed to read cache for dom: " + file.getName(), e);
+        } finally {
+            try {
+                if (reader != null) {
+                    reader.close();
+                }
+            } catch (Exception e) {
+                //ignore
+            }
+        }
+        if (newFormat != null && !StringUtils.isEmpty(newFormat.getName()) && !CollectionUtils
+                .isEmpty(newFormat.getHosts())) {
+            return newFormat;
+        } else if (!CollectionUtils.isEmpty(dom.getHosts())) {
+            return dom;
+        }
+        return null;
     }
     
     private static File makeSureCacheDirExists(String dir) {
@@ -0,0 +1,91 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.client.naming.cache;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.common.executor.NameThreadFactory;
+import com.alibaba.nacos.common.lifecycle.Closeable;
+import com.alibaba.nacos.common.utils.ThreadUtils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static com.alibaba.nacos.client.utils.LogUtils.NAMING_LOGGER;
+
+/**
+ * Write-behind writer of service info disk cache.
+ *
+ * <p>Service infos to write are kept by service key, so several changes of one service between two flushes only cause
+ * one disk write with the newest service info. Pending service infos are flushed by a background thread.
+ *
+ * @author xiweng.yy
+ */
+public class DiskCacheWriter implements Closeable {
+    
+    private static final String FLUSH_THREAD_NAME = "com.alibaba.nacos.client.naming.cache.writer";
+    
+    private final Map<String, ServiceInfo> pendingServices = new ConcurrentHashMap<>(16);
+    
+    private final String cacheDir;
+    
+    private final ScheduledExecutorService executorService;
+    
+    public DiskCacheWriter(String cacheDir, long flushIntervalMillis) {
+        this.cacheDir = cacheDir;
+        this.executorService = new ScheduledThreadPoolExecutor(1, new NameThreadFactory(FLUSH_THREAD_NAME));
+        this.executorService
+                .scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * Write service info to disk later, replace the pending one of the same service.
+     *
+     * @param serviceInfo service info
+     */
+    public void write(ServiceInfo serviceInfo) {
+        pendingServices.put(serviceInfo.getKey(), serviceInfo);
+    }
+    
+    /**
+     * Write all pending service infos to disk.
+     */
+    public void flush() {
+        for (String each : pendingServices.keySet()) {
+            ServiceInfo serviceInfo = pendingServices.remove(each);
+            if (null != serviceInfo) {
+                DiskCache.write(serviceInfo, cacheDir);
+            }
+        }
+    }
+    
+    public int getPendingCount() {
+        return pendingServices.size();
+    }
+    
+    @Override
+    public void shutdown() throws NacosException {
+        String className = this.getClass().getName();
+        NAMING_LOGGER.info("{} do shutdown begin", className);
+        ThreadUtils.shutdownThreadPool(executorService, NAMING_LOGGER);
+        flush();
+        NAMING_LOGGER.info("{} do shutdown stop", className);
+    }
+}
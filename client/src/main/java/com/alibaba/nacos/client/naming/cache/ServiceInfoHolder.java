@@ -20,6 +20,7 @@ import com.alibaba.nacos.api.PropertyKeyConst;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberDeltaRequest;
 import com.alibaba.nacos.api.naming.utils.NamingUtils;
 import com.alibaba.nacos.client.monitor.MetricsMonitor;
 import com.alibaba.nacos.client.naming.backups.FailoverReactor;
@@ -34,6 +35,7 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -58,10 +60,24 @@ public class ServiceInfoHolder implements Closeable {
     
     private static final String USER_HOME_PROPERTY = "user.home";
     
+    private static final long DEFAULT_CACHE_FLUSH_INTERVAL = 1000L;
+    
     private final ConcurrentMap<String, ServiceInfo> serviceInfoMap;
     
+    /**
+     * Revision of service info pushed by server, used as the base revision of delta push.
+     */
+    private final ConcurrentMap<String, Long> serviceRevisionMap = new ConcurrentHashMap<>(16);
+    
+    /**
+     * Cache files not loaded yet, each one is loaded when the service is first used.
+     */
+    private final Map<String, File> lazyLoadCacheFiles;
+    
     private final FailoverReactor failoverReactor;
     
+    private final DiskCacheWriter diskCacheWriter;
+    
     private final boolean pushEmptyProtection;
     
     private String cacheDir;
@@ -70,12 +86,14 @@ public class ServiceInfoHolder implements Closeable {
     
     public ServiceInfoHolder(String namespace, String notifierEventScope, Properties properties) {
         initCacheDir(namespace, properties);
+        this.serviceInfoMap = new ConcurrentHashMap<>(16);
         if (isLoadCacheAtStart(properties)) {
-            this.serviceInfoMap = new ConcurrentHashMap<>(DiskCache.read(this.cacheDir));
+            this.lazyLoadCacheFiles = new ConcurrentHashMap<>(DiskCache.listCacheFiles(this.cacheDir));
         } else {
-            this.serviceInfoMap = new ConcurrentHashMap<>(16);
+            this.lazyLoadCacheFiles = new ConcurrentHashMap<>(16);
         }
         this.failoverReactor = new FailoverReactor(this, cacheDir);
+        this.diskCacheWriter = new DiskCacheWriter(cacheDir, getCacheFlushInterval(properties));
         this.pushEmptyProtection = isPushEmptyProtect(properties);
         this.notifierEventScope = notifierEventScope;
     }
@@ -107,6 +125,15 @@ public class ServiceInfoHolder implements Closeable {
         return loadCacheAtStart;
     }
     
+    private long getCacheFlushInterval(Properties properties) {
+        long flushInterval = DEFAULT_CACHE_FLUSH_INTERVAL;
+        if (properties != null) {
+            flushInterval = ConvertUtils.toLong(properties.getProperty(PropertyKeyConst.NAMING_CACHE_FLUSH_INTERVAL),
+                    DEFAULT_CACHE_FLUSH_INTERVAL);
+        }
+        return flushInterval > 0 ? flushInterval : DEFAULT_CACHE_FLUSH_INTERVAL;
+    }
+    
     private boolean isPushEmptyProtect(Properties properties) {
         boolean pushEmptyProtection = false;
         if (properties != null && StringUtils
@@ -117,7 +144,17 @@ public class ServiceInfoHolder implements Closeable {
         return pushEmptyProtection;
     }
     
+    /**
+     * Get all service info in memory, the cache files not loaded yet are loaded before returned.
+     *
+     * <p>Use {@link #getLocalServiceInfo(String)} to get one service, which only loads the cache file of it.
+     *
+     * @return all service info
+     */
     public Map<String, ServiceInfo> getServiceInfoMap() {
+        for (String each : lazyLoadCacheFiles.keySet()) {
+            getLocalServiceInfo(each);
+        }
         return serviceInfoMap;
     }
     
@@ -128,7 +165,30 @@ public class ServiceInfoHolder implements Closeable {
         if (failoverReactor.isFailoverSwitch()) {
             return failoverReactor.getService(key);
         }
-        return serviceInfoMap.get(key);
+        return getLocalServiceInfo(key);
+    }
+    
+    /**
+     * Get service info in memory, load it from disk cache if it is not loaded yet.
+     *
+     * @param key service key
+     * @return service info, or {@code null} if not found
+     */
+    public ServiceInfo getLocalServiceInfo(String key) {
+        ServiceInfo result = serviceInfoMap.get(key);
+        if (null != result || lazyLoadCacheFiles.isEmpty()) {
+            return result;
+        }
+        File cacheFile = lazyLoadCacheFiles.remove(key);
+        if (null == cacheFile) {
+            return serviceInfoMap.get(key);
+        }
+        ServiceInfo cached = DiskCache.readFile(key, cacheFile);
+        if (null == cached) {
+            return serviceInfoMap.get(key);
+        }
+        result = serviceInfoMap.putIfAbsent(key, cached);
+        return null == result ? cached : result;
     }
     
     /**
@@ -154,7 +214,83 @@ public class ServiceInfoHolder implements Closeable {
         if (serviceKey == null) {
             return null;
         }
-        ServiceInfo oldService = serviceInfoMap.get(serviceInfo.getKey());
+        ServiceInfo oldService = getLocalServiceInfo(serviceKey);
+        ServiceInfo result = doProcessServiceInfo(serviceInfo);
+        // service info without revision may be different from the one server pushed, delta push can't base on it.
+        if (result == serviceInfo && serviceRevisionMap.containsKey(serviceKey)) {
+            if (isOutOfDate(oldService, serviceInfo) || isHostsChanged(oldService, serviceInfo)) {
+                serviceRevisionMap.remove(serviceKey);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Process service info pushed by server with revision.
+     *
+     * @param serviceInfo new service info
+     * @param revision    revision of service info, {@code 0} means unknown
+     * @return service info
+     */
+    public ServiceInfo processServiceInfo(ServiceInfo serviceInfo, long revision) {
+        String serviceKey = serviceInfo.getKey();
+        if (serviceKey == null) {
+            return null;
+        }
+        ServiceInfo result = doProcessServiceInfo(serviceInfo);
+        if (result == serviceInfo && revision > 0) {
+            serviceRevisionMap.put(serviceKey, revision);
+        } else {
+            serviceRevisionMap.remove(serviceKey);
+        }
+        return result;
+    }
+    
+    /**
+     * Process delta service info pushed by server.
+     *
+     * @param request delta push request
+     * @return merged service info, or {@code null} if local revision is not the base revision of delta
+     */
+    public ServiceInfo processServiceInfoDelta(NotifySubscriberDeltaRequest request) {
+        ServiceInfo header = request.getServiceInfo();
+        String serviceKey = header.getKey();
+        ServiceInfo oldService = getLocalServiceInfo(serviceKey);
+        Long localRevision = serviceRevisionMap.get(serviceKey);
+        if (null == oldService || null == localRevision || localRevision != request.getBaseRevision()) {
+            NAMING_LOGGER.warn("revision gap for delta push service: {}, local: {}, base: {}", serviceKey,
+                    localRevision, request.getBaseRevision());
+            serviceRevisionMap.remove(serviceKey);
+            return null;
+        }
+        Map<String, Instance> hosts = new LinkedHashMap<>(oldService.getHosts().size());
+        for (Instance each : oldService.getHosts()) {
+            hosts.put(NotifySubscriberDeltaRequest.buildInstanceKey(each), each);
+        }
+        for (Instance each : request.getRemovedHosts()) {
+            hosts.remove(NotifySubscriberDeltaRequest.buildInstanceKey(each));
+        }
+        for (Instance each : request.getModifiedHosts()) {
+            hosts.put(NotifySubscriberDeltaRequest.buildInstanceKey(each), each);
+        }
+        for (Instance each : request.getAddedHosts()) {
+            hosts.put(NotifySubscriberDeltaRequest.buildInstanceKey(each), each);
+        }
+        ServiceInfo merged = new ServiceInfo();
+        merged.setName(header.getName());
+        merged.setGroupName(header.getGroupName());
+        merged.setClusters(header.getClusters());
+        merged.setCacheMillis(header.getCacheMillis());
+        merged.setLastRefTime(header.getLastRefTime());
+        merged.setChecksum(header.getChecksum());
+        merged.setAllIPs(header.isAllIPs());
+        merged.setReachProtectionThreshold(header.isReachProtectionThreshold());
+        merged.setHosts(new ArrayList<>(hosts.values()));
+        return processServiceInfo(merged, request.getRevision());
+    }
+    
+    private ServiceInfo doProcessServiceInfo(ServiceInfo serviceInfo) {
+        ServiceInfo oldService = getLocalServiceInfo(serviceInfo.getKey());
         if (isEmptyOrErrorPush(serviceInfo)) {
             //empty or error push, just ignore
             return oldService;
@@ -170,11 +306,31 @@ public class ServiceInfoHolder implements Closeable {
                     JacksonUtils.toJson(serviceInfo.getHosts()));
             NotifyCenter.publishEvent(new InstancesChangeEvent(notifierEventScope, serviceInfo.getName(), serviceInfo.getGroupName(),
                     serviceInfo.getClusters(), serviceInfo.getHosts()));
-            DiskCache.write(serviceInfo, cacheDir);
+            diskCacheWriter.write(serviceInfo);
         }
         return serviceInfo;
     }
     
+    private boolean isOutOfDate(ServiceInfo oldService, ServiceInfo newService) {
+        return null != oldService && oldService.getLastRefTime() > newService.getLastRefTime();
+    }
+    
+    private boolean isHostsChanged(ServiceInfo oldService, ServiceInfo newService) {
+        if (null == oldService || oldService.getHosts().size() != newService.getHosts().size()) {
+            return true;
+        }
+        Map<String, String> oldHosts = new HashMap<>(oldService.getHosts().size());
+        for (Instance each : oldService.getHosts()) {
+            oldHosts.put(NotifySubscriberDeltaRequest.buildInstanceKey(each), each.toString());
+        }
+        for (Instance each : newService.getHosts()) {
+            if (!StringUtils.equals(each.toString(), oldHosts.get(NotifySubscriberDeltaRequest.buildInstanceKey(each)))) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
     private boolean isEmptyOrErrorPush(ServiceInfo serviceInfo) {
         return null == serviceInfo.getHosts() || (pushEmptyProtection && !serviceInfo.validate());
     }
@@ -255,6 +411,7 @@ public class ServiceInfoHolder implements Closeable {
         String className = this.getClass().getName();
         NAMING_LOGGER.info("{} do shutdown begin", className);
         failoverReactor.shutdown();
+        diskCacheWriter.shutdown();
         NAMING_LOGGER.info("{} do shutdown stop", className);
     }
 }
@@ -173,7 +173,7 @@ public class ServiceInfoUpdateService implements Closeable {
                     return;
                 }
                 
-                ServiceInfo serviceObj = serviceInfoHolder.getServiceInfoMap().get(serviceKey);
+                ServiceInfo serviceObj = serviceInfoHolder.getLocalServiceInfo(serviceKey);
                 if (serviceObj == null) {
                     serviceObj = namingClientProxy.queryInstancesOfService(serviceName, groupName, clusters, 0, false);
                     serviceInfoHolder.processServiceInfo(serviceObj);
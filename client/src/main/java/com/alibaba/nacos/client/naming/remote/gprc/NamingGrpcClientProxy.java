@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.client.naming.remote.gprc;
 
+import com.alibaba.nacos.api.ability.ClientAbilities;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.naming.CommonParams;
 import com.alibaba.nacos.api.naming.pojo.Instance;
@@ -95,10 +96,17 @@ public class NamingGrpcClientProxy extends AbstractNamingClientProxy {
         rpcClient.serverListFactory(serverListFactory);
         rpcClient.registerConnectionListener(redoService);
         rpcClient.registerServerRequestHandler(new NamingPushRequestHandler(serviceInfoHolder));
+        rpcClient.clientAbilities(initAbilities());
         rpcClient.start();
         NotifyCenter.registerSubscriber(this);
     }
     
+    private ClientAbilities initAbilities() {
+        ClientAbilities clientAbilities = new ClientAbilities();
+        clientAbilities.getNamingAbility().setSupportDeltaPush(true);
+        return clientAbilities;
+    }
+    
     @Override
     public void onEvent(ServerListChangedEvent event) {
         rpcClient.onServerListChange();
@@ -16,6 +16,8 @@
 
 package com.alibaba.nacos.client.naming.remote.gprc;
 
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberDeltaRequest;
 import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
 import com.alibaba.nacos.api.naming.remote.response.NotifySubscriberResponse;
 import com.alibaba.nacos.api.remote.request.Request;
@@ -40,9 +42,16 @@ public class NamingPushRequestHandler implements ServerRequestHandler {
     public Response requestReply(Request request) {
         if (request instanceof NotifySubscriberRequest) {
             NotifySubscriberRequest notifyResponse = (NotifySubscriberRequest) request;
-            serviceInfoHolder.processServiceInfo(notifyResponse.getServiceInfo());
+            serviceInfoHolder.processServiceInfo(notifyResponse.getServiceInfo(), notifyResponse.getRevision());
             return new NotifySubscriberResponse();
         }
+        if (request instanceof NotifySubscriberDeltaRequest) {
+            NotifySubscriberResponse response = new NotifySubscriberResponse();
+            if (null == serviceInfoHolder.processServiceInfoDelta((NotifySubscriberDeltaRequest) request)) {
+                response.setErrorInfo(NacosException.RESOURCE_NOT_FOUND, "Base revision of delta push not found");
+            }
+            return response;
+        }
         return null;
     }
 }
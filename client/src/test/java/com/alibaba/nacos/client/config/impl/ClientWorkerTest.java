@@ -18,16 +18,35 @@ package com.alibaba.nacos.client.config.impl;
 
 import com.alibaba.nacos.api.config.listener.AbstractListener;
 import com.alibaba.nacos.api.config.listener.Listener;
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchChangeNotifyRequest;
+import com.alibaba.nacos.api.config.remote.request.ConfigQueryRequest;
+import com.alibaba.nacos.api.config.remote.response.ConfigBatchChangeNotifyResponse;
+import com.alibaba.nacos.api.config.remote.response.ConfigChangeBatchListenResponse;
+import com.alibaba.nacos.api.config.remote.response.ConfigQueryResponse;
 import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.RequestFuture;
+import com.alibaba.nacos.api.remote.response.Response;
 import com.alibaba.nacos.client.config.filter.impl.ConfigFilterChainManager;
+import com.alibaba.nacos.common.remote.client.RpcClient;
+import com.alibaba.nacos.common.remote.client.RpcClientFactory;
+import com.alibaba.nacos.common.remote.client.ServerRequestHandler;
 import org.junit.Assert;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+
 import java.lang.reflect.Field;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class ClientWorkerTest {
     
@@ -175,4 +194,146 @@ public class ClientWorkerTest {
         Assert.assertEquals(null, clientWorker.getAgentName());
     }
     
+    @Test
+    public void testExecuteConfigListenWithChangedConfig() throws Exception {
+        Properties prop = new Properties();
+        ConfigFilterChainManager filter = new ConfigFilterChainManager(new Properties());
+        ServerListManager agent = Mockito.mock(ServerListManager.class);
+        ClientWorker clientWorker = new ClientWorker(filter, agent, prop);
+        final String dataId = "a";
+        final String group = "b";
+        final String content = UUID.randomUUID().toString();
+        
+        RpcClient rpcClient = Mockito.mock(RpcClient.class);
+        String clientName = registerRpcClient(clientWorker, rpcClient);
+        
+        ConfigChangeBatchListenResponse listenResponse = new ConfigChangeBatchListenResponse();
+        listenResponse.addChangeConfig(dataId, group, "");
+        RequestFuture requestFuture = Mockito.mock(RequestFuture.class);
+        Mockito.when(requestFuture.get(anyLong())).thenReturn(listenResponse);
+        Mockito.when(rpcClient.requestFuture(any())).thenReturn(requestFuture);
+        Mockito.when(rpcClient.request(any(ConfigQueryRequest.class), anyLong()))
+                .thenReturn(ConfigQueryResponse.buildSuccessResponse(content));
+        
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<String> received = new AtomicReference<>();
+        Listener listener = new AbstractListener() {
+            @Override
+            public void receiveConfigInfo(String configInfo) {
+                received.set(configInfo);
+                latch.countDown();
+            }
+        };
+        try {
+            ConfigTransportClient transportClient = stopListenLoop(clientWorker);
+            clientWorker.addTenantListeners(dataId, group, Arrays.asList(listener));
+            transportClient.executeConfigListen();
+            Assert.assertTrue(latch.await(3L, TimeUnit.SECONDS));
+            Assert.assertEquals(content, received.get());
+        } finally {
+            getClientMap().remove(clientName);
+            clientWorker.shutdown();
+        }
+    }
+    
+    @Test
+    public void testExecuteConfigListenOnlyForDirtyCaches() throws Exception {
+        Properties prop = new Properties();
+        ConfigFilterChainManager filter = new ConfigFilterChainManager(new Properties());
+        ServerListManager agent = Mockito.mock(ServerListManager.class);
+        ClientWorker clientWorker = new ClientWorker(filter, agent, prop);
+        RpcClient rpcClient = Mockito.mock(RpcClient.class);
+        String clientName = registerRpcClient(clientWorker, rpcClient);
+        RequestFuture requestFuture = Mockito.mock(RequestFuture.class);
+        Mockito.when(requestFuture.get(anyLong())).thenReturn(new ConfigChangeBatchListenResponse());
+        Mockito.when(rpcClient.requestFuture(any())).thenReturn(requestFuture);
+        
+        Listener listener = new AbstractListener() {
+            @Override
+            public void receiveConfigInfo(String configInfo) {
+            }
+        };
+        try {
+            ConfigTransportClient transportClient = stopListenLoop(clientWorker);
+            clientWorker.addTenantListeners("a", "b", Arrays.asList(listener));
+            transportClient.executeConfigListen();
+            transportClient.executeConfigListen();
+            Assert.assertTrue(clientWorker.getCache("a", "b", transportClient.getTenant()).isSyncWithServer());
+            Mockito.verify(rpcClient, Mockito.times(1)).requestFuture(any());
+        } finally {
+            getClientMap().remove(clientName);
+            clientWorker.shutdown();
+        }
+    }
+    
+    @Test
+    public void testBatchChangeNotifyOnlyMarkChangedConfigs() throws Exception {
+        Properties prop = new Properties();
+        ConfigFilterChainManager filter = new ConfigFilterChainManager(new Properties());
+        ServerListManager agent = Mockito.mock(ServerListManager.class);
+        ClientWorker clientWorker = new ClientWorker(filter, agent, prop);
+        RpcClient rpcClient = Mockito.mock(RpcClient.class);
+        String clientName = registerRpcClient(clientWorker, rpcClient);
+        Mockito.when(rpcClient.isWaitInitiated()).thenReturn(true);
+        RequestFuture requestFuture = Mockito.mock(RequestFuture.class);
+        Mockito.when(requestFuture.get(anyLong())).thenReturn(new ConfigChangeBatchListenResponse());
+        Mockito.when(rpcClient.requestFuture(any())).thenReturn(requestFuture);
+        
+        Listener listener = new AbstractListener() {
+            @Override
+            public void receiveConfigInfo(String configInfo) {
+            }
+        };
+        try {
+            final ConfigTransportClient transportClient = stopListenLoop(clientWorker);
+            clientWorker.addTenantListeners("a", "b", Arrays.asList(listener));
+            clientWorker.addTenantListeners("c", "b", Arrays.asList(listener));
+            clientWorker.addTenantListeners("d", "b", Arrays.asList(listener));
+            transportClient.executeConfigListen();
+            ArgumentCaptor<ServerRequestHandler> handlers = ArgumentCaptor.forClass(ServerRequestHandler.class);
+            Mockito.verify(rpcClient, Mockito.atLeastOnce()).registerServerRequestHandler(handlers.capture());
+            
+            String tenant = transportClient.getTenant();
+            ConfigBatchChangeNotifyRequest request = new ConfigBatchChangeNotifyRequest();
+            request.addChangeConfig("a", "b", tenant);
+            request.addChangeConfig("c", "b", tenant);
+            request.addChangeConfig("notListened", "b", tenant);
+            Response response = null;
+            for (ServerRequestHandler each : handlers.getAllValues()) {
+                response = null == response ? each.requestReply(request) : response;
+            }
+            Assert.assertTrue(response instanceof ConfigBatchChangeNotifyResponse);
+            Assert.assertFalse(clientWorker.getCache("a", "b", tenant).isSyncWithServer());
+            Assert.assertFalse(clientWorker.getCache("c", "b", tenant).isSyncWithServer());
+            Assert.assertTrue(clientWorker.getCache("d", "b", tenant).isSyncWithServer());
+            Assert.assertNull(clientWorker.getCache("notListened", "b", tenant));
+        } finally {
+            getClientMap().remove(clientName);
+            clientWorker.shutdown();
+        }
+    }
+    
+    private String registerRpcClient(ClientWorker clientWorker, RpcClient rpcClient) throws Exception {
+        Field uuidField = ClientWorker.class.getDeclaredField("uuid");
+        uuidField.setAccessible(true);
+        String clientName = uuidField.get(clientWorker) + "_config-0";
+        getClientMap().put(clientName, rpcClient);
+        return clientName;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Map<String, RpcClient> getClientMap() throws Exception {
+        Field clientMapField = RpcClientFactory.class.getDeclaredField("CLIENT_MAP");
+        clientMapField.setAccessible(true);
+        return (Map<String, RpcClient>) clientMapField.get(null);
+    }
+    
+    private ConfigTransportClient stopListenLoop(ClientWorker clientWorker) throws Exception {
+        Field agentField = ClientWorker.class.getDeclaredField("agent");
+        agentField.setAccessible(true);
+        ConfigTransportClient result = (ConfigTransportClient) agentField.get(clientWorker);
+        result.executor.shutdownNow();
+        result.executor.awaitTermination(1L, TimeUnit.SECONDS);
+        return result;
+    }
 }
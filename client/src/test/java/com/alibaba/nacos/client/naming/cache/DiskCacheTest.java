@@ -71,6 +71,17 @@ public class DiskCacheTest {
         assertServiceInfo(actual.get(serviceInfo.getKey()), serviceInfo);
     }
     
+    @Test
+    public void testWriteWithoutTempFileLeft() {
+        DiskCache.write(serviceInfo, CACHE_DIR);
+        DiskCache.write(serviceInfo, CACHE_DIR);
+        File[] files = new File(CACHE_DIR).listFiles();
+        assertEquals(1, files.length);
+        Assert.assertFalse(DiskCache.isTempFile(files[0]));
+        assertEquals(1, DiskCache.listCacheFiles(CACHE_DIR).size());
+        assertServiceInfo(DiskCache.readFile(serviceInfo.getKey(), files[0]), serviceInfo);
+    }
+    
     private void assertServiceInfo(ServiceInfo actual, ServiceInfo expected) {
         assertEquals(actual.getName(), expected.getName());
         assertEquals(actual.getGroupName(), expected.getGroupName());
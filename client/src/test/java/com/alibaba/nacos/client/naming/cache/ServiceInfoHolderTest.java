@@ -22,13 +22,16 @@ import com.alibaba.nacos.api.PropertyKeyConst;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberDeltaRequest;
 import com.alibaba.nacos.client.naming.backups.FailoverReactor;
 import org.junit.Assert;
 import org.junit.Test;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.ScheduledExecutorService;
 
@@ -73,6 +76,35 @@ public class ServiceInfoHolderTest {
         Assert.assertEquals(info2, actual2);
     }
     
+    @Test
+    public void testProcessServiceInfoDelta() {
+        ServiceInfo info = new ServiceInfo("a@@b@@c");
+        List<Instance> hosts = new ArrayList<>();
+        hosts.add(createInstance("1.1.1.1", 1));
+        hosts.add(createInstance("1.1.1.2", 2));
+        info.setHosts(hosts);
+        ServiceInfoHolder holder = new ServiceInfoHolder("aa", "scope-001", new Properties());
+        holder.processServiceInfo(info, 1L);
+        
+        NotifySubscriberDeltaRequest delta = new NotifySubscriberDeltaRequest();
+        delta.setServiceInfo(new ServiceInfo("a@@b@@c"));
+        delta.setBaseRevision(1L);
+        delta.setRevision(2L);
+        delta.setAddedHosts(Collections.singletonList(createInstance("1.1.1.3", 3)));
+        delta.setRemovedHosts(Collections.singletonList(createInstance("1.1.1.1", 1)));
+        Instance modified = createInstance("1.1.1.2", 2);
+        modified.setWeight(2.0);
+        delta.setModifiedHosts(Collections.singletonList(modified));
+        ServiceInfo actual = holder.processServiceInfoDelta(delta);
+        Assert.assertNotNull(actual);
+        Assert.assertEquals(2, actual.getHosts().size());
+        Assert.assertEquals(2.0, actual.getHosts().get(0).getWeight(), 0.0);
+        Assert.assertEquals("1.1.1.3", actual.getHosts().get(1).getIp());
+        
+        // base revision 1 has been replaced by revision 2, so delta based on revision 1 is a revision gap.
+        Assert.assertNull(holder.processServiceInfoDelta(delta));
+    }
+    
     private Instance createInstance(String ip, int port) {
         Instance instance = new Instance();
         instance.setIp(ip);
@@ -136,6 +168,54 @@ public class ServiceInfoHolderTest {
         Assert.assertEquals(expect.getHosts().get(0), actual.getHosts().get(0));
     }
     
+    @Test
+    public void testLoadCacheLazily() throws Exception {
+        ServiceInfo info = new ServiceInfo("a@@b@@c");
+        info.setHosts(Collections.singletonList(createInstance("1.1.1.1", 1)));
+        Properties prop = new Properties();
+        prop.setProperty(PropertyKeyConst.NAMING_CACHE_REGISTRY_DIR, "lazy-load-test");
+        ServiceInfoHolder writer = new ServiceInfoHolder("aa", "scope-001", prop);
+        writer.processServiceInfo(info);
+        writer.shutdown();
+        
+        prop.setProperty(PropertyKeyConst.NAMING_LOAD_CACHE_AT_START, "true");
+        ServiceInfoHolder holder = new ServiceInfoHolder("aa", "scope-001", prop);
+        try {
+            Field field = ServiceInfoHolder.class.getDeclaredField("serviceInfoMap");
+            field.setAccessible(true);
+            Map<String, ServiceInfo> loaded = (Map<String, ServiceInfo>) field.get(holder);
+            Assert.assertTrue(loaded.isEmpty());
+            ServiceInfo actual = holder.getServiceInfo("b", "a", "c");
+            Assert.assertNotNull(actual);
+            Assert.assertEquals("1.1.1.1", actual.getHosts().get(0).getIp());
+            Assert.assertEquals(1, loaded.size());
+        } finally {
+            holder.shutdown();
+        }
+    }
+    
+    @Test
+    public void testGetServiceInfoMapLoadsAllCache() throws Exception {
+        ServiceInfo info = new ServiceInfo("a@@b@@c");
+        info.setHosts(Collections.singletonList(createInstance("1.1.1.1", 1)));
+        Properties prop = new Properties();
+        prop.setProperty(PropertyKeyConst.NAMING_CACHE_REGISTRY_DIR, "lazy-load-all-test");
+        ServiceInfoHolder writer = new ServiceInfoHolder("aa", "scope-001", prop);
+        writer.processServiceInfo(info);
+        writer.shutdown();
+        
+        prop.setProperty(PropertyKeyConst.NAMING_LOAD_CACHE_AT_START, "true");
+        ServiceInfoHolder holder = new ServiceInfoHolder("aa", "scope-001", prop);
+        try {
+            Map<String, ServiceInfo> actual = holder.getServiceInfoMap();
+            Assert.assertEquals(1, actual.size());
+            Assert.assertEquals("1.1.1.1", actual.get(info.getKey()).getHosts().get(0).getIp());
+            Assert.assertSame(actual.get(info.getKey()), holder.getLocalServiceInfo(info.getKey()));
+        } finally {
+            holder.shutdown();
+        }
+    }
+    
     @Test
     public void testShutdown() throws NacosException, NoSuchFieldException, IllegalAccessException {
         Properties prop = new Properties();
@@ -19,6 +19,7 @@
 package com.alibaba.nacos.client.naming.remote.gprc;
 
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberDeltaRequest;
 import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
 import com.alibaba.nacos.api.naming.remote.response.NotifySubscriberResponse;
 import com.alibaba.nacos.api.remote.request.Request;
@@ -30,6 +31,7 @@ import org.junit.Test;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public class NamingPushRequestHandlerTest {
     
@@ -44,6 +46,20 @@ public class NamingPushRequestHandlerTest {
         Response response = handler.requestReply(req);
         //then
         Assert.assertTrue(response instanceof NotifySubscriberResponse);
-        verify(holder, times(1)).processServiceInfo(info);
+        verify(holder, times(1)).processServiceInfo(info, 0L);
     }
-}
\ No newline at end of file
+    
+    @Test
+    public void testRequestReplyForDelta() {
+        ServiceInfoHolder holder = mock(ServiceInfoHolder.class);
+        NamingPushRequestHandler handler = new NamingPushRequestHandler(holder);
+        NotifySubscriberDeltaRequest req = new NotifySubscriberDeltaRequest();
+        req.setServiceInfo(new ServiceInfo("name", "cluster1"));
+        Response response = handler.requestReply(req);
+        Assert.assertTrue(response instanceof NotifySubscriberResponse);
+        Assert.assertFalse(response.isSuccess());
+        when(holder.processServiceInfoDelta(req)).thenReturn(req.getServiceInfo());
+        response = handler.requestReply(req);
+        Assert.assertTrue(response.isSuccess());
+    }
+}
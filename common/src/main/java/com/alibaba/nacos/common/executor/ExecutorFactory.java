@@ -130,6 +130,25 @@ public final class ExecutorFactory {
             return executorService;
         }
         
+        /**
+         * Create a new fixed executor service with bounded queue and register to manager.
+         *
+         * <p>The new task is rejected by {@link java.util.concurrent.RejectedExecutionException} when the queue is full.
+         *
+         * @param group         group name
+         * @param nThreads      thread number
+         * @param queueCapacity capacity of waiting task queue
+         * @param threadFactory thread factory
+         * @return new fixed executor service
+         */
+        public static ExecutorService newFixedExecutorService(final String group, final int nThreads,
+                final int queueCapacity, final ThreadFactory threadFactory) {
+            ExecutorService executorService = new ThreadPoolExecutor(nThreads, nThreads, 0L, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(queueCapacity), threadFactory);
+            THREAD_POOL_MANAGER.register(DEFAULT_NAMESPACE, group, executorService);
+            return executorService;
+        }
+        
         /**
          * Create a new single scheduled executor service with input thread factory and register to manager.
          *
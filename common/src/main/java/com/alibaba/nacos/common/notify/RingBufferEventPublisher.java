@@ -0,0 +1,388 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.notify;
+
+import com.alibaba.nacos.common.executor.NameThreadFactory;
+import com.alibaba.nacos.common.notify.listener.Subscriber;
+import com.alibaba.nacos.common.utils.CollectionUtils;
+import com.alibaba.nacos.common.utils.ConcurrentHashSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Event publisher based on a lock-free ring buffer.
+ *
+ * <p>Different from {@link DefaultPublisher}, events are drained by batch and can be handled by several consumer
+ * threads. When the ring buffer is full the publisher never runs subscribers on the caller thread, it either waits
+ * for free space or discards the event according to {@link BackpressurePolicy}.
+ *
+ * <p>Events are handled in publishing order only when the parallelism is 1, so expired events are only ignored for
+ * {@link Subscriber#ignoreExpireEvent()} in this case. With more consumers, the events reordered by consumers are not
+ * expired and are always notified.
+ *
+ * @author xiweng.yy
+ */
+public class RingBufferEventPublisher implements EventPublisher {
+    
+    private static final Logger LOGGER = LoggerFactory.getLogger(NotifyCenter.class);
+    
+    private static final String PARALLELISM_PROPERTY = "nacos.core.notify.ring-publisher.parallelism";
+    
+    private static final String BATCH_SIZE_PROPERTY = "nacos.core.notify.ring-publisher.batch-size";
+    
+    private static final String BACKPRESSURE_PROPERTY = "nacos.core.notify.ring-publisher.backpressure";
+    
+    private static final int DEFAULT_BATCH_SIZE = 128;
+    
+    private static final int MAX_WAIT_SUBSCRIBER_TIMES = 60;
+    
+    private static final int SPIN_TIMES = 64;
+    
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50L);
+    
+    private final int parallelism;
+    
+    private final int batchSize;
+    
+    private final BackpressurePolicy backpressurePolicy;
+    
+    private final ConcurrentHashSet<Subscriber> subscribers = new ConcurrentHashSet<>();
+    
+    private final AtomicLong lastEventSequence = new AtomicLong(-1L);
+    
+    private final AtomicLong discardCount = new AtomicLong();
+    
+    private Class<? extends Event> eventType;
+    
+    private RingBuffer ringBuffer;
+    
+    private Thread[] consumers;
+    
+    private AtomicIntegerArray parkedConsumers;
+    
+    private volatile boolean initialized = false;
+    
+    private volatile boolean shutdown = false;
+    
+    /**
+     * Create publisher with the settings from system properties, used by {@link NotifyCenter} spi loading.
+     */
+    public RingBufferEventPublisher() {
+        this(Integer.getInteger(PARALLELISM_PROPERTY, 1), Integer.getInteger(BATCH_SIZE_PROPERTY, DEFAULT_BATCH_SIZE),
+                BackpressurePolicy.valueOf(System.getProperty(BACKPRESSURE_PROPERTY, BackpressurePolicy.BLOCK.name())
+                        .toUpperCase()));
+    }
+    
+    public RingBufferEventPublisher(int parallelism, int batchSize, BackpressurePolicy backpressurePolicy) {
+        this.parallelism = Math.max(1, parallelism);
+        this.batchSize = Math.max(1, batchSize);
+        this.backpressurePolicy = backpressurePolicy;
+    }
+    
+    @Override
+    public synchronized void init(Class<? extends Event> type, int bufferSize) {
+        if (initialized) {
+            return;
+        }
+        this.eventType = type;
+        this.ringBuffer = new RingBuffer(bufferSize);
+        this.consumers = new Thread[parallelism];
+        this.parkedConsumers = new AtomicIntegerArray(parallelism);
+        ThreadFactory threadFactory = new NameThreadFactory("nacos.publisher-" + type.getName());
+        for (int i = 0; i < parallelism; i++) {
+            final int index = i;
+            consumers[i] = threadFactory.newThread(() -> consume(index));
+        }
+        initialized = true;
+        for (Thread each : consumers) {
+            each.start();
+        }
+    }
+    
+    @Override
+    public long currentEventSize() {
+        return null == ringBuffer ? 0L : ringBuffer.size();
+    }
+    
+    public int getParallelism() {
+        return parallelism;
+    }
+    
+    public int getBatchSize() {
+        return batchSize;
+    }
+    
+    public BackpressurePolicy getBackpressurePolicy() {
+        return backpressurePolicy;
+    }
+    
+    public long getDiscardCount() {
+        return discardCount.get();
+    }
+    
+    public Class<? extends Event> getEventType() {
+        return eventType;
+    }
+    
+    public ConcurrentHashSet<Subscriber> getSubscribers() {
+        return subscribers;
+    }
+    
+    @Override
+    public void addSubscriber(Subscriber subscriber) {
+        subscribers.add(subscriber);
+    }
+    
+    @Override
+    public void removeSubscriber(Subscriber subscriber) {
+        subscribers.remove(subscriber);
+    }
+    
+    @Override
+    public boolean publish(Event event) {
+        if (!initialized) {
+            throw new IllegalStateException("Publisher does not start");
+        }
+        while (!ringBuffer.offer(event)) {
+            if (shutdown || BackpressurePolicy.DISCARD == backpressurePolicy) {
+                discardCount.incrementAndGet();
+                LOGGER.warn("[NotifyCenter] ring buffer of {} is full, discard event : {}", eventType.getName(), event);
+                return false;
+            }
+            if (isConsumerThread()) {
+                // Waiting on consumer thread may dead lock, the event is handled on consumer thread anyway.
+                receiveEvent(event);
+                return true;
+            }
+            wakeUpConsumer();
+            LockSupport.parkNanos(FULL_PARK_NANOS);
+        }
+        wakeUpConsumer();
+        return true;
+    }
+    
+    @Override
+    public void notifySubscriber(Subscriber subscriber, Event event) {
+        LOGGER.debug("[NotifyCenter] the {} will received by {}", event, subscriber);
+        final Runnable job = () -> subscriber.onEvent(event);
+        final Executor executor = subscriber.executor();
+        if (executor != null) {
+            executor.execute(job);
+        } else {
+            try {
+                job.run();
+            } catch (Throwable e) {
+                LOGGER.error("Event callback exception: ", e);
+            }
+        }
+    }
+    
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        if (null != consumers) {
+            for (Thread each : consumers) {
+                LockSupport.unpark(each);
+            }
+        }
+    }
+    
+    private boolean isConsumerThread() {
+        Thread current = Thread.currentThread();
+        for (Thread each : consumers) {
+            if (each == current) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private void wakeUpConsumer() {
+        for (int i = 0; i < parallelism; i++) {
+            if (1 == parkedConsumers.get(i)) {
+                LockSupport.unpark(consumers[i]);
+                return;
+            }
+        }
+    }
+    
+    private void consume(int index) {
+        try {
+            waitFirstSubscriber();
+            Event[] batch = new Event[batchSize];
+            int idleTimes = 0;
+            while (!shutdown) {
+                int count = ringBuffer.drainTo(batch);
+                if (0 == count) {
+                    idle(index, ++idleTimes);
+                    continue;
+                }
+                idleTimes = 0;
+                for (int i = 0; i < count; i++) {
+                    receiveEvent(batch[i]);
+                    batch[i] = null;
+                }
+            }
+        } catch (Throwable ex) {
+            LOGGER.error("Event listener exception : ", ex);
+        }
+    }
+    
+    private void waitFirstSubscriber() {
+        // To ensure that messages are not lost, wait the first subscriber to register like DefaultPublisher.
+        int waitTimes = MAX_WAIT_SUBSCRIBER_TIMES;
+        while (!shutdown && CollectionUtils.isEmpty(subscribers) && waitTimes-- > 0) {
+            LockSupport.parkNanos(TimeUnit.SECONDS.toNanos(1L));
+        }
+    }
+    
+    private void idle(int index, int idleTimes) {
+        if (idleTimes < SPIN_TIMES) {
+            Thread.yield();
+            return;
+        }
+        parkedConsumers.set(index, 1);
+        // Check again after marked parked to avoid missing the wake up from publisher, which unparks the parked
+        // consumer after offered, so the idle consumer can park until woken up by publisher or shutdown.
+        if (0 == ringBuffer.size() && !shutdown) {
+            LockSupport.park(this);
+        }
+        parkedConsumers.set(index, 0);
+    }
+    
+    private void receiveEvent(Event event) {
+        final long currentEventSequence = event.sequence();
+        if (CollectionUtils.isEmpty(subscribers)) {
+            LOGGER.warn("[NotifyCenter] the {} is lost, because there is no subscriber.", event);
+            return;
+        }
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.scopeMatches(event)) {
+                continue;
+            }
+            // Whether to ignore expiration events
+            if (1 == parallelism && subscriber.ignoreExpireEvent() && lastEventSequence.get() > currentEventSequence) {
+                LOGGER.debug("[NotifyCenter] the {} is unacceptable to this subscriber, because had expire",
+                        event.getClass());
+                continue;
+            }
+            notifySubscriber(subscriber, event);
+        }
+        lastEventSequence.accumulateAndGet(currentEventSequence, Math::max);
+    }
+    
+    /**
+     * Policy when the ring buffer is full.
+     */
+    public enum BackpressurePolicy {
+        
+        /**
+         * Wait until consumers free some space, the subscribers still run on consumer threads.
+         */
+        BLOCK,
+        
+        /**
+         * Discard the event and return {@code false} from {@link EventPublisher#publish(Event)}.
+         */
+        DISCARD
+    }
+    
+    /**
+     * Bounded multi-producer multi-consumer ring buffer.
+     *
+     * <p>Each slot carries a sequence which tells whether it is free for the producer of a round or published for the
+     * consumer of a round, so both sides only need one CAS on their cursor.
+     */
+    private static final class RingBuffer {
+        
+        private final int mask;
+        
+        private final AtomicReferenceArray<Event> slots;
+        
+        private final AtomicLongArray sequences;
+        
+        private final AtomicLong producerCursor = new AtomicLong();
+        
+        private final AtomicLong consumerCursor = new AtomicLong();
+        
+        private RingBuffer(int bufferSize) {
+            int capacity = Integer.highestOneBit(Math.max(2, bufferSize) - 1) << 1;
+            this.mask = capacity - 1;
+            this.slots = new AtomicReferenceArray<>(capacity);
+            this.sequences = new AtomicLongArray(capacity);
+            for (int i = 0; i < capacity; i++) {
+                sequences.set(i, i);
+            }
+        }
+        
+        private long size() {
+            return Math.max(0L, producerCursor.get() - consumerCursor.get());
+        }
+        
+        private boolean offer(Event event) {
+            for (; ; ) {
+                long position = producerCursor.get();
+                int index = (int) (position & mask);
+                long diff = sequences.get(index) - position;
+                if (diff < 0) {
+                    return false;
+                }
+                if (0 == diff && producerCursor.compareAndSet(position, position + 1)) {
+                    slots.lazySet(index, event);
+                    sequences.lazySet(index, position + 1);
+                    return true;
+                }
+            }
+        }
+        
+        private int drainTo(Event[] batch) {
+            for (; ; ) {
+                long position = consumerCursor.get();
+                int count = 0;
+                while (count < batch.length) {
+                    long expected = position + count + 1;
+                    if (sequences.get((int) ((position + count) & mask)) != expected) {
+                        break;
+                    }
+                    count++;
+                }
+                if (0 == count) {
+                    return 0;
+                }
+                if (!consumerCursor.compareAndSet(position, position + count)) {
+                    continue;
+                }
+                for (int i = 0; i < count; i++) {
+                    int index = (int) ((position + i) & mask);
+                    batch[i] = slots.get(index);
+                    slots.lazySet(index, null);
+                    sequences.lazySet(index, position + i + mask + 1);
+                }
+                return count;
+            }
+        }
+    }
+}
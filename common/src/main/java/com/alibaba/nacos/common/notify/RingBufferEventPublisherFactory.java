@@ -0,0 +1,58 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.notify;
+
+/**
+ * Factory of {@link RingBufferEventPublisher}, each event type owns one publisher.
+ *
+ * <p>Usage: {@code NotifyCenter.registerToPublisher(eventType, new RingBufferEventPublisherFactory(), size)} or
+ * {@code NotifyCenter.registerSubscriber(subscriber, new RingBufferEventPublisherFactory())}.
+ *
+ * @author xiweng.yy
+ */
+public class RingBufferEventPublisherFactory implements EventPublisherFactory {
+    
+    private final int parallelism;
+    
+    private final int batchSize;
+    
+    private final RingBufferEventPublisher.BackpressurePolicy backpressurePolicy;
+    
+    /**
+     * Create factory with the settings from system properties.
+     */
+    public RingBufferEventPublisherFactory() {
+        RingBufferEventPublisher template = new RingBufferEventPublisher();
+        this.parallelism = template.getParallelism();
+        this.batchSize = template.getBatchSize();
+        this.backpressurePolicy = template.getBackpressurePolicy();
+    }
+    
+    public RingBufferEventPublisherFactory(int parallelism, int batchSize,
+            RingBufferEventPublisher.BackpressurePolicy backpressurePolicy) {
+        this.parallelism = parallelism;
+        this.batchSize = batchSize;
+        this.backpressurePolicy = backpressurePolicy;
+    }
+    
+    @Override
+    public EventPublisher apply(Class<? extends Event> eventType, Integer maxQueueSize) {
+        RingBufferEventPublisher result = new RingBufferEventPublisher(parallelism, batchSize, backpressurePolicy);
+        result.init(eventType, maxQueueSize);
+        return result;
+    }
+}
@@ -30,6 +30,7 @@ import com.alibaba.nacos.common.remote.ConnectionType;
 import com.alibaba.nacos.common.remote.client.Connection;
 import com.alibaba.nacos.common.remote.client.RpcClient;
 import com.alibaba.nacos.common.remote.client.RpcClientStatus;
+import com.alibaba.nacos.common.remote.codec.PayloadCodecManager;
 import com.alibaba.nacos.common.utils.LoggerUtils;
 import com.alibaba.nacos.common.utils.ThreadFactoryBuilder;
 import com.alibaba.nacos.common.utils.ThreadUtils;
@@ -60,6 +61,8 @@ public abstract class GrpcClient extends RpcClient {
     
     protected static final String NACOS_SERVER_GRPC_PORT_OFFSET_KEY = "nacos.server.grpc.port.offset";
     
+    private static final String PAYLOAD_CODEC_PROPERTY = "nacos.remote.client.grpc.payload.codec";
+    
     private ThreadPoolExecutor grpcExecutor = null;
     
     private Integer threadPoolCoreSize;
@@ -178,6 +181,10 @@ public abstract class GrpcClient extends RpcClient {
         }
     }
     
+    private String getPreferredPayloadCodec() {
+        return System.getProperty(PAYLOAD_CODEC_PROPERTY, PayloadCodecManager.JSON);
+    }
+    
     /**
      * check server if success.
      *
@@ -313,6 +320,8 @@ public abstract class GrpcClient extends RpcClient {
                         .newStub(newChannelStubTemp.getChannel());
                 GrpcConnection grpcConn = new GrpcConnection(serverInfo, grpcExecutor);
                 grpcConn.setConnectionId(((ServerCheckResponse) response).getConnectionId());
+                grpcConn.setPayloadCodec(PayloadCodecManager.negotiate(getPreferredPayloadCodec(),
+                        ((ServerCheckResponse) response).getSupportedPayloadCodecs()));
                 
                 //create stream request and bind connection event to this connection.
                 StreamObserver<Payload> payloadStreamObserver = bindRequestStream(biRequestStreamStub, grpcConn);
@@ -325,6 +334,10 @@ public abstract class GrpcClient extends RpcClient {
                 ConnectionSetupRequest conSetupRequest = new ConnectionSetupRequest();
                 conSetupRequest.setClientVersion(VersionUtils.getFullClientVersion());
                 conSetupRequest.setLabels(super.getLabels());
+                if (null != super.clientAbilities) {
+                    super.clientAbilities.getRemoteAbility()
+                            .setSupportedPayloadCodecs(PayloadCodecManager.getSupportedCodecs());
+                }
                 conSetupRequest.setAbilities(super.clientAbilities);
                 conSetupRequest.setTenant(super.getTenant());
                 grpcConn.sendRequest(conSetupRequest);
@@ -28,6 +28,8 @@ import com.alibaba.nacos.api.remote.response.Response;
 import com.alibaba.nacos.api.remote.response.ResponseCode;
 import com.alibaba.nacos.common.remote.client.Connection;
 import com.alibaba.nacos.common.remote.client.RpcClient;
+import com.alibaba.nacos.common.remote.codec.PayloadCodec;
+import com.alibaba.nacos.common.remote.codec.PayloadCodecManager;
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
@@ -62,6 +64,11 @@ public class GrpcConnection extends Connection {
     
     protected StreamObserver<Payload> payloadStreamObserver;
     
+    /**
+     * codec negotiated with server to encode payload sent by this connection.
+     */
+    protected PayloadCodec payloadCodec = PayloadCodecManager.getDefaultCodec();
+    
     public GrpcConnection(RpcClient.ServerInfo serverInfo, Executor executor) {
         super(serverInfo);
         this.executor = executor;
@@ -69,7 +76,7 @@ public class GrpcConnection extends Connection {
     
     @Override
     public Response request(Request request, long timeouts) throws NacosException {
-        Payload grpcRequest = GrpcUtils.convert(request);
+        Payload grpcRequest = GrpcUtils.convert(request, payloadCodec);
         ListenableFuture<Payload> requestFuture = grpcFutureServiceStub.request(grpcRequest);
         Payload grpcResponse;
         try {
@@ -83,7 +90,7 @@ public class GrpcConnection extends Connection {
     
     @Override
     public RequestFuture requestFuture(Request request) throws NacosException {
-        Payload grpcRequest = GrpcUtils.convert(request);
+        Payload grpcRequest = GrpcUtils.convert(request, payloadCodec);
         
         final ListenableFuture<Payload> requestFuture = grpcFutureServiceStub.request(grpcRequest);
         return new RequestFuture() {
@@ -116,18 +123,18 @@ public class GrpcConnection extends Connection {
     }
     
     public void sendResponse(Response response) {
-        Payload convert = GrpcUtils.convert(response);
+        Payload convert = GrpcUtils.convert(response, payloadCodec);
         payloadStreamObserver.onNext(convert);
     }
     
     public void sendRequest(Request request) {
-        Payload convert = GrpcUtils.convert(request);
+        Payload convert = GrpcUtils.convert(request, payloadCodec);
         payloadStreamObserver.onNext(convert);
     }
     
     @Override
     public void asyncRequest(Request request, final RequestCallBack requestCallBack) throws NacosException {
-        Payload grpcRequest = GrpcUtils.convert(request);
+        Payload grpcRequest = GrpcUtils.convert(request, payloadCodec);
         ListenableFuture<Payload> requestFuture = grpcFutureServiceStub.request(grpcRequest);
         
         //set callback .
@@ -183,6 +190,14 @@ public class GrpcConnection extends Connection {
         }
     }
     
+    public PayloadCodec getPayloadCodec() {
+        return payloadCodec;
+    }
+    
+    public void setPayloadCodec(PayloadCodec payloadCodec) {
+        this.payloadCodec = payloadCodec;
+    }
+    
     /**
      * Getter method for property <tt>channel</tt>.
      *
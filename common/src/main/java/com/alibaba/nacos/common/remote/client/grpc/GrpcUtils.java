@@ -24,6 +24,8 @@ import com.alibaba.nacos.api.remote.request.RequestMeta;
 import com.alibaba.nacos.api.remote.response.Response;
 import com.alibaba.nacos.api.utils.NetUtils;
 import com.alibaba.nacos.common.remote.PayloadRegistry;
+import com.alibaba.nacos.common.remote.codec.PayloadCodec;
+import com.alibaba.nacos.common.remote.codec.PayloadCodecManager;
 import com.alibaba.nacos.common.remote.exception.RemoteException;
 import com.alibaba.nacos.common.utils.JacksonUtils;
 import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
@@ -74,17 +76,25 @@ public class GrpcUtils {
      * @return payload.
      */
     public static Payload convert(Request request) {
+        return convert(request, PayloadCodecManager.getDefaultCodec());
+    }
+    
+    /**
+     * convert request to payload with the codec negotiated with peer.
+     *
+     * @param request request.
+     * @param codec   payload codec.
+     * @return payload.
+     */
+    public static Payload convert(Request request, PayloadCodec codec) {
         
         Metadata newMeta = Metadata.newBuilder().setType(request.getClass().getSimpleName())
                 .setClientIp(NetUtils.localIP()).putAllHeaders(request.getHeaders()).build();
         request.clearHeaders();
-        byte[] jsonBytes = JacksonUtils.toJsonBytes(request);
         
         Payload.Builder builder = Payload.newBuilder();
-    
-        return builder
-                .setBody(Any.newBuilder().setValue(UnsafeByteOperations.unsafeWrap(jsonBytes)))
-                .setMetadata(newMeta).build();
+        
+        return builder.setBody(buildBody(request, codec)).setMetadata(newMeta).build();
         
     }
     
@@ -95,12 +105,44 @@ public class GrpcUtils {
      * @return payload.
      */
     public static Payload convert(Response response) {
-        byte[] jsonBytes = JacksonUtils.toJsonBytes(response);
-        
+        return convert(response, PayloadCodecManager.getDefaultCodec());
+    }
+    
+    /**
+     * convert response to payload with the codec negotiated with peer.
+     *
+     * @param response response.
+     * @param codec    payload codec.
+     * @return payload.
+     */
+    public static Payload convert(Response response, PayloadCodec codec) {
         Metadata.Builder metaBuilder = Metadata.newBuilder().setType(response.getClass().getSimpleName());
-        return Payload.newBuilder()
-                .setBody(Any.newBuilder().setValue(UnsafeByteOperations.unsafeWrap(jsonBytes)))
-                .setMetadata(metaBuilder.build()).build();
+        return Payload.newBuilder().setBody(buildBody(response, codec)).setMetadata(metaBuilder.build()).build();
+    }
+    
+    private static Any buildBody(Object body, PayloadCodec codec) {
+        Any.Builder builder = Any.newBuilder().setValue(UnsafeByteOperations.unsafeWrap(codec.encode(body)));
+        // Keep json body same as old versions, which don't know the codec name.
+        if (!PayloadCodecManager.JSON.equals(codec.getName())) {
+            builder.setTypeUrl(codec.getName());
+        }
+        return builder.build();
+    }
+    
+    /**
+     * Get the codec which encoded the payload body.
+     *
+     * @param payload payload
+     * @return payload codec
+     * @throws RemoteException if the codec is not supported by current process
+     */
+    public static PayloadCodec getPayloadCodec(Payload payload) {
+        String codecName = payload.getBody().getTypeUrl();
+        PayloadCodec result = PayloadCodecManager.getCodec(codecName);
+        if (null == result) {
+            throw new RemoteException(NacosException.SERVER_ERROR, "Unknown payload codec:" + codecName);
+        }
+        return result;
     }
     
     /**
@@ -114,7 +156,7 @@ public class GrpcUtils {
         if (classType != null) {
             ByteString byteString = payload.getBody().getValue();
             ByteBuffer byteBuffer = byteString.asReadOnlyByteBuffer();
-            Object obj = JacksonUtils.toObj(new ByteBufferBackedInputStream(byteBuffer), classType);
+            Object obj = getPayloadCodec(payload).decode(new ByteBufferBackedInputStream(byteBuffer), classType);
             if (obj instanceof Request) {
                 ((Request) obj).putAllHeader(payload.getMetadata().getHeadersMap());
             }
@@ -0,0 +1,55 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import java.io.InputStream;
+
+/**
+ * Codec of the body of gRPC {@code Payload}.
+ *
+ * <p>The codec name is written into the type url of the payload body, so the receiver can always decode the body
+ * without knowing the codec chosen by sender. The sender should only use the codec negotiated with the receiver.
+ *
+ * @author xiweng.yy
+ */
+public interface PayloadCodec {
+    
+    /**
+     * Get the unique name of codec.
+     *
+     * @return codec name
+     */
+    String getName();
+    
+    /**
+     * Encode request or response to bytes.
+     *
+     * @param obj request or response
+     * @return encoded bytes
+     */
+    byte[] encode(Object obj);
+    
+    /**
+     * Decode bytes to request or response.
+     *
+     * @param inputStream input stream of encoded bytes
+     * @param cls         class of request or response
+     * @param <T>         type of request or response
+     * @return decoded request or response
+     */
+    <T> T decode(InputStream inputStream, Class<T> cls);
+}
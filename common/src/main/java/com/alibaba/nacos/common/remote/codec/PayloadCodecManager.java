@@ -0,0 +1,104 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.common.spi.NacosServiceLoader;
+import com.alibaba.nacos.common.utils.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Manager of {@link PayloadCodec}, load build-in codecs and codecs from spi.
+ *
+ * @author xiweng.yy
+ */
+public class PayloadCodecManager {
+    
+    public static final String JSON = "json";
+    
+    public static final String SMILE = "smile";
+    
+    private static final Logger LOGGER = LoggerFactory.getLogger(PayloadCodecManager.class);
+    
+    private static final Map<String, PayloadCodec> CODECS = new ConcurrentHashMap<>();
+    
+    private static final PayloadCodec DEFAULT_CODEC = new JsonPayloadCodec();
+    
+    private static final List<String> SUPPORTED_CODECS;
+    
+    static {
+        register(DEFAULT_CODEC);
+        register(new SmilePayloadCodec());
+        for (PayloadCodec each : NacosServiceLoader.load(PayloadCodec.class)) {
+            register(each);
+        }
+        SUPPORTED_CODECS = Collections.unmodifiableList(new ArrayList<>(CODECS.keySet()));
+    }
+    
+    private static void register(PayloadCodec codec) {
+        LOGGER.info("[PayloadCodecManager] Load payload codec {}", codec.getName());
+        CODECS.put(codec.getName(), codec);
+    }
+    
+    public static PayloadCodec getDefaultCodec() {
+        return DEFAULT_CODEC;
+    }
+    
+    /**
+     * Get codec by name, the empty name means the default json codec.
+     *
+     * @param name codec name
+     * @return codec, {@code null} if no codec found for the name
+     */
+    public static PayloadCodec getCodec(String name) {
+        if (StringUtils.isEmpty(name)) {
+            return DEFAULT_CODEC;
+        }
+        return CODECS.get(name);
+    }
+    
+    /**
+     * Get names of all codecs supported by current process.
+     *
+     * @return codec names
+     */
+    public static List<String> getSupportedCodecs() {
+        return SUPPORTED_CODECS;
+    }
+    
+    /**
+     * Choose the codec for sending payload to peer.
+     *
+     * @param preferred     codec name preferred by current side
+     * @param peerSupported codec names supported by peer, {@code null} if peer doesn't support negotiation
+     * @return preferred codec if both side support it, otherwise the default json codec
+     */
+    public static PayloadCodec negotiate(String preferred, Collection<String> peerSupported) {
+        if (null == peerSupported || !peerSupported.contains(preferred)) {
+            return DEFAULT_CODEC;
+        }
+        PayloadCodec result = CODECS.get(preferred);
+        return null == result ? DEFAULT_CODEC : result;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.exception.runtime.NacosDeserializationException;
+import com.alibaba.nacos.api.exception.runtime.NacosSerializationException;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Binary payload codec implement by Jackson Smile.
+ *
+ * <p>Smile is the binary format of the same data model as json, so requests and responses are mapped in the same way
+ * as {@link JsonPayloadCodec}, while numbers are written in binary and repeated property names are back referenced.
+ *
+ * @author xiweng.yy
+ */
+public class SmilePayloadCodec implements PayloadCodec {
+    
+    private final ObjectMapper mapper;
+    
+    public SmilePayloadCodec() {
+        SmileFactory factory = new SmileFactory();
+        factory.enable(SmileGenerator.Feature.CHECK_SHARED_NAMES);
+        mapper = new ObjectMapper(factory);
+        mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        mapper.setSerializationInclusion(Include.NON_NULL);
+    }
+    
+    @Override
+    public String getName() {
+        return PayloadCodecManager.SMILE;
+    }
+    
+    @Override
+    public byte[] encode(Object obj) {
+        try {
+            return mapper.writeValueAsBytes(obj);
+        } catch (IOException e) {
+            throw new NacosSerializationException(obj.getClass(), e);
+        }
+    }
+    
+    @Override
+    public <T> T decode(InputStream inputStream, Class<T> cls) {
+        try {
+            return mapper.readValue(inputStream, cls);
+        } catch (IOException e) {
+            throw new NacosDeserializationException(cls, e);
+        }
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.notify;
+
+import com.alibaba.nacos.common.notify.listener.Subscriber;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class RingBufferEventPublisherTest {
+    
+    private RingBufferEventPublisher publisher;
+    
+    @After
+    public void tearDown() {
+        if (null != publisher) {
+            publisher.shutdown();
+        }
+    }
+    
+    @Test
+    public void testPublishByMultiProducersAndConsumers() throws InterruptedException {
+        final int producers = 4;
+        final int eventsPerProducer = 10000;
+        publisher = (RingBufferEventPublisher) new RingBufferEventPublisherFactory(4, 16,
+                RingBufferEventPublisher.BackpressurePolicy.BLOCK).apply(TestEvent.class, 64);
+        final CountDownLatch latch = new CountDownLatch(producers * eventsPerProducer);
+        publisher.addSubscriber(new TestSubscriber(event -> latch.countDown()));
+        for (int i = 0; i < producers; i++) {
+            new Thread(() -> {
+                for (int j = 0; j < eventsPerProducer; j++) {
+                    assertTrue(publisher.publish(new TestEvent(j)));
+                }
+            }).start();
+        }
+        assertTrue(latch.await(10L, TimeUnit.SECONDS));
+        assertEquals(0L, publisher.currentEventSize());
+        assertEquals(0L, publisher.getDiscardCount());
+    }
+    
+    @Test
+    public void testNotIgnoreReorderedEventsWithMultiConsumers() throws InterruptedException {
+        final int total = 20000;
+        publisher = new RingBufferEventPublisher(4, 4, RingBufferEventPublisher.BackpressurePolicy.BLOCK);
+        publisher.init(TestEvent.class, 64);
+        final CountDownLatch latch = new CountDownLatch(total);
+        publisher.addSubscriber(new TestSubscriber(event -> latch.countDown()) {
+            
+            @Override
+            public boolean ignoreExpireEvent() {
+                return true;
+            }
+        });
+        for (int i = 0; i < total; i++) {
+            publisher.publish(new TestEvent(i));
+        }
+        assertTrue(latch.await(10L, TimeUnit.SECONDS));
+    }
+    
+    @Test
+    public void testPublishInOrderWithSingleConsumer() throws InterruptedException {
+        final int total = 1000;
+        publisher = new RingBufferEventPublisher(1, 8, RingBufferEventPublisher.BackpressurePolicy.BLOCK);
+        publisher.init(TestEvent.class, 16);
+        final List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch latch = new CountDownLatch(total);
+        publisher.addSubscriber(new TestSubscriber(event -> {
+            received.add(event.index);
+            latch.countDown();
+        }));
+        for (int i = 0; i < total; i++) {
+            publisher.publish(new TestEvent(i));
+        }
+        assertTrue(latch.await(10L, TimeUnit.SECONDS));
+        for (int i = 0; i < total; i++) {
+            assertEquals(i, received.get(i).intValue());
+        }
+    }
+    
+    @Test
+    public void testWakeUpIdleConsumers() throws InterruptedException {
+        publisher = new RingBufferEventPublisher(2, 4, RingBufferEventPublisher.BackpressurePolicy.BLOCK);
+        publisher.init(TestEvent.class, 16);
+        final AtomicInteger received = new AtomicInteger();
+        publisher.addSubscriber(new TestSubscriber(event -> received.incrementAndGet()));
+        for (int i = 0; i < 20; i++) {
+            // Let consumers run out of spinning and park before each publish.
+            TimeUnit.MILLISECONDS.sleep(20L);
+            publisher.publish(new TestEvent(i));
+            long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(1L);
+            while (received.get() <= i && System.currentTimeMillis() < deadline) {
+                Thread.yield();
+            }
+            assertEquals(i + 1, received.get());
+        }
+    }
+    
+    @Test
+    public void testDiscardWhenFull() throws InterruptedException {
+        publisher = new RingBufferEventPublisher(1, 1, RingBufferEventPublisher.BackpressurePolicy.DISCARD);
+        publisher.init(TestEvent.class, 2);
+        final CountDownLatch blocker = new CountDownLatch(1);
+        final AtomicInteger handled = new AtomicInteger();
+        publisher.addSubscriber(new TestSubscriber(event -> {
+            try {
+                blocker.await();
+            } catch (InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            }
+            handled.incrementAndGet();
+        }));
+        boolean discarded = false;
+        for (int i = 0; i < 10 && !discarded; i++) {
+            discarded = !publisher.publish(new TestEvent(i));
+        }
+        assertTrue(discarded);
+        assertEquals(1L, publisher.getDiscardCount());
+        blocker.countDown();
+        TimeUnit.MILLISECONDS.sleep(100L);
+        assertFalse(handled.get() == 0);
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void testPublishBeforeInit() {
+        publisher = new RingBufferEventPublisher();
+        publisher.publish(new TestEvent(0));
+    }
+    
+    private static class TestEvent extends Event {
+        
+        private static final long serialVersionUID = 2785425315475421245L;
+        
+        private final int index;
+        
+        private TestEvent(int index) {
+            this.index = index;
+        }
+    }
+    
+    private static class TestSubscriber extends Subscriber<TestEvent> {
+        
+        private final Consumer<TestEvent> consumer;
+        
+        private TestSubscriber(Consumer<TestEvent> consumer) {
+            this.consumer = consumer;
+        }
+        
+        @Override
+        public void onEvent(TestEvent event) {
+            consumer.accept(event);
+        }
+        
+        @Override
+        public Class<? extends Event> subscribeType() {
+            return TestEvent.class;
+        }
+    }
+}
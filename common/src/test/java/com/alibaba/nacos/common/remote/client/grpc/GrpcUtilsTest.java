@@ -0,0 +1,103 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.client.grpc;
+
+import com.alibaba.nacos.api.grpc.auto.Payload;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.api.remote.response.ServerCheckResponse;
+import com.alibaba.nacos.common.remote.PayloadRegistry;
+import com.alibaba.nacos.common.remote.codec.PayloadCodec;
+import com.alibaba.nacos.common.remote.codec.PayloadCodecManager;
+import com.alibaba.nacos.common.remote.exception.RemoteException;
+import com.google.protobuf.Any;
+import com.google.protobuf.ByteString;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class GrpcUtilsTest {
+    
+    @BeforeClass
+    public static void setUpClass() {
+        PayloadRegistry.init();
+    }
+    
+    @Test
+    public void testConvertAndParseRequestWithCodecs() {
+        for (String each : PayloadCodecManager.getSupportedCodecs()) {
+            PayloadCodec codec = PayloadCodecManager.getCodec(each);
+            NotifySubscriberRequest request = NotifySubscriberRequest.buildNotifySubscriberRequest(buildServiceInfo());
+            request.putHeader("key", "value");
+            Payload payload = GrpcUtils.convert(request, codec);
+            NotifySubscriberRequest actual = (NotifySubscriberRequest) GrpcUtils.parse(payload);
+            assertEquals(codec.getName(), GrpcUtils.getPayloadCodec(payload).getName());
+            assertEquals("value", actual.getHeader("key"));
+            assertEquals("G@@S", actual.getServiceInfo().getKey());
+            assertEquals(2, actual.getServiceInfo().getHosts().size());
+            assertEquals("1.1.1.2", actual.getServiceInfo().getHosts().get(1).getIp());
+        }
+    }
+    
+    @Test
+    public void testJsonBodyCompatible() {
+        Payload payload = GrpcUtils.convert(new ServerCheckResponse("connId"));
+        assertTrue(payload.getBody().getTypeUrl().isEmpty());
+        Payload smilePayload = GrpcUtils
+                .convert(new ServerCheckResponse("connId"), PayloadCodecManager.getCodec(PayloadCodecManager.SMILE));
+        assertEquals(PayloadCodecManager.SMILE, smilePayload.getBody().getTypeUrl());
+        assertTrue(smilePayload.getBody().getValue().size() < payload.getBody().getValue().size());
+        assertEquals("connId", ((ServerCheckResponse) GrpcUtils.parse(smilePayload)).getConnectionId());
+    }
+    
+    @Test(expected = RemoteException.class)
+    public void testParseUnknownCodec() {
+        Payload payload = GrpcUtils.convert(new ServerCheckResponse("connId"));
+        Any body = Any.newBuilder().setTypeUrl("unknown").setValue(ByteString.copyFromUtf8("{}")).build();
+        GrpcUtils.parse(payload.toBuilder().setBody(body).build());
+    }
+    
+    @Test
+    public void testNegotiate() {
+        assertEquals(PayloadCodecManager.JSON, PayloadCodecManager.negotiate(PayloadCodecManager.SMILE, null).getName());
+        assertEquals(PayloadCodecManager.JSON,
+                PayloadCodecManager.negotiate(PayloadCodecManager.SMILE, Collections.singletonList("json")).getName());
+        assertEquals(PayloadCodecManager.SMILE, PayloadCodecManager
+                .negotiate(PayloadCodecManager.SMILE, Arrays.asList("json", "smile")).getName());
+        assertEquals(PayloadCodecManager.JSON,
+                PayloadCodecManager.negotiate("unknown", Arrays.asList("json", "unknown")).getName());
+    }
+    
+    private ServiceInfo buildServiceInfo() {
+        final ServiceInfo result = new ServiceInfo("G@@S");
+        Instance instance1 = new Instance();
+        instance1.setIp("1.1.1.1");
+        instance1.setPort(8848);
+        Instance instance2 = new Instance();
+        instance2.setIp("1.1.1.2");
+        instance2.setPort(8848);
+        instance2.setMetadata(Collections.singletonMap("k", "v"));
+        result.setHosts(Arrays.asList(instance1, instance2));
+        return result;
+    }
+}
@@ -37,6 +37,7 @@ import org.springframework.stereotype.Component;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * * Created with IntelliJ IDEA. User: dingjoey Date: 13-12-12 Time: 21:12 client api && sdk api 请求日志打点逻辑
@@ -62,6 +63,14 @@ public class RequestLogAspect {
                     + "&& target(com.alibaba.nacos.config.server.remote.ConfigPublishRequestHandler) "
                     + "&& args(request,meta)";
     
+    /**
+     * Publish config asynchronously.
+     */
+    private static final String CLIENT_INTERFACE_PUBLISH_SINGLE_CONFIG_RPC_ASYNC =
+            "execution(* com.alibaba.nacos.core.remote.AsyncRequestHandler.handleRequestAsync(..)) "
+                    + "&& target(com.alibaba.nacos.config.server.remote.ConfigPublishRequestHandler) "
+                    + "&& args(request,meta)";
+    
     /**
      * Get config.
      */
@@ -77,6 +86,14 @@ public class RequestLogAspect {
             "execution(* com.alibaba.nacos.core.remote.RequestHandler.handleRequest(..)) "
                     + " && target(com.alibaba.nacos.config.server.remote.ConfigQueryRequestHandler) && args(request,meta)";
     
+    /**
+     * Get config asynchronously.
+     */
+    private static final String CLIENT_INTERFACE_GET_CONFIG_RPC_ASYNC =
+            "execution(* com.alibaba.nacos.core.remote.AsyncRequestHandler.handleRequestAsync(..)) "
+                    + "&& target(com.alibaba.nacos.config.server.remote.ConfigQueryRequestHandler) "
+                    + "&& args(request,meta)";
+    
     /**
      * Remove config.
      */
@@ -114,6 +131,19 @@ public class RequestLogAspect {
                 request.getTenant(), md5);
     }
     
+    /**
+     * PublishSingle asynchronously.
+     */
+    @Around(CLIENT_INTERFACE_PUBLISH_SINGLE_CONFIG_RPC_ASYNC)
+    public Object interfacePublishSingleRpcAsync(ProceedingJoinPoint pjp, ConfigPublishRequest request,
+            RequestMeta meta) throws Throwable {
+        final String md5 =
+                request.getContent() == null ? null : MD5Utils.md5Hex(request.getContent(), Constants.ENCODE);
+        MetricsMonitor.getPublishMonitor().incrementAndGet();
+        return logClientRequestRpcAsync("publish", pjp, request, meta, request.getDataId(), request.getGroup(),
+                request.getTenant(), md5);
+    }
+    
     /**
      * PublishSingle.
      */
@@ -169,6 +199,19 @@ public class RequestLogAspect {
                 request.getTenant(), md5);
     }
     
+    /**
+     * GetConfig asynchronously.
+     */
+    @Around(CLIENT_INTERFACE_GET_CONFIG_RPC_ASYNC)
+    public Object interfaceGetConfigRpcAsync(ProceedingJoinPoint pjp, ConfigQueryRequest request, RequestMeta meta)
+            throws Throwable {
+        final String groupKey = GroupKey2.getKey(request.getDataId(), request.getGroup(), request.getTenant());
+        final String md5 = ConfigCacheService.getContentMd5(groupKey);
+        MetricsMonitor.getConfigMonitor().incrementAndGet();
+        return logClientRequestRpcAsync("get", pjp, request, meta, request.getDataId(), request.getGroup(),
+                request.getTenant(), md5);
+    }
+    
     /**
      * Client api request log rt | status | requestIp | opType | dataId | group | datumId | md5.
      */
@@ -205,6 +248,29 @@ public class RequestLogAspect {
         return retVal;
     }
     
+    /**
+     * Client api request log rt | status | requestIp | opType | dataId | group | datumId | md5, logged when the
+     * response completed.
+     */
+    @SuppressWarnings("unchecked")
+    private Object logClientRequestRpcAsync(String requestType, ProceedingJoinPoint pjp, Request request,
+            RequestMeta meta, String dataId, String group, String tenant, String md5) throws Throwable {
+        final String requestIp = meta.getClientIp();
+        final String appName = request.getHeader(RequestUtil.CLIENT_APPNAME_HEADER);
+        final long st = System.currentTimeMillis();
+        CompletableFuture<Response> retVal = (CompletableFuture<Response>) pjp.proceed();
+        return retVal.whenComplete((response, throwable) -> {
+            final long rt = System.currentTimeMillis() - st;
+            Object status = null == response ? throwable : (response.isSuccess() ? response.getResultCode()
+                    : response.getErrorCode());
+            // rt | status | requestIp | opType | dataId | group | datumId | md5 |
+            // appName
+            LogUtil.CLIENT_LOG
+                    .info("{}|{}|{}|{}|{}|{}|{}|{}|{}", rt, status, requestIp, requestType, dataId, group, tenant,
+                            md5, appName);
+        });
+    }
+    
     /**
      * GetConfig.
      */
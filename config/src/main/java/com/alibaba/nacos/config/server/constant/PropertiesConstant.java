@@ -59,4 +59,32 @@ public class PropertiesConstant {
     
     public static final String EMBEDDED_STORAGE = "embeddedStorage";
     
+    public static final String CONFIG_CONTENT_CACHE_ENABLED = "configContentCacheEnabled";
+    
+    public static final String CONFIG_CONTENT_CACHE_MAX_SIZE = "configContentCacheMaxSize";
+    
+    public static final String CONFIG_CONTENT_CACHE_COMPRESS_THRESHOLD = "configContentCacheCompressThreshold";
+    
+    public static final String CONFIG_DUMP_STORAGE_TYPE = "configDumpStorageType";
+    
+    public static final String CONFIG_DUMP_LOG_SEGMENT_SIZE = "configDumpLogSegmentSize";
+    
+    public static final String DUMP_ALL_PARALLELISM = "dumpAllParallelism";
+    
+    public static final String CONFIG_CHANGE_NOTIFY_BATCH_WINDOW = "configChangeNotifyBatchWindow";
+    
+    public static final String EMBEDDED_STORAGE_GROUP_COMMIT_WINDOW = "embeddedStorageGroupCommitWindow";
+    
+    public static final String EMBEDDED_STORAGE_GROUP_COMMIT_MAX_SIZE = "embeddedStorageGroupCommitMaxSize";
+    
+    public static final String EMBEDDED_STORAGE_READ_CONSISTENCY = "embeddedStorageReadConsistency";
+    
+    public static final String EMBEDDED_STORAGE_READ_MAX_STALENESS = "embeddedStorageReadMaxStaleness";
+    
+    public static final String READ_CONSISTENCY_LINEARIZABLE = "linearizable";
+    
+    public static final String READ_CONSISTENCY_LEADER_LEASE = "leader-lease";
+    
+    public static final String READ_CONSISTENCY_FOLLOWER_STALE = "follower-stale";
+    
 }
@@ -17,7 +17,6 @@
 package com.alibaba.nacos.config.server.controller;
 
 import com.alibaba.nacos.common.constant.HttpHeaderConsts;
-import com.alibaba.nacos.common.utils.IoUtils;
 import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.common.utils.Pair;
 import com.alibaba.nacos.config.server.constant.Constants;
@@ -26,9 +25,9 @@ import com.alibaba.nacos.config.server.model.CacheItem;
 import com.alibaba.nacos.config.server.model.ConfigInfoBase;
 import com.alibaba.nacos.config.server.service.ConfigCacheService;
 import com.alibaba.nacos.config.server.service.LongPollingService;
+import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskServiceFactory;
 import com.alibaba.nacos.config.server.service.repository.PersistService;
 import com.alibaba.nacos.config.server.service.trace.ConfigTraceService;
-import com.alibaba.nacos.config.server.utils.DiskUtil;
 import com.alibaba.nacos.config.server.utils.GroupKey2;
 import com.alibaba.nacos.config.server.utils.LogUtil;
 import com.alibaba.nacos.config.server.utils.MD5Util;
@@ -42,8 +41,6 @@ import org.springframework.stereotype.Service;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
-import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.net.URLEncoder;
@@ -137,7 +134,6 @@ public class ConfigServletInner {
         boolean isSli = false;
         if (lockResult > 0) {
             // LockResult > 0 means cacheItem is not null and other thread can`t delete this cacheItem
-            FileInputStream fis = null;
             try {
                 String md5 = Constants.NULL;
                 long lastModified = 0L;
@@ -153,7 +149,7 @@ public class ConfigServletInner {
                 String contentTypeHeader = fileTypeEnum.getContentType();
                 response.setHeader(HttpHeaderConsts.CONTENT_TYPE, contentTypeHeader);
                 
-                File file = null;
+                String content = null;
                 ConfigInfoBase configInfoBase = null;
                 PrintWriter out;
                 if (isBeta) {
@@ -162,7 +158,7 @@ public class ConfigServletInner {
                     if (PropertyUtil.isDirectRead()) {
                         configInfoBase = persistService.findConfigInfo4Beta(dataId, group, tenant);
                     } else {
-                        file = DiskUtil.targetBetaFile(dataId, group, tenant);
+                        content = ConfigDiskServiceFactory.getInstance().getBetaContent(dataId, group, tenant);
                     }
                     response.setHeader("isBeta", "true");
                 } else {
@@ -177,7 +173,8 @@ public class ConfigServletInner {
                             if (PropertyUtil.isDirectRead()) {
                                 configInfoBase = persistService.findConfigInfo4Tag(dataId, group, tenant, autoTag);
                             } else {
-                                file = DiskUtil.targetTagFile(dataId, group, tenant, autoTag);
+                                content = ConfigDiskServiceFactory.getInstance()
+                                        .getTagContent(dataId, group, tenant, autoTag);
                             }
                             
                             response.setHeader(com.alibaba.nacos.api.common.Constants.VIPSERVER_TAG,
@@ -188,9 +185,9 @@ public class ConfigServletInner {
                             if (PropertyUtil.isDirectRead()) {
                                 configInfoBase = persistService.findConfigInfo(dataId, group, tenant);
                             } else {
-                                file = DiskUtil.targetFile(dataId, group, tenant);
+                                content = ConfigDiskServiceFactory.getInstance().getContent(dataId, group, tenant);
                             }
-                            if (configInfoBase == null && fileNotExist(file)) {
+                            if (configInfoBase == null && content == null) {
                                 // FIXME CacheItem
                                 // No longer exists. It is impossible to simply calculate the push delayed. Here, simply record it as - 1.
                                 ConfigTraceService.logPullEvent(dataId, group, tenant, requestIpApp, -1,
@@ -217,9 +214,9 @@ public class ConfigServletInner {
                         if (PropertyUtil.isDirectRead()) {
                             configInfoBase = persistService.findConfigInfo4Tag(dataId, group, tenant, tag);
                         } else {
-                            file = DiskUtil.targetTagFile(dataId, group, tenant, tag);
+                            content = ConfigDiskServiceFactory.getInstance().getTagContent(dataId, group, tenant, tag);
                         }
-                        if (configInfoBase == null && fileNotExist(file)) {
+                        if (configInfoBase == null && content == null) {
                             // FIXME CacheItem
                             // No longer exists. It is impossible to simply calculate the push delayed. Here, simply record it as - 1.
                             ConfigTraceService.logPullEvent(dataId, group, tenant, requestIpApp, -1,
@@ -242,12 +239,7 @@ public class ConfigServletInner {
                 response.setHeader("Pragma", "no-cache");
                 response.setDateHeader("Expires", 0);
                 response.setHeader("Cache-Control", "no-cache,no-store");
-                if (PropertyUtil.isDirectRead()) {
-                    response.setDateHeader("Last-Modified", lastModified);
-                } else {
-                    fis = new FileInputStream(file);
-                    response.setDateHeader("Last-Modified", file.lastModified());
-                }
+                response.setDateHeader("Last-Modified", lastModified);
                 
                 if (PropertyUtil.isDirectRead()) {
                     Pair<String, String> pair = EncryptionHandler.decryptHandler(dataId,
@@ -257,9 +249,11 @@ public class ConfigServletInner {
                     out.flush();
                     out.close();
                 } else {
-                    String fileContent = IoUtils.toString(fis, StandardCharsets.UTF_8.name());
+                    if (content == null) {
+                        return get404Result(response);
+                    }
                     String encryptedDataKey = cacheItem.getEncryptedDataKey();
-                    Pair<String, String> pair = EncryptionHandler.decryptHandler(dataId, encryptedDataKey, fileContent);
+                    Pair<String, String> pair = EncryptionHandler.decryptHandler(dataId, encryptedDataKey, content);
                     String decryptContent = pair.getSecond();
                     out = response.getWriter();
                     out.print(decryptContent);
@@ -281,7 +275,6 @@ public class ConfigServletInner {
                 
             } finally {
                 releaseConfigReadLock(groupKey);
-                IoUtils.closeQuietly(fis);
             }
         } else if (lockResult == 0) {
             
@@ -360,8 +353,4 @@ public class ConfigServletInner {
         return false;
     }
     
-    private static boolean fileNotExist(File file) {
-        return file == null || !file.exists();
-    }
-    
 }
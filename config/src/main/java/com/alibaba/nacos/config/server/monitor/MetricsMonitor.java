@@ -25,6 +25,7 @@ import io.micrometer.core.instrument.Timer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Metrics Monitor.
@@ -56,6 +57,22 @@ public class MetricsMonitor {
     
     private static AtomicInteger dumpTask = new AtomicInteger();
     
+    /**
+     * config content read from memory tier and disk.
+     */
+    private static AtomicLong configContentCacheHit = new AtomicLong();
+    
+    private static AtomicLong configContentCacheMiss = new AtomicLong();
+    
+    private static AtomicLong configContentCacheBytes = new AtomicLong();
+    
+    /**
+     * configs dumped by the running or last dump all, and its throughput per second.
+     */
+    private static AtomicLong dumpAllCount = new AtomicLong();
+    
+    private static AtomicLong dumpAllTps = new AtomicLong();
+    
     static {
         ImmutableTag immutableTag = new ImmutableTag("module", "config");
         
@@ -93,6 +110,31 @@ public class MetricsMonitor {
         tags.add(immutableTag);
         tags.add(new ImmutableTag("name", "dumpTask"));
         Metrics.gauge("nacos_monitor", tags, dumpTask);
+        
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "configContentCacheHit"));
+        Metrics.gauge("nacos_monitor", tags, configContentCacheHit);
+        
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "configContentCacheMiss"));
+        Metrics.gauge("nacos_monitor", tags, configContentCacheMiss);
+        
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "configContentCacheBytes"));
+        Metrics.gauge("nacos_monitor", tags, configContentCacheBytes);
+        
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "dumpAllCount"));
+        Metrics.gauge("nacos_monitor", tags, dumpAllCount);
+        
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "dumpAllTps"));
+        Metrics.gauge("nacos_monitor", tags, dumpAllTps);
     }
     
     public static AtomicInteger getConfigMonitor() {
@@ -123,6 +165,26 @@ public class MetricsMonitor {
         return dumpTask;
     }
     
+    public static AtomicLong getConfigContentCacheHitMonitor() {
+        return configContentCacheHit;
+    }
+    
+    public static AtomicLong getConfigContentCacheMissMonitor() {
+        return configContentCacheMiss;
+    }
+    
+    public static AtomicLong getConfigContentCacheBytesMonitor() {
+        return configContentCacheBytes;
+    }
+    
+    public static AtomicLong getDumpAllCountMonitor() {
+        return dumpAllCount;
+    }
+    
+    public static AtomicLong getDumpAllTpsMonitor() {
+        return dumpAllTps;
+    }
+    
     public static Timer getNotifyRtTimer() {
         return Metrics.timer("nacos_timer", "module", "config", "name", "notifyRt");
     }
@@ -16,13 +16,10 @@
 
 package com.alibaba.nacos.config.server.remote;
 
-import com.alibaba.nacos.common.utils.CollectionUtils;
 import org.springframework.stereotype.Component;
 
-import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -30,6 +27,11 @@ import java.util.concurrent.ConcurrentHashMap;
 /**
  * config change listen context.
  *
+ * <p>All the contexts are backed by concurrent collections without global lock, the listeners of one group key can be
+ * read without lock and copy when config changed. Adding listen and clearing the context of one connection are
+ * serialized by the entry of that connection, so a listen added concurrently with the clearing is either cleared or
+ * not added at all.
+ *
  * @author liuzunfei
  * @version $Id: ConfigChangeListenContext.java, v 0.1 2020年07月20日 1:37 PM liuzunfei Exp $
  */
@@ -39,12 +41,13 @@ public class ConfigChangeListenContext {
     /**
      * groupKey-> connection set.
      */
-    private ConcurrentHashMap<String, HashSet<String>> groupKeyContext = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Set<String>> groupKeyContext = new ConcurrentHashMap<>();
     
     /**
      * connectionId-> group key set.
      */
-    private ConcurrentHashMap<String, HashMap<String, String>> connectionIdContext = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, String>> connectionIdContext =
+            new ConcurrentHashMap<>();
     
     /**
      * add listen.
@@ -52,23 +55,19 @@ public class ConfigChangeListenContext {
      * @param groupKey     groupKey.
      * @param connectionId connectionId.
      */
-    public synchronized void addListen(String groupKey, String md5, String connectionId) {
-        // 1.add groupKeyContext
-        Set<String> listenClients = groupKeyContext.get(groupKey);
-        if (listenClients == null) {
-            groupKeyContext.putIfAbsent(groupKey, new HashSet<>());
-            listenClients = groupKeyContext.get(groupKey);
-        }
-        listenClients.add(connectionId);
-        
-        // 2.add connectionIdContext
-        HashMap<String, String> groupKeys = connectionIdContext.get(connectionId);
-        if (groupKeys == null) {
-            connectionIdContext.putIfAbsent(connectionId, new HashMap<>(16));
-            groupKeys = connectionIdContext.get(connectionId);
-        }
-        groupKeys.put(groupKey, md5);
-        
+    public void addListen(String groupKey, String md5, String connectionId) {
+        connectionIdContext.compute(connectionId, (key, groupKeys) -> {
+            ConcurrentHashMap<String, String> result = null == groupKeys ? new ConcurrentHashMap<>(16) : groupKeys;
+            // 1.add groupKeyContext
+            groupKeyContext.compute(groupKey, (k, listenClients) -> {
+                Set<String> clients = null == listenClients ? ConcurrentHashMap.newKeySet() : listenClients;
+                clients.add(connectionId);
+                return clients;
+            });
+            // 2.add connectionIdContext
+            result.put(groupKey, md5);
+            return result;
+        });
     }
     
     /**
@@ -77,52 +76,37 @@ public class ConfigChangeListenContext {
      * @param groupKey     groupKey.
      * @param connectionId connection id.
      */
-    public synchronized void removeListen(String groupKey, String connectionId) {
+    public void removeListen(String groupKey, String connectionId) {
         
         //1. remove groupKeyContext
-        Set<String> connectionIds = groupKeyContext.get(groupKey);
-        if (connectionIds != null) {
-            connectionIds.remove(connectionId);
-            if (connectionIds.isEmpty()) {
-                groupKeyContext.remove(groupKey);
-            }
-        }
+        removeConnectionOfGroupKey(groupKey, connectionId);
         
         //2.remove connectionIdContext
-        HashMap<String, String> groupKeys = connectionIdContext.get(connectionId);
+        Map<String, String> groupKeys = connectionIdContext.get(connectionId);
         if (groupKeys != null) {
             groupKeys.remove(groupKey);
         }
     }
     
-    /**
-     * get listeners of the group key.
-     *
-     * @param groupKey groupKey.
-     * @return the copy of listeners, may be return null.
-     */
-    public synchronized Set<String> getListeners(String groupKey) {
-        
-        HashSet<String> strings = groupKeyContext.get(groupKey);
-        if (CollectionUtils.isNotEmpty(strings)) {
-            Set<String> listenConnections = new HashSet<>();
-            safeCopy(strings, listenConnections);
-            return listenConnections;
-        }
-        return null;
+    private void removeConnectionOfGroupKey(String groupKey, String connectionId) {
+        groupKeyContext.computeIfPresent(groupKey, (key, connectionIds) -> {
+            connectionIds.remove(connectionId);
+            return connectionIds.isEmpty() ? null : connectionIds;
+        });
     }
     
     /**
-     * copy collections.
+     * get listeners of the group key.
      *
-     * @param src  may be modified concurrently
-     * @param dest dest collection
+     * @param groupKey groupKey.
+     * @return the read-only view of listeners which is safe to iterate concurrently, may be return null.
      */
-    private void safeCopy(Collection src, Collection dest) {
-        Iterator iterator = src.iterator();
-        while (iterator.hasNext()) {
-            dest.add(iterator.next());
+    public Set<String> getListeners(String groupKey) {
+        Set<String> listenConnections = groupKeyContext.get(groupKey);
+        if (null == listenConnections || listenConnections.isEmpty()) {
+            return null;
         }
+        return Collections.unmodifiableSet(listenConnections);
     }
     
     /**
@@ -130,25 +114,13 @@ public class ConfigChangeListenContext {
      *
      * @param connectionId connectionId.
      */
-    public synchronized void clearContextForConnectionId(final String connectionId) {
-        
-        Map<String, String> listenKeys = getListenKeys(connectionId);
-        
-        if (listenKeys == null) {
-            connectionIdContext.remove(connectionId);
-            return;
-        }
-        for (Map.Entry<String, String> groupKey : listenKeys.entrySet()) {
-
-            Set<String> connectionIds = groupKeyContext.get(groupKey.getKey());
-            if (CollectionUtils.isNotEmpty(connectionIds)) {
-                connectionIds.remove(connectionId);
-            } else {
-                groupKeyContext.remove(groupKey.getKey());
+    public void clearContextForConnectionId(final String connectionId) {
+        connectionIdContext.computeIfPresent(connectionId, (key, listenKeys) -> {
+            for (String groupKey : listenKeys.keySet()) {
+                removeConnectionOfGroupKey(groupKey, connectionId);
             }
-
-        }
-        connectionIdContext.remove(connectionId);
+            return null;
+        });
     }
     
     /**
@@ -157,9 +129,9 @@ public class ConfigChangeListenContext {
      * @param connectionId connection id.
      * @return listen group keys of the connection id, key:group key,value:md5
      */
-    public synchronized Map<String, String> getListenKeys(String connectionId) {
-        HashMap<String, String> stringStringHashMap = connectionIdContext.get(connectionId);
-        return stringStringHashMap == null ? null : new HashMap<>(stringStringHashMap);
+    public Map<String, String> getListenKeys(String connectionId) {
+        Map<String, String> listenKeys = connectionIdContext.get(connectionId);
+        return listenKeys == null ? null : new HashMap<>(listenKeys);
     }
     
     /**
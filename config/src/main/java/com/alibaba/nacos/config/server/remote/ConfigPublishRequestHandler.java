@@ -30,9 +30,10 @@ import com.alibaba.nacos.config.server.service.AggrWhitelist;
 import com.alibaba.nacos.config.server.service.ConfigChangePublisher;
 import com.alibaba.nacos.config.server.service.repository.PersistService;
 import com.alibaba.nacos.config.server.service.trace.ConfigTraceService;
+import com.alibaba.nacos.config.server.utils.ConfigExecutor;
 import com.alibaba.nacos.config.server.utils.ParamUtils;
 import com.alibaba.nacos.config.server.utils.TimeUtils;
-import com.alibaba.nacos.core.remote.RequestHandler;
+import com.alibaba.nacos.core.remote.AsyncRequestHandler;
 import com.alibaba.nacos.core.remote.control.TpsControl;
 import com.alibaba.nacos.core.utils.Loggers;
 import com.alibaba.nacos.plugin.auth.constant.ActionTypes;
@@ -43,15 +44,17 @@ import org.springframework.stereotype.Component;
 import java.sql.Timestamp;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 /**
- * request handler to publish config.
+ * request handler to publish config, the config is persisted in {@link ConfigExecutor#getConfigRpcPersistExecutor()}
+ * instead of rpc executor.
  *
  * @author liuzunfei
  * @version $Id: ConfigPublishRequestHandler.java, v 0.1 2020年07月16日 4:41 PM liuzunfei Exp $
  */
 @Component
-public class ConfigPublishRequestHandler extends RequestHandler<ConfigPublishRequest, ConfigPublishResponse> {
+public class ConfigPublishRequestHandler extends AsyncRequestHandler<ConfigPublishRequest, ConfigPublishResponse> {
     
     private final PersistService persistService;
     
@@ -160,4 +163,9 @@ public class ConfigPublishRequestHandler extends RequestHandler<ConfigPublishReq
         }
     }
     
+    @Override
+    protected Executor getExecutor() {
+        return ConfigExecutor.getConfigRpcPersistExecutor();
+    }
+    
 }
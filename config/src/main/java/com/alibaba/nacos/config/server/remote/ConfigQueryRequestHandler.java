@@ -27,14 +27,16 @@ import com.alibaba.nacos.config.server.constant.Constants;
 import com.alibaba.nacos.config.server.model.CacheItem;
 import com.alibaba.nacos.config.server.model.ConfigInfoBase;
 import com.alibaba.nacos.config.server.service.ConfigCacheService;
+import com.alibaba.nacos.config.server.service.ConfigContentCache;
+import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskServiceFactory;
 import com.alibaba.nacos.config.server.service.repository.PersistService;
 import com.alibaba.nacos.config.server.service.trace.ConfigTraceService;
-import com.alibaba.nacos.config.server.utils.DiskUtil;
+import com.alibaba.nacos.config.server.utils.ConfigExecutor;
 import com.alibaba.nacos.config.server.utils.GroupKey2;
 import com.alibaba.nacos.config.server.utils.LogUtil;
 import com.alibaba.nacos.config.server.utils.PropertyUtil;
 import com.alibaba.nacos.config.server.utils.TimeUtils;
-import com.alibaba.nacos.core.remote.RequestHandler;
+import com.alibaba.nacos.core.remote.AsyncRequestHandler;
 import com.alibaba.nacos.core.remote.control.TpsControl;
 import com.alibaba.nacos.plugin.auth.constant.ActionTypes;
 import com.alibaba.nacos.plugin.auth.constant.SignType;
@@ -46,6 +48,8 @@ import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import static com.alibaba.nacos.api.common.Constants.ENCODE;
 import static com.alibaba.nacos.config.server.utils.LogUtil.PULL_LOG;
@@ -58,7 +62,7 @@ import static com.alibaba.nacos.config.server.utils.RequestUtil.CLIENT_APPNAME_H
  * @version $Id: ConfigQueryRequestHandler.java, v 0.1 2020年07月14日 9:54 AM liuzunfei Exp $
  */
 @Component
-public class ConfigQueryRequestHandler extends RequestHandler<ConfigQueryRequest, ConfigQueryResponse> {
+public class ConfigQueryRequestHandler extends AsyncRequestHandler<ConfigQueryRequest, ConfigQueryResponse> {
     
     private static final int TRY_GET_LOCK_TIMES = 9;
     
@@ -81,6 +85,25 @@ public class ConfigQueryRequestHandler extends RequestHandler<ConfigQueryRequest
         
     }
     
+    /**
+     * Only direct read from database is handed over to persist executor, content in memory or local disk is read in
+     * rpc executor directly to avoid thread switching.
+     */
+    @Override
+    public CompletableFuture<ConfigQueryResponse> handleAsync(ConfigQueryRequest request, RequestMeta meta) {
+        if (PropertyUtil.isDirectRead()) {
+            return super.handleAsync(request, meta);
+        }
+        CompletableFuture<ConfigQueryResponse> result = new CompletableFuture<>();
+        completeWithHandle(result, request, meta);
+        return result;
+    }
+    
+    @Override
+    protected Executor getExecutor() {
+        return ConfigExecutor.getConfigRpcPersistExecutor();
+    }
+    
     private ConfigQueryResponse getContext(ConfigQueryRequest configQueryRequest, RequestMeta meta, boolean notify)
             throws UnsupportedEncodingException {
         String dataId = configQueryRequest.getDataId();
@@ -116,7 +139,7 @@ public class ConfigQueryRequestHandler extends RequestHandler<ConfigQueryRequest
                     String configType = cacheItem.getType();
                     response.setContentType((null != configType) ? configType : "text");
                 }
-                File file = null;
+                String content = null;
                 ConfigInfoBase configInfoBase = null;
                 PrintWriter out = null;
                 if (isBeta) {
@@ -125,7 +148,8 @@ public class ConfigQueryRequestHandler extends RequestHandler<ConfigQueryRequest
                     if (PropertyUtil.isDirectRead()) {
                         configInfoBase = persistService.findConfigInfo4Beta(dataId, group, tenant);
                     } else {
-                        file = DiskUtil.targetBetaFile(dataId, group, tenant);
+                        content = loadContent(ConfigContentCache.ContentKey.beta(groupKey),
+                                () -> ConfigDiskServiceFactory.getInstance().getBetaContent(dataId, group, tenant));
                     }
                     response.setBeta(true);
                 } else {
@@ -142,7 +166,9 @@ public class ConfigQueryRequestHandler extends RequestHandler<ConfigQueryRequest
                             if (PropertyUtil.isDirectRead()) {
                                 configInfoBase = persistService.findConfigInfo4Tag(dataId, group, tenant, autoTag);
                             } else {
-                                file = DiskUtil.targetTagFile(dataId, group, tenant, autoTag);
+                                content = loadContent(ConfigContentCache.ContentKey.tag(groupKey, autoTag),
+                                        () -> ConfigDiskServiceFactory.getInstance()
+                                                .getTagContent(dataId, group, tenant, autoTag));
                             }
                             response.setTag(URLEncoder.encode(autoTag, Constants.ENCODE));
                             
@@ -152,9 +178,11 @@ public class ConfigQueryRequestHandler extends RequestHandler<ConfigQueryRequest
                             if (PropertyUtil.isDirectRead()) {
                                 configInfoBase = persistService.findConfigInfo(dataId, group, tenant);
                             } else {
-                                file = DiskUtil.targetFile(dataId, group, tenant);
+                                content = loadContent(ConfigContentCache.ContentKey.formal(groupKey),
+                                        () -> ConfigDiskServiceFactory.getInstance()
+                                                .getContent(dataId, group, tenant));
                             }
-                            if (configInfoBase == null && fileNotExist(file)) {
+                            if (configInfoBase == null && content == null) {
                                 // FIXME CacheItem
                                 // No longer exists. It is impossible to simply calculate the push delayed. Here, simply record it as - 1.
                                 ConfigTraceService.logPullEvent(dataId, group, tenant, requestIpApp, -1,
@@ -183,9 +211,11 @@ public class ConfigQueryRequestHandler extends RequestHandler<ConfigQueryRequest
                         if (PropertyUtil.isDirectRead()) {
                             configInfoBase = persistService.findConfigInfo4Tag(dataId, group, tenant, tag);
                         } else {
-                            file = DiskUtil.targetTagFile(dataId, group, tenant, tag);
+                            content = loadContent(ConfigContentCache.ContentKey.tag(groupKey, tag),
+                                    () -> ConfigDiskServiceFactory.getInstance()
+                                            .getTagContent(dataId, group, tenant, tag));
                         }
-                        if (configInfoBase == null && fileNotExist(file)) {
+                        if (configInfoBase == null && content == null) {
                             // FIXME CacheItem
                             // No longer exists. It is impossible to simply calculate the push delayed. Here, simply record it as - 1.
                             ConfigTraceService.logPullEvent(dataId, group, tenant, requestIpApp, -1,
@@ -211,22 +241,19 @@ public class ConfigQueryRequestHandler extends RequestHandler<ConfigQueryRequest
                     response.setResultCode(ResponseCode.SUCCESS.getCode());
                     
                 } else {
-                    //read from file
-                    String content = null;
-                    try {
-                        content = readFileContent(file);
-                        response.setContent(content);
-                        response.setLastModified(lastModified);
-                        response.setResultCode(ResponseCode.SUCCESS.getCode());
-                        if (isBeta) {
-                            response.setEncryptedDataKey(cacheItem.getEncryptedDataKeyBeta());
-                        } else {
-                            response.setEncryptedDataKey(cacheItem.getEncryptedDataKey());
-                        }
-                    } catch (IOException e) {
-                        response.setErrorInfo(ResponseCode.FAIL.getCode(), e.getMessage());
+                    //read from memory or local disk
+                    if (content == null) {
+                        response.setErrorInfo(ConfigQueryResponse.CONFIG_NOT_FOUND, "config data not exist");
                         return response;
                     }
+                    response.setContent(content);
+                    response.setLastModified(lastModified);
+                    response.setResultCode(ResponseCode.SUCCESS.getCode());
+                    if (isBeta) {
+                        response.setEncryptedDataKey(cacheItem.getEncryptedDataKeyBeta());
+                    } else {
+                        response.setEncryptedDataKey(cacheItem.getEncryptedDataKey());
+                    }
                     
                 }
                 
@@ -242,6 +269,9 @@ public class ConfigQueryRequestHandler extends RequestHandler<ConfigQueryRequest
                 ConfigTraceService.logPullEvent(dataId, group, tenant, requestIpApp, lastModified,
                         ConfigTraceService.PULL_EVENT_OK, notify ? delayed : -1, clientIp, notify);
                 
+            } catch (IOException e) {
+                response.setErrorInfo(ResponseCode.FAIL.getCode(), e.getMessage());
+                return response;
             } finally {
                 releaseConfigReadLock(groupKey);
             }
@@ -276,8 +306,24 @@ public class ConfigQueryRequestHandler extends RequestHandler<ConfigQueryRequest
         ConfigCacheService.releaseReadLock(groupKey);
     }
     
-    private static boolean fileNotExist(File file) {
-        return file == null || !file.exists();
+    /**
+     * Load content from memory tier first, then from local disk and keep it in memory tier.
+     *
+     * @param contentKey key of content in memory tier
+     * @param loader     loader of content from local disk
+     * @return content, {@code null} if not exist
+     * @throws IOException if read local disk failed
+     */
+    private static String loadContent(ConfigContentCache.ContentKey contentKey, DiskContentLoader loader)
+            throws IOException {
+        String content = ConfigContentCache.get(contentKey);
+        if (content == null) {
+            content = loader.load();
+            if (content != null) {
+                ConfigContentCache.put(contentKey, content);
+            }
+        }
+        return content;
     }
     
     private static int tryConfigReadLock(String groupKey) {
@@ -319,4 +365,15 @@ public class ConfigQueryRequestHandler extends RequestHandler<ConfigQueryRequest
         return false;
     }
     
+    @FunctionalInterface
+    private interface DiskContentLoader {
+        
+        /**
+         * Load content from local disk.
+         *
+         * @return content, {@code null} if not exist
+         * @throws IOException if read failed
+         */
+        String load() throws IOException;
+    }
 }
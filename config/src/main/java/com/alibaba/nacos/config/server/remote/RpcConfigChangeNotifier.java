@@ -16,8 +16,12 @@
 
 package com.alibaba.nacos.config.server.remote;
 
+import com.alibaba.nacos.api.ability.ClientAbilities;
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchChangeNotifyRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigChangeNotifyRequest;
+import com.alibaba.nacos.api.config.remote.response.ConfigChangeBatchListenResponse.ConfigContext;
 import com.alibaba.nacos.api.remote.AbstractPushCallBack;
+import com.alibaba.nacos.api.remote.request.ServerRequest;
 import com.alibaba.nacos.common.notify.Event;
 import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.common.notify.listener.Subscriber;
@@ -26,6 +30,7 @@ import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.config.server.model.event.LocalDataChangeEvent;
 import com.alibaba.nacos.config.server.utils.ConfigExecutor;
 import com.alibaba.nacos.config.server.utils.GroupKey;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
 import com.alibaba.nacos.core.remote.Connection;
 import com.alibaba.nacos.core.remote.ConnectionManager;
 import com.alibaba.nacos.core.remote.ConnectionMeta;
@@ -37,8 +42,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -81,6 +91,11 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
     @Autowired
     private ConnectionManager connectionManager;
     
+    /**
+     * connectionId -> changed configs waiting to be pushed in one batch.
+     */
+    private final ConcurrentMap<String, PendingBatchNotify> pendingBatchNotifies = new ConcurrentHashMap<>();
+    
     /**
      * adaptor to config module ,when server side config change ,invoke this method.
      *
@@ -112,15 +127,58 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
                 continue;
             }
             
-            ConfigChangeNotifyRequest notifyRequest = ConfigChangeNotifyRequest.build(dataId, group, tenant);
-            
-            RpcPushTask rpcPushRetryTask = new RpcPushTask(notifyRequest, 50, client, clientIp, metaInfo.getAppName());
-            push(rpcPushRetryTask);
+            if (isBatchNotifySupported(connection)) {
+                addBatchNotify(client, clientIp, metaInfo.getAppName(), groupKey, dataId, group, tenant);
+            } else {
+                ConfigChangeNotifyRequest notifyRequest = ConfigChangeNotifyRequest.build(dataId, group, tenant);
+                
+                RpcPushTask rpcPushRetryTask = new RpcPushTask(notifyRequest, 50, client, clientIp,
+                        metaInfo.getAppName());
+                push(rpcPushRetryTask);
+            }
             notifyClientCount++;
         }
         Loggers.REMOTE_PUSH.info("push [{}] clients ,groupKey=[{}]", notifyClientCount, groupKey);
     }
     
+    private boolean isBatchNotifySupported(Connection connection) {
+        if (PropertyUtil.getConfigChangeNotifyBatchWindow() <= 0) {
+            return false;
+        }
+        ClientAbilities abilities = connection.getAbilities();
+        return null != abilities && null != abilities.getConfigAbility() && abilities.getConfigAbility()
+                .isSupportBatchChangeNotify();
+    }
+    
+    /**
+     * Add the changed config to the pending batch notify of the connection, the first change of a batch schedules the
+     * batch to be pushed after the batch window.
+     */
+    private void addBatchNotify(String connectionId, String clientIp, String appName, String groupKey, String dataId,
+            String group, String tenant) {
+        pendingBatchNotifies.compute(connectionId, (key, pending) -> {
+            if (null == pending) {
+                pending = new PendingBatchNotify(clientIp, appName);
+                ConfigExecutor.getClientConfigNotifierServiceExecutor()
+                        .schedule(() -> flushBatchNotify(connectionId), PropertyUtil.getConfigChangeNotifyBatchWindow(),
+                                TimeUnit.MILLISECONDS);
+            }
+            pending.addChangeConfig(groupKey, dataId, group, tenant);
+            return pending;
+        });
+    }
+    
+    void flushBatchNotify(String connectionId) {
+        PendingBatchNotify pending = pendingBatchNotifies.remove(connectionId);
+        if (null == pending) {
+            return;
+        }
+        ConfigBatchChangeNotifyRequest notifyRequest = new ConfigBatchChangeNotifyRequest();
+        notifyRequest.setChangedConfigs(new ArrayList<>(pending.changedConfigs.values()));
+        push(new RpcPushTask(notifyRequest, 50, connectionId, pending.clientIp, pending.appName));
+        Loggers.REMOTE_PUSH.info("push batch [{}] configs to client {}", pending.changedConfigs.size(), connectionId);
+    }
+    
     @Override
     public void onEvent(LocalDataChangeEvent event) {
         String groupKey = event.groupKey;
@@ -141,9 +199,31 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
         return LocalDataChangeEvent.class;
     }
     
+    private static class PendingBatchNotify {
+        
+        private final String clientIp;
+        
+        private final String appName;
+        
+        private final Map<String, ConfigContext> changedConfigs = new LinkedHashMap<>();
+        
+        private PendingBatchNotify(String clientIp, String appName) {
+            this.clientIp = clientIp;
+            this.appName = appName;
+        }
+        
+        private void addChangeConfig(String groupKey, String dataId, String group, String tenant) {
+            ConfigContext configContext = new ConfigContext();
+            configContext.setDataId(dataId);
+            configContext.setGroup(group);
+            configContext.setTenant(tenant);
+            changedConfigs.put(groupKey, configContext);
+        }
+    }
+    
     class RpcPushTask implements Runnable {
         
-        ConfigChangeNotifyRequest notifyRequest;
+        ServerRequest notifyRequest;
         
         int maxRetryTimes = -1;
         
@@ -155,7 +235,7 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
         
         String appName;
         
-        public RpcPushTask(ConfigChangeNotifyRequest notifyRequest, int maxRetryTimes, String connectionId,
+        public RpcPushTask(ServerRequest notifyRequest, int maxRetryTimes, String connectionId,
                 String clientIp, String appName) {
             this.notifyRequest = notifyRequest;
             this.maxRetryTimes = maxRetryTimes;
@@ -195,12 +275,18 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
     }
     
     private void push(RpcPushTask retryTask) {
-        ConfigChangeNotifyRequest notifyRequest = retryTask.notifyRequest;
         if (retryTask.isOverTimes()) {
-            Loggers.REMOTE_PUSH.warn(
-                    "push callback retry fail over times .dataId={},group={},tenant={},clientId={},will unregister client.",
-                    notifyRequest.getDataId(), notifyRequest.getGroup(), notifyRequest.getTenant(),
-                    retryTask.connectionId);
+            if (retryTask.notifyRequest instanceof ConfigChangeNotifyRequest) {
+                ConfigChangeNotifyRequest notifyRequest = (ConfigChangeNotifyRequest) retryTask.notifyRequest;
+                Loggers.REMOTE_PUSH.warn("push callback retry fail over times .dataId={},group={},tenant={},clientId={},"
+                                + "will unregister client.", notifyRequest.getDataId(), notifyRequest.getGroup(), notifyRequest.getTenant(),
+                        retryTask.connectionId);
+            } else {
+                Loggers.REMOTE_PUSH.warn(
+                        "push batch callback retry fail over times .configs={},clientId={},will unregister client.",
+                        ((ConfigBatchChangeNotifyRequest) retryTask.notifyRequest).getChangedConfigs().size(),
+                        retryTask.connectionId);
+            }
             connectionManager.unregister(retryTask.connectionId);
         } else if (connectionManager.getConnection(retryTask.connectionId) != null) {
             // first time :delay 0s; sencond time:delay 2s  ;third time :delay 4s
@@ -22,8 +22,8 @@ import com.alibaba.nacos.config.server.constant.Constants;
 import com.alibaba.nacos.config.server.model.CacheItem;
 import com.alibaba.nacos.config.server.model.ConfigInfoBase;
 import com.alibaba.nacos.config.server.model.event.LocalDataChangeEvent;
+import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskServiceFactory;
 import com.alibaba.nacos.config.server.service.repository.PersistService;
-import com.alibaba.nacos.config.server.utils.DiskUtil;
 import com.alibaba.nacos.config.server.utils.GroupKey;
 import com.alibaba.nacos.config.server.utils.GroupKey2;
 import com.alibaba.nacos.config.server.utils.PropertyUtil;
@@ -111,13 +111,15 @@ public class ConfigCacheService {
                         lastModifiedTs);
                 return true;
             }
-            if (md5.equals(ConfigCacheService.getContentMd5(groupKey)) && DiskUtil.targetFile(dataId, group, tenant).exists()) {
+            if (md5.equals(ConfigCacheService.getContentMd5(groupKey))
+                    && ConfigDiskServiceFactory.getInstance().isConfigExist(dataId, group, tenant)) {
                 DUMP_LOG.warn("[dump-ignore] ignore to save cache file. groupKey={}, md5={}, lastModifiedOld={}, "
                                 + "lastModifiedNew={}", groupKey, md5, ConfigCacheService.getLastModifiedTs(groupKey),
                         lastModifiedTs);
             } else if (!PropertyUtil.isDirectRead()) {
-                DiskUtil.saveToDisk(dataId, group, tenant, content);
+                ConfigDiskServiceFactory.getInstance().saveToDisk(dataId, group, tenant, content);
             }
+            ConfigContentCache.put(ConfigContentCache.ContentKey.formal(groupKey), content);
             updateMd5(groupKey, md5, lastModifiedTs, encryptedDataKey);
             return true;
         } catch (IOException ioe) {
@@ -169,13 +171,15 @@ public class ConfigCacheService {
                         ConfigCacheService.getLastModifiedTs4Beta(groupKey), lastModifiedTs);
                 return true;
             }
-            if (md5.equals(ConfigCacheService.getContentBetaMd5(groupKey)) && DiskUtil.targetBetaFile(dataId, group, tenant).exists()) {
+            if (md5.equals(ConfigCacheService.getContentBetaMd5(groupKey))
+                    && ConfigDiskServiceFactory.getInstance().isBetaConfigExist(dataId, group, tenant)) {
                 DUMP_LOG.warn("[dump-beta-ignore] ignore to save cache file. groupKey={}, md5={}, lastModifiedOld={}, "
                                 + "lastModifiedNew={}", groupKey, md5, ConfigCacheService.getLastModifiedTs(groupKey),
                         lastModifiedTs);
             } else if (!PropertyUtil.isDirectRead()) {
-                DiskUtil.saveBetaToDisk(dataId, group, tenant, content);
+                ConfigDiskServiceFactory.getInstance().saveBetaToDisk(dataId, group, tenant, content);
             }
+            ConfigContentCache.put(ConfigContentCache.ContentKey.beta(groupKey), content);
             String[] betaIpsArr = betaIps.split(",");
             
             updateBetaMd5(groupKey, md5, Arrays.asList(betaIpsArr), lastModifiedTs, encryptedDataKey);
@@ -220,13 +224,15 @@ public class ConfigCacheService {
                         ConfigCacheService.getTagLastModifiedTs(groupKey, tag), lastModifiedTs);
                 return true;
             }
-            if (md5.equals(ConfigCacheService.getContentTagMd5(groupKey, tag)) && DiskUtil.targetTagFile(dataId, group, tenant, tag).exists()) {
+            if (md5.equals(ConfigCacheService.getContentTagMd5(groupKey, tag))
+                    && ConfigDiskServiceFactory.getInstance().isTagConfigExist(dataId, group, tenant, tag)) {
                 DUMP_LOG.warn("[dump-tag-ignore] ignore to save cache file. groupKey={}, md5={}, lastModifiedOld={}, "
                                 + "lastModifiedNew={}", groupKey, md5, ConfigCacheService.getLastModifiedTs(groupKey),
                         lastModifiedTs);
             } else if (!PropertyUtil.isDirectRead()) {
-                DiskUtil.saveTagToDisk(dataId, group, tenant, tag, content);
+                ConfigDiskServiceFactory.getInstance().saveTagToDisk(dataId, group, tenant, tag, content);
             }
+            ConfigContentCache.put(ConfigContentCache.ContentKey.tag(groupKey, tag), content);
             
             updateTagMd5(groupKey, tag, md5, lastModifiedTs, encryptedDataKey);
             return true;
@@ -270,15 +276,16 @@ public class ConfigCacheService {
                 return true;
             }
             if (!PropertyUtil.isDirectRead()) {
-                String localMd5 = DiskUtil.getLocalConfigMd5(dataId, group, tenant);
+                String localMd5 = ConfigDiskServiceFactory.getInstance().getLocalConfigMd5(dataId, group, tenant);
                 if (md5.equals(localMd5)) {
                     DUMP_LOG.warn("[dump-ignore] ignore to save cache file. groupKey={}, md5={}, lastModifiedOld={}, "
                                     + "lastModifiedNew={}", groupKey, md5, ConfigCacheService.getLastModifiedTs(groupKey),
                             lastModifiedTs);
                 } else {
-                    DiskUtil.saveToDisk(dataId, group, tenant, content);
+                    ConfigDiskServiceFactory.getInstance().saveToDisk(dataId, group, tenant, content);
                 }
             }
+            ConfigContentCache.put(ConfigContentCache.ContentKey.formal(groupKey), content);
             updateMd5(groupKey, md5, lastModifiedTs, encryptedDataKey);
             return true;
         } catch (IOException ioe) {
@@ -302,7 +309,8 @@ public class ConfigCacheService {
                     aggreds = config.getContent();
                 }
             } else {
-                aggreds = DiskUtil.getConfig(AggrWhitelist.AGGRIDS_METADATA, "DEFAULT_GROUP", StringUtils.EMPTY);
+                aggreds = ConfigDiskServiceFactory.getInstance()
+                        .getContent(AggrWhitelist.AGGRIDS_METADATA, "DEFAULT_GROUP", StringUtils.EMPTY);
             }
             if (aggreds != null) {
                 AggrWhitelist.load(aggreds);
@@ -320,8 +328,8 @@ public class ConfigCacheService {
                     clientIpWhitelist = config.getContent();
                 }
             } else {
-                clientIpWhitelist = DiskUtil
-                        .getConfig(ClientIpWhiteList.CLIENT_IP_WHITELIST_METADATA, "DEFAULT_GROUP", StringUtils.EMPTY);
+                clientIpWhitelist = ConfigDiskServiceFactory.getInstance()
+                        .getContent(ClientIpWhiteList.CLIENT_IP_WHITELIST_METADATA, "DEFAULT_GROUP", StringUtils.EMPTY);
             }
             if (clientIpWhitelist != null) {
                 ClientIpWhiteList.load(clientIpWhitelist);
@@ -339,8 +347,8 @@ public class ConfigCacheService {
                     switchContent = config.getContent();
                 }
             } else {
-                switchContent = DiskUtil
-                        .getConfig(SwitchService.SWITCH_META_DATAID, "DEFAULT_GROUP", StringUtils.EMPTY);
+                switchContent = ConfigDiskServiceFactory.getInstance()
+                        .getContent(SwitchService.SWITCH_META_DATAID, "DEFAULT_GROUP", StringUtils.EMPTY);
             }
             if (switchContent != null) {
                 SwitchService.load(switchContent);
@@ -365,7 +373,7 @@ public class ConfigCacheService {
             String group = dg[1];
             String tenant = dg[2];
             try {
-                String localMd5 = DiskUtil.getLocalConfigMd5(dataId, group, tenant);
+                String localMd5 = ConfigDiskServiceFactory.getInstance().getLocalConfigMd5(dataId, group, tenant);
                 if (!entry.getValue().md5.equals(localMd5)) {
                     DEFAULT_LOG.warn("[md5-different] dataId:{},group:{}", dataId, group);
                     diffList.add(groupKey);
@@ -405,8 +413,9 @@ public class ConfigCacheService {
         
         try {
             if (!PropertyUtil.isDirectRead()) {
-                DiskUtil.removeConfigInfo(dataId, group, tenant);
+                ConfigDiskServiceFactory.getInstance().removeConfigInfo(dataId, group, tenant);
             }
+            ConfigContentCache.remove(ConfigContentCache.ContentKey.formal(groupKey));
             CACHE.remove(groupKey);
             NotifyCenter.publishEvent(new LocalDataChangeEvent(groupKey));
             
@@ -442,8 +451,9 @@ public class ConfigCacheService {
         
         try {
             if (!PropertyUtil.isDirectRead()) {
-                DiskUtil.removeConfigInfo4Beta(dataId, group, tenant);
+                ConfigDiskServiceFactory.getInstance().removeConfigInfo4Beta(dataId, group, tenant);
             }
+            ConfigContentCache.remove(ConfigContentCache.ContentKey.beta(groupKey));
             NotifyCenter.publishEvent(new LocalDataChangeEvent(groupKey, true, CACHE.get(groupKey).getIps4Beta()));
             CACHE.get(groupKey).setBeta(false);
             CACHE.get(groupKey).setIps4Beta(null);
@@ -481,8 +491,9 @@ public class ConfigCacheService {
         
         try {
             if (!PropertyUtil.isDirectRead()) {
-                DiskUtil.removeConfigInfo4Tag(dataId, group, tenant, tag);
+                ConfigDiskServiceFactory.getInstance().removeConfigInfo4Tag(dataId, group, tenant, tag);
             }
+            ConfigContentCache.remove(ConfigContentCache.ContentKey.tag(groupKey, tag));
             
             CacheItem ci = CACHE.get(groupKey);
             ci.tagMd5.remove(tag);
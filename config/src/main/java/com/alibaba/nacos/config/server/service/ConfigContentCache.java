@@ -0,0 +1,258 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service;
+
+import com.alibaba.nacos.common.utils.IoUtils;
+import com.alibaba.nacos.config.server.constant.Constants;
+import com.alibaba.nacos.config.server.monitor.MetricsMonitor;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.alibaba.nacos.config.server.utils.LogUtil.DEFAULT_LOG;
+
+/**
+ * Memory tier of the config content dumped to local disk.
+ *
+ * <p>The content is put when dumped or read from disk and removed when the config is removed, both under the write or
+ * read lock of the {@link com.alibaba.nacos.config.server.model.CacheItem}, so the memory tier is always the same as the
+ * disk. The total bytes are bounded, and the least recently accessed contents are evicted when exceeded. Contents
+ * larger than the compress threshold are kept by gzip.
+ *
+ * @author xiweng.yy
+ */
+public class ConfigContentCache {
+    
+    private static final Charset CHARSET = Charset.forName(Constants.ENCODE);
+    
+    private static final Map<ContentKey, CachedContent> CONTENTS = new ConcurrentHashMap<>();
+    
+    private static final AtomicLong TOTAL_BYTES = new AtomicLong();
+    
+    private static final Object EVICT_LOCK = new Object();
+    
+    /**
+     * Evict to a lower level than the max size, avoid evicting for every put when the memory tier is full.
+     */
+    private static final double EVICT_TARGET_RATIO = 0.9;
+    
+    public static boolean isEnabled() {
+        return PropertyUtil.isConfigContentCacheEnabled() && !PropertyUtil.isDirectRead();
+    }
+    
+    /**
+     * Get the content from memory.
+     *
+     * @param key content key
+     * @return content, {@code null} if not in memory
+     */
+    public static String get(ContentKey key) {
+        if (!isEnabled()) {
+            return null;
+        }
+        CachedContent cached = CONTENTS.get(key);
+        if (null == cached) {
+            MetricsMonitor.getConfigContentCacheMissMonitor().incrementAndGet();
+            return null;
+        }
+        String result = cached.getContent();
+        if (null == result) {
+            remove(key);
+            MetricsMonitor.getConfigContentCacheMissMonitor().incrementAndGet();
+            return null;
+        }
+        MetricsMonitor.getConfigContentCacheHitMonitor().incrementAndGet();
+        return result;
+    }
+    
+    /**
+     * Put the content into memory, the old content of the key will be replaced.
+     *
+     * @param key     content key
+     * @param content content
+     */
+    public static void put(ContentKey key, String content) {
+        if (!isEnabled() || null == content) {
+            return;
+        }
+        CachedContent cached = CachedContent.create(content, PropertyUtil.getConfigContentCacheCompressThreshold());
+        if (cached.size > PropertyUtil.getConfigContentCacheMaxSize()) {
+            remove(key);
+            return;
+        }
+        CachedContent old = CONTENTS.put(key, cached);
+        addBytes(cached.size - (null == old ? 0 : old.size));
+        evictIfNecessary();
+    }
+    
+    /**
+     * Remove the content from memory.
+     *
+     * @param key content key
+     */
+    public static void remove(ContentKey key) {
+        CachedContent old = CONTENTS.remove(key);
+        if (null != old) {
+            addBytes(-old.size);
+        }
+    }
+    
+    /**
+     * Remove all contents from memory.
+     */
+    public static void clear() {
+        for (ContentKey each : new ArrayList<>(CONTENTS.keySet())) {
+            remove(each);
+        }
+    }
+    
+    public static int size() {
+        return CONTENTS.size();
+    }
+    
+    public static long totalBytes() {
+        return TOTAL_BYTES.get();
+    }
+    
+    private static void addBytes(long delta) {
+        MetricsMonitor.getConfigContentCacheBytesMonitor().set(TOTAL_BYTES.addAndGet(delta));
+    }
+    
+    private static void evictIfNecessary() {
+        long maxSize = PropertyUtil.getConfigContentCacheMaxSize();
+        if (TOTAL_BYTES.get() <= maxSize) {
+            return;
+        }
+        synchronized (EVICT_LOCK) {
+            if (TOTAL_BYTES.get() <= maxSize) {
+                return;
+            }
+            long targetSize = (long) (maxSize * EVICT_TARGET_RATIO);
+            List<Map.Entry<ContentKey, CachedContent>> entries = new ArrayList<>(CONTENTS.entrySet());
+            entries.sort(Comparator.comparingLong(entry -> entry.getValue().lastAccessTime));
+            for (Map.Entry<ContentKey, CachedContent> each : entries) {
+                if (TOTAL_BYTES.get() <= targetSize) {
+                    break;
+                }
+                if (CONTENTS.remove(each.getKey(), each.getValue())) {
+                    addBytes(-each.getValue().size);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Key of content, formal, beta and tag contents of the same config are different keys.
+     */
+    public static class ContentKey {
+        
+        private final String groupKey;
+        
+        private final boolean beta;
+        
+        private final String tag;
+        
+        private ContentKey(String groupKey, boolean beta, String tag) {
+            this.groupKey = groupKey;
+            this.beta = beta;
+            this.tag = tag;
+        }
+        
+        public static ContentKey formal(String groupKey) {
+            return new ContentKey(groupKey, false, null);
+        }
+        
+        public static ContentKey beta(String groupKey) {
+            return new ContentKey(groupKey, true, null);
+        }
+        
+        public static ContentKey tag(String groupKey, String tag) {
+            return new ContentKey(groupKey, false, tag);
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ContentKey)) {
+                return false;
+            }
+            ContentKey that = (ContentKey) o;
+            return beta == that.beta && groupKey.equals(that.groupKey) && Objects.equals(tag, that.tag);
+        }
+        
+        @Override
+        public int hashCode() {
+            return Objects.hash(groupKey, beta, tag);
+        }
+        
+        @Override
+        public String toString() {
+            return "ContentKey{" + "groupKey='" + groupKey + '\'' + ", beta=" + beta + ", tag='" + tag + '\'' + '}';
+        }
+    }
+    
+    private static class CachedContent {
+        
+        private final String plain;
+        
+        private final byte[] compressed;
+        
+        private final long size;
+        
+        private volatile long lastAccessTime;
+        
+        private CachedContent(String plain, byte[] compressed, long size) {
+            this.plain = plain;
+            this.compressed = compressed;
+            this.size = size;
+            this.lastAccessTime = System.nanoTime();
+        }
+        
+        private static CachedContent create(String content, int compressThreshold) {
+            byte[] bytes = content.getBytes(CHARSET);
+            if (bytes.length >= compressThreshold) {
+                byte[] compressed = IoUtils.tryCompress(content, Constants.ENCODE);
+                if (null != compressed && compressed.length < bytes.length) {
+                    return new CachedContent(null, compressed, compressed.length);
+                }
+            }
+            return new CachedContent(content, null, bytes.length);
+        }
+        
+        private String getContent() {
+            lastAccessTime = System.nanoTime();
+            if (null != plain) {
+                return plain;
+            }
+            try {
+                return new String(IoUtils.tryDecompress(compressed), CHARSET);
+            } catch (Exception e) {
+                DEFAULT_LOG.warn("[config-content-cache] decompress content failed.", e);
+                return null;
+            }
+        }
+    }
+}
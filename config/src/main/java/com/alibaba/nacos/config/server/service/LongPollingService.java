@@ -40,13 +40,10 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
@@ -98,9 +95,10 @@ public class LongPollingService {
         SampleResult sampleResult = new SampleResult();
         Map<String, String> lisentersGroupkeyStatus = new HashMap<>(50);
         
-        for (ClientLongPolling clientLongPolling : allSubs) {
-            if (clientLongPolling.clientMd5Map.containsKey(groupKey)) {
-                lisentersGroupkeyStatus.put(clientLongPolling.ip, clientLongPolling.clientMd5Map.get(groupKey));
+        for (ClientLongPolling clientLongPolling : getLongPollingClients(groupKey)) {
+            String md5 = clientLongPolling.clientMd5Map.get(groupKey);
+            if (null != md5) {
+                lisentersGroupkeyStatus.put(clientLongPolling.ip, md5);
             }
         }
         sampleResult.setLisentersGroupkeyStatus(lisentersGroupkeyStatus);
@@ -277,13 +275,63 @@ public class LongPollingService {
                 new ClientLongPolling(asyncContext, clientMd5Map, ip, probeRequestSize, timeout, appName, tag));
     }
     
+    /**
+     * Add the client to the subscribers and index it by each group key it listens.
+     *
+     * <p>Adding and removing one client are serialized by the client itself, so a concurrent remove can't leave the
+     * index entries of a removed client.
+     *
+     * @param clientLongPolling long polling client
+     */
+    void addLongPollingClient(ClientLongPolling clientLongPolling) {
+        synchronized (clientLongPolling) {
+            for (String each : clientLongPolling.clientMd5Map.keySet()) {
+                groupKeySubs.compute(each, (groupKey, subs) -> {
+                    Set<ClientLongPolling> result = null == subs ? ConcurrentHashMap.newKeySet() : subs;
+                    result.add(clientLongPolling);
+                    return result;
+                });
+            }
+            allSubs.add(clientLongPolling);
+        }
+    }
+    
+    /**
+     * Remove the client from the subscribers and the group key index.
+     *
+     * <p>Only the caller which removes the client successfully should send the response to the client.
+     *
+     * @param clientLongPolling long polling client
+     * @return {@code true} if the client is removed by this call, otherwise {@code false}
+     */
+    boolean removeLongPollingClient(ClientLongPolling clientLongPolling) {
+        synchronized (clientLongPolling) {
+            if (!allSubs.remove(clientLongPolling)) {
+                return false;
+            }
+            for (String each : clientLongPolling.clientMd5Map.keySet()) {
+                groupKeySubs.computeIfPresent(each, (groupKey, subs) -> {
+                    subs.remove(clientLongPolling);
+                    return subs.isEmpty() ? null : subs;
+                });
+            }
+            return true;
+        }
+    }
+    
+    Set<ClientLongPolling> getLongPollingClients(String groupKey) {
+        Set<ClientLongPolling> result = groupKeySubs.get(groupKey);
+        return null == result ? Collections.emptySet() : result;
+    }
+    
     public static boolean isSupportLongPolling(HttpServletRequest req) {
         return null != req.getHeader(LONG_POLLING_HEADER);
     }
     
     @SuppressWarnings("PMD.ThreadPoolCreationRule")
     public LongPollingService() {
-        allSubs = new ConcurrentLinkedQueue<>();
+        allSubs = ConcurrentHashMap.newKeySet();
+        groupKeySubs = new ConcurrentHashMap<>();
         
         ConfigExecutor.scheduleLongPolling(new StatTask(), 0L, 10L, TimeUnit.SECONDS);
         
@@ -320,7 +368,13 @@ public class LongPollingService {
     /**
      * ClientLongPolling subscibers.
      */
-    final Queue<ClientLongPolling> allSubs;
+    final Set<ClientLongPolling> allSubs;
+    
+    /**
+     * ClientLongPolling subscibers indexed by the group keys they listen, so one config change only visits its own
+     * listeners.
+     */
+    final Map<String, Set<ClientLongPolling>> groupKeySubs;
     
     class DataChangeTask implements Runnable {
         
@@ -328,28 +382,27 @@ public class LongPollingService {
         public void run() {
             try {
                 ConfigCacheService.getContentBetaMd5(groupKey);
-                for (Iterator<ClientLongPolling> iter = allSubs.iterator(); iter.hasNext(); ) {
-                    ClientLongPolling clientSub = iter.next();
-                    if (clientSub.clientMd5Map.containsKey(groupKey)) {
-                        // If published tag is not in the beta list, then it skipped.
-                        if (isBeta && !CollectionUtils.contains(betaIps, clientSub.ip)) {
-                            continue;
-                        }
-                        
-                        // If published tag is not in the tag list, then it skipped.
-                        if (StringUtils.isNotBlank(tag) && !tag.equals(clientSub.tag)) {
-                            continue;
-                        }
-                        
-                        getRetainIps().put(clientSub.ip, System.currentTimeMillis());
-                        iter.remove(); // Delete subscribers' relationships.
-                        LogUtil.CLIENT_LOG
-                                .info("{}|{}|{}|{}|{}|{}|{}", (System.currentTimeMillis() - changeTime), "in-advance",
-                                        RequestUtil
-                                                .getRemoteIp((HttpServletRequest) clientSub.asyncContext.getRequest()),
-                                        "polling", clientSub.clientMd5Map.size(), clientSub.probeRequestSize, groupKey);
-                        clientSub.sendResponse(Arrays.asList(groupKey));
+                for (ClientLongPolling clientSub : getLongPollingClients(groupKey)) {
+                    // If published tag is not in the beta list, then it skipped.
+                    if (isBeta && !CollectionUtils.contains(betaIps, clientSub.ip)) {
+                        continue;
+                    }
+                    
+                    // If published tag is not in the tag list, then it skipped.
+                    if (StringUtils.isNotBlank(tag) && !tag.equals(clientSub.tag)) {
+                        continue;
+                    }
+                    
+                    // Delete subscribers' relationships, skip if it has been responded by timeout or other change.
+                    if (!removeLongPollingClient(clientSub)) {
+                        continue;
                     }
+                    getRetainIps().put(clientSub.ip, System.currentTimeMillis());
+                    LogUtil.CLIENT_LOG
+                            .info("{}|{}|{}|{}|{}|{}|{}", (System.currentTimeMillis() - changeTime), "in-advance",
+                                    RequestUtil.getRemoteIp((HttpServletRequest) clientSub.asyncContext.getRequest()),
+                                    "polling", clientSub.clientMd5Map.size(), clientSub.probeRequestSize, groupKey);
+                    clientSub.sendResponse(Arrays.asList(groupKey));
                 }
                 
             } catch (Throwable t) {
@@ -397,7 +450,7 @@ public class LongPollingService {
                     getRetainIps().put(ClientLongPolling.this.ip, System.currentTimeMillis());
 
                     // Delete subscriber's relations.
-                    boolean removeFlag = allSubs.remove(ClientLongPolling.this);
+                    boolean removeFlag = removeLongPollingClient(ClientLongPolling.this);
 
                     if (removeFlag) {
                         if (isFixedPolling()) {
@@ -429,7 +482,7 @@ public class LongPollingService {
 
             }, timeoutTime, TimeUnit.MILLISECONDS);
             
-            allSubs.add(this);
+            addLongPollingClient(this);
         }
         
         void sendResponse(List<String> changedGroups) {
@@ -0,0 +1,180 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import java.io.IOException;
+
+/**
+ * Local storage of the config content dumped from database.
+ *
+ * @author xiweng.yy
+ */
+public interface ConfigDiskService {
+    
+    /**
+     * Save formal config content.
+     *
+     * @param dataId  data id
+     * @param group   group
+     * @param tenant  tenant
+     * @param content config content
+     * @throws IOException if save failed
+     */
+    void saveToDisk(String dataId, String group, String tenant, String content) throws IOException;
+    
+    /**
+     * Save beta config content.
+     *
+     * @param dataId  data id
+     * @param group   group
+     * @param tenant  tenant
+     * @param content config content
+     * @throws IOException if save failed
+     */
+    void saveBetaToDisk(String dataId, String group, String tenant, String content) throws IOException;
+    
+    /**
+     * Save tag config content.
+     *
+     * @param dataId  data id
+     * @param group   group
+     * @param tenant  tenant
+     * @param tag     tag
+     * @param content config content
+     * @throws IOException if save failed
+     */
+    void saveTagToDisk(String dataId, String group, String tenant, String tag, String content) throws IOException;
+    
+    /**
+     * Remove formal config content.
+     *
+     * @param dataId data id
+     * @param group  group
+     * @param tenant tenant
+     */
+    void removeConfigInfo(String dataId, String group, String tenant);
+    
+    /**
+     * Remove beta config content.
+     *
+     * @param dataId data id
+     * @param group  group
+     * @param tenant tenant
+     */
+    void removeConfigInfo4Beta(String dataId, String group, String tenant);
+    
+    /**
+     * Remove tag config content.
+     *
+     * @param dataId data id
+     * @param group  group
+     * @param tenant tenant
+     * @param tag    tag
+     */
+    void removeConfigInfo4Tag(String dataId, String group, String tenant, String tag);
+    
+    /**
+     * Whether the formal config content is saved.
+     *
+     * @param dataId data id
+     * @param group  group
+     * @param tenant tenant
+     * @return {@code true} if saved
+     */
+    boolean isConfigExist(String dataId, String group, String tenant);
+    
+    /**
+     * Whether the beta config content is saved.
+     *
+     * @param dataId data id
+     * @param group  group
+     * @param tenant tenant
+     * @return {@code true} if saved
+     */
+    boolean isBetaConfigExist(String dataId, String group, String tenant);
+    
+    /**
+     * Whether the tag config content is saved.
+     *
+     * @param dataId data id
+     * @param group  group
+     * @param tenant tenant
+     * @param tag    tag
+     * @return {@code true} if saved
+     */
+    boolean isTagConfigExist(String dataId, String group, String tenant, String tag);
+    
+    /**
+     * Get formal config content.
+     *
+     * @param dataId data id
+     * @param group  group
+     * @param tenant tenant
+     * @return config content, {@code null} if not saved
+     * @throws IOException if read failed
+     */
+    String getContent(String dataId, String group, String tenant) throws IOException;
+    
+    /**
+     * Get beta config content.
+     *
+     * @param dataId data id
+     * @param group  group
+     * @param tenant tenant
+     * @return config content, {@code null} if not saved
+     * @throws IOException if read failed
+     */
+    String getBetaContent(String dataId, String group, String tenant) throws IOException;
+    
+    /**
+     * Get tag config content.
+     *
+     * @param dataId data id
+     * @param group  group
+     * @param tenant tenant
+     * @param tag    tag
+     * @return config content, {@code null} if not saved
+     * @throws IOException if read failed
+     */
+    String getTagContent(String dataId, String group, String tenant, String tag) throws IOException;
+    
+    /**
+     * Get the md5 of formal config content, the md5 of empty string if not saved.
+     *
+     * @param dataId data id
+     * @param group  group
+     * @param tenant tenant
+     * @return md5 of the content
+     * @throws IOException if read failed
+     */
+    String getLocalConfigMd5(String dataId, String group, String tenant) throws IOException;
+    
+    /**
+     * Clear all formal config content.
+     */
+    void clearAll();
+    
+    /**
+     * Clear all beta config content.
+     */
+    void clearAllBeta();
+    
+    /**
+     * Clear all tag config content.
+     */
+    void clearAllTag();
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
+import com.alibaba.nacos.sys.env.EnvUtil;
+
+import java.io.File;
+import java.io.IOException;
+
+import static com.alibaba.nacos.config.server.utils.LogUtil.DEFAULT_LOG;
+
+/**
+ * Factory of the {@link ConfigDiskService} selected by {@code configDumpStorageType}.
+ *
+ * <ul>
+ *     <li>{@code file}: default, one file for each config under {@code ${nacos.home}/data}.</li>
+ *     <li>{@code mmap}: segmented memory-mapped log under {@code ${nacos.home}/data/config-dump-log}.</li>
+ * </ul>
+ *
+ * @author xiweng.yy
+ */
+public class ConfigDiskServiceFactory {
+    
+    public static final String TYPE_FILE = "file";
+    
+    public static final String TYPE_MMAP = "mmap";
+    
+    private static final String DUMP_LOG_DIR = "data" + File.separator + "config-dump-log";
+    
+    private static volatile ConfigDiskService instance;
+    
+    /**
+     * Get the config disk service, created at the first time.
+     *
+     * @return config disk service
+     */
+    public static ConfigDiskService getInstance() {
+        if (null == instance) {
+            synchronized (ConfigDiskServiceFactory.class) {
+                if (null == instance) {
+                    instance = createConfigDiskService(PropertyUtil.getConfigDumpStorageType());
+                }
+            }
+        }
+        return instance;
+    }
+    
+    private static ConfigDiskService createConfigDiskService(String type) {
+        if (TYPE_MMAP.equalsIgnoreCase(type)) {
+            try {
+                ConfigDiskService result = new ConfigMmapDiskServiceImpl(
+                        new File(EnvUtil.getNacosHome(), DUMP_LOG_DIR), PropertyUtil.getConfigDumpLogSegmentSize());
+                DEFAULT_LOG.info("[dump-log] use mmap config disk service");
+                return result;
+            } catch (IOException e) {
+                DEFAULT_LOG.error("[dump-log] open mmap config disk service failed, fall back to file.", e);
+            }
+        }
+        return new ConfigRawDiskServiceImpl();
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import com.alibaba.nacos.common.utils.MD5Utils;
+import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.config.server.constant.Constants;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
+
+import java.io.File;
+import java.io.IOException;
+
+import static com.alibaba.nacos.config.server.utils.LogUtil.DEFAULT_LOG;
+
+/**
+ * Config disk service which saves all config content into one {@link MappedLogStore}, instead of one file for each
+ * config.
+ *
+ * @author xiweng.yy
+ */
+public class ConfigMmapDiskServiceImpl implements ConfigDiskService {
+    
+    private static final String FORMAL_PREFIX = "F";
+    
+    private static final String BETA_PREFIX = "B";
+    
+    private static final String TAG_PREFIX = "T";
+    
+    private final MappedLogStore store;
+    
+    public ConfigMmapDiskServiceImpl(File baseDir, int segmentSize) throws IOException {
+        this.store = new MappedLogStore(baseDir, segmentSize);
+    }
+    
+    @Override
+    public void saveToDisk(String dataId, String group, String tenant, String content) throws IOException {
+        store.put(formalKey(dataId, group, tenant), content);
+    }
+    
+    @Override
+    public void saveBetaToDisk(String dataId, String group, String tenant, String content) throws IOException {
+        store.put(betaKey(dataId, group, tenant), content);
+    }
+    
+    @Override
+    public void saveTagToDisk(String dataId, String group, String tenant, String tag, String content)
+            throws IOException {
+        store.put(tagKey(dataId, group, tenant, tag), content);
+    }
+    
+    @Override
+    public void removeConfigInfo(String dataId, String group, String tenant) {
+        removeQuietly(formalKey(dataId, group, tenant));
+    }
+    
+    @Override
+    public void removeConfigInfo4Beta(String dataId, String group, String tenant) {
+        removeQuietly(betaKey(dataId, group, tenant));
+    }
+    
+    @Override
+    public void removeConfigInfo4Tag(String dataId, String group, String tenant, String tag) {
+        removeQuietly(tagKey(dataId, group, tenant, tag));
+    }
+    
+    @Override
+    public boolean isConfigExist(String dataId, String group, String tenant) {
+        return store.contains(formalKey(dataId, group, tenant));
+    }
+    
+    @Override
+    public boolean isBetaConfigExist(String dataId, String group, String tenant) {
+        return store.contains(betaKey(dataId, group, tenant));
+    }
+    
+    @Override
+    public boolean isTagConfigExist(String dataId, String group, String tenant, String tag) {
+        return store.contains(tagKey(dataId, group, tenant, tag));
+    }
+    
+    @Override
+    public String getContent(String dataId, String group, String tenant) {
+        return store.get(formalKey(dataId, group, tenant));
+    }
+    
+    @Override
+    public String getBetaContent(String dataId, String group, String tenant) {
+        return store.get(betaKey(dataId, group, tenant));
+    }
+    
+    @Override
+    public String getTagContent(String dataId, String group, String tenant, String tag) {
+        return store.get(tagKey(dataId, group, tenant, tag));
+    }
+    
+    @Override
+    public String getLocalConfigMd5(String dataId, String group, String tenant) {
+        String content = getContent(dataId, group, tenant);
+        return MD5Utils.md5Hex(null == content ? StringUtils.EMPTY : content, Constants.ENCODE);
+    }
+    
+    @Override
+    public void clearAll() {
+        clearByPrefix(FORMAL_PREFIX, "config-info");
+    }
+    
+    @Override
+    public void clearAllBeta() {
+        clearByPrefix(BETA_PREFIX, "config-info-beta");
+    }
+    
+    @Override
+    public void clearAllTag() {
+        clearByPrefix(TAG_PREFIX, "config-info-tag");
+    }
+    
+    private void removeQuietly(String key) {
+        try {
+            store.remove(key);
+        } catch (IOException e) {
+            DEFAULT_LOG.error("[dump-log] remove {} failed", key, e);
+        }
+    }
+    
+    private void clearByPrefix(String prefix, String name) {
+        try {
+            store.removeByPrefix(prefix);
+            DEFAULT_LOG.info("clear all {} success.", name);
+        } catch (IOException e) {
+            DEFAULT_LOG.warn("clear all {} failed.", name, e);
+        }
+    }
+    
+    private static String formalKey(String dataId, String group, String tenant) {
+        return FORMAL_PREFIX + GroupKey2.getKey(dataId, group, tenant);
+    }
+    
+    private static String betaKey(String dataId, String group, String tenant) {
+        return BETA_PREFIX + GroupKey2.getKey(dataId, group, tenant);
+    }
+    
+    private static String tagKey(String dataId, String group, String tenant, String tag) {
+        // Encode the group key again, so a tag containing '+' never collides with the tenant.
+        return TAG_PREFIX + GroupKey2.getKey(GroupKey2.getKey(dataId, group, tenant), tag);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import com.alibaba.nacos.config.server.constant.Constants;
+import com.alibaba.nacos.config.server.utils.DiskUtil;
+import org.apache.commons.io.FileUtils;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Config disk service which saves each config content as an individual file, see {@link DiskUtil}.
+ *
+ * @author xiweng.yy
+ */
+public class ConfigRawDiskServiceImpl implements ConfigDiskService {
+    
+    @Override
+    public void saveToDisk(String dataId, String group, String tenant, String content) throws IOException {
+        DiskUtil.saveToDisk(dataId, group, tenant, content);
+    }
+    
+    @Override
+    public void saveBetaToDisk(String dataId, String group, String tenant, String content) throws IOException {
+        DiskUtil.saveBetaToDisk(dataId, group, tenant, content);
+    }
+    
+    @Override
+    public void saveTagToDisk(String dataId, String group, String tenant, String tag, String content)
+            throws IOException {
+        DiskUtil.saveTagToDisk(dataId, group, tenant, tag, content);
+    }
+    
+    @Override
+    public void removeConfigInfo(String dataId, String group, String tenant) {
+        DiskUtil.removeConfigInfo(dataId, group, tenant);
+    }
+    
+    @Override
+    public void removeConfigInfo4Beta(String dataId, String group, String tenant) {
+        DiskUtil.removeConfigInfo4Beta(dataId, group, tenant);
+    }
+    
+    @Override
+    public void removeConfigInfo4Tag(String dataId, String group, String tenant, String tag) {
+        DiskUtil.removeConfigInfo4Tag(dataId, group, tenant, tag);
+    }
+    
+    @Override
+    public boolean isConfigExist(String dataId, String group, String tenant) {
+        return DiskUtil.targetFile(dataId, group, tenant).exists();
+    }
+    
+    @Override
+    public boolean isBetaConfigExist(String dataId, String group, String tenant) {
+        return DiskUtil.targetBetaFile(dataId, group, tenant).exists();
+    }
+    
+    @Override
+    public boolean isTagConfigExist(String dataId, String group, String tenant, String tag) {
+        return DiskUtil.targetTagFile(dataId, group, tenant, tag).exists();
+    }
+    
+    @Override
+    public String getContent(String dataId, String group, String tenant) throws IOException {
+        return readFile(DiskUtil.targetFile(dataId, group, tenant));
+    }
+    
+    @Override
+    public String getBetaContent(String dataId, String group, String tenant) throws IOException {
+        return readFile(DiskUtil.targetBetaFile(dataId, group, tenant));
+    }
+    
+    @Override
+    public String getTagContent(String dataId, String group, String tenant, String tag) throws IOException {
+        return readFile(DiskUtil.targetTagFile(dataId, group, tenant, tag));
+    }
+    
+    @Override
+    public String getLocalConfigMd5(String dataId, String group, String tenant) throws IOException {
+        return DiskUtil.getLocalConfigMd5(dataId, group, tenant);
+    }
+    
+    @Override
+    public void clearAll() {
+        DiskUtil.clearAll();
+    }
+    
+    @Override
+    public void clearAllBeta() {
+        DiskUtil.clearAllBeta();
+    }
+    
+    @Override
+    public void clearAllTag() {
+        DiskUtil.clearAllTag();
+    }
+    
+    private String readFile(File file) throws IOException {
+        if (null == file || !file.exists()) {
+            return null;
+        }
+        return FileUtils.readFileToString(file, Constants.ENCODE);
+    }
+}
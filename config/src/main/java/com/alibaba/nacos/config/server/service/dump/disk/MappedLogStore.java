@@ -0,0 +1,433 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import com.alibaba.nacos.config.server.constant.Constants;
+import org.apache.commons.io.FileUtils;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+import static com.alibaba.nacos.config.server.utils.LogUtil.DEFAULT_LOG;
+
+/**
+ * Segmented append-only log of string key and value, each segment is a memory-mapped file.
+ *
+ * <p>Every put or remove appends one record to the active segment and updates the in-memory offset index, so a read
+ * is one index lookup and one copy from the mapped segment. When the active segment is full a new segment is rolled,
+ * and the sealed segments are compacted once the overwritten and removed records take up more than half of them. The
+ * index is rebuilt by replaying the segments in order when the log is opened, a torn record at the tail of a segment
+ * is detected by its checksum and dropped.
+ *
+ * <p>The segments are only forced to disk when sealed, compacted or closed. The log keeps the dumped copy of the
+ * database, which will be dumped again if lost, so it doesn't pay a fsync for every write.
+ *
+ * <p>Writes are serialized by the log, reads are lock-free.
+ *
+ * <pre>
+ * record: | body length (4) | crc32 of body (4) | op (1) | key length (4) | key | value |
+ * </pre>
+ *
+ * @author xiweng.yy
+ */
+public class MappedLogStore implements Closeable {
+    
+    private static final Charset CHARSET = Charset.forName(Constants.ENCODE);
+    
+    private static final String SEGMENT_SUFFIX = ".log";
+    
+    private static final String SEGMENT_NAME_FORMAT = "%020d" + SEGMENT_SUFFIX;
+    
+    private static final byte OP_PUT = 1;
+    
+    private static final byte OP_REMOVE = 2;
+    
+    private static final int RECORD_HEADER_SIZE = 8;
+    
+    private static final int BODY_HEADER_SIZE = 5;
+    
+    private static final int CRC_OFFSET = 4;
+    
+    private static final byte[] EMPTY_VALUE = new byte[0];
+    
+    private static final int ZERO_FILL_CHUNK = 4096;
+    
+    private static final double COMPACT_GARBAGE_RATIO = 0.5;
+    
+    private final File baseDir;
+    
+    private final int segmentSize;
+    
+    private final Map<String, Location> index = new ConcurrentHashMap<>();
+    
+    private final TreeMap<Long, Segment> segments = new TreeMap<>();
+    
+    private Segment active;
+    
+    private boolean compacting;
+    
+    public MappedLogStore(File baseDir, int segmentSize) throws IOException {
+        this.baseDir = baseDir;
+        this.segmentSize = segmentSize;
+        FileUtils.forceMkdir(baseDir);
+        recover();
+    }
+    
+    /**
+     * Get the value of key.
+     *
+     * @param key key
+     * @return value, {@code null} if not exist
+     */
+    public String get(String key) {
+        Location location = index.get(key);
+        return null == location ? null : location.read();
+    }
+    
+    public boolean contains(String key) {
+        return index.containsKey(key);
+    }
+    
+    public int size() {
+        return index.size();
+    }
+    
+    public synchronized int segmentCount() {
+        return segments.size();
+    }
+    
+    /**
+     * Put the value of key.
+     *
+     * @param key   key
+     * @param value value
+     * @throws IOException if append to segment failed
+     */
+    public synchronized void put(String key, String value) throws IOException {
+        Location location = append(OP_PUT, key.getBytes(CHARSET), value.getBytes(CHARSET));
+        markGarbage(index.put(key, location));
+    }
+    
+    /**
+     * Remove the key.
+     *
+     * @param key key
+     * @throws IOException if append to segment failed
+     */
+    public synchronized void remove(String key) throws IOException {
+        Location old = index.remove(key);
+        if (null == old) {
+            return;
+        }
+        markGarbage(old);
+        markGarbage(append(OP_REMOVE, key.getBytes(CHARSET), EMPTY_VALUE));
+    }
+    
+    /**
+     * Remove all keys start with the prefix.
+     *
+     * @param prefix prefix of key
+     * @throws IOException if append to segment failed
+     */
+    public synchronized void removeByPrefix(String prefix) throws IOException {
+        for (String each : new ArrayList<>(index.keySet())) {
+            if (each.startsWith(prefix)) {
+                remove(each);
+            }
+        }
+    }
+    
+    @Override
+    public synchronized void close() {
+        for (Segment each : segments.values()) {
+            each.force();
+        }
+    }
+    
+    private Location append(byte op, byte[] key, byte[] value) throws IOException {
+        int bodyLength = BODY_HEADER_SIZE + key.length + value.length;
+        ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_SIZE + bodyLength);
+        record.putInt(bodyLength).putInt(0).put(op).putInt(key.length).put(key).put(value);
+        CRC32 crc = new CRC32();
+        crc.update(record.array(), RECORD_HEADER_SIZE, bodyLength);
+        record.putInt(CRC_OFFSET, (int) crc.getValue());
+        return appendRecord(record.array(), value.length);
+    }
+    
+    private Location appendRecord(byte[] record, int valueLength) throws IOException {
+        if (active.remaining() < record.length) {
+            roll(record.length);
+        }
+        return active.write(record, valueLength);
+    }
+    
+    private void markGarbage(Location location) {
+        if (null != location) {
+            location.segment.garbage += location.recordSize;
+        }
+    }
+    
+    private void roll(int recordSize) throws IOException {
+        active.force();
+        long id = active.id + 1;
+        active = Segment.create(segmentFile(id), id, Math.max(segmentSize, recordSize));
+        segments.put(id, active);
+        if (!compacting) {
+            compactIfNecessary();
+        }
+    }
+    
+    private void compactIfNecessary() throws IOException {
+        long total = 0L;
+        long garbage = 0L;
+        for (Segment each : segments.values()) {
+            if (each != active) {
+                total += each.writePosition;
+                garbage += each.garbage;
+            }
+        }
+        if (total > 0 && garbage >= total * COMPACT_GARBAGE_RATIO) {
+            compact();
+        }
+    }
+    
+    /**
+     * Copy the live records of all sealed segments to the active segment, then delete the sealed segments.
+     *
+     * <p>The sealed segments are deleted from the oldest after the copies are forced, so a removed record is never
+     * brought back by a crash during compaction, since its tombstone is always newer than it.
+     */
+    private void compact() throws IOException {
+        compacting = true;
+        try {
+            List<Segment> sealed = new ArrayList<>();
+            for (Segment each : segments.values()) {
+                if (each != active) {
+                    sealed.add(each);
+                }
+            }
+            Set<Segment> sealedSet = Collections.newSetFromMap(new IdentityHashMap<>());
+            sealedSet.addAll(sealed);
+            int moved = 0;
+            for (Map.Entry<String, Location> entry : index.entrySet()) {
+                Location location = entry.getValue();
+                if (sealedSet.contains(location.segment)) {
+                    index.put(entry.getKey(), appendRecord(location.readRecord(), location.valueLength));
+                    moved++;
+                }
+            }
+            for (Segment each : segments.values()) {
+                if (!sealedSet.contains(each)) {
+                    each.force();
+                }
+            }
+            for (Segment each : sealed) {
+                segments.remove(each.id);
+                each.delete();
+            }
+            DEFAULT_LOG.info("[dump-log] compact {} segments, {} records moved", sealed.size(), moved);
+        } finally {
+            compacting = false;
+        }
+    }
+    
+    private void recover() throws IOException {
+        File[] files = baseDir.listFiles((dir, name) -> name.endsWith(SEGMENT_SUFFIX));
+        if (null != files) {
+            for (File each : files) {
+                String name = each.getName();
+                try {
+                    long id = Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+                    segments.put(id, Segment.open(each, id));
+                } catch (NumberFormatException e) {
+                    DEFAULT_LOG.warn("[dump-log] ignore unknown file {}", each);
+                }
+            }
+        }
+        for (Segment each : segments.values()) {
+            replay(each);
+        }
+        if (segments.isEmpty()) {
+            active = Segment.create(segmentFile(0L), 0L, segmentSize);
+            segments.put(active.id, active);
+        } else {
+            active = segments.lastEntry().getValue();
+        }
+        DEFAULT_LOG.info("[dump-log] recover {} keys from {} segments", index.size(), segments.size());
+    }
+    
+    private void replay(Segment segment) {
+        ByteBuffer buffer = segment.buffer.duplicate();
+        int position = 0;
+        boolean torn = false;
+        while (position + RECORD_HEADER_SIZE <= buffer.capacity()) {
+            int bodyLength = buffer.getInt(position);
+            if (0 == bodyLength) {
+                break;
+            }
+            if (bodyLength < BODY_HEADER_SIZE || bodyLength > buffer.capacity() - position - RECORD_HEADER_SIZE) {
+                torn = true;
+                break;
+            }
+            byte[] body = new byte[bodyLength];
+            buffer.position(position + RECORD_HEADER_SIZE);
+            buffer.get(body);
+            CRC32 crc = new CRC32();
+            crc.update(body, 0, bodyLength);
+            int keyLength = ByteBuffer.wrap(body, 1, Integer.BYTES).getInt();
+            if ((int) crc.getValue() != buffer.getInt(position + CRC_OFFSET) || keyLength < 0
+                    || keyLength > bodyLength - BODY_HEADER_SIZE) {
+                torn = true;
+                break;
+            }
+            int recordSize = RECORD_HEADER_SIZE + bodyLength;
+            int valueLength = bodyLength - BODY_HEADER_SIZE - keyLength;
+            String key = new String(body, BODY_HEADER_SIZE, keyLength, CHARSET);
+            if (OP_PUT == body[0]) {
+                markGarbage(index.put(key, new Location(segment, position, recordSize, valueLength)));
+            } else {
+                markGarbage(index.remove(key));
+                segment.garbage += recordSize;
+            }
+            position += recordSize;
+        }
+        segment.writePosition = position;
+        if (torn) {
+            DEFAULT_LOG.warn("[dump-log] drop torn records of segment {} from {}", segment.file, position);
+            segment.zeroFrom(position);
+        }
+    }
+    
+    private File segmentFile(long id) {
+        return new File(baseDir, String.format(SEGMENT_NAME_FORMAT, id));
+    }
+    
+    private static class Segment {
+        
+        private final File file;
+        
+        private final long id;
+        
+        private final MappedByteBuffer buffer;
+        
+        private int writePosition;
+        
+        private long garbage;
+        
+        private Segment(File file, long id, MappedByteBuffer buffer) {
+            this.file = file;
+            this.id = id;
+            this.buffer = buffer;
+        }
+        
+        private static Segment create(File file, long id, int size) throws IOException {
+            try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+                raf.setLength(size);
+                return new Segment(file, id, raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, size));
+            }
+        }
+        
+        private static Segment open(File file, long id) throws IOException {
+            try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+                return new Segment(file, id, raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, raf.length()));
+            }
+        }
+        
+        private int remaining() {
+            return buffer.capacity() - writePosition;
+        }
+        
+        private Location write(byte[] record, int valueLength) {
+            ByteBuffer target = buffer.duplicate();
+            target.position(writePosition);
+            target.put(record);
+            Location result = new Location(this, writePosition, record.length, valueLength);
+            writePosition += record.length;
+            return result;
+        }
+        
+        private void zeroFrom(int position) {
+            ByteBuffer target = buffer.duplicate();
+            target.position(position);
+            byte[] zero = new byte[ZERO_FILL_CHUNK];
+            while (target.hasRemaining()) {
+                target.put(zero, 0, Math.min(zero.length, target.remaining()));
+            }
+            force();
+        }
+        
+        private void force() {
+            buffer.force();
+        }
+        
+        private void delete() {
+            // The mapped buffer is released by GC, the readers still holding it can read the old records.
+            if (!file.delete()) {
+                DEFAULT_LOG.warn("[dump-log] delete segment {} failed", file);
+            }
+        }
+    }
+    
+    private static class Location {
+        
+        private final Segment segment;
+        
+        private final int offset;
+        
+        private final int recordSize;
+        
+        private final int valueLength;
+        
+        private Location(Segment segment, int offset, int recordSize, int valueLength) {
+            this.segment = segment;
+            this.offset = offset;
+            this.recordSize = recordSize;
+            this.valueLength = valueLength;
+        }
+        
+        private String read() {
+            byte[] value = new byte[valueLength];
+            ByteBuffer source = segment.buffer.duplicate();
+            source.position(offset + recordSize - valueLength);
+            source.get(value);
+            return new String(value, CHARSET);
+        }
+        
+        private byte[] readRecord() {
+            byte[] record = new byte[recordSize];
+            ByteBuffer source = segment.buffer.duplicate();
+            source.position(offset);
+            source.get(record);
+            return record;
+        }
+    }
+}
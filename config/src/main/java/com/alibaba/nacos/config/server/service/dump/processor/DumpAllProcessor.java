@@ -16,12 +16,14 @@
 
 package com.alibaba.nacos.config.server.service.dump.processor;
 
+import com.alibaba.nacos.common.executor.NameThreadFactory;
 import com.alibaba.nacos.common.task.NacosTask;
 import com.alibaba.nacos.common.utils.MD5Utils;
 import com.alibaba.nacos.config.server.constant.Constants;
 import com.alibaba.nacos.common.task.NacosTaskProcessor;
 import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
 import com.alibaba.nacos.config.server.model.Page;
+import com.alibaba.nacos.config.server.monitor.MetricsMonitor;
 import com.alibaba.nacos.config.server.service.AggrWhitelist;
 import com.alibaba.nacos.config.server.service.ClientIpWhiteList;
 import com.alibaba.nacos.config.server.service.ConfigCacheService;
@@ -30,12 +32,21 @@ import com.alibaba.nacos.config.server.service.dump.DumpService;
 import com.alibaba.nacos.config.server.service.repository.PersistService;
 import com.alibaba.nacos.config.server.utils.GroupKey2;
 import com.alibaba.nacos.config.server.utils.LogUtil;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static com.alibaba.nacos.config.server.utils.LogUtil.DEFAULT_LOG;
 
 /**
  * Dump all processor.
  *
+ * <p>The configs are fetched page by page in the processing thread, and dumped by a bounded worker pool, whose size is
+ * {@code dumpAllParallelism}.
+ *
  * @author Nacos
  * @date 2020/7/5 12:19 PM
  */
@@ -50,43 +61,94 @@ public class DumpAllProcessor implements NacosTaskProcessor {
     public boolean process(NacosTask task) {
         long currentMaxId = persistService.findConfigMaxId();
         long lastMaxId = 0;
-        while (lastMaxId < currentMaxId) {
-            Page<ConfigInfoWrapper> page = persistService.findAllConfigInfoFragment(lastMaxId, PAGE_SIZE);
-            if (page != null && page.getPageItems() != null && !page.getPageItems().isEmpty()) {
-                for (ConfigInfoWrapper cf : page.getPageItems()) {
-                    long id = cf.getId();
-                    lastMaxId = Math.max(id, lastMaxId);
-                    if (cf.getDataId().equals(AggrWhitelist.AGGRIDS_METADATA)) {
-                        AggrWhitelist.load(cf.getContent());
-                    }
-                    
-                    if (cf.getDataId().equals(ClientIpWhiteList.CLIENT_IP_WHITELIST_METADATA)) {
-                        ClientIpWhiteList.load(cf.getContent());
-                    }
-                    
-                    if (cf.getDataId().equals(SwitchService.SWITCH_META_DATAID)) {
-                        SwitchService.load(cf.getContent());
+        final long startTime = System.currentTimeMillis();
+        AtomicLong dumpedCount = MetricsMonitor.getDumpAllCountMonitor();
+        dumpedCount.set(0L);
+        ThreadPoolExecutor executor = createDumpExecutor(PropertyUtil.getDumpAllParallelism());
+        try {
+            while (lastMaxId < currentMaxId) {
+                Page<ConfigInfoWrapper> page = persistService.findAllConfigInfoFragment(lastMaxId, PAGE_SIZE);
+                if (page != null && page.getPageItems() != null && !page.getPageItems().isEmpty()) {
+                    for (ConfigInfoWrapper cf : page.getPageItems()) {
+                        long id = cf.getId();
+                        lastMaxId = Math.max(id, lastMaxId);
+                        if (cf.getDataId().equals(AggrWhitelist.AGGRIDS_METADATA)) {
+                            AggrWhitelist.load(cf.getContent());
+                        }
+                        
+                        if (cf.getDataId().equals(ClientIpWhiteList.CLIENT_IP_WHITELIST_METADATA)) {
+                            ClientIpWhiteList.load(cf.getContent());
+                        }
+                        
+                        if (cf.getDataId().equals(SwitchService.SWITCH_META_DATAID)) {
+                            SwitchService.load(cf.getContent());
+                        }
+                        
+                        executor.execute(() -> dumpConfig(cf, dumpedCount));
                     }
-    
-                    ConfigCacheService.dump(cf.getDataId(), cf.getGroup(), cf.getTenant(), cf.getContent(),
-                            cf.getLastModified(), cf.getType(), cf.getEncryptedDataKey());
-                    
-                    final String content = cf.getContent();
-                    final String md5 = MD5Utils.md5Hex(content, Constants.ENCODE);
-                    LogUtil.DUMP_LOG.info("[dump-all-ok] {}, {}, length={}, md5={}",
-                            GroupKey2.getKey(cf.getDataId(), cf.getGroup()), cf.getLastModified(), content.length(),
-                            md5);
+                    DEFAULT_LOG.info("[all-dump] {} / {}, dumped {} configs, {} configs/s", lastMaxId, currentMaxId,
+                            dumpedCount.get(), updateTps(dumpedCount.get(), startTime));
+                } else {
+                    lastMaxId += PAGE_SIZE;
                 }
-                DEFAULT_LOG.info("[all-dump] {} / {}", lastMaxId, currentMaxId);
-            } else {
-                lastMaxId += PAGE_SIZE;
             }
+        } finally {
+            executor.shutdown();
+        }
+        try {
+            while (!executor.awaitTermination(AWAIT_TERMINATION_SECONDS, TimeUnit.SECONDS)) {
+                DEFAULT_LOG.info("[all-dump] waiting for dump workers, dumped {} configs", dumpedCount.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            DEFAULT_LOG.warn("[all-dump] interrupted when waiting for dump workers");
+            return false;
         }
+        DEFAULT_LOG.info("[all-dump] finished, dumped {} configs, cost {} ms, {} configs/s", dumpedCount.get(),
+                System.currentTimeMillis() - startTime, updateTps(dumpedCount.get(), startTime));
         return true;
     }
     
+    private void dumpConfig(ConfigInfoWrapper cf, AtomicLong dumpedCount) {
+        try {
+            ConfigCacheService.dump(cf.getDataId(), cf.getGroup(), cf.getTenant(), cf.getContent(),
+                    cf.getLastModified(), cf.getType(), cf.getEncryptedDataKey());
+            
+            final String content = cf.getContent();
+            final String md5 = MD5Utils.md5Hex(content, Constants.ENCODE);
+            LogUtil.DUMP_LOG.info("[dump-all-ok] {}, {}, length={}, md5={}",
+                    GroupKey2.getKey(cf.getDataId(), cf.getGroup()), cf.getLastModified(), content.length(), md5);
+        } catch (Throwable e) {
+            LogUtil.DUMP_LOG.error("[dump-all-error] {}", GroupKey2.getKey(cf.getDataId(), cf.getGroup()), e);
+        } finally {
+            dumpedCount.incrementAndGet();
+        }
+    }
+    
+    private long updateTps(long dumpedCount, long startTime) {
+        long cost = Math.max(1L, System.currentTimeMillis() - startTime);
+        long tps = dumpedCount * TimeUnit.SECONDS.toMillis(1) / cost;
+        MetricsMonitor.getDumpAllTpsMonitor().set(tps);
+        return tps;
+    }
+    
+    /**
+     * Create the workers to compute md5 and save configs of the fetched pages.
+     *
+     * <p>The queue is bounded by one page, and the fetching thread runs the dump by itself when the queue is full, so
+     * the configs in memory are bounded while the next page is being fetched.
+     */
+    private static ThreadPoolExecutor createDumpExecutor(int parallelism) {
+        int workers = Math.max(1, parallelism);
+        return new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(PAGE_SIZE), new NameThreadFactory("com.alibaba.nacos.config.server.dump.all"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+    
     static final int PAGE_SIZE = 1000;
     
+    private static final long AWAIT_TERMINATION_SECONDS = 10L;
+    
     final DumpService dumpService;
     
     final PersistService persistService;
@@ -19,6 +19,8 @@ package com.alibaba.nacos.config.server.service.repository.embedded;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.exception.runtime.NacosRuntimeException;
 import com.alibaba.nacos.common.JustForTest;
+import com.alibaba.nacos.common.executor.ExecutorFactory;
+import com.alibaba.nacos.common.executor.NameThreadFactory;
 import com.alibaba.nacos.common.model.RestResult;
 import com.alibaba.nacos.common.model.RestResultUtils;
 import com.alibaba.nacos.common.notify.Event;
@@ -30,8 +32,10 @@ import com.alibaba.nacos.common.utils.LoggerUtils;
 import com.alibaba.nacos.common.utils.MD5Utils;
 import com.alibaba.nacos.common.utils.Preconditions;
 import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.config.server.Config;
 import com.alibaba.nacos.config.server.configuration.ConditionDistributedEmbedStorage;
 import com.alibaba.nacos.config.server.constant.Constants;
+import com.alibaba.nacos.config.server.constant.PropertiesConstant;
 import com.alibaba.nacos.config.server.exception.NJdbcException;
 import com.alibaba.nacos.config.server.model.event.ConfigDumpEvent;
 import com.alibaba.nacos.config.server.model.event.DerbyLoadEvent;
@@ -41,11 +45,13 @@ import com.alibaba.nacos.config.server.service.datasource.LocalDataSourceService
 import com.alibaba.nacos.config.server.service.dump.DumpConfigHandler;
 import com.alibaba.nacos.config.server.service.repository.RowMapperManager;
 import com.alibaba.nacos.config.server.service.sql.EmbeddedStorageContextUtils;
+import com.alibaba.nacos.config.server.service.sql.GroupCommitRequest;
 import com.alibaba.nacos.config.server.service.sql.ModifyRequest;
 import com.alibaba.nacos.config.server.service.sql.QueryType;
 import com.alibaba.nacos.config.server.service.sql.SelectRequest;
 import com.alibaba.nacos.config.server.utils.ConfigExecutor;
 import com.alibaba.nacos.config.server.utils.LogUtil;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
 import com.alibaba.nacos.consistency.SerializeFactory;
 import com.alibaba.nacos.consistency.Serializer;
 import com.alibaba.nacos.consistency.cp.CPProtocol;
@@ -57,6 +63,7 @@ import com.alibaba.nacos.consistency.exception.ConsistencyException;
 import com.alibaba.nacos.consistency.snapshot.SnapshotOperation;
 import com.alibaba.nacos.core.cluster.ServerMemberManager;
 import com.alibaba.nacos.core.distributed.ProtocolManager;
+import com.alibaba.nacos.core.monitor.MetricsMonitor;
 import com.alibaba.nacos.core.utils.ClassUtils;
 import com.alibaba.nacos.sys.utils.DiskUtils;
 import com.alibaba.nacos.core.utils.GenericType;
@@ -68,6 +75,7 @@ import org.springframework.jdbc.BadSqlGrammarException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionStatus;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import java.io.File;
@@ -78,10 +86,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -149,6 +159,13 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
      */
     private static final String DATA_IMPORT_KEY = "00--0-data_import-0--00";
     
+    /**
+     * The group commit operation is dedicated key, which ACTS as an identifier.
+     */
+    private static final String GROUP_COMMIT_KEY = "00--0-group_commit-0--00";
+    
+    private static final long GROUP_COMMIT_TIMEOUT_MILLS = 10_000L;
+    
     private ServerMemberManager memberManager;
     
     private CPProtocol protocol;
@@ -167,6 +184,12 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
     
     private ReentrantReadWriteLock.WriteLock writeLock = lock.writeLock();
     
+    private EmbeddedStorageGroupCommitter groupCommitter;
+    
+    private String readConsistency = PropertiesConstant.READ_CONSISTENCY_LINEARIZABLE;
+    
+    private long readMaxStaleness;
+    
     public DistributedDatabaseOperateImpl(ServerMemberManager memberManager, ProtocolManager protocolManager)
             throws Exception {
         this.memberManager = memberManager;
@@ -207,6 +230,22 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
         
         this.protocol.addRequestProcessors(Collections.singletonList(this));
         LogUtil.DEFAULT_LOG.info("use DistributedTransactionServicesImpl");
+        
+        // All members should support the group commit log before enabled, so it is disabled by default.
+        int groupCommitWindow = PropertyUtil.getEmbeddedStorageGroupCommitWindow();
+        if (groupCommitWindow > 0) {
+            this.groupCommitter = new EmbeddedStorageGroupCommitter(groupCommitWindow,
+                    PropertyUtil.getEmbeddedStorageGroupCommitMaxSize(),
+                    ExecutorFactory.Managed.newSingleScheduledExecutorService(ClassUtils.getCanonicalName(Config.class),
+                            new NameThreadFactory("com.alibaba.nacos.config.embedded.group.commit")),
+                    this::groupCommit);
+            LogUtil.DEFAULT_LOG.info("embedded storage group commit is enabled, window : {} ms", groupCommitWindow);
+        }
+        
+        this.readConsistency = PropertyUtil.getEmbeddedStorageReadConsistency();
+        this.readMaxStaleness = PropertyUtil.getEmbeddedStorageReadMaxStaleness();
+        LogUtil.DEFAULT_LOG.info("embedded storage read consistency : {}, max staleness : {} ms", readConsistency,
+                readMaxStaleness);
     }
     
     @JustForTest
@@ -219,13 +258,17 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
         try {
             LoggerUtils.printIfDebugEnabled(LogUtil.DEFAULT_LOG, "queryOne info : sql : {}", sql);
             
+            final boolean blockRead = EmbeddedStorageContextUtils
+                    .containsExtendInfo(Constants.EXTEND_NEED_READ_UNTIL_HAVE_DATA);
+            
+            if (canReadLocally(blockRead)) {
+                return localRead(() -> queryOne(jdbcTemplate, sql, cls));
+            }
+            
             byte[] data = serializer.serialize(
                     SelectRequest.builder().queryType(QueryType.QUERY_ONE_NO_MAPPER_NO_ARGS).sql(sql)
                             .className(cls.getCanonicalName()).build());
             
-            final boolean blockRead = EmbeddedStorageContextUtils
-                    .containsExtendInfo(Constants.EXTEND_NEED_READ_UNTIL_HAVE_DATA);
-            
             Response response = innerRead(
                     ReadRequest.newBuilder().setGroup(group()).setData(ByteString.copyFrom(data)).build(), blockRead);
             if (response.getSuccess()) {
@@ -243,13 +286,17 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
         try {
             LoggerUtils.printIfDebugEnabled(LogUtil.DEFAULT_LOG, "queryOne info : sql : {}, args : {}", sql, args);
             
+            final boolean blockRead = EmbeddedStorageContextUtils
+                    .containsExtendInfo(Constants.EXTEND_NEED_READ_UNTIL_HAVE_DATA);
+            
+            if (canReadLocally(blockRead)) {
+                return localRead(() -> queryOne(jdbcTemplate, sql, args, cls));
+            }
+            
             byte[] data = serializer.serialize(
                     SelectRequest.builder().queryType(QueryType.QUERY_ONE_NO_MAPPER_WITH_ARGS).sql(sql).args(args)
                             .className(cls.getCanonicalName()).build());
             
-            final boolean blockRead = EmbeddedStorageContextUtils
-                    .containsExtendInfo(Constants.EXTEND_NEED_READ_UNTIL_HAVE_DATA);
-            
             Response response = innerRead(
                     ReadRequest.newBuilder().setGroup(group()).setData(ByteString.copyFrom(data)).build(), blockRead);
             if (response.getSuccess()) {
@@ -267,13 +314,17 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
         try {
             LoggerUtils.printIfDebugEnabled(LogUtil.DEFAULT_LOG, "queryOne info : sql : {}, args : {}", sql, args);
             
+            final boolean blockRead = EmbeddedStorageContextUtils
+                    .containsExtendInfo(Constants.EXTEND_NEED_READ_UNTIL_HAVE_DATA);
+            
+            if (canReadLocally(blockRead)) {
+                return localRead(() -> queryOne(jdbcTemplate, sql, args, mapper));
+            }
+            
             byte[] data = serializer.serialize(
                     SelectRequest.builder().queryType(QueryType.QUERY_ONE_WITH_MAPPER_WITH_ARGS).sql(sql).args(args)
                             .className(mapper.getClass().getCanonicalName()).build());
             
-            final boolean blockRead = EmbeddedStorageContextUtils
-                    .containsExtendInfo(Constants.EXTEND_NEED_READ_UNTIL_HAVE_DATA);
-            
             Response response = innerRead(
                     ReadRequest.newBuilder().setGroup(group()).setData(ByteString.copyFrom(data)).build(), blockRead);
             if (response.getSuccess()) {
@@ -292,13 +343,17 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
         try {
             LoggerUtils.printIfDebugEnabled(LogUtil.DEFAULT_LOG, "queryMany info : sql : {}, args : {}", sql, args);
             
+            final boolean blockRead = EmbeddedStorageContextUtils
+                    .containsExtendInfo(Constants.EXTEND_NEED_READ_UNTIL_HAVE_DATA);
+            
+            if (canReadLocally(blockRead)) {
+                return localRead(() -> queryMany(jdbcTemplate, sql, args, mapper));
+            }
+            
             byte[] data = serializer.serialize(
                     SelectRequest.builder().queryType(QueryType.QUERY_MANY_WITH_MAPPER_WITH_ARGS).sql(sql).args(args)
                             .className(mapper.getClass().getCanonicalName()).build());
             
-            final boolean blockRead = EmbeddedStorageContextUtils
-                    .containsExtendInfo(Constants.EXTEND_NEED_READ_UNTIL_HAVE_DATA);
-            
             Response response = innerRead(
                     ReadRequest.newBuilder().setGroup(group()).setData(ByteString.copyFrom(data)).build(), blockRead);
             if (response.getSuccess()) {
@@ -316,13 +371,17 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
         try {
             LoggerUtils.printIfDebugEnabled(LogUtil.DEFAULT_LOG, "queryMany info : sql : {}, args : {}", sql, args);
             
+            final boolean blockRead = EmbeddedStorageContextUtils
+                    .containsExtendInfo(Constants.EXTEND_NEED_READ_UNTIL_HAVE_DATA);
+            
+            if (canReadLocally(blockRead)) {
+                return localRead(() -> queryMany(jdbcTemplate, sql, args, rClass));
+            }
+            
             byte[] data = serializer.serialize(
                     SelectRequest.builder().queryType(QueryType.QUERY_MANY_NO_MAPPER_WITH_ARGS).sql(sql).args(args)
                             .className(rClass.getCanonicalName()).build());
             
-            final boolean blockRead = EmbeddedStorageContextUtils
-                    .containsExtendInfo(Constants.EXTEND_NEED_READ_UNTIL_HAVE_DATA);
-            
             Response response = innerRead(
                     ReadRequest.newBuilder().setGroup(group()).setData(ByteString.copyFrom(data)).build(), blockRead);
             if (response.getSuccess()) {
@@ -340,13 +399,17 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
         try {
             LoggerUtils.printIfDebugEnabled(LogUtil.DEFAULT_LOG, "queryMany info : sql : {}, args : {}", sql, args);
             
+            final boolean blockRead = EmbeddedStorageContextUtils
+                    .containsExtendInfo(Constants.EXTEND_NEED_READ_UNTIL_HAVE_DATA);
+            
+            if (canReadLocally(blockRead)) {
+                return localRead(() -> queryMany(jdbcTemplate, sql, args));
+            }
+            
             byte[] data = serializer.serialize(
                     SelectRequest.builder().queryType(QueryType.QUERY_MANY_WITH_LIST_WITH_ARGS).sql(sql).args(args)
                             .build());
             
-            final boolean blockRead = EmbeddedStorageContextUtils
-                    .containsExtendInfo(Constants.EXTEND_NEED_READ_UNTIL_HAVE_DATA);
-            
             Response response = innerRead(
                     ReadRequest.newBuilder().setGroup(group()).setData(ByteString.copyFrom(data)).build(), blockRead);
             if (response.getSuccess()) {
@@ -359,6 +422,41 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
         }
     }
     
+    /**
+     * Whether the query can be executed against the local derby directly instead of the raft read path. Reads which
+     * need to wait for data are always sent to raft, the relaxed consistency levels read locally only when the leader
+     * lease is valid, or the local data lags no more than the max staleness for {@code follower-stale}.
+     *
+     * @param blockRead is async read operation
+     * @return {@code true} if read local derby directly
+     */
+    private boolean canReadLocally(boolean blockRead) {
+        final boolean followerStale = PropertiesConstant.READ_CONSISTENCY_FOLLOWER_STALE.equals(readConsistency);
+        // Only the known relaxed levels read locally, any other value is linearizable.
+        final boolean relaxed = followerStale || PropertiesConstant.READ_CONSISTENCY_LEADER_LEASE.equals(readConsistency);
+        if (blockRead || !relaxed) {
+            return false;
+        }
+        if (protocol.isLeaderLeaseValid(group())) {
+            MetricsMonitor.raftReadLocalLease();
+            return true;
+        }
+        if (followerStale && protocol.getReadStaleness(group()) <= readMaxStaleness) {
+            MetricsMonitor.raftReadLocalStale();
+            return true;
+        }
+        return false;
+    }
+    
+    private <R> R localRead(Supplier<R> query) {
+        readLock.lock();
+        try {
+            return query.get();
+        } finally {
+            readLock.unlock();
+        }
+    }
+    
     /**
      * In some business situations, you need to avoid the timeout issue, so blockRead is used to determine this.
      *
@@ -422,6 +520,10 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
             
             LoggerUtils.printIfDebugEnabled(LogUtil.DEFAULT_LOG, "modifyRequests info : {}", sqlContext);
             
+            if (Objects.nonNull(groupCommitter)) {
+                return groupCommitUpdate(sqlContext, consumer);
+            }
+            
             // {timestamp}-{group}-{ip:port}-{signature}
             
             final String key =
@@ -439,11 +541,8 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
                 LogUtil.DEFAULT_LOG.error("execute sql modify operation failed : {}", response.getErrMsg());
                 return false;
             } else {
-                this.protocol.writeAsync(request).whenComplete((BiConsumer<Response, Throwable>) (response, ex) -> {
-                    String errMsg = Objects.isNull(ex) ? response.getErrMsg() : ExceptionUtil.getCause(ex).getMessage();
-                    consumer.accept(response.getSuccess(),
-                            StringUtils.isBlank(errMsg) ? null : new NJdbcException(errMsg));
-                });
+                this.protocol.writeAsync(request).whenComplete(
+                        (BiConsumer<Response, Throwable>) (response, ex) -> acceptResponse(consumer, response, ex));
             }
             return true;
         } catch (TimeoutException e) {
@@ -455,6 +554,62 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
         }
     }
     
+    private Boolean groupCommitUpdate(List<ModifyRequest> sqlContext, BiConsumer<Boolean, Throwable> consumer)
+            throws Exception {
+        CompletableFuture<Response> future = groupCommitter
+                .commit(new GroupCommitRequest(sqlContext, EmbeddedStorageContextUtils.getCurrentExtendInfo()));
+        if (Objects.nonNull(consumer)) {
+            future.whenComplete((response, ex) -> acceptResponse(consumer, response, ex));
+            return true;
+        }
+        Response response = future.get(GROUP_COMMIT_TIMEOUT_MILLS, TimeUnit.MILLISECONDS);
+        if (response.getSuccess()) {
+            return true;
+        }
+        LogUtil.DEFAULT_LOG.error("execute sql modify operation failed : {}", response.getErrMsg());
+        return false;
+    }
+    
+    private void acceptResponse(BiConsumer<Boolean, Throwable> consumer, Response response, Throwable ex) {
+        String errMsg = Objects.isNull(ex) ? response.getErrMsg() : ExceptionUtil.getCause(ex).getMessage();
+        consumer.accept(Objects.isNull(ex) && response.getSuccess(),
+                StringUtils.isBlank(errMsg) ? null : new NJdbcException(errMsg));
+    }
+    
+    /**
+     * Write a group of updates by one raft log, and split the result to each update.
+     *
+     * @param requests group of updates
+     * @return future of the responses, in the order of requests
+     */
+    private CompletableFuture<List<Response>> groupCommit(List<GroupCommitRequest> requests) {
+        // {timestamp}-{group}-{ip:port}-group-{size}
+        final String key = System.currentTimeMillis() + "-" + group() + "-" + memberManager.getSelf().getAddress()
+                + "-group-" + requests.size();
+        WriteRequest request = WriteRequest.newBuilder().setGroup(group()).setKey(key)
+                .setData(ByteString.copyFrom(serializer.serialize(requests)))
+                .putExtendInfo(GROUP_COMMIT_KEY, Boolean.TRUE.toString())
+                .setType(requests.getClass().getCanonicalName()).build();
+        CompletableFuture<Response> future = protocol.writeAsync(request);
+        return future.thenApply(response -> splitGroupResponse(response, requests.size()));
+    }
+    
+    private List<Response> splitGroupResponse(Response response, int size) {
+        if (!response.getSuccess()) {
+            return Collections.nCopies(size, response);
+        }
+        List<String> errMsgs = serializer.deserialize(response.getData().toByteArray(), List.class);
+        List<Response> result = new ArrayList<>(size);
+        for (String each : errMsgs) {
+            if (Objects.isNull(each)) {
+                result.add(Response.newBuilder().setSuccess(true).build());
+            } else {
+                result.add(Response.newBuilder().setSuccess(false).setErrMsg(each).build());
+            }
+        }
+        return result;
+    }
+    
     @Override
     public List<SnapshotOperation> loadSnapshotOperate() {
         return Collections.singletonList(new DerbySnapshotOperation(writeLock));
@@ -515,6 +670,9 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
         LoggerUtils.printIfDebugEnabled(LogUtil.DEFAULT_LOG, "onApply info : log : {}", log);
         final ByteString byteString = log.getData();
         Preconditions.checkArgument(byteString != null, "Log.getData() must not null");
+        if (log.containsExtendInfo(GROUP_COMMIT_KEY)) {
+            return onApplyGroupCommit(byteString);
+        }
         List<ModifyRequest> sqlContext = serializer.deserialize(byteString.toByteArray(), List.class);
         final Lock lock = readLock;
         lock.lock();
@@ -544,6 +702,54 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
         }
     }
     
+    /**
+     * Apply a group of updates in one derby transaction. Each update is isolated by a savepoint, so that the sql error of
+     * one update only rolls back itself.
+     */
+    private Response onApplyGroupCommit(ByteString byteString) {
+        List<GroupCommitRequest> requests = serializer.deserialize(byteString.toByteArray(), List.class);
+        final Lock lock = readLock;
+        lock.lock();
+        try {
+            List<String> errMsgs = transactionTemplate.execute(status -> applyGroupCommit(status, requests));
+            // Same as single update, post processing the extend info of committed updates in asynchronous thread pool
+            ConfigExecutor.executeEmbeddedDump(() -> {
+                for (int i = 0; i < requests.size(); i++) {
+                    if (null == errMsgs.get(i)) {
+                        handleExtendInfo(requests.get(i).getExtendInfo());
+                    }
+                }
+            });
+            return Response.newBuilder().setSuccess(true).setData(ByteString.copyFrom(serializer.serialize(errMsgs)))
+                    .build();
+        } catch (DataAccessException e) {
+            throw new ConsistencyException(e.toString());
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private List<String> applyGroupCommit(TransactionStatus status, List<GroupCommitRequest> requests) {
+        List<String> result = new ArrayList<>(requests.size());
+        for (GroupCommitRequest each : requests) {
+            List<ModifyRequest> sqlContext = each.getModifyRequests();
+            sqlContext.sort(Comparator.comparingInt(ModifyRequest::getExecuteNo));
+            Object savepoint = status.createSavepoint();
+            try {
+                for (ModifyRequest modifyRequest : sqlContext) {
+                    jdbcTemplate.update(modifyRequest.getSql(), modifyRequest.getArgs());
+                }
+                status.releaseSavepoint(savepoint);
+                result.add(null);
+            } catch (BadSqlGrammarException | DataIntegrityViolationException e) {
+                LogUtil.FATAL_LOG.error("[db-error] group commit sql : {}, error : {}", sqlContext, e.toString());
+                status.rollbackToSavepoint(savepoint);
+                result.add(e.toString());
+            }
+        }
+        return result;
+    }
+    
     @Override
     public void onError(Throwable throwable) {
         // Trigger reversion strategy
@@ -0,0 +1,148 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.repository.embedded;
+
+import com.alibaba.nacos.config.server.service.sql.GroupCommitRequest;
+import com.alibaba.nacos.config.server.utils.LogUtil;
+import com.alibaba.nacos.consistency.entity.Response;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Group committer of the embedded storage.
+ *
+ * <p>Concurrent updates are accumulated for a short window and written by one raft log, so that the cost of raft
+ * replication and derby transaction is shared by all of them. The group is written at once when it reaches the max
+ * size. Each update is still completed by its own {@link Response}.
+ *
+ * @author xiweng.yy
+ */
+public class EmbeddedStorageGroupCommitter {
+    
+    private final Queue<PendingCommit> pendingCommits = new ConcurrentLinkedQueue<>();
+    
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    
+    private final long windowMillis;
+    
+    private final int maxSize;
+    
+    private final ScheduledExecutorService executor;
+    
+    private final Function<List<GroupCommitRequest>, CompletableFuture<List<Response>>> groupWriter;
+    
+    /**
+     * Create a group committer.
+     *
+     * @param windowMillis max milliseconds an update waits for others
+     * @param maxSize      max count of updates written by one raft log
+     * @param executor     executor to write the groups, should be single thread to keep the order of groups
+     * @param groupWriter  writer of one group, the responses should be in the order of the requests
+     */
+    public EmbeddedStorageGroupCommitter(long windowMillis, int maxSize, ScheduledExecutorService executor,
+            Function<List<GroupCommitRequest>, CompletableFuture<List<Response>>> groupWriter) {
+        this.windowMillis = windowMillis;
+        this.maxSize = Math.max(1, maxSize);
+        this.executor = executor;
+        this.groupWriter = groupWriter;
+    }
+    
+    /**
+     * Commit an update with the next group.
+     *
+     * @param request update request
+     * @return future completed by the result of this update
+     */
+    public CompletableFuture<Response> commit(GroupCommitRequest request) {
+        PendingCommit pendingCommit = new PendingCommit(request);
+        pendingCommits.offer(pendingCommit);
+        if (pendingCount.incrementAndGet() >= maxSize) {
+            executor.execute(this::flush);
+        } else if (flushScheduled.compareAndSet(false, true)) {
+            executor.schedule(this::flush, windowMillis, TimeUnit.MILLISECONDS);
+        }
+        return pendingCommit.future;
+    }
+    
+    public int getPendingCount() {
+        return pendingCount.get();
+    }
+    
+    void flush() {
+        // Reset before draining so that the updates arrived during draining will schedule the next group.
+        flushScheduled.set(false);
+        List<PendingCommit> group = new ArrayList<>(Math.min(maxSize, Math.max(1, pendingCount.get())));
+        PendingCommit each;
+        while (null != (each = pendingCommits.poll())) {
+            pendingCount.decrementAndGet();
+            group.add(each);
+            if (group.size() >= maxSize) {
+                write(group);
+                group = new ArrayList<>(maxSize);
+            }
+        }
+        if (!group.isEmpty()) {
+            write(group);
+        }
+    }
+    
+    private void write(List<PendingCommit> group) {
+        List<GroupCommitRequest> requests = new ArrayList<>(group.size());
+        for (PendingCommit each : group) {
+            requests.add(each.request);
+        }
+        CompletableFuture<List<Response>> future;
+        try {
+            future = groupWriter.apply(requests);
+        } catch (Throwable ex) {
+            LogUtil.DEFAULT_LOG.error("write group of {} updates failed", group.size(), ex);
+            group.forEach(pending -> pending.future.completeExceptionally(ex));
+            return;
+        }
+        future.whenComplete((responses, ex) -> {
+            for (int i = 0; i < group.size(); i++) {
+                if (null != ex) {
+                    group.get(i).future.completeExceptionally(ex);
+                } else {
+                    group.get(i).future.complete(responses.get(i));
+                }
+            }
+        });
+    }
+    
+    private static class PendingCommit {
+        
+        private final GroupCommitRequest request;
+        
+        private final CompletableFuture<Response> future = new CompletableFuture<>();
+        
+        private PendingCommit(GroupCommitRequest request) {
+            this.request = request;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.sql;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * All modify statements and extend info of one update, several of which are group committed by one raft log.
+ *
+ * @author xiweng.yy
+ */
+public class GroupCommitRequest implements Serializable {
+    
+    private static final long serialVersionUID = -2571428837460389125L;
+    
+    private List<ModifyRequest> modifyRequests;
+    
+    private Map<String, String> extendInfo;
+    
+    public GroupCommitRequest() {
+    }
+    
+    public GroupCommitRequest(List<ModifyRequest> modifyRequests, Map<String, String> extendInfo) {
+        this.modifyRequests = new ArrayList<>(modifyRequests);
+        this.extendInfo = new HashMap<>(extendInfo);
+    }
+    
+    public List<ModifyRequest> getModifyRequests() {
+        return modifyRequests;
+    }
+    
+    public void setModifyRequests(List<ModifyRequest> modifyRequests) {
+        this.modifyRequests = modifyRequests;
+    }
+    
+    public Map<String, String> getExtendInfo() {
+        return extendInfo;
+    }
+    
+    public void setExtendInfo(Map<String, String> extendInfo) {
+        this.extendInfo = extendInfo;
+    }
+    
+    @Override
+    public String toString() {
+        return "GroupCommitRequest{" + "modifyRequests=" + modifyRequests + ", extendInfo=" + extendInfo + '}';
+    }
+}
@@ -65,6 +65,16 @@ public final class ConfigExecutor {
                     ThreadUtils.getSuitableThreadCount(),
                     new NameThreadFactory("com.alibaba.nacos.config.server.remote.ConfigChangeNotifier"));
     
+    /**
+     * Requests waiting for persist more than the capacity are rejected with overload response.
+     */
+    private static final int CONFIG_RPC_PERSIST_QUEUE_CAPACITY = 1 << 14;
+    
+    private static final Executor CONFIG_RPC_PERSIST_EXECUTOR = ExecutorFactory.Managed
+            .newFixedExecutorService(ClassUtils.getCanonicalName(Config.class), ThreadUtils.getSuitableThreadCount(),
+                    CONFIG_RPC_PERSIST_QUEUE_CAPACITY,
+                    new NameThreadFactory("com.alibaba.nacos.config.server.remote.persist"));
+    
     public static void scheduleConfigTask(Runnable command, long initialDelay, long delay, TimeUnit unit) {
         TIMER_EXECUTOR.scheduleWithFixedDelay(command, initialDelay, delay, unit);
     }
@@ -93,6 +103,10 @@ public final class ConfigExecutor {
         return ((ScheduledThreadPoolExecutor) ASYNC_CONFIG_CHANGE_NOTIFY_EXECUTOR).getQueue().size();
     }
     
+    public static Executor getConfigRpcPersistExecutor() {
+        return CONFIG_RPC_PERSIST_EXECUTOR;
+    }
+    
     public static ScheduledExecutorService getConfigSubServiceExecutor() {
         return CONFIG_SUB_SERVICE_EXECUTOR;
     }
@@ -16,12 +16,15 @@
 
 package com.alibaba.nacos.config.server.utils;
 
+import com.alibaba.nacos.common.utils.ThreadUtils;
 import com.alibaba.nacos.config.server.constant.PropertiesConstant;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import org.slf4j.Logger;
 import org.springframework.context.ApplicationContextInitializer;
 import org.springframework.context.ConfigurableApplicationContext;
 
+import java.util.Locale;
+
 /**
  * Properties util.
  *
@@ -102,6 +105,62 @@ public class PropertyUtil implements ApplicationContextInitializer<ConfigurableA
      */
     private static boolean embeddedStorage = EnvUtil.getStandaloneMode();
     
+    /**
+     * Whether to keep the dumped config content in memory.
+     */
+    private static boolean configContentCacheEnabled = false;
+    
+    /**
+     * The max total bytes of config content kept in memory.
+     */
+    private static int configContentCacheMaxSize = 64 * 1024 * 1024;
+    
+    /**
+     * The config content in memory larger than this bytes will be compressed.
+     */
+    private static int configContentCacheCompressThreshold = 8 * 1024;
+    
+    /**
+     * The storage type of the dumped config content, {@code file} or {@code mmap}.
+     */
+    private static String configDumpStorageType = "file";
+    
+    /**
+     * The bytes of each segment of the memory-mapped dump log.
+     */
+    private static int configDumpLogSegmentSize = 64 * 1024 * 1024;
+    
+    /**
+     * The worker count to dump configs when dump all.
+     */
+    private static int dumpAllParallelism = ThreadUtils.getSuitableThreadCount(1);
+    
+    /**
+     * The milliseconds to merge the config changes to one notify for each client, 0 means notify every change at once.
+     */
+    private static int configChangeNotifyBatchWindow = 0;
+    
+    /**
+     * The milliseconds to merge the concurrent updates of embedded storage to one raft log, 0 means one log each update.
+     */
+    private static int embeddedStorageGroupCommitWindow = 0;
+    
+    /**
+     * The max count of updates merged to one raft log of embedded storage.
+     */
+    private static int embeddedStorageGroupCommitMaxSize = 128;
+    
+    /**
+     * The consistency level of embedded storage reads, {@code linearizable}, {@code leader-lease} or
+     * {@code follower-stale}.
+     */
+    private static String embeddedStorageReadConsistency = PropertiesConstant.READ_CONSISTENCY_LINEARIZABLE;
+    
+    /**
+     * The max milliseconds of local data staleness allowed by {@code follower-stale} reads of embedded storage.
+     */
+    private static int embeddedStorageReadMaxStaleness = 1000;
+    
     public static int getNotifyConnectTimeout() {
         return notifyConnectTimeout;
     }
@@ -246,6 +305,108 @@ public class PropertyUtil implements ApplicationContextInitializer<ConfigurableA
         return EnvUtil.getStandaloneMode() && isEmbeddedStorage();
     }
     
+    public static boolean isConfigContentCacheEnabled() {
+        return configContentCacheEnabled;
+    }
+    
+    public static void setConfigContentCacheEnabled(boolean configContentCacheEnabled) {
+        PropertyUtil.configContentCacheEnabled = configContentCacheEnabled;
+    }
+    
+    public static int getConfigContentCacheMaxSize() {
+        return configContentCacheMaxSize;
+    }
+    
+    public static void setConfigContentCacheMaxSize(int configContentCacheMaxSize) {
+        PropertyUtil.configContentCacheMaxSize = configContentCacheMaxSize;
+    }
+    
+    public static int getConfigContentCacheCompressThreshold() {
+        return configContentCacheCompressThreshold;
+    }
+    
+    public static void setConfigContentCacheCompressThreshold(int configContentCacheCompressThreshold) {
+        PropertyUtil.configContentCacheCompressThreshold = configContentCacheCompressThreshold;
+    }
+    
+    public static String getConfigDumpStorageType() {
+        return configDumpStorageType;
+    }
+    
+    public static void setConfigDumpStorageType(String configDumpStorageType) {
+        PropertyUtil.configDumpStorageType = configDumpStorageType;
+    }
+    
+    public static int getConfigDumpLogSegmentSize() {
+        return configDumpLogSegmentSize;
+    }
+    
+    public static void setConfigDumpLogSegmentSize(int configDumpLogSegmentSize) {
+        PropertyUtil.configDumpLogSegmentSize = configDumpLogSegmentSize;
+    }
+    
+    public static int getDumpAllParallelism() {
+        return dumpAllParallelism;
+    }
+    
+    public static void setDumpAllParallelism(int dumpAllParallelism) {
+        PropertyUtil.dumpAllParallelism = dumpAllParallelism;
+    }
+    
+    public static int getConfigChangeNotifyBatchWindow() {
+        return configChangeNotifyBatchWindow;
+    }
+    
+    public static void setConfigChangeNotifyBatchWindow(int configChangeNotifyBatchWindow) {
+        PropertyUtil.configChangeNotifyBatchWindow = configChangeNotifyBatchWindow;
+    }
+    
+    public static int getEmbeddedStorageGroupCommitWindow() {
+        return embeddedStorageGroupCommitWindow;
+    }
+    
+    public static void setEmbeddedStorageGroupCommitWindow(int embeddedStorageGroupCommitWindow) {
+        PropertyUtil.embeddedStorageGroupCommitWindow = embeddedStorageGroupCommitWindow;
+    }
+    
+    public static int getEmbeddedStorageGroupCommitMaxSize() {
+        return embeddedStorageGroupCommitMaxSize;
+    }
+    
+    public static void setEmbeddedStorageGroupCommitMaxSize(int embeddedStorageGroupCommitMaxSize) {
+        PropertyUtil.embeddedStorageGroupCommitMaxSize = embeddedStorageGroupCommitMaxSize;
+    }
+    
+    public static String getEmbeddedStorageReadConsistency() {
+        return embeddedStorageReadConsistency;
+    }
+    
+    /**
+     * Set the read consistency of embedded storage, unknown value falls back to {@code linearizable}.
+     *
+     * @param embeddedStorageReadConsistency read consistency
+     */
+    public static void setEmbeddedStorageReadConsistency(String embeddedStorageReadConsistency) {
+        String consistency = null == embeddedStorageReadConsistency ? ""
+                : embeddedStorageReadConsistency.trim().toLowerCase(Locale.ROOT);
+        if (!PropertiesConstant.READ_CONSISTENCY_LINEARIZABLE.equals(consistency)
+                && !PropertiesConstant.READ_CONSISTENCY_LEADER_LEASE.equals(consistency)
+                && !PropertiesConstant.READ_CONSISTENCY_FOLLOWER_STALE.equals(consistency)) {
+            LOGGER.warn("unknown {} : {}, use {}", PropertiesConstant.EMBEDDED_STORAGE_READ_CONSISTENCY,
+                    embeddedStorageReadConsistency, PropertiesConstant.READ_CONSISTENCY_LINEARIZABLE);
+            consistency = PropertiesConstant.READ_CONSISTENCY_LINEARIZABLE;
+        }
+        PropertyUtil.embeddedStorageReadConsistency = consistency;
+    }
+    
+    public static int getEmbeddedStorageReadMaxStaleness() {
+        return embeddedStorageReadMaxStaleness;
+    }
+    
+    public static void setEmbeddedStorageReadMaxStaleness(int embeddedStorageReadMaxStaleness) {
+        PropertyUtil.embeddedStorageReadMaxStaleness = embeddedStorageReadMaxStaleness;
+    }
+    
     public static void setEmbeddedStorage(boolean embeddedStorage) {
         PropertyUtil.embeddedStorage = embeddedStorage;
     }
@@ -279,6 +440,27 @@ public class PropertyUtil implements ApplicationContextInitializer<ConfigurableA
             setDefaultMaxAggrSize(getInt(PropertiesConstant.DEFAULT_MAX_AGGR_SIZE, defaultMaxAggrSize));
             setCorrectUsageDelay(getInt(PropertiesConstant.CORRECT_USAGE_DELAY, correctUsageDelay));
             setInitialExpansionPercent(getInt(PropertiesConstant.INITIAL_EXPANSION_PERCENT, initialExpansionPercent));
+            // memory tier of config content
+            setConfigContentCacheEnabled(
+                    getBoolean(PropertiesConstant.CONFIG_CONTENT_CACHE_ENABLED, configContentCacheEnabled));
+            setConfigContentCacheMaxSize(
+                    getInt(PropertiesConstant.CONFIG_CONTENT_CACHE_MAX_SIZE, configContentCacheMaxSize));
+            setConfigContentCacheCompressThreshold(getInt(PropertiesConstant.CONFIG_CONTENT_CACHE_COMPRESS_THRESHOLD,
+                    configContentCacheCompressThreshold));
+            setConfigDumpStorageType(getString(PropertiesConstant.CONFIG_DUMP_STORAGE_TYPE, configDumpStorageType));
+            setConfigDumpLogSegmentSize(
+                    getInt(PropertiesConstant.CONFIG_DUMP_LOG_SEGMENT_SIZE, configDumpLogSegmentSize));
+            setDumpAllParallelism(getInt(PropertiesConstant.DUMP_ALL_PARALLELISM, dumpAllParallelism));
+            setConfigChangeNotifyBatchWindow(
+                    getInt(PropertiesConstant.CONFIG_CHANGE_NOTIFY_BATCH_WINDOW, configChangeNotifyBatchWindow));
+            setEmbeddedStorageGroupCommitWindow(
+                    getInt(PropertiesConstant.EMBEDDED_STORAGE_GROUP_COMMIT_WINDOW, embeddedStorageGroupCommitWindow));
+            setEmbeddedStorageGroupCommitMaxSize(getInt(PropertiesConstant.EMBEDDED_STORAGE_GROUP_COMMIT_MAX_SIZE,
+                    embeddedStorageGroupCommitMaxSize));
+            setEmbeddedStorageReadConsistency(
+                    getString(PropertiesConstant.EMBEDDED_STORAGE_READ_CONSISTENCY, embeddedStorageReadConsistency));
+            setEmbeddedStorageReadMaxStaleness(
+                    getInt(PropertiesConstant.EMBEDDED_STORAGE_READ_MAX_STALENESS, embeddedStorageReadMaxStaleness));
             // External data sources are used by default in cluster mode
             setUseExternalDB(PropertiesConstant.MYSQL
                     .equalsIgnoreCase(getString(PropertiesConstant.SPRING_DATASOURCE_PLATFORM, "")));
@@ -22,8 +22,10 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
 
 @RunWith(MockitoJUnitRunner.class)
 public class ConfigChangeListenContextTest {
@@ -65,8 +67,60 @@ public class ConfigChangeListenContextTest {
         configChangeListenContext.clearContextForConnectionId("connectionId");
         Map<String, String> connectionIdAfter = configChangeListenContext.getListenKeys("connectionId");
         Assert.assertNull(connectionIdAfter);
+        Assert.assertNull(configChangeListenContext.getListeners("groupKey"));
     }
 
+    @Test
+    public void testClearContextKeepOtherListeners() {
+        configChangeListenContext.addListen("groupKey", "md5", "connectionId");
+        configChangeListenContext.addListen("groupKey", "md5", "otherConnectionId");
+        configChangeListenContext.addListen("otherGroupKey", "md5", "connectionId");
+        configChangeListenContext.clearContextForConnectionId("connectionId");
+        Assert.assertEquals(Collections.singleton("otherConnectionId"),
+                configChangeListenContext.getListeners("groupKey"));
+        Assert.assertNull(configChangeListenContext.getListeners("otherGroupKey"));
+    }
+
+    @Test
+    public void testClearContextConcurrentlyWithAddListen() throws Exception {
+        int keyCount = 1000;
+        for (int round = 0; round < 20; round++) {
+            String connectionId = "connectionId" + round;
+            CountDownLatch start = new CountDownLatch(1);
+            Thread adder = new Thread(() -> {
+                awaitQuietly(start);
+                for (int i = 0; i < keyCount; i++) {
+                    configChangeListenContext.addListen("groupKey" + i, "md5", connectionId);
+                }
+            });
+            Thread cleaner = new Thread(() -> {
+                awaitQuietly(start);
+                while (adder.isAlive()) {
+                    configChangeListenContext.clearContextForConnectionId(connectionId);
+                }
+            });
+            adder.start();
+            cleaner.start();
+            start.countDown();
+            adder.join();
+            cleaner.join();
+            // every listen left by the race must still be reachable from the connection.
+            configChangeListenContext.clearContextForConnectionId(connectionId);
+            for (int i = 0; i < keyCount; i++) {
+                Assert.assertNull(configChangeListenContext.getListeners("groupKey" + i));
+            }
+            Assert.assertNull(configChangeListenContext.getListenKeys(connectionId));
+        }
+    }
+    
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
     @Test
     public void testGetListenKeys() {
         configChangeListenContext.addListen("groupKey", "md5", "connectionId");
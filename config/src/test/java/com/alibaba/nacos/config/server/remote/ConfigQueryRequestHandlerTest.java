@@ -42,6 +42,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 import static com.alibaba.nacos.api.common.Constants.ENCODE;
 import static org.mockito.Mockito.when;
@@ -99,4 +100,26 @@ public class ConfigQueryRequestHandlerTest {
         propertyUtilMockedStatic.close();
     }
     
-}
\ No newline at end of file
+    @Test
+    public void testHandleAsyncWithoutDirectRead() throws Exception {
+        MockedStatic<ConfigCacheService> configCacheServiceMockedStatic = Mockito.mockStatic(ConfigCacheService.class);
+        MockedStatic<PropertyUtil> propertyUtilMockedStatic = Mockito.mockStatic(PropertyUtil.class);
+        propertyUtilMockedStatic.when(PropertyUtil::isDirectRead).thenReturn(false);
+        final String groupKey = GroupKey2.getKey("dataId", "group", "");
+        configCacheServiceMockedStatic.when(() -> ConfigCacheService.tryReadLock(groupKey)).thenReturn(0);
+        
+        ConfigQueryRequest configQueryRequest = new ConfigQueryRequest();
+        configQueryRequest.setDataId("dataId");
+        configQueryRequest.setGroup("group");
+        RequestMeta requestMeta = new RequestMeta();
+        requestMeta.setClientIp("127.0.0.1");
+        CompletableFuture<ConfigQueryResponse> future = configQueryRequestHandler
+                .handleAsync(configQueryRequest, requestMeta);
+        Assert.assertTrue(future.isDone());
+        Assert.assertEquals(ConfigQueryResponse.CONFIG_NOT_FOUND, future.get().getErrorCode());
+        
+        configCacheServiceMockedStatic.close();
+        propertyUtilMockedStatic.close();
+    }
+    
+}
@@ -16,21 +16,38 @@
 
 package com.alibaba.nacos.config.server.remote;
 
+import com.alibaba.nacos.api.ability.ClientAbilities;
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchChangeNotifyRequest;
+import com.alibaba.nacos.api.remote.request.ServerRequest;
 import com.alibaba.nacos.config.server.model.event.LocalDataChangeEvent;
 import com.alibaba.nacos.config.server.utils.GroupKey2;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
+import com.alibaba.nacos.core.remote.Connection;
 import com.alibaba.nacos.core.remote.ConnectionManager;
+import com.alibaba.nacos.core.remote.ConnectionMeta;
 import com.alibaba.nacos.core.remote.RpcPushService;
 import com.alibaba.nacos.core.remote.control.TpsMonitorManager;
+import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
 @RunWith(MockitoJUnitRunner.class)
 public class RpcConfigChangeNotifierTest {
     
@@ -68,4 +85,36 @@ public class RpcConfigChangeNotifierTest {
         rpcConfigChangeNotifier.onEvent(new LocalDataChangeEvent(groupKey, true, betaIps));
         rpcConfigChangeNotifier.onEvent(new LocalDataChangeEvent(limitGroupKey));
     }
+    
+    @Test
+    public void testBatchNotify() {
+        PropertyUtil.setConfigChangeNotifyBatchWindow(10000);
+        try {
+            ClientAbilities abilities = new ClientAbilities();
+            abilities.getConfigAbility().setSupportBatchChangeNotify(true);
+            Connection connection = Mockito.mock(Connection.class);
+            when(connection.getAbilities()).thenReturn(abilities);
+            when(connection.getMetaInfo()).thenReturn(Mockito.mock(ConnectionMeta.class));
+            when(connectionManager.getConnection("connectionId")).thenReturn(connection);
+            when(tpsMonitorManager.applyTpsForClientIp(any(), any(), any())).thenReturn(true);
+            for (int i = 0; i < 3; i++) {
+                String groupKey = GroupKey2.getKey("dataId" + i, "group", "tenant");
+                when(configChangeListenContext.getListeners(groupKey))
+                        .thenReturn(Collections.singleton("connectionId"));
+                rpcConfigChangeNotifier.configDataChanged(groupKey, "dataId" + i, "group", "tenant", false, null, null);
+            }
+            // the same config changed twice in one batch window is notified once.
+            rpcConfigChangeNotifier.configDataChanged(GroupKey2.getKey("dataId0", "group", "tenant"), "dataId0",
+                    "group", "tenant", false, null, null);
+            verify(rpcPushService, never()).pushWithCallback(any(), any(), any(), any());
+            
+            rpcConfigChangeNotifier.flushBatchNotify("connectionId");
+            ArgumentCaptor<ServerRequest> captor = ArgumentCaptor.forClass(ServerRequest.class);
+            verify(rpcPushService, timeout(3000)).pushWithCallback(eq("connectionId"), captor.capture(), any(), any());
+            Assert.assertTrue(captor.getValue() instanceof ConfigBatchChangeNotifyRequest);
+            Assert.assertEquals(3, ((ConfigBatchChangeNotifyRequest) captor.getValue()).getChangedConfigs().size());
+        } finally {
+            PropertyUtil.setConfigChangeNotifyBatchWindow(0);
+        }
+    }
 }
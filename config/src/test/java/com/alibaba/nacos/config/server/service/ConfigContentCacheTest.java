@@ -0,0 +1,122 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service;
+
+import com.alibaba.nacos.config.server.monitor.MetricsMonitor;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+public class ConfigContentCacheTest {
+    
+    private final ConfigContentCache.ContentKey formalKey = ConfigContentCache.ContentKey.formal("dataId+group");
+    
+    private boolean embeddedStorage;
+    
+    private int maxSize;
+    
+    private int compressThreshold;
+    
+    @Before
+    public void setUp() {
+        EnvUtil.setEnvironment(new MockEnvironment());
+        embeddedStorage = PropertyUtil.isEmbeddedStorage();
+        maxSize = PropertyUtil.getConfigContentCacheMaxSize();
+        compressThreshold = PropertyUtil.getConfigContentCacheCompressThreshold();
+        PropertyUtil.setEmbeddedStorage(false);
+        PropertyUtil.setConfigContentCacheEnabled(true);
+    }
+    
+    @After
+    public void tearDown() {
+        ConfigContentCache.clear();
+        PropertyUtil.setEmbeddedStorage(embeddedStorage);
+        PropertyUtil.setConfigContentCacheEnabled(false);
+        PropertyUtil.setConfigContentCacheMaxSize(maxSize);
+        PropertyUtil.setConfigContentCacheCompressThreshold(compressThreshold);
+    }
+    
+    @Test
+    public void testPutAndGet() {
+        final long hit = MetricsMonitor.getConfigContentCacheHitMonitor().get();
+        final long miss = MetricsMonitor.getConfigContentCacheMissMonitor().get();
+        Assert.assertNull(ConfigContentCache.get(formalKey));
+        ConfigContentCache.put(formalKey, "content");
+        Assert.assertEquals("content", ConfigContentCache.get(formalKey));
+        Assert.assertNull(ConfigContentCache.get(ConfigContentCache.ContentKey.beta("dataId+group")));
+        Assert.assertNull(ConfigContentCache.get(ConfigContentCache.ContentKey.tag("dataId+group", "tag")));
+        Assert.assertEquals(hit + 1, MetricsMonitor.getConfigContentCacheHitMonitor().get());
+        Assert.assertEquals(miss + 3, MetricsMonitor.getConfigContentCacheMissMonitor().get());
+        Assert.assertEquals("content".length(), ConfigContentCache.totalBytes());
+        Assert.assertEquals(ConfigContentCache.totalBytes(),
+                MetricsMonitor.getConfigContentCacheBytesMonitor().get());
+        
+        ConfigContentCache.put(formalKey, "newContent");
+        Assert.assertEquals("newContent", ConfigContentCache.get(formalKey));
+        Assert.assertEquals("newContent".length(), ConfigContentCache.totalBytes());
+        
+        ConfigContentCache.remove(formalKey);
+        Assert.assertNull(ConfigContentCache.get(formalKey));
+        Assert.assertEquals(0, ConfigContentCache.totalBytes());
+    }
+    
+    @Test
+    public void testDisabled() {
+        PropertyUtil.setConfigContentCacheEnabled(false);
+        ConfigContentCache.put(formalKey, "content");
+        Assert.assertNull(ConfigContentCache.get(formalKey));
+        Assert.assertEquals(0, ConfigContentCache.size());
+    }
+    
+    @Test
+    public void testCompressLargeContent() {
+        PropertyUtil.setConfigContentCacheCompressThreshold(16);
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            content.append("key").append(i % 10).append("=value\n");
+        }
+        ConfigContentCache.put(formalKey, content.toString());
+        Assert.assertTrue(ConfigContentCache.totalBytes() < content.length());
+        Assert.assertEquals(content.toString(), ConfigContentCache.get(formalKey));
+    }
+    
+    @Test
+    public void testEvictLeastRecentlyAccessed() throws InterruptedException {
+        PropertyUtil.setConfigContentCacheMaxSize(25);
+        ConfigContentCache.ContentKey key1 = ConfigContentCache.ContentKey.formal("dataId1+group");
+        final ConfigContentCache.ContentKey key2 = ConfigContentCache.ContentKey.formal("dataId2+group");
+        ConfigContentCache.put(formalKey, "0123456789");
+        Thread.sleep(1);
+        ConfigContentCache.put(key1, "0123456789");
+        Thread.sleep(1);
+        Assert.assertNotNull(ConfigContentCache.get(formalKey));
+        Thread.sleep(1);
+        ConfigContentCache.put(key2, "0123456789");
+        Assert.assertNull(ConfigContentCache.get(key1));
+        Assert.assertNotNull(ConfigContentCache.get(formalKey));
+        Assert.assertNotNull(ConfigContentCache.get(key2));
+        Assert.assertEquals(20, ConfigContentCache.totalBytes());
+        
+        // content larger than max size is never kept in memory.
+        ConfigContentCache.put(key1, "012345678901234567890123456789");
+        Assert.assertNull(ConfigContentCache.get(key1));
+    }
+}
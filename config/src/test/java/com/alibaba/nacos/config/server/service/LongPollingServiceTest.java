@@ -0,0 +1,117 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service;
+
+import com.alibaba.nacos.config.server.utils.GroupKey;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class LongPollingServiceTest {
+    
+    private final String groupKey = GroupKey.getKeyTenant("dataId", "group", "");
+    
+    private LongPollingService longPollingService;
+    
+    @Before
+    public void setUp() {
+        longPollingService = new LongPollingService();
+    }
+    
+    private LongPollingService.ClientLongPolling buildClient(String ip, AsyncContext asyncContext, String... groupKeys) {
+        Map<String, String> clientMd5Map = new HashMap<>(groupKeys.length);
+        for (String each : groupKeys) {
+            clientMd5Map.put(each, "md5");
+        }
+        return longPollingService.new ClientLongPolling(asyncContext, clientMd5Map, ip, clientMd5Map.size(), 30000L,
+                "app", null);
+    }
+    
+    @Test
+    public void testAddAndRemoveLongPollingClient() {
+        String otherGroupKey = GroupKey.getKeyTenant("otherDataId", "group", "");
+        LongPollingService.ClientLongPolling client1 = buildClient("1.1.1.1", mock(AsyncContext.class), groupKey,
+                otherGroupKey);
+        LongPollingService.ClientLongPolling client2 = buildClient("1.1.1.2", mock(AsyncContext.class), groupKey);
+        longPollingService.addLongPollingClient(client1);
+        longPollingService.addLongPollingClient(client2);
+        Assert.assertEquals(2, longPollingService.getLongPollingClients(groupKey).size());
+        Assert.assertEquals(Collections.singleton(client1), longPollingService.getLongPollingClients(otherGroupKey));
+        Assert.assertEquals("md5", longPollingService.getSubscribleInfo("otherDataId", "group", "")
+                .getLisentersGroupkeyStatus().get("1.1.1.1"));
+        
+        Assert.assertTrue(longPollingService.removeLongPollingClient(client1));
+        Assert.assertFalse(longPollingService.removeLongPollingClient(client1));
+        Assert.assertEquals(Collections.singleton(client2), longPollingService.getLongPollingClients(groupKey));
+        Assert.assertTrue(longPollingService.getLongPollingClients(otherGroupKey).isEmpty());
+        Assert.assertFalse(longPollingService.groupKeySubs.containsKey(otherGroupKey));
+        Assert.assertTrue(longPollingService.removeLongPollingClient(client2));
+        Assert.assertTrue(longPollingService.groupKeySubs.isEmpty());
+        Assert.assertTrue(longPollingService.allSubs.isEmpty());
+    }
+    
+    @Test
+    public void testDataChangeOnlyNotifyListeners() throws Exception {
+        AsyncContext otherContext = mock(AsyncContext.class);
+        int otherClientCount = 1000;
+        for (int i = 0; i < otherClientCount; i++) {
+            longPollingService.addLongPollingClient(
+                    buildClient("2.2.2.2", otherContext, GroupKey.getKeyTenant("dataId" + i, "group", "")));
+        }
+        AsyncContext listenerContext = mock(AsyncContext.class);
+        when(listenerContext.getRequest()).thenReturn(mock(HttpServletRequest.class));
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        when(response.getWriter()).thenReturn(new PrintWriter(new StringWriter()));
+        when(listenerContext.getResponse()).thenReturn(response);
+        longPollingService.addLongPollingClient(buildClient("1.1.1.1", listenerContext, groupKey));
+        
+        longPollingService.new DataChangeTask(groupKey, false, null).run();
+        
+        verify(listenerContext).complete();
+        verify(otherContext, never()).complete();
+        Assert.assertEquals(otherClientCount, longPollingService.allSubs.size());
+        Assert.assertTrue(longPollingService.getLongPollingClients(groupKey).isEmpty());
+    }
+    
+    @Test
+    public void testDataChangeSkipNotBetaClient() {
+        AsyncContext asyncContext = mock(AsyncContext.class);
+        longPollingService.addLongPollingClient(buildClient("1.1.1.1", asyncContext, groupKey));
+        
+        longPollingService.new DataChangeTask(groupKey, true, Collections.singletonList("1.1.1.2")).run();
+        
+        verify(asyncContext, never()).complete();
+        Assert.assertEquals(1, longPollingService.getLongPollingClients(groupKey).size());
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import com.alibaba.nacos.common.utils.MD5Utils;
+import com.alibaba.nacos.config.server.constant.Constants;
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+public class ConfigMmapDiskServiceImplTest {
+    
+    private File baseDir;
+    
+    private ConfigMmapDiskServiceImpl diskService;
+    
+    @Before
+    public void setUp() throws IOException {
+        baseDir = Files.createTempDirectory("config-dump-log").toFile();
+        diskService = new ConfigMmapDiskServiceImpl(baseDir, 4096);
+    }
+    
+    @After
+    public void tearDown() {
+        FileUtils.deleteQuietly(baseDir);
+    }
+    
+    @Test
+    public void testSaveAndGet() throws IOException {
+        diskService.saveToDisk("dataId", "group", "tenant", "formal");
+        diskService.saveBetaToDisk("dataId", "group", "tenant", "beta");
+        diskService.saveTagToDisk("dataId", "group", "tenant", "tag", "tag");
+        Assert.assertEquals("formal", diskService.getContent("dataId", "group", "tenant"));
+        Assert.assertEquals("beta", diskService.getBetaContent("dataId", "group", "tenant"));
+        Assert.assertEquals("tag", diskService.getTagContent("dataId", "group", "tenant", "tag"));
+        Assert.assertTrue(diskService.isConfigExist("dataId", "group", "tenant"));
+        Assert.assertFalse(diskService.isConfigExist("dataId", "group", ""));
+        Assert.assertEquals(MD5Utils.md5Hex("formal", Constants.ENCODE),
+                diskService.getLocalConfigMd5("dataId", "group", "tenant"));
+        Assert.assertEquals(MD5Utils.md5Hex("", Constants.ENCODE),
+                diskService.getLocalConfigMd5("dataId", "group", ""));
+    }
+    
+    @Test
+    public void testTagNotCollideWithTenant() throws IOException {
+        diskService.saveTagToDisk("dataId", "group", "tenant", "tag", "withTenant");
+        diskService.saveTagToDisk("dataId", "group", "", "tenant+tag", "withoutTenant");
+        Assert.assertEquals("withTenant", diskService.getTagContent("dataId", "group", "tenant", "tag"));
+        Assert.assertEquals("withoutTenant", diskService.getTagContent("dataId", "group", "", "tenant+tag"));
+    }
+    
+    @Test
+    public void testRemoveAndClear() throws IOException {
+        diskService.saveToDisk("dataId", "group", "tenant", "formal");
+        diskService.saveBetaToDisk("dataId", "group", "tenant", "beta");
+        diskService.saveTagToDisk("dataId", "group", "tenant", "tag", "tag");
+        diskService.removeConfigInfo4Beta("dataId", "group", "tenant");
+        Assert.assertNull(diskService.getBetaContent("dataId", "group", "tenant"));
+        diskService.clearAllTag();
+        Assert.assertFalse(diskService.isTagConfigExist("dataId", "group", "tenant", "tag"));
+        Assert.assertEquals("formal", diskService.getContent("dataId", "group", "tenant"));
+        diskService.clearAll();
+        Assert.assertNull(diskService.getContent("dataId", "group", "tenant"));
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+public class MappedLogStoreTest {
+    
+    private static final int SEGMENT_SIZE = 1024;
+    
+    private File baseDir;
+    
+    private MappedLogStore store;
+    
+    @Before
+    public void setUp() throws IOException {
+        baseDir = Files.createTempDirectory("mapped-log").toFile();
+        store = new MappedLogStore(baseDir, SEGMENT_SIZE);
+    }
+    
+    @After
+    public void tearDown() {
+        store.close();
+        FileUtils.deleteQuietly(baseDir);
+    }
+    
+    @Test
+    public void testPutGetRemove() throws IOException {
+        store.put("key", "value");
+        Assert.assertEquals("value", store.get("key"));
+        store.put("key", "新的value");
+        Assert.assertEquals("新的value", store.get("key"));
+        Assert.assertTrue(store.contains("key"));
+        store.remove("key");
+        Assert.assertNull(store.get("key"));
+        Assert.assertFalse(store.contains("key"));
+        Assert.assertEquals(0, store.size());
+    }
+    
+    @Test
+    public void testRemoveByPrefix() throws IOException {
+        store.put("Fa", "1");
+        store.put("Fb", "2");
+        store.put("Ba", "3");
+        store.removeByPrefix("F");
+        Assert.assertEquals(1, store.size());
+        Assert.assertEquals("3", store.get("Ba"));
+    }
+    
+    @Test
+    public void testRecover() throws IOException {
+        for (int i = 0; i < 100; i++) {
+            store.put("key" + i, "value" + i);
+        }
+        store.put("key0", "newValue");
+        store.remove("key1");
+        store.close();
+        
+        store = new MappedLogStore(baseDir, SEGMENT_SIZE);
+        Assert.assertEquals(99, store.size());
+        Assert.assertEquals("newValue", store.get("key0"));
+        Assert.assertNull(store.get("key1"));
+        Assert.assertEquals("value99", store.get("key99"));
+    }
+    
+    @Test
+    public void testRecoverDropTornRecord() throws IOException {
+        store.put("k", "v");
+        store.close();
+        // record of k: body length(4) + crc(4) + op(1) + key length(4) + key(1) + value(1)
+        File segment = baseDir.listFiles()[0];
+        try (RandomAccessFile raf = new RandomAccessFile(segment, "rw")) {
+            raf.seek(15);
+            raf.writeInt(20);
+            raf.writeInt(12345);
+            raf.write(new byte[] {1, 2, 3});
+        }
+        
+        store = new MappedLogStore(baseDir, SEGMENT_SIZE);
+        Assert.assertEquals(1, store.size());
+        Assert.assertEquals("v", store.get("k"));
+        store.put("k2", "v2");
+        store.close();
+        
+        store = new MappedLogStore(baseDir, SEGMENT_SIZE);
+        Assert.assertEquals(2, store.size());
+        Assert.assertEquals("v2", store.get("k2"));
+    }
+    
+    @Test
+    public void testCompact() throws IOException {
+        store.put("stable", "stable");
+        for (int i = 0; i < 1000; i++) {
+            store.put("hot", "value" + i);
+        }
+        Assert.assertTrue(store.segmentCount() <= 2);
+        Assert.assertEquals("stable", store.get("stable"));
+        Assert.assertEquals("value999", store.get("hot"));
+        store.close();
+        
+        store = new MappedLogStore(baseDir, SEGMENT_SIZE);
+        Assert.assertEquals(2, store.size());
+        Assert.assertEquals("stable", store.get("stable"));
+        Assert.assertEquals("value999", store.get("hot"));
+    }
+    
+    @Test
+    public void testCompactNotBringBackRemoved() throws IOException {
+        store.put("removed", "value");
+        store.remove("removed");
+        for (int i = 0; i < 1000; i++) {
+            store.put("hot", "value" + i);
+        }
+        store.close();
+        
+        store = new MappedLogStore(baseDir, SEGMENT_SIZE);
+        Assert.assertNull(store.get("removed"));
+        Assert.assertEquals(1, store.size());
+    }
+    
+    @Test
+    public void testValueLargerThanSegment() throws IOException {
+        char[] chars = new char[SEGMENT_SIZE * 2];
+        Arrays.fill(chars, 'a');
+        final String large = new String(chars);
+        store.put("large", large);
+        store.put("small", "small");
+        Assert.assertEquals(large, store.get("large"));
+        store.close();
+        
+        store = new MappedLogStore(baseDir, SEGMENT_SIZE);
+        Assert.assertEquals(large, store.get("large"));
+        Assert.assertEquals("small", store.get("small"));
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.processor;
+
+import com.alibaba.nacos.common.utils.MD5Utils;
+import com.alibaba.nacos.config.server.constant.Constants;
+import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
+import com.alibaba.nacos.config.server.model.Page;
+import com.alibaba.nacos.config.server.monitor.MetricsMonitor;
+import com.alibaba.nacos.config.server.service.ConfigCacheService;
+import com.alibaba.nacos.config.server.service.dump.DumpService;
+import com.alibaba.nacos.config.server.service.dump.task.DumpAllTask;
+import com.alibaba.nacos.config.server.service.repository.PersistService;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DumpAllProcessorTest {
+    
+    private static final int CONFIG_COUNT = 2500;
+    
+    @Mock
+    private DumpService dumpService;
+    
+    @Mock
+    private PersistService persistService;
+    
+    private boolean embeddedStorage;
+    
+    private int parallelism;
+    
+    @Before
+    public void setUp() {
+        EnvUtil.setEnvironment(new MockEnvironment());
+        EnvUtil.setIsStandalone(true);
+        embeddedStorage = PropertyUtil.isEmbeddedStorage();
+        parallelism = PropertyUtil.getDumpAllParallelism();
+        PropertyUtil.setEmbeddedStorage(true);
+        PropertyUtil.setDumpAllParallelism(4);
+        when(dumpService.getPersistService()).thenReturn(persistService);
+    }
+    
+    @After
+    public void tearDown() {
+        EnvUtil.setIsStandalone(null);
+        PropertyUtil.setEmbeddedStorage(embeddedStorage);
+        PropertyUtil.setDumpAllParallelism(parallelism);
+    }
+    
+    @Test
+    public void testProcessDumpAllPages() {
+        when(persistService.findConfigMaxId()).thenReturn((long) CONFIG_COUNT);
+        when(persistService.findAllConfigInfoFragment(anyLong(), anyInt())).thenAnswer(invocation -> {
+            long lastMaxId = invocation.getArgument(0);
+            int pageSize = invocation.getArgument(1);
+            Page<ConfigInfoWrapper> page = new Page<>();
+            List<ConfigInfoWrapper> items = new ArrayList<>();
+            for (long id = lastMaxId + 1; id <= Math.min(lastMaxId + pageSize, CONFIG_COUNT); id++) {
+                items.add(buildConfig(id));
+            }
+            page.setPageItems(items);
+            return page;
+        });
+        
+        Assert.assertTrue(new DumpAllProcessor(dumpService).process(new DumpAllTask()));
+        
+        Assert.assertEquals(CONFIG_COUNT, MetricsMonitor.getDumpAllCountMonitor().get());
+        for (long id = 1; id <= CONFIG_COUNT; id++) {
+            String groupKey = GroupKey2.getKey("dumpAll" + id, "group", "");
+            Assert.assertEquals(MD5Utils.md5Hex("content" + id, Constants.ENCODE),
+                    ConfigCacheService.getContentMd5(groupKey));
+        }
+    }
+    
+    private ConfigInfoWrapper buildConfig(long id) {
+        ConfigInfoWrapper result = new ConfigInfoWrapper();
+        result.setId(id);
+        result.setDataId("dumpAll" + id);
+        result.setGroup("group");
+        result.setTenant("");
+        result.setContent("content" + id);
+        result.setLastModified(id);
+        return result;
+    }
+}
@@ -0,0 +1,293 @@
+/*
+ * Copyright 1999-2018 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.repository.embedded;
+
+import com.alibaba.nacos.common.notify.Event;
+import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.common.utils.JacksonUtils;
+import com.alibaba.nacos.config.server.constant.Constants;
+import com.alibaba.nacos.config.server.constant.PropertiesConstant;
+import com.alibaba.nacos.config.server.model.event.ConfigDumpEvent;
+import com.alibaba.nacos.config.server.service.sql.EmbeddedStorageContextUtils;
+import com.alibaba.nacos.config.server.service.sql.GroupCommitRequest;
+import com.alibaba.nacos.config.server.service.sql.ModifyRequest;
+import com.alibaba.nacos.config.server.utils.ConfigExecutor;
+import com.alibaba.nacos.consistency.SerializeFactory;
+import com.alibaba.nacos.consistency.Serializer;
+import com.alibaba.nacos.consistency.cp.CPProtocol;
+import com.alibaba.nacos.consistency.entity.ReadRequest;
+import com.alibaba.nacos.consistency.entity.Response;
+import com.alibaba.nacos.consistency.entity.WriteRequest;
+import com.alibaba.nacos.core.cluster.Member;
+import com.alibaba.nacos.core.cluster.ServerMemberManager;
+import com.alibaba.nacos.core.distributed.ProtocolManager;
+import com.google.protobuf.ByteString;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DistributedDatabaseOperateImplTest {
+    
+    private static final String GROUP_COMMIT_KEY = "00--0-group_commit-0--00";
+    
+    private static final AtomicInteger DATABASE_ID = new AtomicInteger();
+    
+    private static final Integer RAFT_READ_COUNT = 5;
+    
+    private final Serializer serializer = SerializeFactory.getDefault();
+    
+    @Mock
+    private ServerMemberManager memberManager;
+    
+    @Mock
+    private ProtocolManager protocolManager;
+    
+    @Mock
+    private CPProtocol protocol;
+    
+    private DistributedDatabaseOperateImpl operate;
+    
+    private JdbcTemplate jdbcTemplate;
+    
+    private ScheduledExecutorService groupCommitExecutor;
+    
+    @Before
+    public void setUp() throws Exception {
+        when(protocolManager.getCpProtocol()).thenReturn(protocol);
+        operate = new DistributedDatabaseOperateImpl(memberManager, protocolManager) {
+            
+            @Override
+            protected void init() {
+            }
+        };
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:derby:memory:groupCommit" + DATABASE_ID.incrementAndGet() + ";create=true");
+        dataSource.setDriverClassName("org.apache.derby.jdbc.EmbeddedDriver");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE test_item (id INT PRIMARY KEY, val VARCHAR(16))");
+        ReflectionTestUtils.setField(operate, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(operate, "transactionTemplate",
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)));
+    }
+    
+    @After
+    public void tearDown() {
+        if (null != groupCommitExecutor) {
+            groupCommitExecutor.shutdownNow();
+        }
+    }
+    
+    @Test
+    public void testApplyGroupCommitRollbackOnlyFailedUpdate() {
+        List<GroupCommitRequest> requests = new ArrayList<>();
+        requests.add(new GroupCommitRequest(Collections.singletonList(insert(1, "a", 0)), dumpExtendInfo("a")));
+        requests.add(new GroupCommitRequest(Arrays.asList(insert(2, "b", 0), insert(1, "dup", 1)),
+                dumpExtendInfo("b")));
+        requests.add(new GroupCommitRequest(Collections.singletonList(insert(3, "c", 0)), dumpExtendInfo("c")));
+        try (MockedStatic<ConfigExecutor> executorMocked = Mockito.mockStatic(ConfigExecutor.class);
+                MockedStatic<NotifyCenter> notifyCenterMocked = Mockito.mockStatic(NotifyCenter.class)) {
+            Response response = operate.onApply(groupCommitLog(requests));
+            
+            Assert.assertTrue(response.getSuccess());
+            List<String> errMsgs = serializer.deserialize(response.getData().toByteArray(), List.class);
+            Assert.assertEquals(3, errMsgs.size());
+            Assert.assertNull(errMsgs.get(0));
+            Assert.assertNotNull(errMsgs.get(1));
+            Assert.assertNull(errMsgs.get(2));
+            // The failed update rolls back to its own savepoint, the others are committed.
+            Assert.assertEquals(Arrays.asList("a", "c"),
+                    jdbcTemplate.queryForList("SELECT val FROM test_item ORDER BY id", String.class));
+            
+            ArgumentCaptor<Runnable> dumpTask = ArgumentCaptor.forClass(Runnable.class);
+            executorMocked.verify(() -> ConfigExecutor.executeEmbeddedDump(dumpTask.capture()));
+            dumpTask.getValue().run();
+            ArgumentCaptor<Event> events = ArgumentCaptor.forClass(Event.class);
+            notifyCenterMocked.verify(() -> NotifyCenter.publishEvent(events.capture()), Mockito.times(2));
+            Assert.assertEquals("a", ((ConfigDumpEvent) events.getAllValues().get(0)).getDataId());
+            Assert.assertEquals("c", ((ConfigDumpEvent) events.getAllValues().get(1)).getDataId());
+        }
+    }
+    
+    @Test
+    public void testGroupCommitCompleteEachCallerByItsOwnResult() throws Exception {
+        Member self = Mockito.mock(Member.class);
+        when(self.getAddress()).thenReturn("127.0.0.1:8848");
+        when(memberManager.getSelf()).thenReturn(self);
+        // Apply the raft log locally as the leader does.
+        when(protocol.writeAsync(any(WriteRequest.class))).thenAnswer(
+                invocationOnMock -> CompletableFuture.completedFuture(operate.onApply(invocationOnMock.getArgument(0))));
+        groupCommitExecutor = Executors.newSingleThreadScheduledExecutor();
+        ReflectionTestUtils.setField(operate, "groupCommitter",
+                new EmbeddedStorageGroupCommitter(60000L, 3, groupCommitExecutor,
+                        requests -> ReflectionTestUtils.invokeMethod(operate, "groupCommit", requests)));
+        
+        List<CompletableFuture<Boolean>> results = new ArrayList<>();
+        List<CompletableFuture<Throwable>> errors = new ArrayList<>();
+        List<List<ModifyRequest>> updates = Arrays.asList(Collections.singletonList(insert(1, "a", 0)),
+                Arrays.asList(insert(2, "b", 0), insert(1, "dup", 1)), Collections.singletonList(insert(3, "c", 0)));
+        for (List<ModifyRequest> each : updates) {
+            CompletableFuture<Boolean> result = new CompletableFuture<>();
+            CompletableFuture<Throwable> error = new CompletableFuture<>();
+            Assert.assertTrue(operate.update(each, (success, throwable) -> {
+                error.complete(throwable);
+                result.complete(success);
+            }));
+            results.add(result);
+            errors.add(error);
+        }
+        
+        Assert.assertTrue(results.get(0).get(5L, TimeUnit.SECONDS));
+        Assert.assertNull(errors.get(0).get());
+        Assert.assertFalse(results.get(1).get(5L, TimeUnit.SECONDS));
+        Assert.assertNotNull(errors.get(1).get());
+        Assert.assertTrue(results.get(2).get(5L, TimeUnit.SECONDS));
+        Assert.assertNull(errors.get(2).get());
+        Mockito.verify(protocol).writeAsync(any(WriteRequest.class));
+        Assert.assertEquals(Arrays.asList("a", "c"),
+                jdbcTemplate.queryForList("SELECT val FROM test_item ORDER BY id", String.class));
+    }
+    
+    @Test
+    public void testLinearizableReadThroughRaft() throws Exception {
+        setReadConsistency(PropertiesConstant.READ_CONSISTENCY_LINEARIZABLE);
+        mockRaftRead();
+        Assert.assertEquals(RAFT_READ_COUNT, readCount());
+        Mockito.verify(protocol, Mockito.never()).isLeaderLeaseValid(any());
+    }
+    
+    @Test
+    public void testLeaderLeaseReadLocally() throws Exception {
+        setReadConsistency(PropertiesConstant.READ_CONSISTENCY_LEADER_LEASE);
+        when(protocol.isLeaderLeaseValid(operate.group())).thenReturn(true);
+        Assert.assertEquals(Integer.valueOf(0), readCount());
+        Mockito.verify(protocol, Mockito.never()).getData(any());
+    }
+    
+    @Test
+    public void testLeaderLeaseReadThroughRaftWithoutLease() throws Exception {
+        setReadConsistency(PropertiesConstant.READ_CONSISTENCY_LEADER_LEASE);
+        when(protocol.isLeaderLeaseValid(operate.group())).thenReturn(false);
+        mockRaftRead();
+        Assert.assertEquals(RAFT_READ_COUNT, readCount());
+        Mockito.verify(protocol, Mockito.never()).getReadStaleness(any());
+    }
+    
+    @Test
+    public void testFollowerStaleReadLocallyWithinStaleness() throws Exception {
+        setReadConsistency(PropertiesConstant.READ_CONSISTENCY_FOLLOWER_STALE);
+        when(protocol.isLeaderLeaseValid(operate.group())).thenReturn(false);
+        when(protocol.getReadStaleness(operate.group())).thenReturn(100L);
+        Assert.assertEquals(Integer.valueOf(0), readCount());
+        Mockito.verify(protocol, Mockito.never()).getData(any());
+    }
+    
+    @Test
+    public void testFollowerStaleReadThroughRaftBeyondStaleness() throws Exception {
+        setReadConsistency(PropertiesConstant.READ_CONSISTENCY_FOLLOWER_STALE);
+        when(protocol.isLeaderLeaseValid(operate.group())).thenReturn(false);
+        when(protocol.getReadStaleness(operate.group())).thenReturn(2000L);
+        mockRaftRead();
+        Assert.assertEquals(RAFT_READ_COUNT, readCount());
+    }
+    
+    @Test
+    public void testBlockReadAlwaysThroughRaft() {
+        setReadConsistency(PropertiesConstant.READ_CONSISTENCY_FOLLOWER_STALE);
+        when(protocol.aGetData(any(ReadRequest.class))).thenReturn(CompletableFuture.completedFuture(raftReadResponse()));
+        EmbeddedStorageContextUtils.putExtendInfo(Constants.EXTEND_NEED_READ_UNTIL_HAVE_DATA, "true");
+        try {
+            Assert.assertEquals(RAFT_READ_COUNT, readCount());
+        } finally {
+            EmbeddedStorageContextUtils.cleanAllContext();
+        }
+        Mockito.verify(protocol, Mockito.never()).isLeaderLeaseValid(any());
+    }
+    
+    @Test
+    public void testUnknownReadConsistencyReadThroughRaft() throws Exception {
+        setReadConsistency("Leader_Lease");
+        mockRaftRead();
+        Assert.assertEquals(RAFT_READ_COUNT, readCount());
+        Mockito.verify(protocol, Mockito.never()).isLeaderLeaseValid(any());
+    }
+    
+    private void setReadConsistency(String readConsistency) {
+        ReflectionTestUtils.setField(operate, "readConsistency", readConsistency);
+        ReflectionTestUtils.setField(operate, "readMaxStaleness", 1000L);
+    }
+    
+    private void mockRaftRead() throws Exception {
+        when(protocol.getData(any(ReadRequest.class))).thenReturn(raftReadResponse());
+    }
+    
+    private Response raftReadResponse() {
+        return Response.newBuilder().setSuccess(true).setData(ByteString.copyFrom(serializer.serialize(RAFT_READ_COUNT)))
+                .build();
+    }
+    
+    private Integer readCount() {
+        return operate.queryOne("SELECT COUNT(*) FROM test_item", Integer.class);
+    }
+    
+    private ModifyRequest insert(int id, String val, int executeNo) {
+        ModifyRequest result = new ModifyRequest("INSERT INTO test_item (id, val) VALUES (?, ?)");
+        result.setArgs(new Object[] {id, val});
+        result.setExecuteNo(executeNo);
+        return result;
+    }
+    
+    private Map<String, String> dumpExtendInfo(String dataId) {
+        Map<String, String> result = new HashMap<>(2);
+        result.put(Constants.EXTEND_INFO_CONFIG_DUMP_EVENT,
+                JacksonUtils.toJson(ConfigDumpEvent.builder().dataId(dataId).group("DEFAULT_GROUP").build()));
+        return result;
+    }
+    
+    private WriteRequest groupCommitLog(List<GroupCommitRequest> requests) {
+        return WriteRequest.newBuilder().setGroup(operate.group()).setKey("group-commit")
+                .setData(ByteString.copyFrom(serializer.serialize(requests)))
+                .putExtendInfo(GROUP_COMMIT_KEY, Boolean.TRUE.toString()).build();
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.repository.embedded;
+
+import com.alibaba.nacos.config.server.service.sql.GroupCommitRequest;
+import com.alibaba.nacos.config.server.service.sql.ModifyRequest;
+import com.alibaba.nacos.consistency.entity.Response;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class EmbeddedStorageGroupCommitterTest {
+    
+    private ScheduledExecutorService executor;
+    
+    private List<List<GroupCommitRequest>> writtenGroups;
+    
+    @Before
+    public void setUp() {
+        executor = Executors.newSingleThreadScheduledExecutor();
+        writtenGroups = new CopyOnWriteArrayList<>();
+    }
+    
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+    
+    @Test
+    public void testCommitInOneGroupWithinWindow() throws Exception {
+        EmbeddedStorageGroupCommitter committer = new EmbeddedStorageGroupCommitter(200L, 16, executor,
+                this::writeFailedWhenSqlIsFail);
+        CompletableFuture<Response> future1 = committer.commit(newRequest("success"));
+        CompletableFuture<Response> future2 = committer.commit(newRequest("fail"));
+        CompletableFuture<Response> future3 = committer.commit(newRequest("success"));
+        Assert.assertTrue(future1.get(3, TimeUnit.SECONDS).getSuccess());
+        Assert.assertFalse(future2.get(3, TimeUnit.SECONDS).getSuccess());
+        Assert.assertEquals("fail", future2.get().getErrMsg());
+        Assert.assertTrue(future3.get(3, TimeUnit.SECONDS).getSuccess());
+        Assert.assertEquals(1, writtenGroups.size());
+        Assert.assertEquals(3, writtenGroups.get(0).size());
+        Assert.assertEquals(0, committer.getPendingCount());
+    }
+    
+    @Test
+    public void testCommitAtOnceWhenReachMaxSize() throws Exception {
+        EmbeddedStorageGroupCommitter committer = new EmbeddedStorageGroupCommitter(60_000L, 2, executor,
+                this::writeFailedWhenSqlIsFail);
+        CompletableFuture<Response> future1 = committer.commit(newRequest("success"));
+        CompletableFuture<Response> future2 = committer.commit(newRequest("success"));
+        Assert.assertTrue(future1.get(3, TimeUnit.SECONDS).getSuccess());
+        Assert.assertTrue(future2.get(3, TimeUnit.SECONDS).getSuccess());
+        Assert.assertEquals(1, writtenGroups.size());
+        Assert.assertEquals(2, writtenGroups.get(0).size());
+    }
+    
+    @Test
+    public void testCommitFailedWhenGroupWriteFailed() throws Exception {
+        EmbeddedStorageGroupCommitter committer = new EmbeddedStorageGroupCommitter(10L, 16, executor, requests -> {
+            CompletableFuture<List<Response>> result = new CompletableFuture<>();
+            result.completeExceptionally(new IllegalStateException("no leader"));
+            return result;
+        });
+        CompletableFuture<Response> future1 = committer.commit(newRequest("success"));
+        CompletableFuture<Response> future2 = committer.commit(newRequest("success"));
+        assertFailed(future1);
+        assertFailed(future2);
+    }
+    
+    private void assertFailed(CompletableFuture<Response> future) throws Exception {
+        try {
+            future.get(3, TimeUnit.SECONDS);
+            Assert.fail("group write should be failed");
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+    }
+    
+    private CompletableFuture<List<Response>> writeFailedWhenSqlIsFail(List<GroupCommitRequest> requests) {
+        writtenGroups.add(requests);
+        List<Response> result = new ArrayList<>(requests.size());
+        for (GroupCommitRequest each : requests) {
+            String sql = each.getModifyRequests().get(0).getSql();
+            if ("fail".equals(sql)) {
+                result.add(Response.newBuilder().setSuccess(false).setErrMsg(sql).build());
+            } else {
+                result.add(Response.newBuilder().setSuccess(true).build());
+            }
+        }
+        return CompletableFuture.completedFuture(result);
+    }
+    
+    private GroupCommitRequest newRequest(String sql) {
+        return new GroupCommitRequest(Collections.singletonList(new ModifyRequest(sql)), Collections.emptyMap());
+    }
+}
@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.config.server.utils;
 
+import com.alibaba.nacos.config.server.constant.PropertiesConstant;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import org.junit.Assert;
 import org.junit.Test;
@@ -56,4 +57,25 @@ public class PropertyUtilTest {
         envUtilMockedStatic.close();
     }
     
+    @Test
+    public void testSetEmbeddedStorageReadConsistency() {
+        try {
+            PropertyUtil.setEmbeddedStorageReadConsistency(" Leader-Lease ");
+            Assert.assertEquals(PropertiesConstant.READ_CONSISTENCY_LEADER_LEASE,
+                    PropertyUtil.getEmbeddedStorageReadConsistency());
+            PropertyUtil.setEmbeddedStorageReadConsistency(PropertiesConstant.READ_CONSISTENCY_FOLLOWER_STALE);
+            Assert.assertEquals(PropertiesConstant.READ_CONSISTENCY_FOLLOWER_STALE,
+                    PropertyUtil.getEmbeddedStorageReadConsistency());
+            // Unknown values never enable local reads silently.
+            PropertyUtil.setEmbeddedStorageReadConsistency("leader_lease");
+            Assert.assertEquals(PropertiesConstant.READ_CONSISTENCY_LINEARIZABLE,
+                    PropertyUtil.getEmbeddedStorageReadConsistency());
+            PropertyUtil.setEmbeddedStorageReadConsistency(null);
+            Assert.assertEquals(PropertiesConstant.READ_CONSISTENCY_LINEARIZABLE,
+                    PropertyUtil.getEmbeddedStorageReadConsistency());
+        } finally {
+            PropertyUtil.setEmbeddedStorageReadConsistency(PropertiesConstant.READ_CONSISTENCY_LINEARIZABLE);
+        }
+    }
+    
 }
@@ -45,5 +45,9 @@ public enum DataOperation {
     /**
      * Data query.
      */
-    QUERY;
+    QUERY,
+    /**
+     * Batch of data changed and deleted.
+     */
+    BATCH;
 }
@@ -35,4 +35,26 @@ public interface CPProtocol<C extends Config, P extends RequestProcessor4CP> ext
      */
     boolean isLeader(String group);
     
+    /**
+     * Returns whether this node is the leader of the group and still holds a valid leader lease, so the data of the
+     * local state machine can be read without a new round of consistent read.
+     *
+     * @param group business module info
+     * @return is leader lease valid
+     */
+    default boolean isLeaderLeaseValid(String group) {
+        return false;
+    }
+    
+    /**
+     * Returns the milliseconds passed since the data of the local state machine was last confirmed up to date by a
+     * consistent read.
+     *
+     * @param group business module info
+     * @return staleness millis of local data, {@link Long#MAX_VALUE} if never confirmed
+     */
+    default long getReadStaleness(String group) {
+        return Long.MAX_VALUE;
+    }
+    
 }
@@ -44,6 +44,10 @@ public class DistroConfig extends AbstractDynamicConfig {
     
     private long loadDataTimeoutMillis = DistroConstants.DEFAULT_DATA_LOAD_TIMEOUT_MILLISECONDS;
     
+    private boolean syncBatchEnabled = DistroConstants.DEFAULT_DATA_SYNC_BATCH_ENABLED;
+    
+    private int syncBatchMaxSize = DistroConstants.DEFAULT_DATA_SYNC_BATCH_MAX_SIZE;
+    
     private DistroConfig() {
         super(DISTRO);
         resetConfig();
@@ -65,6 +69,10 @@ public class DistroConfig extends AbstractDynamicConfig {
                 DistroConstants.DEFAULT_DATA_LOAD_RETRY_DELAY_MILLISECONDS);
         loadDataTimeoutMillis = EnvUtil.getProperty(DistroConstants.DATA_LOAD_TIMEOUT_MILLISECONDS, Long.class,
                 DistroConstants.DEFAULT_DATA_LOAD_TIMEOUT_MILLISECONDS);
+        syncBatchEnabled = EnvUtil.getProperty(DistroConstants.DATA_SYNC_BATCH_ENABLED, Boolean.class,
+                DistroConstants.DEFAULT_DATA_SYNC_BATCH_ENABLED);
+        syncBatchMaxSize = EnvUtil.getProperty(DistroConstants.DATA_SYNC_BATCH_MAX_SIZE, Integer.class,
+                DistroConstants.DEFAULT_DATA_SYNC_BATCH_MAX_SIZE);
     }
     
     public static DistroConfig getInstance() {
@@ -127,11 +135,28 @@ public class DistroConfig extends AbstractDynamicConfig {
         this.loadDataTimeoutMillis = loadDataTimeoutMillis;
     }
     
+    public boolean isSyncBatchEnabled() {
+        return syncBatchEnabled;
+    }
+    
+    public void setSyncBatchEnabled(boolean syncBatchEnabled) {
+        this.syncBatchEnabled = syncBatchEnabled;
+    }
+    
+    public int getSyncBatchMaxSize() {
+        return syncBatchMaxSize;
+    }
+    
+    public void setSyncBatchMaxSize(int syncBatchMaxSize) {
+        this.syncBatchMaxSize = syncBatchMaxSize;
+    }
+    
     @Override
     protected String printConfig() {
         return "DistroConfig{" + "syncDelayMillis=" + syncDelayMillis + ", syncTimeoutMillis=" + syncTimeoutMillis
                 + ", syncRetryDelayMillis=" + syncRetryDelayMillis + ", verifyIntervalMillis=" + verifyIntervalMillis
                 + ", verifyTimeoutMillis=" + verifyTimeoutMillis + ", loadDataRetryDelayMillis="
-                + loadDataRetryDelayMillis + '}';
+                + loadDataRetryDelayMillis + ", syncBatchEnabled=" + syncBatchEnabled + ", syncBatchMaxSize="
+                + syncBatchMaxSize + '}';
     }
 }
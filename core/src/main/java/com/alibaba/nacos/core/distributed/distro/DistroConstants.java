@@ -51,4 +51,12 @@ public class DistroConstants {
     
     public static final long DEFAULT_DATA_LOAD_TIMEOUT_MILLISECONDS = 30000L;
     
+    public static final String DATA_SYNC_BATCH_ENABLED = "nacos.core.protocol.distro.data.sync.batch.enabled";
+    
+    public static final boolean DEFAULT_DATA_SYNC_BATCH_ENABLED = false;
+    
+    public static final String DATA_SYNC_BATCH_MAX_SIZE = "nacos.core.protocol.distro.data.sync.batch.maxSize";
+    
+    public static final int DEFAULT_DATA_SYNC_BATCH_MAX_SIZE = 200;
+    
 }
@@ -27,6 +27,7 @@ import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
 import com.alibaba.nacos.core.distributed.distro.task.DistroTaskEngineHolder;
+import com.alibaba.nacos.core.distributed.distro.task.delay.DistroBatchDelayTask;
 import com.alibaba.nacos.core.distributed.distro.task.delay.DistroDelayTask;
 import com.alibaba.nacos.core.distributed.distro.task.load.DistroLoadDataTask;
 import com.alibaba.nacos.core.distributed.distro.task.verify.DistroVerifyTimedTask;
@@ -35,6 +36,8 @@ import com.alibaba.nacos.core.utils.Loggers;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * Distro protocol.
  *
@@ -120,6 +123,9 @@ public class DistroProtocol {
     /**
      * Start to sync to target server.
      *
+     * <p>If batch sync is enabled and supported by the transport agent, the key will be merged into the pending batch
+     * of target server, otherwise it will be synced by itself.
+     *
      * @param distroKey    distro key of sync data
      * @param action       the action of data operation
      * @param targetServer target server
@@ -128,13 +134,28 @@ public class DistroProtocol {
     public void syncToTarget(DistroKey distroKey, DataOperation action, String targetServer, long delay) {
         DistroKey distroKeyWithTarget = new DistroKey(distroKey.getResourceKey(), distroKey.getResourceType(),
                 targetServer);
-        DistroDelayTask distroDelayTask = new DistroDelayTask(distroKeyWithTarget, action, delay);
-        distroTaskEngineHolder.getDelayTaskExecuteEngine().addTask(distroKeyWithTarget, distroDelayTask);
+        if (isBatchSync(distroKey.getResourceType())) {
+            DistroKey batchKey = new DistroKey(DataOperation.BATCH.name(), distroKey.getResourceType(), targetServer);
+            DistroBatchDelayTask batchDelayTask = new DistroBatchDelayTask(batchKey, distroKeyWithTarget, action,
+                    delay);
+            distroTaskEngineHolder.getDelayTaskExecuteEngine().addTask(batchKey, batchDelayTask);
+        } else {
+            DistroDelayTask distroDelayTask = new DistroDelayTask(distroKeyWithTarget, action, delay);
+            distroTaskEngineHolder.getDelayTaskExecuteEngine().addTask(distroKeyWithTarget, distroDelayTask);
+        }
         if (Loggers.DISTRO.isDebugEnabled()) {
             Loggers.DISTRO.debug("[DISTRO-SCHEDULE] {} to {}", distroKey, targetServer);
         }
     }
     
+    private boolean isBatchSync(String resourceType) {
+        if (!DistroConfig.getInstance().isSyncBatchEnabled()) {
+            return false;
+        }
+        DistroTransportAgent transportAgent = distroComponentHolder.findTransportAgent(resourceType);
+        return null != transportAgent && transportAgent.supportBatchSync();
+    }
+    
     /**
      * Query data from specified server.
      *
@@ -173,6 +194,27 @@ public class DistroProtocol {
         return dataProcessor.processData(distroData);
     }
     
+    /**
+     * Receive a batch of synced distro data, find processor to process.
+     *
+     * @param distroDataList received data list, all data in list should be the same resource type
+     * @return true if handle all receive data successfully, otherwise false
+     */
+    public boolean onReceiveBatch(List<DistroData> distroDataList) {
+        if (null == distroDataList || distroDataList.isEmpty()) {
+            return true;
+        }
+        String resourceType = distroDataList.get(0).getDistroKey().getResourceType();
+        Loggers.DISTRO.info("[DISTRO] Receive batch distro data type: {}, size: {}", resourceType,
+                distroDataList.size());
+        DistroDataProcessor dataProcessor = distroComponentHolder.findDataProcessor(resourceType);
+        if (null == dataProcessor) {
+            Loggers.DISTRO.warn("[DISTRO] Can't find data process for received batch data {}", resourceType);
+            return false;
+        }
+        return dataProcessor.processBatchData(distroDataList);
+    }
+    
     /**
      * Receive verify data, find processor to process.
      *
@@ -18,6 +18,8 @@ package com.alibaba.nacos.core.distributed.distro.component;
 
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 
+import java.util.List;
+
 /**
  * Distro data processor.
  *
@@ -40,6 +42,22 @@ public interface DistroDataProcessor {
      */
     boolean processData(DistroData distroData);
     
+    /**
+     * Process a batch of received data.
+     *
+     * <p>Default implementation processes the data one by one, processors can override it to share the cost of batch.
+     *
+     * @param distroDataList received data list
+     * @return true if process all data successfully, otherwise false
+     */
+    default boolean processBatchData(List<DistroData> distroDataList) {
+        boolean result = true;
+        for (DistroData each : distroDataList) {
+            result = processData(each) && result;
+        }
+        return result;
+    }
+    
     /**
      * Process received verify data.
      *
@@ -19,6 +19,8 @@ package com.alibaba.nacos.core.distributed.distro.component;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
 
+import java.util.List;
+
 /**
  * Distro transport agent.
  *
@@ -73,6 +75,43 @@ public interface DistroTransportAgent {
      */
     void syncVerifyData(DistroData verifyData, String targetServer, DistroCallback callback);
     
+    /**
+     * Whether support sync a batch of data with one request.
+     *
+     * <p>The target server should also be able to handle batch data, so batch sync is disabled by default.
+     *
+     * @return true if support, otherwise false
+     */
+    default boolean supportBatchSync() {
+        return false;
+    }
+    
+    /**
+     * Sync a batch of data.
+     *
+     * @param batchData    data list, all data in list should be the same resource type
+     * @param targetServer target server
+     * @return true is sync successfully, otherwise false
+     * @throws UnsupportedOperationException if method supportBatchSync is false, should throw {@code
+     *                                       UnsupportedOperationException}
+     */
+    default boolean syncBatchData(List<DistroData> batchData, String targetServer) {
+        throw new UnsupportedOperationException("Batch sync is not supported by " + getClass().getSimpleName());
+    }
+    
+    /**
+     * Sync a batch of data with callback.
+     *
+     * @param batchData    data list, all data in list should be the same resource type
+     * @param targetServer target server
+     * @param callback     callback
+     * @throws UnsupportedOperationException if method supportBatchSync or supportCallbackTransport is false, should
+     *                                       throw {@code UnsupportedOperationException}
+     */
+    default void syncBatchData(List<DistroData> batchData, String targetServer, DistroCallback callback) {
+        throw new UnsupportedOperationException("Batch sync is not supported by " + getClass().getSimpleName());
+    }
+    
     /**
      * get Data from target server.
      *
@@ -0,0 +1,94 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.distro.task.delay;
+
+import com.alibaba.nacos.common.task.AbstractDelayTask;
+import com.alibaba.nacos.consistency.DataOperation;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Distro batch delay task.
+ *
+ * <p>One batch delay task holds all pending keys of one resource type to one target server. New keys are merged into
+ * the pending task, so that all of them can be synced by one request after the delay of the first key.
+ *
+ * @author xiweng.yy
+ */
+public class DistroBatchDelayTask extends AbstractDelayTask {
+    
+    private final DistroKey distroKey;
+    
+    private final boolean retry;
+    
+    private Map<DistroKey, DataOperation> pendingKeys;
+    
+    public DistroBatchDelayTask(DistroKey batchKey, DistroKey distroKey, DataOperation action, long delayTime) {
+        this(batchKey, Collections.singletonMap(distroKey, action), delayTime, false);
+    }
+    
+    /**
+     * Create a batch delay task with several keys.
+     *
+     * @param batchKey    batch key, resource type and target server of which are the same as the pending keys
+     * @param pendingKeys pending keys and their actions
+     * @param delayTime   delay time for sync
+     * @param retry       whether the task is retry for failed keys, if true, the newer actions of same keys are kept
+     */
+    public DistroBatchDelayTask(DistroKey batchKey, Map<DistroKey, DataOperation> pendingKeys, long delayTime,
+            boolean retry) {
+        this.distroKey = batchKey;
+        this.pendingKeys = new LinkedHashMap<>(pendingKeys);
+        this.retry = retry;
+        setLastProcessTime(System.currentTimeMillis());
+        setTaskInterval(delayTime);
+    }
+    
+    public DistroKey getDistroKey() {
+        return distroKey;
+    }
+    
+    public Map<DistroKey, DataOperation> getPendingKeys() {
+        return pendingKeys;
+    }
+    
+    public boolean isRetry() {
+        return retry;
+    }
+    
+    @Override
+    public void merge(AbstractDelayTask task) {
+        if (!(task instanceof DistroBatchDelayTask)) {
+            return;
+        }
+        DistroBatchDelayTask oldTask = (DistroBatchDelayTask) task;
+        Map<DistroKey, DataOperation> mergedKeys = oldTask.getPendingKeys();
+        for (Map.Entry<DistroKey, DataOperation> entry : pendingKeys.entrySet()) {
+            if (retry) {
+                mergedKeys.putIfAbsent(entry.getKey(), entry.getValue());
+            } else {
+                mergedKeys.put(entry.getKey(), entry.getValue());
+            }
+        }
+        pendingKeys = mergedKeys;
+        setLastProcessTime(oldTask.getLastProcessTime());
+        setTaskInterval(Math.min(getTaskInterval(), oldTask.getTaskInterval()));
+    }
+}
@@ -18,12 +18,18 @@ package com.alibaba.nacos.core.distributed.distro.task.delay;
 
 import com.alibaba.nacos.common.task.NacosTask;
 import com.alibaba.nacos.common.task.NacosTaskProcessor;
+import com.alibaba.nacos.consistency.DataOperation;
+import com.alibaba.nacos.core.distributed.distro.DistroConfig;
 import com.alibaba.nacos.core.distributed.distro.component.DistroComponentHolder;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
 import com.alibaba.nacos.core.distributed.distro.task.DistroTaskEngineHolder;
+import com.alibaba.nacos.core.distributed.distro.task.execute.DistroSyncBatchTask;
 import com.alibaba.nacos.core.distributed.distro.task.execute.DistroSyncChangeTask;
 import com.alibaba.nacos.core.distributed.distro.task.execute.DistroSyncDeleteTask;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * Distro delay task processor.
  *
@@ -43,6 +49,10 @@ public class DistroDelayTaskProcessor implements NacosTaskProcessor {
     
     @Override
     public boolean process(NacosTask task) {
+        if (task instanceof DistroBatchDelayTask) {
+            processBatchTask((DistroBatchDelayTask) task);
+            return true;
+        }
         if (!(task instanceof DistroDelayTask)) {
             return true;
         }
@@ -62,4 +72,26 @@ public class DistroDelayTaskProcessor implements NacosTaskProcessor {
                 return false;
         }
     }
+    
+    private void processBatchTask(DistroBatchDelayTask batchDelayTask) {
+        DistroKey batchKey = batchDelayTask.getDistroKey();
+        int maxSize = Math.max(1, DistroConfig.getInstance().getSyncBatchMaxSize());
+        Map<DistroKey, DataOperation> batchKeys = new LinkedHashMap<>();
+        for (Map.Entry<DistroKey, DataOperation> entry : batchDelayTask.getPendingKeys().entrySet()) {
+            batchKeys.put(entry.getKey(), entry.getValue());
+            if (batchKeys.size() >= maxSize) {
+                addSyncBatchTask(batchKey, batchKeys);
+                batchKeys = new LinkedHashMap<>();
+            }
+        }
+        if (!batchKeys.isEmpty()) {
+            addSyncBatchTask(batchKey, batchKeys);
+        }
+    }
+    
+    private void addSyncBatchTask(DistroKey batchKey, Map<DistroKey, DataOperation> batchKeys) {
+        DistroSyncBatchTask syncBatchTask = new DistroSyncBatchTask(batchKey, batchKeys, distroComponentHolder,
+                distroTaskEngineHolder);
+        distroTaskEngineHolder.getExecuteWorkersManager().addTask(batchKey, syncBatchTask);
+    }
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.distro.task.execute;
+
+import com.alibaba.nacos.consistency.DataOperation;
+import com.alibaba.nacos.core.distributed.distro.DistroConfig;
+import com.alibaba.nacos.core.distributed.distro.component.DistroCallback;
+import com.alibaba.nacos.core.distributed.distro.component.DistroComponentHolder;
+import com.alibaba.nacos.core.distributed.distro.component.DistroDataStorage;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.task.DistroTaskEngineHolder;
+import com.alibaba.nacos.core.distributed.distro.task.delay.DistroBatchDelayTask;
+import com.alibaba.nacos.core.utils.Loggers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Distro sync batch task, sync changed and deleted data of several keys to target server by one request.
+ *
+ * @author xiweng.yy
+ */
+public class DistroSyncBatchTask extends AbstractDistroExecuteTask {
+    
+    private static final DataOperation OPERATION = DataOperation.BATCH;
+    
+    private final Map<DistroKey, DataOperation> distroKeys;
+    
+    private final DistroTaskEngineHolder distroTaskEngineHolder;
+    
+    public DistroSyncBatchTask(DistroKey batchKey, Map<DistroKey, DataOperation> distroKeys,
+            DistroComponentHolder distroComponentHolder, DistroTaskEngineHolder distroTaskEngineHolder) {
+        super(batchKey, distroComponentHolder);
+        this.distroKeys = distroKeys;
+        this.distroTaskEngineHolder = distroTaskEngineHolder;
+    }
+    
+    @Override
+    protected DataOperation getDataOperation() {
+        return OPERATION;
+    }
+    
+    @Override
+    protected boolean doExecute() {
+        String type = getDistroKey().getResourceType();
+        List<DistroData> batchData = getBatchData(type);
+        if (batchData.isEmpty()) {
+            Loggers.DISTRO.warn("[DISTRO] {} with empty data to sync, skip", toString());
+            return true;
+        }
+        return getDistroComponentHolder().findTransportAgent(type)
+                .syncBatchData(batchData, getDistroKey().getTargetServer());
+    }
+    
+    @Override
+    protected void doExecuteWithCallback(DistroCallback callback) {
+        String type = getDistroKey().getResourceType();
+        List<DistroData> batchData = getBatchData(type);
+        if (batchData.isEmpty()) {
+            Loggers.DISTRO.warn("[DISTRO] {} with empty data to sync, skip", toString());
+            callback.onSuccess();
+            return;
+        }
+        getDistroComponentHolder().findTransportAgent(type)
+                .syncBatchData(batchData, getDistroKey().getTargetServer(), callback);
+    }
+    
+    /**
+     * Failed keys are merged back into the pending batch, newer actions of same keys won't be overwritten.
+     */
+    @Override
+    protected void handleFailedTask() {
+        DistroBatchDelayTask retryTask = new DistroBatchDelayTask(getDistroKey(), distroKeys,
+                DistroConfig.getInstance().getSyncRetryDelayMillis(), true);
+        distroTaskEngineHolder.getDelayTaskExecuteEngine().addTask(getDistroKey(), retryTask);
+    }
+    
+    @Override
+    public String toString() {
+        return "DistroSyncBatchTask for " + getDistroKey().toString() + " with " + distroKeys.size() + " keys";
+    }
+    
+    private List<DistroData> getBatchData(String type) {
+        DistroDataStorage dataStorage = getDistroComponentHolder().findDataStorage(type);
+        List<DistroData> result = new ArrayList<>(distroKeys.size());
+        for (Map.Entry<DistroKey, DataOperation> entry : distroKeys.entrySet()) {
+            if (DataOperation.DELETE == entry.getValue()) {
+                DistroData distroData = new DistroData();
+                distroData.setDistroKey(entry.getKey());
+                distroData.setType(DataOperation.DELETE);
+                result.add(distroData);
+                continue;
+            }
+            DistroData distroData = dataStorage.getDistroData(entry.getKey());
+            if (null != distroData) {
+                distroData.setType(DataOperation.CHANGE);
+                result.add(distroData);
+            }
+        }
+        return result;
+    }
+}
@@ -224,4 +224,14 @@ public class JRaftProtocol extends AbstractConsistencyProtocol<RaftConfig, Reque
         }
         return node.isLeader();
     }
+    
+    @Override
+    public boolean isLeaderLeaseValid(String group) {
+        return raftServer.isLeaderLeaseValid(group);
+    }
+    
+    @Override
+    public long getReadStaleness(String group) {
+        return raftServer.getReadStaleness(group);
+    }
 }
@@ -59,12 +59,14 @@ import com.alipay.sofa.jraft.error.RaftError;
 import com.alipay.sofa.jraft.option.CliOptions;
 import com.alipay.sofa.jraft.option.NodeOptions;
 import com.alipay.sofa.jraft.option.RaftOptions;
+import com.alipay.sofa.jraft.option.ReadOnlyOption;
 import com.alipay.sofa.jraft.rpc.InvokeCallback;
 import com.alipay.sofa.jraft.rpc.RpcProcessor;
 import com.alipay.sofa.jraft.rpc.RpcServer;
 import com.alipay.sofa.jraft.rpc.impl.cli.CliClientServiceImpl;
 import com.alipay.sofa.jraft.util.BytesUtil;
 import com.alipay.sofa.jraft.util.Endpoint;
+import com.alipay.sofa.jraft.util.Utils;
 import com.google.protobuf.Message;
 import org.springframework.util.CollectionUtils;
 
@@ -178,6 +180,10 @@ public class JRaftServer {
         nodeOptions.setElectionTimeoutMs(electionTimeout);
         RaftOptions raftOptions = RaftOptionsBuilder.initRaftOptions(raftConfig);
         nodeOptions.setRaftOptions(raftOptions);
+        if (ReadOnlyOption.ReadOnlySafe != raftOptions.getReadOnlyOptions()) {
+            Loggers.RAFT.warn("read index type is {}, leader lease and stale local reads are disabled",
+                    raftOptions.getReadOnlyOptions());
+        }
         // open jraft node metrics record function
         nodeOptions.setEnableMetrics(true);
         
@@ -282,11 +288,19 @@ public class JRaftServer {
         }
         final Node node = tuple.node;
         final RequestProcessor processor = tuple.processor;
+        // Read index based on leader lease isn't confirmed by a quorum, it can't extend the lease or refresh staleness.
+        final NacosStateMachine machine = isReadOnlySafe(node) ? tuple.machine : null;
+        final long startTerm = null == machine ? -1 : machine.getTerm();
+        final long startMillis = Utils.monotonicMs();
         try {
             node.readIndex(BytesUtil.EMPTY_BYTES, new ReadIndexClosure() {
                 @Override
                 public void run(Status status, long index, byte[] reqCtx) {
                     if (status.isOk()) {
+                        if (null != machine) {
+                            machine.confirmRead(startTerm, startMillis);
+                        }
+                        MetricsMonitor.raftReadIndex();
                         try {
                             Response response = processor.onRequest(request);
                             future.complete(response);
@@ -520,6 +534,39 @@ public class JRaftServer {
         return null;
     }
     
+    private static boolean isReadOnlySafe(Node node) {
+        NodeOptions options = node.getOptions();
+        return null != options && ReadOnlyOption.ReadOnlySafe == options.getRaftOptions().getReadOnlyOptions();
+    }
+    
+    /**
+     * Whether this node is leader of the group and its leader lease confirmed by read index is still valid.
+     *
+     * @param group group name
+     * @return {@code true} if local data of the group can be read linearizably without read index
+     */
+    public boolean isLeaderLeaseValid(final String group) {
+        final RaftGroupTuple tuple = multiRaftGroup.get(group);
+        if (Objects.isNull(tuple) || Objects.isNull(tuple.machine)) {
+            return false;
+        }
+        return tuple.machine.isLeaderLeaseValid(tuple.node.getOptions().getLeaderLeaseTimeoutMs());
+    }
+    
+    /**
+     * Get the millis passed since local data of the group was last confirmed up to date by read index.
+     *
+     * @param group group name
+     * @return staleness millis, {@link Long#MAX_VALUE} if never confirmed
+     */
+    public long getReadStaleness(final String group) {
+        final RaftGroupTuple tuple = multiRaftGroup.get(group);
+        if (Objects.isNull(tuple) || Objects.isNull(tuple.machine)) {
+            return Long.MAX_VALUE;
+        }
+        return tuple.machine.getReadStaleness();
+    }
+    
     Map<String, RaftGroupTuple> getMultiRaftGroup() {
         return multiRaftGroup;
     }
@@ -46,6 +46,7 @@ import com.alipay.sofa.jraft.error.RaftError;
 import com.alipay.sofa.jraft.error.RaftException;
 import com.alipay.sofa.jraft.storage.snapshot.SnapshotReader;
 import com.alipay.sofa.jraft.storage.snapshot.SnapshotWriter;
+import com.alipay.sofa.jraft.util.Utils;
 import com.google.protobuf.Message;
 
 import java.nio.ByteBuffer;
@@ -59,6 +60,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 
 /**
@@ -84,6 +86,11 @@ class NacosStateMachine extends StateMachineAdapter {
     
     private volatile String leaderIp = "unknown";
     
+    /**
+     * The term and the start time of the latest successful read index, local data is up to date at that time.
+     */
+    private final AtomicReference<ReadConfirmation> readConfirmation = new AtomicReference<>();
+    
     NacosStateMachine(JRaftServer server, RequestProcessor4CP processor) {
         this.server = server;
         this.processor = processor;
@@ -248,6 +255,37 @@ class NacosStateMachine extends StateMachineAdapter {
         return term;
     }
     
+    /**
+     * Record one successful read index which started at {@code startMillis} in {@code term}.
+     *
+     * @param term        term when the read index started
+     * @param startMillis monotonic millis when the read index started
+     */
+    void confirmRead(long term, long startMillis) {
+        final ReadConfirmation newer = new ReadConfirmation(term, startMillis);
+        // A late read index started in an older term never replaces the confirmation of a newer term.
+        readConfirmation.accumulateAndGet(newer, (prev, next) -> null == prev || prev.term < next.term
+                || prev.term == next.term && prev.startMillis < next.startMillis ? next : prev);
+    }
+    
+    /**
+     * Whether this node is still leader in the term of the latest read confirmation and the confirmation is within the
+     * leader lease. Other nodes can't be elected as leader before the lease expires, so local data is linearizable.
+     *
+     * @param leaseMillis leader lease timeout millis
+     * @return {@code true} if the leader lease is valid
+     */
+    boolean isLeaderLeaseValid(long leaseMillis) {
+        final ReadConfirmation confirmation = readConfirmation.get();
+        return isLeader.get() && null != confirmation && confirmation.term == term
+                && Utils.monotonicMs() - confirmation.startMillis < leaseMillis;
+    }
+    
+    long getReadStaleness() {
+        final ReadConfirmation confirmation = readConfirmation.get();
+        return null == confirmation ? Long.MAX_VALUE : Utils.monotonicMs() - confirmation.startMillis;
+    }
+    
     private void adapterToJRaftSnapshot(Collection<SnapshotOperation> userOperates) {
         List<JSnapshotOperation> tmp = new ArrayList<>();
         
@@ -318,4 +356,15 @@ class NacosStateMachine extends StateMachineAdapter {
         this.operations = Collections.unmodifiableList(tmp);
     }
     
+    private static final class ReadConfirmation {
+        
+        private final long term;
+        
+        private final long startMillis;
+        
+        private ReadConfirmation(long term, long startMillis) {
+            this.term = term;
+            this.startMillis = startMillis;
+        }
+    }
 }
@@ -37,15 +37,30 @@ public final class MetricsMonitor {
     
     private static final DistributionSummary RAFT_FROM_LEADER;
     
+    private static final DistributionSummary RAFT_READ_INDEX;
+    
+    private static final DistributionSummary RAFT_READ_LOCAL_LEASE;
+    
+    private static final DistributionSummary RAFT_READ_LOCAL_STALE;
+    
     private static final Timer RAFT_APPLY_LOG_TIMER;
     
     private static final Timer RAFT_APPLY_READ_TIMER;
     
+    private static final DistributionSummary RPC_ACK_RECEIVED;
+    
+    private static final DistributionSummary RPC_ACK_TIMEOUT;
+    
     private static AtomicInteger longConnection = new AtomicInteger();
     
+    private static AtomicInteger rpcAckPending = new AtomicInteger();
+    
     static {
         RAFT_READ_INDEX_FAILED = NacosMeterRegistry.summary("protocol", "raft_read_index_failed");
         RAFT_FROM_LEADER = NacosMeterRegistry.summary("protocol", "raft_read_from_leader");
+        RAFT_READ_INDEX = NacosMeterRegistry.summary("protocol", "raft_read_index");
+        RAFT_READ_LOCAL_LEASE = NacosMeterRegistry.summary("protocol", "raft_read_local_lease");
+        RAFT_READ_LOCAL_STALE = NacosMeterRegistry.summary("protocol", "raft_read_local_stale");
         
         RAFT_APPLY_LOG_TIMER = NacosMeterRegistry.timer("protocol", "raft_apply_log_timer");
         RAFT_APPLY_READ_TIMER = NacosMeterRegistry.timer("protocol", "raft_apply_read_timer");
@@ -55,12 +70,39 @@ public final class MetricsMonitor {
         tags.add(new ImmutableTag("name", "longConnection"));
         Metrics.gauge("nacos_monitor", tags, longConnection);
         
+        RPC_ACK_RECEIVED = NacosMeterRegistry.summary("core", "rpc_ack_received");
+        RPC_ACK_TIMEOUT = NacosMeterRegistry.summary("core", "rpc_ack_timeout");
+        
+        List<Tag> ackTags = new ArrayList<>();
+        ackTags.add(new ImmutableTag("module", "core"));
+        ackTags.add(new ImmutableTag("name", "rpcAckPending"));
+        Metrics.gauge("nacos_monitor", ackTags, rpcAckPending);
     }
     
     public static AtomicInteger getLongConnectionMonitor() {
         return longConnection;
     }
     
+    public static AtomicInteger getRpcAckPendingMonitor() {
+        return rpcAckPending;
+    }
+    
+    public static void rpcAckReceived() {
+        RPC_ACK_RECEIVED.record(1);
+    }
+    
+    public static void rpcAckTimeout() {
+        RPC_ACK_TIMEOUT.record(1);
+    }
+    
+    public static DistributionSummary getRpcAckReceived() {
+        return RPC_ACK_RECEIVED;
+    }
+    
+    public static DistributionSummary getRpcAckTimeout() {
+        return RPC_ACK_TIMEOUT;
+    }
+    
     public static void raftReadIndexFailed() {
         RAFT_READ_INDEX_FAILED.record(1);
     }
@@ -69,6 +111,18 @@ public final class MetricsMonitor {
         RAFT_FROM_LEADER.record(1);
     }
     
+    public static void raftReadIndex() {
+        RAFT_READ_INDEX.record(1);
+    }
+    
+    public static void raftReadLocalLease() {
+        RAFT_READ_LOCAL_LEASE.record(1);
+    }
+    
+    public static void raftReadLocalStale() {
+        RAFT_READ_LOCAL_STALE.record(1);
+    }
+    
     public static Timer getRaftApplyLogTimer() {
         return RAFT_APPLY_LOG_TIMER;
     }
@@ -84,4 +138,16 @@ public final class MetricsMonitor {
     public static DistributionSummary getRaftFromLeader() {
         return RAFT_FROM_LEADER;
     }
+    
+    public static DistributionSummary getRaftReadIndex() {
+        return RAFT_READ_INDEX;
+    }
+    
+    public static DistributionSummary getRaftReadLocalLease() {
+        return RAFT_READ_LOCAL_LEASE;
+    }
+    
+    public static DistributionSummary getRaftReadLocalStale() {
+        return RAFT_READ_LOCAL_STALE;
+    }
 }
@@ -0,0 +1,101 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.remote;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.exception.runtime.NacosRuntimeException;
+import com.alibaba.nacos.api.remote.request.Request;
+import com.alibaba.nacos.api.remote.request.RequestMeta;
+import com.alibaba.nacos.api.remote.response.Response;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Request handler which can complete the response asynchronously.
+ *
+ * <p>The rpc acceptor calls {@link #handleRequestAsync(Request, RequestMeta)} and writes the response when the future
+ * completes, so the rpc executor thread is not pinned by blocking works like database or consistency protocol. Request
+ * filters still run on the rpc executor thread before the request is handed over, and {@link #handle(Request,
+ * RequestMeta)} keeps the annotations such as {@code Secured} and {@code TpsControl} used by filters.
+ *
+ * @author xiweng.yy
+ */
+@SuppressWarnings("PMD.AbstractClassShouldStartWithAbstractNamingRule")
+public abstract class AsyncRequestHandler<T extends Request, S extends Response> extends RequestHandler<T, S> {
+    
+    /**
+     * Handler request asynchronously.
+     *
+     * @param request request
+     * @param meta    request meta data
+     * @return future of response, completed exceptionally when handle request has problem
+     */
+    public CompletableFuture<Response> handleRequestAsync(T request, RequestMeta meta) {
+        Response filterResult = doFilter(request, meta);
+        if (filterResult != null) {
+            return CompletableFuture.completedFuture(filterResult);
+        }
+        return handleAsync(request, meta).thenApply(response -> response);
+    }
+    
+    /**
+     * Handler request asynchronously, default run {@link #handle(Request, RequestMeta)} in {@link #getExecutor()}.
+     *
+     * <p>If the executor rejects the request, the future is completed with {@link NacosException#OVER_THRESHOLD} so
+     * the client gets an overload response instead of waiting.
+     *
+     * @param request request
+     * @param meta    request meta data
+     * @return future of response
+     */
+    public CompletableFuture<S> handleAsync(T request, RequestMeta meta) {
+        CompletableFuture<S> result = new CompletableFuture<>();
+        try {
+            getExecutor().execute(() -> completeWithHandle(result, request, meta));
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(new NacosRuntimeException(NacosException.OVER_THRESHOLD,
+                    "Server is overloaded, request " + request.getClass().getSimpleName() + " is rejected."));
+        } catch (Throwable e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+    
+    /**
+     * Complete the future by {@link #handle(Request, RequestMeta)} in current thread.
+     *
+     * @param future  future to complete
+     * @param request request
+     * @param meta    request meta data
+     */
+    protected void completeWithHandle(CompletableFuture<S> future, T request, RequestMeta meta) {
+        try {
+            future.complete(handle(request, meta));
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+        }
+    }
+    
+    /**
+     * Get executor to run blocking {@link #handle(Request, RequestMeta)}.
+     *
+     * @return executor
+     */
+    protected abstract Executor getExecutor();
+}
@@ -44,6 +44,21 @@ public abstract class RequestHandler<T extends Request, S extends Response> {
      * @throws NacosException nacos exception when handle request has problem.
      */
     public Response handleRequest(T request, RequestMeta meta) throws NacosException {
+        Response filterResult = doFilter(request, meta);
+        if (filterResult != null) {
+            return filterResult;
+        }
+        return handle(request, meta);
+    }
+    
+    /**
+     * Run request filters before handle request.
+     *
+     * @param request request
+     * @param meta    request meta data
+     * @return failed filter result if request is intercepted, otherwise {@code null}
+     */
+    protected Response doFilter(T request, RequestMeta meta) {
         for (AbstractRequestFilter filter : requestFilters.filters) {
             try {
                 Response filterResult = filter.filter(request, meta, this.getClass());
@@ -55,7 +70,7 @@ public abstract class RequestHandler<T extends Request, S extends Response> {
             }
             
         }
-        return handle(request, meta);
+        return null;
     }
     
     /**
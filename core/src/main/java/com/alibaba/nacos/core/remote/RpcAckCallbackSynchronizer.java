@@ -19,33 +19,45 @@ package com.alibaba.nacos.core.remote;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.remote.DefaultRequestFuture;
 import com.alibaba.nacos.api.remote.response.Response;
+import com.alibaba.nacos.common.remote.exception.ConnectionAlreadyClosedException;
+import com.alibaba.nacos.core.monitor.MetricsMonitor;
 import com.alibaba.nacos.core.utils.Loggers;
 import com.alipay.hessian.clhm.ConcurrentLinkedHashMap;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeoutException;
 
 /**
  * server push ack synchronier.
  *
+ * <p>Ack timeouts of pushed requests are tracked by a {@link RpcAckTimeoutWheel}, the expired request is removed from
+ * context and failed with {@link TimeoutException}. A pushed request is completed only by the one who cancels or
+ * expires its timeout, so ack, clear and expiration never complete it twice.
+ *
  * @author liuzunfei
  * @version $Id: RpcAckCallbackSynchronizer.java, v 0.1 2020年07月29日 7:56 PM liuzunfei Exp $
  */
 public class RpcAckCallbackSynchronizer {
     
+    private static final long ACK_TIMEOUT_TICK_MILLS = 100L;
+    
+    private static final int ACK_TIMEOUT_WHEEL_SIZE = 512;
+    
+    private static final RpcAckTimeoutWheel TIMEOUT_WHEEL = new RpcAckTimeoutWheel(ACK_TIMEOUT_TICK_MILLS,
+            ACK_TIMEOUT_WHEEL_SIZE, RpcAckCallbackSynchronizer::onAckTimeout);
+    
     @SuppressWarnings("checkstyle:linelength")
-    public static final Map<String, Map<String, DefaultRequestFuture>> CALLBACK_CONTEXT = new ConcurrentLinkedHashMap.Builder<String, Map<String, DefaultRequestFuture>>()
+    public static final Map<String, Map<String, RpcAckTimeoutWheel.AckTimeout>> CALLBACK_CONTEXT = new ConcurrentLinkedHashMap.Builder<String, Map<String, RpcAckTimeoutWheel.AckTimeout>>()
             .maximumWeightedCapacity(1000000)
-            .listener((s, pushCallBack) -> pushCallBack.entrySet().forEach(
-                stringDefaultPushFutureEntry -> stringDefaultPushFutureEntry.getValue().setFailResult(new TimeoutException()))).build();
+            .listener((s, pushCallBack) -> failAll(pushCallBack, new TimeoutException())).build();
     
     /**
      * notify  ack.
      */
     public static void ackNotify(String connectionId, Response response) {
         
-        Map<String, DefaultRequestFuture> stringDefaultPushFutureMap = CALLBACK_CONTEXT.get(connectionId);
+        Map<String, RpcAckTimeoutWheel.AckTimeout> stringDefaultPushFutureMap = CALLBACK_CONTEXT.get(connectionId);
         if (stringDefaultPushFutureMap == null) {
             
             Loggers.REMOTE_DIGEST
@@ -54,7 +66,7 @@ public class RpcAckCallbackSynchronizer {
             return;
         }
         
-        DefaultRequestFuture currentCallback = stringDefaultPushFutureMap.remove(response.getRequestId());
+        RpcAckTimeoutWheel.AckTimeout currentCallback = stringDefaultPushFutureMap.remove(response.getRequestId());
         if (currentCallback == null) {
             
             Loggers.REMOTE_DIGEST
@@ -62,40 +74,69 @@ public class RpcAckCallbackSynchronizer {
                             response.getRequestId());
             return;
         }
+        if (!currentCallback.cancel()) {
+            // Already expired and completed by timeout.
+            return;
+        }
+        MetricsMonitor.getRpcAckPendingMonitor().decrementAndGet();
+        MetricsMonitor.rpcAckReceived();
         
         if (response.isSuccess()) {
-            currentCallback.setResponse(response);
+            currentCallback.getFuture().setResponse(response);
         } else {
-            currentCallback.setFailResult(new NacosException(response.getErrorCode(), response.getMessage()));
+            currentCallback.getFuture()
+                    .setFailResult(new NacosException(response.getErrorCode(), response.getMessage()));
         }
     }
     
     /**
-     * notify  ackid.
+     * notify  ackid, the ack timeout is the timeout of request callback.
      */
     public static void syncCallback(String connectionId, String requestId, DefaultRequestFuture defaultPushFuture)
             throws NacosException {
+        long timeoutMills = null == defaultPushFuture.getRequestCallBack() ? 0L
+                : defaultPushFuture.getRequestCallBack().getTimeout();
+        syncCallback(connectionId, requestId, defaultPushFuture, timeoutMills);
+    }
+    
+    /**
+     * notify ackid and track its ack timeout.
+     *
+     * @param connectionId      connection id
+     * @param requestId         request id
+     * @param defaultPushFuture future of pushed request
+     * @param timeoutMills      ack timeout in milliseconds, never timeout when not positive
+     * @throws NacosException if request id conflict
+     */
+    public static void syncCallback(String connectionId, String requestId, DefaultRequestFuture defaultPushFuture,
+            long timeoutMills) throws NacosException {
         
-        Map<String, DefaultRequestFuture> stringDefaultPushFutureMap = initContextIfNecessary(connectionId);
+        Map<String, RpcAckTimeoutWheel.AckTimeout> stringDefaultPushFutureMap = initContextIfNecessary(connectionId);
         
         if (!stringDefaultPushFutureMap.containsKey(requestId)) {
-            DefaultRequestFuture pushCallBackPrev = stringDefaultPushFutureMap
-                    .putIfAbsent(requestId, defaultPushFuture);
+            RpcAckTimeoutWheel.AckTimeout timeout = TIMEOUT_WHEEL.newTimeout(defaultPushFuture, timeoutMills);
+            RpcAckTimeoutWheel.AckTimeout pushCallBackPrev = stringDefaultPushFutureMap.putIfAbsent(requestId, timeout);
             if (pushCallBackPrev == null) {
+                MetricsMonitor.getRpcAckPendingMonitor().incrementAndGet();
+                TIMEOUT_WHEEL.start(timeout);
                 return;
             }
+            timeout.cancel();
         }
         throw new NacosException(NacosException.INVALID_PARAM, "request id conflict");
         
     }
     
     /**
-     * clear context of connectionId.
+     * clear context of connectionId, and fail all pushed requests which are still waiting for ack.
      *
      * @param connectionId connectionId
      */
     public static void clearContext(String connectionId) {
-        CALLBACK_CONTEXT.remove(connectionId);
+        Map<String, RpcAckTimeoutWheel.AckTimeout> context = CALLBACK_CONTEXT.remove(connectionId);
+        if (null != context) {
+            failAll(context, new ConnectionAlreadyClosedException());
+        }
     }
     
     /**
@@ -103,10 +144,10 @@ public class RpcAckCallbackSynchronizer {
      *
      * @param connectionId connectionId
      */
-    public static Map<String, DefaultRequestFuture> initContextIfNecessary(String connectionId) {
+    public static Map<String, RpcAckTimeoutWheel.AckTimeout> initContextIfNecessary(String connectionId) {
         if (!CALLBACK_CONTEXT.containsKey(connectionId)) {
-            Map<String, DefaultRequestFuture> context = new HashMap<>(128);
-            Map<String, DefaultRequestFuture> stringDefaultRequestFutureMap = CALLBACK_CONTEXT
+            Map<String, RpcAckTimeoutWheel.AckTimeout> context = new ConcurrentHashMap<>(128);
+            Map<String, RpcAckTimeoutWheel.AckTimeout> stringDefaultRequestFutureMap = CALLBACK_CONTEXT
                     .putIfAbsent(connectionId, context);
             return stringDefaultRequestFutureMap == null ? context : stringDefaultRequestFutureMap;
         } else {
@@ -120,13 +161,48 @@ public class RpcAckCallbackSynchronizer {
      * @param connectionId connectionId
      */
     public static void clearFuture(String connectionId, String requestId) {
-        Map<String, DefaultRequestFuture> stringDefaultPushFutureMap = CALLBACK_CONTEXT.get(connectionId);
+        Map<String, RpcAckTimeoutWheel.AckTimeout> stringDefaultPushFutureMap = CALLBACK_CONTEXT.get(connectionId);
         
-        if (stringDefaultPushFutureMap == null || !stringDefaultPushFutureMap.containsKey(requestId)) {
+        if (stringDefaultPushFutureMap == null) {
             return;
         }
-        stringDefaultPushFutureMap.remove(requestId);
+        RpcAckTimeoutWheel.AckTimeout timeout = stringDefaultPushFutureMap.remove(requestId);
+        if (null != timeout && timeout.cancel()) {
+            MetricsMonitor.getRpcAckPendingMonitor().decrementAndGet();
+        }
+    }
+    
+    /**
+     * Get count of pushed requests whose ack timeout is still tracked.
+     *
+     * @return pending ack timeout count
+     */
+    public static int getPendingTimeoutCount() {
+        return TIMEOUT_WHEEL.getPendingCount();
+    }
+    
+    private static void onAckTimeout(RpcAckTimeoutWheel.AckTimeout timeout) {
+        DefaultRequestFuture future = timeout.getFuture();
+        Map<String, RpcAckTimeoutWheel.AckTimeout> context = CALLBACK_CONTEXT.get(future.getConnectionId());
+        // The request may be put into a context which has been cleared concurrently, and can't be found any more.
+        if (null != context) {
+            context.remove(future.getRequestId(), timeout);
+        }
+        MetricsMonitor.getRpcAckPendingMonitor().decrementAndGet();
+        MetricsMonitor.rpcAckTimeout();
+        future.setFailResult(new TimeoutException(
+                "Timeout After " + timeout.getTimeoutMills() + " milliseconds,requestId =" + future.getRequestId()));
+    }
+    
+    private static void failAll(Map<String, RpcAckTimeoutWheel.AckTimeout> context, Exception exception) {
+        for (String each : context.keySet()) {
+            RpcAckTimeoutWheel.AckTimeout timeout = context.remove(each);
+            if (null == timeout || !timeout.cancel()) {
+                continue;
+            }
+            MetricsMonitor.getRpcAckPendingMonitor().decrementAndGet();
+            timeout.getFuture().setFailResult(exception);
+        }
     }
     
 }
-
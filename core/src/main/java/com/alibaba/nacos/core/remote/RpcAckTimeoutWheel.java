@@ -0,0 +1,306 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.remote;
+
+import com.alibaba.nacos.api.remote.DefaultRequestFuture;
+import com.alibaba.nacos.common.executor.ExecutorFactory;
+import com.alibaba.nacos.common.executor.NameThreadFactory;
+import com.alibaba.nacos.core.utils.Loggers;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timing wheel to track the ack timeout of requests pushed to clients.
+ *
+ * <p>Register and cancel only append the timeout to a lock-free queue, the single ticker thread moves them into or out
+ * of the buckets, so register, ack and expire are all O(1) no matter how many acks are outstanding.
+ *
+ * @author xiweng.yy
+ */
+public class RpcAckTimeoutWheel {
+    
+    private static final int MAX_TRANSFER_PER_TICK = 100000;
+    
+    private static final int ST_INIT = 0;
+    
+    private static final int ST_CANCELLED = 1;
+    
+    private static final int ST_EXPIRED = 2;
+    
+    private final long tickNanos;
+    
+    private final int mask;
+    
+    private final Bucket[] wheel;
+    
+    private final Queue<AckTimeout> registeredTimeouts = new ConcurrentLinkedQueue<>();
+    
+    private final Queue<AckTimeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+    
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    
+    private final Consumer<AckTimeout> expireHandler;
+    
+    private final ScheduledExecutorService ticker;
+    
+    private final long startTime;
+    
+    /**
+     * Only accessed by ticker thread.
+     */
+    private long tick;
+    
+    public RpcAckTimeoutWheel(long tickMillis, int wheelSize, Consumer<AckTimeout> expireHandler) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis must be greater than 0: " + tickMillis);
+        }
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        int normalizedSize = normalizeWheelSize(wheelSize);
+        this.mask = normalizedSize - 1;
+        this.wheel = new Bucket[normalizedSize];
+        for (int i = 0; i < normalizedSize; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.expireHandler = expireHandler;
+        this.startTime = System.nanoTime();
+        this.ticker = ExecutorFactory
+                .newSingleScheduledExecutorService(new NameThreadFactory("com.alibaba.nacos.core.remote.ack.timeout"));
+        this.ticker.scheduleAtFixedRate(this::advance, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+    
+    private static int normalizeWheelSize(int wheelSize) {
+        if (wheelSize <= 0) {
+            throw new IllegalArgumentException("wheelSize must be greater than 0: " + wheelSize);
+        }
+        int result = 1;
+        while (result < wheelSize) {
+            result <<= 1;
+        }
+        return result;
+    }
+    
+    /**
+     * Create the ack timeout of a pushed request, which starts to be tracked after {@link #start(AckTimeout)}. The
+     * timeout should be cancelled if it is never started.
+     *
+     * @param future       future of pushed request
+     * @param timeoutMills timeout in milliseconds, never expire when not positive
+     * @return timeout handle, which should be cancelled when ack received or request cleared
+     */
+    public AckTimeout newTimeout(DefaultRequestFuture future, long timeoutMills) {
+        if (timeoutMills > 0) {
+            pendingCount.incrementAndGet();
+        }
+        return new AckTimeout(future, timeoutMills,
+                System.nanoTime() - startTime + TimeUnit.MILLISECONDS.toNanos(timeoutMills));
+    }
+    
+    /**
+     * Start to track the timeout.
+     *
+     * @param timeout timeout created by {@link #newTimeout(DefaultRequestFuture, long)}
+     */
+    public void start(AckTimeout timeout) {
+        if (timeout.timeoutMills > 0 && ST_INIT == timeout.state.get()) {
+            registeredTimeouts.offer(timeout);
+        }
+    }
+    
+    /**
+     * Get count of timeouts which are neither cancelled nor expired.
+     *
+     * @return pending timeout count
+     */
+    public int getPendingCount() {
+        return pendingCount.get();
+    }
+    
+    /**
+     * Stop the ticker, pending timeouts will never expire after shutdown.
+     */
+    public void shutdown() {
+        ticker.shutdownNow();
+    }
+    
+    private void advance() {
+        try {
+            long now = System.nanoTime() - startTime;
+            while ((tick + 1) * tickNanos <= now) {
+                processCancelledTimeouts();
+                transferRegisteredTimeouts();
+                wheel[(int) (tick & mask)].expire();
+                tick++;
+            }
+        } catch (Throwable e) {
+            Loggers.REMOTE_DIGEST.error("[AckTimeoutWheel] advance wheel failed", e);
+        }
+    }
+    
+    private void processCancelledTimeouts() {
+        AckTimeout each;
+        while (null != (each = cancelledTimeouts.poll())) {
+            if (null != each.bucket) {
+                each.bucket.remove(each);
+            }
+        }
+    }
+    
+    private void transferRegisteredTimeouts() {
+        for (int i = 0; i < MAX_TRANSFER_PER_TICK; i++) {
+            AckTimeout each = registeredTimeouts.poll();
+            if (null == each) {
+                return;
+            }
+            if (ST_INIT != each.state.get()) {
+                continue;
+            }
+            long calculated = each.deadline / tickNanos;
+            each.remainingRounds = (calculated - tick) / wheel.length;
+            long ticks = Math.max(calculated, tick);
+            wheel[(int) (ticks & mask)].add(each);
+        }
+    }
+    
+    /**
+     * Timeout of one pushed request.
+     */
+    public class AckTimeout {
+        
+        private final DefaultRequestFuture future;
+        
+        private final long timeoutMills;
+        
+        private final long deadline;
+        
+        private final AtomicInteger state = new AtomicInteger(ST_INIT);
+        
+        private long remainingRounds;
+        
+        private AckTimeout prev;
+        
+        private AckTimeout next;
+        
+        private Bucket bucket;
+        
+        private AckTimeout(DefaultRequestFuture future, long timeoutMills, long deadline) {
+            this.future = future;
+            this.timeoutMills = timeoutMills;
+            this.deadline = deadline;
+        }
+        
+        public DefaultRequestFuture getFuture() {
+            return future;
+        }
+        
+        public long getTimeoutMills() {
+            return timeoutMills;
+        }
+        
+        /**
+         * Cancel this timeout.
+         *
+         * @return {@code true} if cancelled by this call, {@code false} if already cancelled or expired
+         */
+        public boolean cancel() {
+            if (!state.compareAndSet(ST_INIT, ST_CANCELLED)) {
+                return false;
+            }
+            if (timeoutMills > 0) {
+                pendingCount.decrementAndGet();
+                cancelledTimeouts.offer(this);
+            }
+            return true;
+        }
+        
+        public boolean isExpired() {
+            return ST_EXPIRED == state.get();
+        }
+        
+        private void expire() {
+            if (!state.compareAndSet(ST_INIT, ST_EXPIRED)) {
+                return;
+            }
+            pendingCount.decrementAndGet();
+            try {
+                expireHandler.accept(this);
+            } catch (Throwable e) {
+                Loggers.REMOTE_DIGEST.warn("[AckTimeoutWheel] handle expired request {} failed", future.getRequestId(),
+                        e);
+            }
+        }
+    }
+    
+    /**
+     * Doubly linked timeouts of one wheel slot, only accessed by ticker thread.
+     */
+    private class Bucket {
+        
+        private AckTimeout head;
+        
+        private AckTimeout tail;
+        
+        private void add(AckTimeout timeout) {
+            timeout.bucket = this;
+            if (null == head) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+        
+        private AckTimeout remove(AckTimeout timeout) {
+            AckTimeout next = timeout.next;
+            if (null != timeout.prev) {
+                timeout.prev.next = next;
+            }
+            if (null != next) {
+                next.prev = timeout.prev;
+            }
+            if (timeout == head) {
+                head = next;
+            }
+            if (timeout == tail) {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+            return next;
+        }
+        
+        private void expire() {
+            AckTimeout each = head;
+            while (null != each) {
+                if (each.remainingRounds <= 0) {
+                    AckTimeout current = each;
+                    each = remove(current);
+                    current.expire();
+                } else {
+                    each.remainingRounds--;
+                    each = each.next;
+                }
+            }
+        }
+    }
+}
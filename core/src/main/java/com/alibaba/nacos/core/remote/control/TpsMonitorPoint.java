@@ -21,11 +21,11 @@ import com.alibaba.nacos.core.utils.Loggers;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -46,7 +46,7 @@ public class TpsMonitorPoint {
     
     private TpsRecorder tpsRecorder;
     
-    public Map<String, TpsRecorder> monitorKeysRecorder = new HashMap<>();
+    public Map<String, TpsRecorder> monitorKeysRecorder = new ConcurrentHashMap<>(16);
     
     public TpsMonitorPoint(String pointName) {
         this(pointName, -1, "monitor");
@@ -127,21 +127,22 @@ public class TpsMonitorPoint {
         //1.check monitor keys.
         List<TpsRecorder.SlotCountHolder> passedSlots = new ArrayList<>();
         for (MonitorKey monitorKey : monitorKeys) {
+            String monitorKeyString = monitorKey.build();
             for (Map.Entry<String, TpsRecorder> entry : monitorKeysRecorder.entrySet()) {
-                if (MonitorKeyMatcher.matchWithType(entry.getKey(), monitorKey.build())) {
+                if (MonitorKeyMatcher.matchWithType(entry.getKey(), monitorKeyString)) {
                     TpsRecorder tpsRecorderKey = entry.getValue();
                     TpsRecorder.TpsSlot currentKeySlot = tpsRecorderKey.createSlotIfAbsent(now);
                     long maxTpsCount = tpsRecorderKey.getMaxCount();
-                    TpsRecorder.SlotCountHolder countHolder = currentKeySlot.getCountHolder(monitorKey.build());
-                    boolean overLimit = maxTpsCount >= 0 && countHolder.count.longValue() >= maxTpsCount;
+                    TpsRecorder.SlotCountHolder countHolder = currentKeySlot.getCountHolder(monitorKeyString);
+                    boolean overLimit = maxTpsCount >= 0 && countHolder.count.sum() >= maxTpsCount;
                     if (overLimit) {
                         Loggers.TPS_CONTROL_DETAIL
                                 .info("[{}]Tps over limit ,pointName=[{}],barrier=[{}]，monitorModel={},maxTps={}",
                                         connectionId, this.getPointName(), entry.getKey(),
                                         tpsRecorderKey.getMonitorType(), maxTpsCount + "/" + tpsRecorderKey.period);
                         if (tpsRecorderKey.isInterceptMode()) {
-                            currentKeySlot.getCountHolder(monitorKey.build()).interceptedCount.incrementAndGet();
-                            currentTps.getCountHolder(monitorKey.build()).interceptedCount.incrementAndGet();
+                            countHolder.interceptedCount.increment();
+                            currentTps.getCountHolder(monitorKeyString).interceptedCount.increment();
                             return false;
                         }
                     } else {
@@ -153,20 +154,21 @@ public class TpsMonitorPoint {
         
         //2.check total tps.
         long maxTps = tpsRecorder.getMaxCount();
-        boolean overLimit = maxTps >= 0 && currentTps.getCountHolder(pointName).count.longValue() >= maxTps;
+        TpsRecorder.SlotCountHolder pointCountHolder = currentTps.getCountHolder(pointName);
+        boolean overLimit = maxTps >= 0 && pointCountHolder.count.sum() >= maxTps;
         if (overLimit) {
             Loggers.TPS_CONTROL_DETAIL
                     .info("[{}]Tps over limit ,pointName=[{}],barrier=[{}]，monitorType={}", connectionId,
                             this.getPointName(), "pointRule", tpsRecorder.getMonitorType());
             if (tpsRecorder.isInterceptMode()) {
-                currentTps.getCountHolder(pointName).interceptedCount.incrementAndGet();
+                pointCountHolder.interceptedCount.increment();
                 return false;
             }
         }
         
-        currentTps.getCountHolder(pointName).count.incrementAndGet();
+        pointCountHolder.count.increment();
         for (TpsRecorder.SlotCountHolder passedTpsSlot : passedSlots) {
-            passedTpsSlot.count.incrementAndGet();
+            passedTpsSlot.count.increment();
         }
         //3.check pass.
         return true;
@@ -17,11 +17,14 @@
 package com.alibaba.nacos.core.remote.control;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
 
 /**
  * tps record.
@@ -31,13 +34,18 @@ import java.util.concurrent.atomic.AtomicLong;
  */
 public class TpsRecorder {
     
+    /**
+     * Max count of keys recorded in one slot of proto model, cold keys will be evicted when exceeded.
+     */
+    static final int DEFAULT_MAX_KEY_COUNT = 10000;
+    
     private long startTime;
     
     TimeUnit period;
     
     private int slotSize;
     
-    private List<TpsSlot> slotList;
+    private final AtomicReferenceArray<TpsSlot> slots;
     
     private long maxCount = -1;
     
@@ -60,12 +68,16 @@ public class TpsRecorder {
         this.period = period;
         this.model = model;
         this.slotSize = recordSize + 1;
-        slotList = new ArrayList<>(slotSize);
+        slots = new AtomicReferenceArray<>(slotSize);
         for (int i = 0; i < slotSize; i++) {
-            slotList.add(isProtoModel() ? new MultiKeyTpsSlot() : new TpsSlot());
+            slots.set(i, newSlot(0L));
         }
     }
     
+    private TpsSlot newSlot(long time) {
+        return isProtoModel() ? new MultiKeyTpsSlot(time, DEFAULT_MAX_KEY_COUNT, this::getMaxCount) : new TpsSlot(time);
+    }
+    
     public boolean isProtoModel() {
         return TpsControlRule.Rule.MODEL_PROTO.equalsIgnoreCase(this.model);
     }
@@ -81,6 +93,8 @@ public class TpsRecorder {
     /**
      * get slot of the timestamp second,create if not exist.
      *
+     * <p>Slot of a new window replaces the old one by CAS, so rollover doesn't block the concurrent recording.
+     *
      * @param timeStamp the timestamp second.
      * @return tps slot.
      */
@@ -90,10 +104,15 @@ public class TpsRecorder {
         long diff = (distance < 0 ? distance + period.toMillis(1) * slotSize : distance) / period.toMillis(1);
         long currentWindowTime = startTime + diff * period.toMillis(1);
         int index = (int) diff % slotSize;
-        if (slotList.get(index).time != currentWindowTime) {
-            slotList.get(index).reset(currentWindowTime);
+        TpsSlot current = slots.get(index);
+        while (current.time != currentWindowTime) {
+            TpsSlot newSlot = newSlot(currentWindowTime);
+            if (slots.compareAndSet(index, current, newSlot)) {
+                return newSlot;
+            }
+            current = slots.get(index);
         }
-        return slotList.get(index);
+        return current;
     }
     
     /**
@@ -107,7 +126,7 @@ public class TpsRecorder {
         long diff = (distance < 0 ? distance + period.toMillis(1) * slotSize : distance) / period.toMillis(1);
         long currentWindowTime = startTime + diff * period.toMillis(1);
         int index = (int) diff % slotSize;
-        TpsSlot tpsSlot = slotList.get(index);
+        TpsSlot tpsSlot = slots.get(index);
         if (tpsSlot.time != currentWindowTime) {
             return null;
         }
@@ -144,22 +163,16 @@ public class TpsRecorder {
     
     static class TpsSlot {
         
-        long time = 0L;
+        final long time;
         
-        private SlotCountHolder countHolder = new SlotCountHolder();
+        private final SlotCountHolder countHolder = new SlotCountHolder();
         
-        public SlotCountHolder getCountHolder(String key) {
-            return countHolder;
+        TpsSlot(long time) {
+            this.time = time;
         }
         
-        public void reset(long second) {
-            synchronized (this) {
-                if (this.time != second) {
-                    this.time = second;
-                    countHolder.count.set(0L);
-                    countHolder.interceptedCount.set(0);
-                }
-            }
+        public SlotCountHolder getCountHolder(String key) {
+            return countHolder;
         }
         
         @Override
@@ -171,30 +184,70 @@ public class TpsRecorder {
     
     static class MultiKeyTpsSlot extends TpsSlot {
         
-        Map<String, SlotCountHolder> keySlots = new HashMap<>(16);
+        private static final int EVICT_SAMPLE_SIZE = 16;
+        
+        final Map<String, SlotCountHolder> keySlots = new ConcurrentHashMap<>(16);
+        
+        private final int maxKeyCount;
+        
+        private final LongSupplier maxCount;
+        
+        private Iterator<Map.Entry<String, SlotCountHolder>> evictCursor;
+        
+        MultiKeyTpsSlot(long time, int maxKeyCount, LongSupplier maxCount) {
+            super(time);
+            this.maxKeyCount = maxKeyCount;
+            this.maxCount = maxCount;
+        }
         
         @Override
         public SlotCountHolder getCountHolder(String key) {
-            if (!keySlots.containsKey(key)) {
-                keySlots.putIfAbsent(key, new SlotCountHolder());
+            SlotCountHolder result = keySlots.get(key);
+            if (null != result) {
+                return result;
             }
-            return keySlots.get(key);
-        }
-        
-        public Map<String, SlotCountHolder> getKeySlots() {
-            return keySlots;
+            if (keySlots.size() >= maxKeyCount) {
+                evictColdKey();
+            }
+            return keySlots.computeIfAbsent(key, k -> new SlotCountHolder());
         }
         
-        @Override
-        public void reset(long second) {
-            synchronized (this) {
-                if (this.time != second) {
-                    this.time = second;
-                    keySlots.clear();
+        /**
+         * Evict the key with the least count among some sampled keys.
+         *
+         * <p>Keys are sampled from a cursor rotating over all keys, so each eviction samples different keys. Keys over
+         * the limit are never evicted, otherwise they would be recorded again from zero and bypass the limit.
+         */
+        private synchronized void evictColdKey() {
+            long limit = maxCount.getAsLong();
+            String coldKey = null;
+            SlotCountHolder coldHolder = null;
+            long coldCount = Long.MAX_VALUE;
+            for (int sampled = 0; sampled < EVICT_SAMPLE_SIZE; sampled++) {
+                if (null == evictCursor || !evictCursor.hasNext()) {
+                    evictCursor = keySlots.entrySet().iterator();
+                    if (!evictCursor.hasNext()) {
+                        break;
+                    }
                 }
+                Map.Entry<String, SlotCountHolder> entry = evictCursor.next();
+                long count = entry.getValue().count.sum();
+                boolean overLimit = limit >= 0 && count >= limit;
+                if (!overLimit && count < coldCount) {
+                    coldKey = entry.getKey();
+                    coldHolder = entry.getValue();
+                    coldCount = count;
+                }
+            }
+            if (null != coldKey) {
+                keySlots.remove(coldKey, coldHolder);
             }
         }
         
+        public Map<String, SlotCountHolder> getKeySlots() {
+            return keySlots;
+        }
+        
         @Override
         public String toString() {
             return "MultiKeyTpsSlot{" + "time=" + time + "}'";
@@ -204,9 +257,9 @@ public class TpsRecorder {
     
     static class SlotCountHolder {
         
-        AtomicLong count = new AtomicLong();
+        final LongAdder count = new LongAdder();
         
-        AtomicLong interceptedCount = new AtomicLong();
+        final LongAdder interceptedCount = new LongAdder();
         
         @Override
         public String toString() {
@@ -214,7 +267,16 @@ public class TpsRecorder {
         }
     }
     
+    /**
+     * Get all slots of this recorder.
+     *
+     * @return slots
+     */
     public List<TpsSlot> getSlotList() {
-        return slotList;
+        List<TpsSlot> result = new ArrayList<>(slotSize);
+        for (int i = 0; i < slotSize; i++) {
+            result.add(slots.get(i));
+        }
+        return result;
     }
 }
@@ -23,6 +23,8 @@ import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.core.remote.BaseRpcServer;
 import com.alibaba.nacos.core.remote.ConnectionManager;
 import com.alibaba.nacos.core.utils.Loggers;
+import com.alibaba.nacos.core.utils.RemoteUtils;
+import com.alibaba.nacos.core.utils.VirtualThreadExecutors;
 import io.grpc.Attributes;
 import io.grpc.CompressorRegistry;
 import io.grpc.Context;
@@ -59,6 +61,8 @@ public abstract class BaseGrpcServer extends BaseRpcServer {
     
     private Server server;
     
+    private MonitoredRpcExecutor rpcExecutor;
+    
     private static final String REQUEST_BI_STREAM_SERVICE_NAME = "BiRequestStream";
     
     private static final String REQUEST_BI_STREAM_METHOD_NAME = "requestBiStream";
@@ -109,7 +113,8 @@ public abstract class BaseGrpcServer extends BaseRpcServer {
         
         addServices(handlerRegistry, serverInterceptor);
         
-        server = ServerBuilder.forPort(getServicePort()).executor(getRpcExecutor())
+        rpcExecutor = createRpcExecutor();
+        server = ServerBuilder.forPort(getServicePort()).executor(rpcExecutor)
                 .maxInboundMessageSize(getInboundMessageSize()).fallbackHandlerRegistry(handlerRegistry)
                 .compressorRegistry(CompressorRegistry.getDefaultInstance())
                 .decompressorRegistry(DecompressorRegistry.getDefaultInstance())
@@ -200,10 +205,31 @@ public abstract class BaseGrpcServer extends BaseRpcServer {
         if (server != null) {
             server.shutdownNow();
         }
+        if (rpcExecutor != null) {
+            rpcExecutor.shutdownIfVirtual();
+        }
+    }
+    
+    private MonitoredRpcExecutor createRpcExecutor() {
+        String executorName = getClass().getSimpleName();
+        if (RemoteUtils.REMOTE_EXECUTOR_MODE_VIRTUAL.equals(RemoteUtils.getRemoteExecutorMode())) {
+            if (VirtualThreadExecutors.isSupported()) {
+                Loggers.REMOTE.info("{} handles requests with virtual threads", executorName);
+                return new MonitoredRpcExecutor(executorName,
+                        VirtualThreadExecutors.newVirtualThreadPerTaskExecutor("nacos-" + executorName + "-vt-"), true);
+            }
+            Loggers.REMOTE.warn("{} virtual thread executor mode is not supported by java {}, fallback to thread pool",
+                    executorName, System.getProperty("java.version"));
+        }
+        return new MonitoredRpcExecutor(executorName, getRpcExecutor(), false);
+    }
+    
+    public MonitoredRpcExecutor getMonitoredRpcExecutor() {
+        return rpcExecutor;
     }
     
     /**
-     * get rpc executor.
+     * get rpc executor, used when executor mode is platform or virtual thread is not supported.
      *
      * @return executor.
      */
@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.core.remote.grpc;
 
+import com.alibaba.nacos.api.ability.ClientAbilities;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.grpc.auto.Payload;
 import com.alibaba.nacos.api.remote.DefaultRequestFuture;
@@ -24,6 +25,8 @@ import com.alibaba.nacos.api.remote.RequestFuture;
 import com.alibaba.nacos.api.remote.request.Request;
 import com.alibaba.nacos.api.remote.response.Response;
 import com.alibaba.nacos.common.remote.client.grpc.GrpcUtils;
+import com.alibaba.nacos.common.remote.codec.PayloadCodec;
+import com.alibaba.nacos.common.remote.codec.PayloadCodecManager;
 import com.alibaba.nacos.common.remote.exception.ConnectionAlreadyClosedException;
 import com.alibaba.nacos.core.remote.Connection;
 import com.alibaba.nacos.core.remote.ConnectionMeta;
@@ -34,6 +37,8 @@ import io.grpc.netty.shaded.io.netty.channel.Channel;
 import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 
+import java.util.List;
+
 /**
  * grpc connection.
  *
@@ -42,8 +47,20 @@ import io.grpc.stub.StreamObserver;
  */
 public class GrpcConnection extends Connection {
     
+    private static final String PAYLOAD_CODEC_PROPERTY = "nacos.remote.server.grpc.payload.codec";
+    
+    /**
+     * ack timeout of requests pushed without callback, which are released after timeout if client never ack.
+     */
+    private static final long DEFAULT_ACK_TIMEOUT_MILLS = 30000L;
+    
     private StreamObserver streamObserver;
     
+    /**
+     * codec negotiated with client to encode requests pushed by this connection.
+     */
+    private volatile PayloadCodec payloadCodec = PayloadCodecManager.getDefaultCodec();
+    
     private Channel channel;
     
     public GrpcConnection(ConnectionMeta metaInfo, StreamObserver streamObserver, Channel channel) {
@@ -52,12 +69,27 @@ public class GrpcConnection extends Connection {
         this.channel = channel;
     }
     
+    @Override
+    public void setAbilities(ClientAbilities abilities) {
+        super.setAbilities(abilities);
+        List<String> clientCodecs = null;
+        if (null != abilities && null != abilities.getRemoteAbility()) {
+            clientCodecs = abilities.getRemoteAbility().getSupportedPayloadCodecs();
+        }
+        String preferred = System.getProperty(PAYLOAD_CODEC_PROPERTY, PayloadCodecManager.JSON);
+        this.payloadCodec = PayloadCodecManager.negotiate(preferred, clientCodecs);
+    }
+    
+    public PayloadCodec getPayloadCodec() {
+        return payloadCodec;
+    }
+    
     private void sendRequestNoAck(Request request) throws NacosException {
         try {
             //StreamObserver#onNext() is not thread-safe,synchronized is required to avoid direct memory leak.
             synchronized (streamObserver) {
                 
-                Payload payload = GrpcUtils.convert(request);
+                Payload payload = GrpcUtils.convert(request, payloadCodec);
                 traceIfNecessary(payload);
                 streamObserver.onNext(payload);
             }
@@ -83,21 +115,24 @@ public class GrpcConnection extends Connection {
         }
     }
     
-    private DefaultRequestFuture sendRequestInner(Request request, RequestCallBack callBack) throws NacosException {
+    private DefaultRequestFuture sendRequestInner(Request request, RequestCallBack callBack, long timeoutMills)
+            throws NacosException {
         final String requestId = String.valueOf(PushAckIdGenerator.getNextId());
         request.setRequestId(requestId);
         
         DefaultRequestFuture defaultPushFuture = new DefaultRequestFuture(getMetaInfo().getConnectionId(), requestId,
-                callBack, () -> RpcAckCallbackSynchronizer.clearFuture(getMetaInfo().getConnectionId(), requestId));
+                callBack, () -> RpcAckCallbackSynchronizer.clearFuture(getMetaInfo().getConnectionId(), requestId),
+                false);
         
-        RpcAckCallbackSynchronizer.syncCallback(getMetaInfo().getConnectionId(), requestId, defaultPushFuture);
+        RpcAckCallbackSynchronizer
+                .syncCallback(getMetaInfo().getConnectionId(), requestId, defaultPushFuture, timeoutMills);
         sendRequestNoAck(request);
         return defaultPushFuture;
     }
     
     @Override
     public Response request(Request request, long timeoutMills) throws NacosException {
-        DefaultRequestFuture pushFuture = sendRequestInner(request, null);
+        DefaultRequestFuture pushFuture = sendRequestInner(request, null, timeoutMills);
         try {
             return pushFuture.get(timeoutMills);
         } catch (Exception e) {
@@ -109,12 +144,13 @@ public class GrpcConnection extends Connection {
     
     @Override
     public RequestFuture requestFuture(Request request) throws NacosException {
-        return sendRequestInner(request, null);
+        return sendRequestInner(request, null, DEFAULT_ACK_TIMEOUT_MILLS);
     }
     
     @Override
     public void asyncRequest(Request request, RequestCallBack requestCallBack) throws NacosException {
-        sendRequestInner(request, requestCallBack);
+        long timeoutMills = null == requestCallBack ? DEFAULT_ACK_TIMEOUT_MILLS : requestCallBack.getTimeout();
+        sendRequestInner(request, requestCallBack, timeoutMills);
     }
     
     @Override
@@ -26,6 +26,8 @@ import com.alibaba.nacos.api.remote.response.ErrorResponse;
 import com.alibaba.nacos.api.remote.response.Response;
 import com.alibaba.nacos.api.remote.response.ServerCheckResponse;
 import com.alibaba.nacos.common.remote.client.grpc.GrpcUtils;
+import com.alibaba.nacos.common.remote.codec.PayloadCodecManager;
+import com.alibaba.nacos.core.remote.AsyncRequestHandler;
 import com.alibaba.nacos.core.remote.Connection;
 import com.alibaba.nacos.core.remote.ConnectionManager;
 import com.alibaba.nacos.core.remote.RequestHandler;
@@ -36,6 +38,8 @@ import io.grpc.stub.StreamObserver;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletionException;
+
 import static com.alibaba.nacos.core.remote.grpc.BaseGrpcServer.CONTEXT_KEY_CONN_ID;
 
 /**
@@ -88,7 +92,9 @@ public class GrpcRequestAcceptor extends RequestGrpc.RequestImplBase {
         
         // server check.
         if (ServerCheckRequest.class.getSimpleName().equals(type)) {
-            Payload serverCheckResponseP = GrpcUtils.convert(new ServerCheckResponse(CONTEXT_KEY_CONN_ID.get()));
+            ServerCheckResponse serverCheckResponse = new ServerCheckResponse(CONTEXT_KEY_CONN_ID.get());
+            serverCheckResponse.setSupportedPayloadCodecs(PayloadCodecManager.getSupportedCodecs());
+            Payload serverCheckResponseP = GrpcUtils.convert(serverCheckResponse);
             traceIfNecessary(serverCheckResponseP, false);
             responseObserver.onNext(serverCheckResponseP);
             responseObserver.onCompleted();
@@ -165,21 +171,51 @@ public class GrpcRequestAcceptor extends RequestGrpc.RequestImplBase {
             requestMeta.setClientVersion(connection.getMetaInfo().getVersion());
             requestMeta.setLabels(connection.getMetaInfo().getLabels());
             connectionManager.refreshActiveTime(requestMeta.getConnectionId());
+            if (requestHandler instanceof AsyncRequestHandler) {
+                ((AsyncRequestHandler) requestHandler).handleRequestAsync(request, requestMeta)
+                        .whenComplete((response, throwable) -> {
+                            if (null != throwable) {
+                                responseError(connectionId, unwrap((Throwable) throwable), responseObserver);
+                                return;
+                            }
+                            try {
+                                responseSuccess(grpcRequest, (Response) response, responseObserver);
+                            } catch (Throwable e) {
+                                responseError(connectionId, e, responseObserver);
+                            }
+                        });
+                return;
+            }
             Response response = requestHandler.handleRequest(request, requestMeta);
-            Payload payloadResponse = GrpcUtils.convert(response);
-            traceIfNecessary(payloadResponse, false);
-            responseObserver.onNext(payloadResponse);
-            responseObserver.onCompleted();
+            responseSuccess(grpcRequest, response, responseObserver);
         } catch (Throwable e) {
-            Loggers.REMOTE_DIGEST
-                    .error("[{}] Fail to handle request from connection [{}] ,error message :{}", "grpc", connectionId,
-                            e);
-            Payload payloadResponse = GrpcUtils.convert(ErrorResponse.build(e));
-            traceIfNecessary(payloadResponse, false);
-            responseObserver.onNext(payloadResponse);
-            responseObserver.onCompleted();
+            responseError(connectionId, e, responseObserver);
         }
         
     }
     
+    private void responseSuccess(Payload grpcRequest, Response response, StreamObserver<Payload> responseObserver) {
+        // Response with the codec of request, which is negotiated by client.
+        Payload payloadResponse = GrpcUtils.convert(response, GrpcUtils.getPayloadCodec(grpcRequest));
+        traceIfNecessary(payloadResponse, false);
+        responseObserver.onNext(payloadResponse);
+        responseObserver.onCompleted();
+    }
+    
+    private void responseError(String connectionId, Throwable e, StreamObserver<Payload> responseObserver) {
+        Loggers.REMOTE_DIGEST
+                .error("[{}] Fail to handle request from connection [{}] ,error message :{}", "grpc", connectionId, e);
+        Payload payloadResponse = GrpcUtils.convert(ErrorResponse.build(e));
+        traceIfNecessary(payloadResponse, false);
+        responseObserver.onNext(payloadResponse);
+        responseObserver.onCompleted();
+    }
+    
+    private Throwable unwrap(Throwable throwable) {
+        if (throwable instanceof CompletionException && null != throwable.getCause()) {
+            return throwable.getCause();
+        }
+        return throwable;
+    }
+    
 }
\ No newline at end of file
@@ -0,0 +1,138 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.remote.grpc;
+
+import io.micrometer.core.instrument.ImmutableTag;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tag;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Rpc executor which exposes the running request and thread metrics of the real executor.
+ *
+ * <p>For platform thread pool, both threads and carrier parallelism are the pool size. For virtual thread executor,
+ * each running request owns one virtual thread, and carrier parallelism is the configured parallelism of virtual thread
+ * scheduler rather than the measured count of carrier threads.
+ *
+ * @author xiweng.yy
+ */
+public class MonitoredRpcExecutor implements Executor {
+    
+    private static final String VIRTUAL_THREAD_PARALLELISM = "jdk.virtualThreadScheduler.parallelism";
+    
+    private final Executor delegate;
+    
+    private final boolean virtual;
+    
+    private final AtomicInteger runningCount = new AtomicInteger();
+    
+    public MonitoredRpcExecutor(String executorName, Executor delegate, boolean virtual) {
+        this.delegate = delegate;
+        this.virtual = virtual;
+        Metrics.gauge("nacos_monitor", buildTags(executorName, "rpcExecutorRunning"), this,
+                MonitoredRpcExecutor::getRunningCount);
+        Metrics.gauge("nacos_monitor", buildTags(executorName, "rpcExecutorThreads"), this,
+                MonitoredRpcExecutor::getThreadCount);
+        Metrics.gauge("nacos_monitor", buildTags(executorName, "rpcExecutorCarrierParallelism"), this,
+                MonitoredRpcExecutor::getCarrierParallelism);
+    }
+    
+    private static List<Tag> buildTags(String executorName, String name) {
+        List<Tag> tags = new ArrayList<>();
+        tags.add(new ImmutableTag("module", "core"));
+        tags.add(new ImmutableTag("name", name));
+        tags.add(new ImmutableTag("executor", executorName));
+        return tags;
+    }
+    
+    @Override
+    public void execute(Runnable command) {
+        runningCount.incrementAndGet();
+        try {
+            delegate.execute(() -> {
+                try {
+                    command.run();
+                } finally {
+                    runningCount.decrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            runningCount.decrementAndGet();
+            throw e;
+        }
+    }
+    
+    public boolean isVirtual() {
+        return virtual;
+    }
+    
+    public Executor getDelegate() {
+        return delegate;
+    }
+    
+    /**
+     * Get count of requests submitted and not finished, including requests waiting in queue.
+     *
+     * @return running request count
+     */
+    public int getRunningCount() {
+        return runningCount.get();
+    }
+    
+    /**
+     * Get count of threads which handle requests.
+     *
+     * @return thread count
+     */
+    public int getThreadCount() {
+        if (delegate instanceof ThreadPoolExecutor) {
+            return ((ThreadPoolExecutor) delegate).getPoolSize();
+        }
+        return runningCount.get();
+    }
+    
+    /**
+     * Get the parallelism of platform threads which carry the request handling threads.
+     *
+     * <p>For virtual thread executor, it is the configured {@code jdk.virtualThreadScheduler.parallelism} or the
+     * processor count, which is the target count of carrier threads instead of a measured value.
+     *
+     * @return carrier parallelism
+     */
+    public int getCarrierParallelism() {
+        if (!virtual) {
+            return getThreadCount();
+        }
+        return Integer.getInteger(VIRTUAL_THREAD_PARALLELISM, Runtime.getRuntime().availableProcessors());
+    }
+    
+    /**
+     * Shutdown the executor if it is only owned by this rpc server.
+     */
+    public void shutdownIfVirtual() {
+        if (virtual && delegate instanceof ExecutorService) {
+            ((ExecutorService) delegate).shutdownNow();
+        }
+    }
+}
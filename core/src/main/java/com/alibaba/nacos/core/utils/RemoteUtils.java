@@ -38,6 +38,16 @@ public class RemoteUtils {
      */
     private static final int REMOTE_EXECUTOR_QUEUE_SIZE = 1 << 14;
     
+    /**
+     * Remote executor mode which handles requests with fixed platform thread pool, default mode.
+     */
+    public static final String REMOTE_EXECUTOR_MODE_PLATFORM = "platform";
+    
+    /**
+     * Remote executor mode which handles each request with a new virtual thread if supported by running JDK.
+     */
+    public static final String REMOTE_EXECUTOR_MODE_VIRTUAL = "virtual";
+    
     /**
      * get remote executors thread times of processors,default is 64. see the usage of this method for detail.
      *
@@ -62,4 +72,15 @@ public class RemoteUtils {
             return REMOTE_EXECUTOR_QUEUE_SIZE;
         }
     }
+    
+    /**
+     * get remote executor mode, {@link #REMOTE_EXECUTOR_MODE_PLATFORM} or {@link #REMOTE_EXECUTOR_MODE_VIRTUAL}.
+     *
+     * @return remote executor mode, default is {@link #REMOTE_EXECUTOR_MODE_PLATFORM}.
+     */
+    public static String getRemoteExecutorMode() {
+        String mode = System.getProperty("remote.executor.mode");
+        return REMOTE_EXECUTOR_MODE_VIRTUAL.equalsIgnoreCase(mode) ? REMOTE_EXECUTOR_MODE_VIRTUAL
+                : REMOTE_EXECUTOR_MODE_PLATFORM;
+    }
 }
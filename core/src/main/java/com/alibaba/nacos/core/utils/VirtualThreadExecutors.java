@@ -0,0 +1,108 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.utils;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Factory of executors which run each task on a new virtual thread.
+ *
+ * <p>Nacos is compiled for Java 8, so virtual threads are created by reflection and only available when the running JDK
+ * supports them without preview features (JDK 21+).
+ *
+ * @author xiweng.yy
+ */
+public final class VirtualThreadExecutors {
+    
+    private static final Method OF_VIRTUAL = findMethod(Thread.class, "ofVirtual");
+    
+    private static final Class<?> BUILDER_CLASS = findClass("java.lang.Thread$Builder");
+    
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR = findMethod(Executors.class,
+            "newThreadPerTaskExecutor", ThreadFactory.class);
+    
+    private static final boolean SUPPORTED = checkSupported();
+    
+    private VirtualThreadExecutors() {
+    }
+    
+    /**
+     * Whether virtual thread is supported by running JDK.
+     *
+     * @return {@code true} if supported
+     */
+    public static boolean isSupported() {
+        return SUPPORTED;
+    }
+    
+    /**
+     * Create an executor which starts a new virtual thread for each task.
+     *
+     * @param namePrefix prefix of virtual thread name, followed by a sequence number
+     * @return executor
+     * @throws UnsupportedOperationException if virtual thread is not supported by running JDK
+     */
+    public static ExecutorService newVirtualThreadPerTaskExecutor(String namePrefix) {
+        if (!SUPPORTED) {
+            throw new UnsupportedOperationException(
+                    "Virtual thread is not supported by java " + System.getProperty("java.version"));
+        }
+        try {
+            return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, newVirtualThreadFactory(namePrefix));
+        } catch (Exception e) {
+            throw new UnsupportedOperationException("Create virtual thread executor failed", e);
+        }
+    }
+    
+    private static ThreadFactory newVirtualThreadFactory(String namePrefix) throws Exception {
+        Object builder = OF_VIRTUAL.invoke(null);
+        builder = BUILDER_CLASS.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+        return (ThreadFactory) BUILDER_CLASS.getMethod("factory").invoke(builder);
+    }
+    
+    private static boolean checkSupported() {
+        if (null == OF_VIRTUAL || null == BUILDER_CLASS || null == NEW_THREAD_PER_TASK_EXECUTOR) {
+            return false;
+        }
+        try {
+            // virtual thread is preview feature before JDK 21 and throws UnsupportedOperationException if not enabled.
+            newVirtualThreadFactory("nacos-virtual-thread-check-");
+            return true;
+        } catch (Throwable e) {
+            return false;
+        }
+    }
+    
+    private static Method findMethod(Class<?> clazz, String name, Class<?>... parameterTypes) {
+        try {
+            return clazz.getMethod(name, parameterTypes);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+    
+    private static Class<?> findClass(String className) {
+        try {
+            return Class.forName(className);
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.distro.task.delay;
+
+import com.alibaba.nacos.consistency.DataOperation;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class DistroBatchDelayTaskTest {
+    
+    private static final String TYPE = "type";
+    
+    private static final String TARGET = "1.1.1.1:8848";
+    
+    private DistroKey batchKey;
+    
+    private DistroKey key1;
+    
+    private DistroKey key2;
+    
+    @Before
+    public void setUp() {
+        batchKey = new DistroKey(DataOperation.BATCH.name(), TYPE, TARGET);
+        key1 = new DistroKey("key1", TYPE, TARGET);
+        key2 = new DistroKey("key2", TYPE, TARGET);
+    }
+    
+    @Test
+    public void testMergeKeepsFirstDelayAndNewestAction() {
+        DistroBatchDelayTask oldTask = new DistroBatchDelayTask(batchKey, key1, DataOperation.CHANGE, 1000L);
+        oldTask.setLastProcessTime(100L);
+        DistroBatchDelayTask newTask = new DistroBatchDelayTask(batchKey, key2, DataOperation.CHANGE, 1000L);
+        newTask.merge(oldTask);
+        DistroBatchDelayTask newestTask = new DistroBatchDelayTask(batchKey, key1, DataOperation.DELETE, 0L);
+        newestTask.merge(newTask);
+        assertEquals(100L, newestTask.getLastProcessTime());
+        assertEquals(0L, newestTask.getTaskInterval());
+        assertEquals(2, newestTask.getPendingKeys().size());
+        assertEquals(DataOperation.DELETE, newestTask.getPendingKeys().get(key1));
+        assertEquals(DataOperation.CHANGE, newestTask.getPendingKeys().get(key2));
+        Iterator<DistroKey> iterator = newestTask.getPendingKeys().keySet().iterator();
+        assertEquals(key1, iterator.next());
+        assertEquals(key2, iterator.next());
+    }
+    
+    @Test
+    public void testMergeRetryNotOverwriteNewerAction() {
+        DistroBatchDelayTask pendingTask = new DistroBatchDelayTask(batchKey, key1, DataOperation.DELETE, 1000L);
+        Map<DistroKey, DataOperation> failedKeys = new HashMap<>();
+        failedKeys.put(key1, DataOperation.CHANGE);
+        failedKeys.put(key2, DataOperation.CHANGE);
+        DistroBatchDelayTask retryTask = new DistroBatchDelayTask(batchKey, failedKeys, 3000L, true);
+        retryTask.merge(pendingTask);
+        assertEquals(1000L, retryTask.getTaskInterval());
+        assertEquals(DataOperation.DELETE, retryTask.getPendingKeys().get(key1));
+        assertEquals(DataOperation.CHANGE, retryTask.getPendingKeys().get(key2));
+    }
+    
+    @Test
+    public void testMergeIgnoreOtherTask() {
+        DistroBatchDelayTask task = new DistroBatchDelayTask(batchKey, key1, DataOperation.CHANGE, 1000L);
+        task.merge(new DistroDelayTask(key2, 1000L));
+        assertEquals(1, task.getPendingKeys().size());
+        assertFalse(task.getPendingKeys().containsKey(key2));
+    }
+}
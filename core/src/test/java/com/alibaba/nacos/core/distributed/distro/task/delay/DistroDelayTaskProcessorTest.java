@@ -0,0 +1,89 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.distro.task.delay;
+
+import com.alibaba.nacos.consistency.DataOperation;
+import com.alibaba.nacos.core.distributed.distro.DistroConfig;
+import com.alibaba.nacos.core.distributed.distro.component.DistroComponentHolder;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.task.DistroTaskEngineHolder;
+import com.alibaba.nacos.core.distributed.distro.task.execute.DistroExecuteTaskExecuteEngine;
+import com.alibaba.nacos.core.distributed.distro.task.execute.DistroSyncBatchTask;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DistroDelayTaskProcessorTest {
+    
+    private static final String TYPE = "type";
+    
+    private static final String TARGET = "1.1.1.1:8848";
+    
+    @Mock
+    private DistroTaskEngineHolder distroTaskEngineHolder;
+    
+    @Mock
+    private DistroComponentHolder distroComponentHolder;
+    
+    @Mock
+    private DistroExecuteTaskExecuteEngine executeTaskExecuteEngine;
+    
+    private DistroDelayTaskProcessor processor;
+    
+    private int originalMaxSize;
+    
+    @Before
+    public void setUp() {
+        EnvUtil.setEnvironment(new MockEnvironment());
+        when(distroTaskEngineHolder.getExecuteWorkersManager()).thenReturn(executeTaskExecuteEngine);
+        processor = new DistroDelayTaskProcessor(distroTaskEngineHolder, distroComponentHolder);
+        originalMaxSize = DistroConfig.getInstance().getSyncBatchMaxSize();
+        DistroConfig.getInstance().setSyncBatchMaxSize(2);
+    }
+    
+    @After
+    public void tearDown() {
+        DistroConfig.getInstance().setSyncBatchMaxSize(originalMaxSize);
+    }
+    
+    @Test
+    public void testProcessBatchTaskSplitByMaxSize() {
+        DistroKey batchKey = new DistroKey(DataOperation.BATCH.name(), TYPE, TARGET);
+        Map<DistroKey, DataOperation> pendingKeys = new LinkedHashMap<>();
+        for (int i = 0; i < 5; i++) {
+            pendingKeys.put(new DistroKey("key" + i, TYPE, TARGET), DataOperation.CHANGE);
+        }
+        assertTrue(processor.process(new DistroBatchDelayTask(batchKey, pendingKeys, 0L, false)));
+        verify(executeTaskExecuteEngine, times(3)).addTask(eq(batchKey), any(DistroSyncBatchTask.class));
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.distro.task.execute;
+
+import com.alibaba.nacos.consistency.DataOperation;
+import com.alibaba.nacos.core.distributed.distro.component.DistroCallback;
+import com.alibaba.nacos.core.distributed.distro.component.DistroComponentHolder;
+import com.alibaba.nacos.core.distributed.distro.component.DistroDataStorage;
+import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.task.DistroTaskEngineHolder;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DistroSyncBatchTaskTest {
+    
+    private static final String TYPE = "type";
+    
+    private static final String TARGET = "1.1.1.1:8848";
+    
+    @Mock
+    private DistroComponentHolder distroComponentHolder;
+    
+    @Mock
+    private DistroTaskEngineHolder distroTaskEngineHolder;
+    
+    @Mock
+    private DistroDataStorage dataStorage;
+    
+    @Mock
+    private DistroTransportAgent transportAgent;
+    
+    @Mock
+    private DistroCallback callback;
+    
+    private DistroSyncBatchTask task;
+    
+    @Before
+    public void setUp() {
+        when(distroComponentHolder.findDataStorage(TYPE)).thenReturn(dataStorage);
+        DistroKey batchKey = new DistroKey(DataOperation.BATCH.name(), TYPE, TARGET);
+        Map<DistroKey, DataOperation> distroKeys = new LinkedHashMap<>();
+        distroKeys.put(new DistroKey("key", TYPE, TARGET), DataOperation.CHANGE);
+        task = new DistroSyncBatchTask(batchKey, distroKeys, distroComponentHolder, distroTaskEngineHolder);
+    }
+    
+    @Test
+    public void testDoExecuteWithCallbackForEmptyBatch() {
+        task.doExecuteWithCallback(callback);
+        verify(callback).onSuccess();
+        verify(transportAgent, never()).syncBatchData(anyList(), anyString(), any(DistroCallback.class));
+    }
+}
@@ -28,10 +28,14 @@ import com.alipay.sofa.jraft.RaftGroupService;
 import com.alipay.sofa.jraft.core.NodeImpl;
 import com.alipay.sofa.jraft.core.State;
 import com.alipay.sofa.jraft.error.RemotingException;
+import com.alipay.sofa.jraft.closure.ReadIndexClosure;
+import com.alipay.sofa.jraft.option.NodeOptions;
+import com.alipay.sofa.jraft.option.ReadOnlyOption;
 import com.alipay.sofa.jraft.rpc.InvokeCallback;
 import com.alipay.sofa.jraft.rpc.RpcClient;
 import com.alipay.sofa.jraft.rpc.impl.cli.CliClientServiceImpl;
 import com.alipay.sofa.jraft.util.Endpoint;
+import com.alipay.sofa.jraft.util.Utils;
 
 import com.alibaba.nacos.common.model.RestResult;
 import com.alibaba.nacos.common.model.RestResultUtils;
@@ -67,11 +71,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -270,6 +277,99 @@ public class JRaftServerTest {
         verify(cliClientServiceMock).getRpcClient();
     }
     
+    @Test
+    public void testLeaderLeaseAndReadStaleness() {
+        NodeOptions options = new NodeOptions();
+        options.setElectionTimeoutMs(1000);
+        when(node.getOptions()).thenReturn(options);
+        when(nacosStateMachine.isLeaderLeaseValid(options.getLeaderLeaseTimeoutMs())).thenReturn(true);
+        when(nacosStateMachine.getReadStaleness()).thenReturn(100L);
+        Assert.assertTrue(server.isLeaderLeaseValid("test_nacos"));
+        Assert.assertEquals(100L, server.getReadStaleness("test_nacos"));
+        
+        // Unknown group never reads locally.
+        Assert.assertFalse(server.isLeaderLeaseValid(groupId));
+        Assert.assertEquals(Long.MAX_VALUE, server.getReadStaleness(groupId));
+    }
+    
+    @Test
+    public void testConfirmRead() {
+        NacosStateMachine machine = new NacosStateMachine(server, mockProcessor4CP);
+        Assert.assertEquals(Long.MAX_VALUE, machine.getReadStaleness());
+        
+        machine.confirmRead(1L, Utils.monotonicMs());
+        Assert.assertTrue(machine.getReadStaleness() < 1000L);
+        // The lease only belongs to leader.
+        Assert.assertFalse(machine.isLeaderLeaseValid(1000L));
+    }
+    
+    @Test
+    public void testLeaderLeaseValidInSameTerm() throws Exception {
+        NacosStateMachine machine = new NacosStateMachine(server, mockProcessor4CP);
+        becomeLeader(machine, 2L);
+        machine.confirmRead(2L, Utils.monotonicMs());
+        Assert.assertTrue(machine.isLeaderLeaseValid(1000L));
+    }
+    
+    @Test
+    public void testLeaderLeaseInvalidAfterTermChanged() throws Exception {
+        NacosStateMachine machine = new NacosStateMachine(server, mockProcessor4CP);
+        becomeLeader(machine, 2L);
+        machine.confirmRead(2L, Utils.monotonicMs());
+        becomeLeader(machine, 3L);
+        Assert.assertFalse(machine.isLeaderLeaseValid(1000L));
+        // Confirmation of the old term never replaces the one of new term.
+        machine.confirmRead(3L, Utils.monotonicMs());
+        machine.confirmRead(2L, Utils.monotonicMs());
+        Assert.assertTrue(machine.isLeaderLeaseValid(1000L));
+    }
+    
+    @Test
+    public void testLeaderLeaseExpired() throws Exception {
+        NacosStateMachine machine = new NacosStateMachine(server, mockProcessor4CP);
+        becomeLeader(machine, 2L);
+        machine.confirmRead(2L, Utils.monotonicMs() - 2000L);
+        Assert.assertFalse(machine.isLeaderLeaseValid(1000L));
+        machine.confirmRead(2L, Utils.monotonicMs());
+        Assert.assertTrue(machine.isLeaderLeaseValid(1000L));
+    }
+    
+    @Test
+    public void testConfirmReadOnlyByReadOnlySafe() throws Exception {
+        when(nacosStateMachine.getTerm()).thenReturn(2L);
+        mockReadIndex(ReadOnlyOption.ReadOnlySafe);
+        server.get(ReadRequest.newBuilder().setGroup("test_nacos").build()).get(1L, TimeUnit.SECONDS);
+        verify(nacosStateMachine).confirmRead(eq(2L), anyLong());
+    }
+    
+    @Test
+    public void testNotConfirmReadByLeaseBasedReadIndex() throws Exception {
+        mockReadIndex(ReadOnlyOption.ReadOnlyLeaseBased);
+        server.get(ReadRequest.newBuilder().setGroup("test_nacos").build()).get(1L, TimeUnit.SECONDS);
+        verify(nacosStateMachine, never()).confirmRead(anyLong(), anyLong());
+    }
+    
+    private void mockReadIndex(ReadOnlyOption readOnlyOption) {
+        NodeOptions options = new NodeOptions();
+        options.getRaftOptions().setReadOnlyOptions(readOnlyOption);
+        when(node.getOptions()).thenReturn(options);
+        when(requestProcessor.onRequest(any(ReadRequest.class))).thenReturn(Response.newBuilder().build());
+        doAnswer(invocationOnMock -> {
+            ReadIndexClosure closure = invocationOnMock.getArgument(1);
+            closure.run(Status.OK(), 1L, null);
+            return null;
+        }).when(node).readIndex(any(), any(ReadIndexClosure.class));
+    }
+    
+    private void becomeLeader(NacosStateMachine machine, long term) throws Exception {
+        Field termField = NacosStateMachine.class.getDeclaredField("term");
+        termField.setAccessible(true);
+        termField.set(machine, term);
+        Field isLeaderField = NacosStateMachine.class.getDeclaredField("isLeader");
+        isLeaderField.setAccessible(true);
+        ((AtomicBoolean) isLeaderField.get(machine)).set(true);
+    }
+    
     @Test
     public void testRegisterSelfToCluster() {
         PeerId selfPeerId = new PeerId("4.4.4.4", 8080);
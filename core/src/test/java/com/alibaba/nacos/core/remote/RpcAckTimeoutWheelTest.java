@@ -0,0 +1,103 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.remote;
+
+import com.alibaba.nacos.api.remote.DefaultRequestFuture;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class RpcAckTimeoutWheelTest {
+    
+    private final List<RpcAckTimeoutWheel.AckTimeout> expired = new CopyOnWriteArrayList<>();
+    
+    private RpcAckTimeoutWheel wheel;
+    
+    @Before
+    public void setUp() {
+        wheel = new RpcAckTimeoutWheel(10L, 8, expired::add);
+    }
+    
+    @After
+    public void tearDown() {
+        wheel.shutdown();
+    }
+    
+    @Test
+    public void testExpire() throws InterruptedException {
+        RpcAckTimeoutWheel.AckTimeout timeout = startTimeout("1", 50L);
+        assertEquals(1, wheel.getPendingCount());
+        waitExpired(1);
+        assertTrue(timeout.isExpired());
+        assertEquals(timeout, expired.get(0));
+        assertEquals(0, wheel.getPendingCount());
+    }
+    
+    @Test
+    public void testExpireAfterSeveralRounds() throws InterruptedException {
+        long start = System.currentTimeMillis();
+        startTimeout("1", 300L);
+        waitExpired(1);
+        assertTrue(System.currentTimeMillis() - start >= 300L);
+    }
+    
+    @Test
+    public void testCancel() throws InterruptedException {
+        RpcAckTimeoutWheel.AckTimeout timeout = startTimeout("1", 50L);
+        assertTrue(timeout.cancel());
+        assertFalse(timeout.cancel());
+        assertEquals(0, wheel.getPendingCount());
+        startTimeout("2", 50L);
+        waitExpired(1);
+        assertFalse(timeout.isExpired());
+        assertEquals("2", expired.get(0).getFuture().getRequestId());
+    }
+    
+    @Test
+    public void testNeverExpireWithoutTimeout() throws InterruptedException {
+        final RpcAckTimeoutWheel.AckTimeout timeout = startTimeout("1", 0L);
+        assertEquals(0, wheel.getPendingCount());
+        startTimeout("2", 50L);
+        waitExpired(1);
+        TimeUnit.MILLISECONDS.sleep(50L);
+        assertFalse(timeout.isExpired());
+        assertEquals(1, expired.size());
+    }
+    
+    private RpcAckTimeoutWheel.AckTimeout startTimeout(String requestId, long timeoutMills) {
+        RpcAckTimeoutWheel.AckTimeout result = wheel
+                .newTimeout(new DefaultRequestFuture("connection", requestId), timeoutMills);
+        wheel.start(result);
+        return result;
+    }
+    
+    private void waitExpired(int expectedSize) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000L;
+        while (expired.size() < expectedSize && System.currentTimeMillis() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10L);
+        }
+        assertEquals(expectedSize, expired.size());
+    }
+}
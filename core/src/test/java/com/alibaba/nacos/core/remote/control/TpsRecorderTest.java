@@ -20,6 +20,8 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -60,4 +62,58 @@ public class TpsRecorderTest {
         
         Assert.assertFalse(tpsRecorder.isInterceptMode());
     }
+    
+    @Test
+    public void testSlotRollover() {
+        TpsRecorder.TpsSlot tpsSlot = tpsRecorder.createSlotIfAbsent(start);
+        tpsSlot.getCountHolder("a").count.increment();
+        Assert.assertSame(tpsSlot, tpsRecorder.createSlotIfAbsent(start));
+        
+        // same index after a whole round of slots.
+        long nextRound = start + TimeUnit.SECONDS.toMillis(11);
+        TpsRecorder.TpsSlot newSlot = tpsRecorder.createSlotIfAbsent(nextRound);
+        Assert.assertNotSame(tpsSlot, newSlot);
+        Assert.assertEquals(0L, newSlot.getCountHolder("a").count.sum());
+        Assert.assertNull(tpsRecorder.getPoint(start));
+        Assert.assertSame(newSlot, tpsRecorder.getPoint(nextRound));
+    }
+    
+    @Test
+    public void testEvictColdKey() {
+        TpsRecorder.MultiKeyTpsSlot tpsSlot = new TpsRecorder.MultiKeyTpsSlot(start, 2, () -> -1L);
+        tpsSlot.getCountHolder("hot").count.add(10L);
+        tpsSlot.getCountHolder("cold").count.increment();
+        tpsSlot.getCountHolder("new").count.increment();
+        Assert.assertEquals(2, tpsSlot.getKeySlots().size());
+        Assert.assertTrue(tpsSlot.getKeySlots().containsKey("hot"));
+        Assert.assertTrue(tpsSlot.getKeySlots().containsKey("new"));
+    }
+    
+    @Test
+    public void testNotEvictKeyOverLimit() {
+        TpsRecorder.MultiKeyTpsSlot tpsSlot = new TpsRecorder.MultiKeyTpsSlot(start, 2, () -> 1L);
+        tpsSlot.getCountHolder("limited").count.increment();
+        tpsSlot.getCountHolder("hot").count.add(10L);
+        tpsSlot.getCountHolder("new").count.increment();
+        Assert.assertEquals(3, tpsSlot.getKeySlots().size());
+        Assert.assertEquals(1L, tpsSlot.getCountHolder("limited").count.sum());
+    }
+    
+    @Test
+    public void testEvictColdKeyBeyondFirstSamples() {
+        int maxKeyCount = 40;
+        TpsRecorder.MultiKeyTpsSlot tpsSlot = new TpsRecorder.MultiKeyTpsSlot(start, maxKeyCount, () -> -1L);
+        for (int i = 0; i < maxKeyCount; i++) {
+            tpsSlot.getCountHolder("key" + i).count.add(100L);
+        }
+        // make the last key in iteration order the coldest one.
+        List<String> keys = new ArrayList<>(tpsSlot.getKeySlots().keySet());
+        String coldKey = keys.get(keys.size() - 1);
+        tpsSlot.getKeySlots().get(coldKey).count.reset();
+        for (int i = 0; i < 3; i++) {
+            tpsSlot.getCountHolder("new" + i).count.add(100L);
+        }
+        Assert.assertEquals(maxKeyCount, tpsSlot.getKeySlots().size());
+        Assert.assertFalse(tpsSlot.getKeySlots().containsKey(coldKey));
+    }
 }
@@ -17,12 +17,26 @@
 
 package com.alibaba.nacos.core.remote.core;
 
+import com.alibaba.nacos.api.remote.AbstractRequestCallBack;
+import com.alibaba.nacos.api.remote.DefaultRequestFuture;
+import com.alibaba.nacos.api.remote.response.Response;
+import com.alibaba.nacos.common.remote.exception.ConnectionAlreadyClosedException;
+import com.alibaba.nacos.core.monitor.MetricsMonitor;
 import com.alibaba.nacos.core.remote.Connection;
 import com.alibaba.nacos.core.remote.ConnectionMeta;
+import com.alibaba.nacos.core.remote.RpcAckCallbackSynchronizer;
 import com.alibaba.nacos.core.remote.grpc.GrpcConnection;
 import org.junit.Test;
 
 import java.util.HashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 /**
  * {@link RpcAckCallbackInitorOrCleaner} unit test.
@@ -43,4 +57,83 @@ public class RpcAckCallbackInitorOrCleanerTest {
         
         initorOrCleaner.clientDisConnected(connection);
     }
+    
+    @Test
+    public void testDisconnectFailPendingAck() throws Exception {
+        String connectId = "12";
+        ConnectionMeta meta = new ConnectionMeta(connectId, "", "", 80, 80, "GRPC", "", "", new HashMap<>());
+        Connection connection = new GrpcConnection(meta, null, null);
+        RpcAckCallbackInitorOrCleaner initorOrCleaner = new RpcAckCallbackInitorOrCleaner();
+        initorOrCleaner.clientConnected(connection);
+        AtomicReference<Throwable> exception = new AtomicReference<>();
+        DefaultRequestFuture future = new DefaultRequestFuture(connectId, "1", new MockCallBack(exception), null,
+                false);
+        RpcAckCallbackSynchronizer.syncCallback(connectId, "1", future);
+        assertTrue(RpcAckCallbackSynchronizer.CALLBACK_CONTEXT.get(connectId).containsKey("1"));
+        
+        initorOrCleaner.clientDisConnected(connection);
+        assertTrue(future.isDone());
+        assertTrue(exception.get() instanceof ConnectionAlreadyClosedException);
+        assertNull(RpcAckCallbackSynchronizer.CALLBACK_CONTEXT.get(connectId));
+    }
+    
+    @Test
+    public void testAckTimeout() throws Exception {
+        String connectId = "13";
+        AtomicReference<Throwable> exception = new AtomicReference<>();
+        DefaultRequestFuture future = new DefaultRequestFuture(connectId, "1", new MockCallBack(exception), null,
+                false);
+        RpcAckCallbackSynchronizer.syncCallback(connectId, "1", future, 100L);
+        long deadline = System.currentTimeMillis() + 5000L;
+        while (!future.isDone() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10L);
+        }
+        assertTrue(future.isDone());
+        assertTrue(exception.get() instanceof TimeoutException);
+        assertFalse(RpcAckCallbackSynchronizer.CALLBACK_CONTEXT.get(connectId).containsKey("1"));
+        RpcAckCallbackSynchronizer.clearContext(connectId);
+    }
+    
+    @Test
+    public void testAckTimeoutInClearedContext() throws Exception {
+        String connectId = "14";
+        AtomicReference<Throwable> exception = new AtomicReference<>();
+        DefaultRequestFuture future = new DefaultRequestFuture(connectId, "1", new MockCallBack(exception), null,
+                false);
+        RpcAckCallbackSynchronizer.syncCallback(connectId, "1", future, 100L);
+        final int pending = MetricsMonitor.getRpcAckPendingMonitor().get();
+        // Simulate the request put into the context after the context cleared.
+        RpcAckCallbackSynchronizer.CALLBACK_CONTEXT.remove(connectId);
+        long deadline = System.currentTimeMillis() + 5000L;
+        while (!future.isDone() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10L);
+        }
+        assertTrue(future.isDone());
+        assertTrue(exception.get() instanceof TimeoutException);
+        assertEquals(pending - 1, MetricsMonitor.getRpcAckPendingMonitor().get());
+    }
+    
+    private static class MockCallBack extends AbstractRequestCallBack {
+        
+        private final AtomicReference<Throwable> exception;
+        
+        MockCallBack(AtomicReference<Throwable> exception) {
+            super(60000L);
+            this.exception = exception;
+        }
+        
+        @Override
+        public Executor getExecutor() {
+            return null;
+        }
+        
+        @Override
+        public void onResponse(Response response) {
+        }
+        
+        @Override
+        public void onException(Throwable e) {
+            exception.set(e);
+        }
+    }
 }
@@ -30,6 +30,7 @@ import com.alibaba.nacos.api.remote.response.Response;
 import com.alibaba.nacos.api.remote.response.ServerCheckResponse;
 import com.alibaba.nacos.common.remote.PayloadRegistry;
 import com.alibaba.nacos.common.remote.client.grpc.GrpcUtils;
+import com.alibaba.nacos.core.remote.AsyncRequestHandler;
 import com.alibaba.nacos.core.remote.Connection;
 import com.alibaba.nacos.core.remote.ConnectionManager;
 import com.alibaba.nacos.core.remote.ConnectionMeta;
@@ -59,6 +60,14 @@ import org.mockito.junit.MockitoJUnitRunner;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static com.alibaba.nacos.core.remote.grpc.BaseGrpcServer.CONTEXT_KEY_CONN_ID;
 import static com.alibaba.nacos.core.remote.grpc.BaseGrpcServer.CONTEXT_KEY_CONN_LOCAL_PORT;
@@ -367,6 +376,78 @@ public class GrpcRequestAcceptorTest {
         ApplicationUtils.setStarted(false);
     }
     
+    @Test
+    public void testHandleRequestAsync() throws InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Assert.assertTrue(requestAsync(new MockAsyncRequestHandler(executor)) instanceof HealthCheckResponse);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    @Test
+    public void testHandleRequestAsyncRejected() throws InterruptedException {
+        Object result = requestAsync(new MockAsyncRequestHandler(command -> {
+            throw new RejectedExecutionException("mock rejected");
+        }));
+        Assert.assertTrue(result instanceof ErrorResponse);
+        Assert.assertEquals(NacosException.OVER_THRESHOLD, ((ErrorResponse) result).getErrorCode());
+    }
+    
+    @Test
+    public void testHandleRequestAsyncResponseConvertFailed() throws InterruptedException {
+        Object result = requestAsync(new MockAsyncRequestHandler(Runnable::run) {
+            
+            @Override
+            public HealthCheckResponse handle(HealthCheckRequest request, RequestMeta meta) {
+                return new UnserializableResponse();
+            }
+        });
+        Assert.assertTrue(result instanceof ErrorResponse);
+    }
+    
+    private Object requestAsync(MockAsyncRequestHandler handler) throws InterruptedException {
+        ApplicationUtils.setStarted(true);
+        Mockito.when(requestHandlerRegistry.getByRequestType(Mockito.anyString())).thenReturn(handler);
+        Mockito.when(connectionManager.checkValid(Mockito.any())).thenReturn(true);
+        String ip = "1.1.1.1";
+        ConnectionMeta connectionMeta = new ConnectionMeta(connectId, ip, ip, 8888, 9848, "GRPC", "", "",
+                new HashMap<>());
+        Connection connection = new GrpcConnection(connectionMeta, null, null);
+        Mockito.when(connectionManager.getConnection(Mockito.any())).thenReturn(connection);
+        
+        RequestMeta metadata = new RequestMeta();
+        metadata.setClientIp("127.0.0.1");
+        metadata.setConnectionId(connectId);
+        Payload payload = GrpcUtils.convert(new HealthCheckRequest(), metadata);
+        AtomicReference<Object> result = new AtomicReference<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        StreamObserver<Payload> streamObserver = new StreamObserver<Payload>() {
+            @Override
+            public void onNext(Payload payload) {
+                result.set(GrpcUtils.parse(payload));
+            }
+            
+            @Override
+            public void onError(Throwable throwable) {
+                latch.countDown();
+            }
+            
+            @Override
+            public void onCompleted() {
+                latch.countDown();
+            }
+        };
+        try {
+            streamStub.request(payload, streamObserver);
+            Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+            return result.get();
+        } finally {
+            ApplicationUtils.setStarted(false);
+        }
+    }
+    
     /**
      * add this Handler just for test.
      */
@@ -383,4 +464,41 @@ public class GrpcRequestAcceptorTest {
             return new HealthCheckResponse();
         }
     }
+    
+    /**
+     * add this async Handler just for test.
+     */
+    class MockAsyncRequestHandler extends AsyncRequestHandler<HealthCheckRequest, HealthCheckResponse> {
+        
+        private final Executor executor;
+        
+        MockAsyncRequestHandler(Executor executor) {
+            this.executor = executor;
+        }
+        
+        @Override
+        public CompletableFuture<Response> handleRequestAsync(HealthCheckRequest request, RequestMeta meta) {
+            return handleAsync(request, meta).thenApply(response -> response);
+        }
+        
+        @Override
+        public HealthCheckResponse handle(HealthCheckRequest request, RequestMeta meta) {
+            return new HealthCheckResponse();
+        }
+        
+        @Override
+        protected Executor getExecutor() {
+            return executor;
+        }
+    }
+    
+    /**
+     * Response which fails to be serialized, just for test.
+     */
+    static class UnserializableResponse extends HealthCheckResponse {
+        
+        public String getBroken() {
+            throw new IllegalStateException("mock serialize failed");
+        }
+    }
 }
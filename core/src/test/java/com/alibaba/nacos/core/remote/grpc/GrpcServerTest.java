@@ -19,6 +19,8 @@ package com.alibaba.nacos.core.remote.grpc;
 
 import com.alibaba.nacos.common.remote.ConnectionType;
 import com.alibaba.nacos.core.remote.BaseRpcServer;
+import com.alibaba.nacos.core.utils.RemoteUtils;
+import com.alibaba.nacos.core.utils.VirtualThreadExecutors;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import org.junit.Assert;
 import org.junit.Before;
@@ -64,4 +66,21 @@ public class GrpcServerTest {
     
         grpcSdkServer.stopServer();
     }
+    
+    @Test
+    public void testGrpcSdkServerWithVirtualExecutorMode() throws Exception {
+        System.setProperty("remote.executor.mode", RemoteUtils.REMOTE_EXECUTOR_MODE_VIRTUAL);
+        BaseGrpcServer grpcSdkServer = new GrpcSdkServer();
+        try {
+            grpcSdkServer.start();
+            MonitoredRpcExecutor executor = grpcSdkServer.getMonitoredRpcExecutor();
+            Assert.assertEquals(VirtualThreadExecutors.isSupported(), executor.isVirtual());
+            if (!executor.isVirtual()) {
+                Assert.assertSame(grpcSdkServer.getRpcExecutor(), executor.getDelegate());
+            }
+        } finally {
+            System.clearProperty("remote.executor.mode");
+            grpcSdkServer.stopServer();
+        }
+    }
 }
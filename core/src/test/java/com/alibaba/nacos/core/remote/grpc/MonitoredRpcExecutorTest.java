@@ -0,0 +1,84 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.remote.grpc;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+public class MonitoredRpcExecutorTest {
+    
+    private ThreadPoolExecutor threadPool;
+    
+    @Before
+    public void setUp() {
+        threadPool = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+    }
+    
+    @After
+    public void tearDown() {
+        threadPool.shutdownNow();
+    }
+    
+    @Test
+    public void testRunningCount() throws InterruptedException {
+        MonitoredRpcExecutor executor = new MonitoredRpcExecutor("test", threadPool, false);
+        CountDownLatch blocker = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(2);
+        for (int i = 0; i < 2; i++) {
+            executor.execute(() -> {
+                try {
+                    blocker.await();
+                } catch (InterruptedException ignored) {
+                }
+                finished.countDown();
+            });
+        }
+        Assert.assertEquals(2, executor.getRunningCount());
+        Assert.assertEquals(1, executor.getThreadCount());
+        Assert.assertEquals(1, executor.getCarrierParallelism());
+        blocker.countDown();
+        Assert.assertTrue(finished.await(5, TimeUnit.SECONDS));
+        long deadline = System.currentTimeMillis() + 5000L;
+        while (executor.getRunningCount() > 0 && System.currentTimeMillis() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10L);
+        }
+        Assert.assertEquals(0, executor.getRunningCount());
+    }
+    
+    @Test
+    public void testRejected() {
+        ThreadPoolExecutor rejectAll = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS, new SynchronousQueue<>());
+        rejectAll.shutdown();
+        MonitoredRpcExecutor executor = new MonitoredRpcExecutor("reject", rejectAll, false);
+        try {
+            executor.execute(() -> {
+            });
+            Assert.fail("should be rejected");
+        } catch (RejectedExecutionException ignored) {
+        }
+        Assert.assertEquals(0, executor.getRunningCount());
+    }
+}
@@ -56,4 +56,16 @@ public class RemoteUtilsTest {
         int val2 = RemoteUtils.getRemoteExecutorQueueSize();
         Assert.assertEquals(defaultExpectVal, val2);
     }
+    
+    @Test
+    public void testGetRemoteExecutorMode() {
+        Assert.assertEquals(RemoteUtils.REMOTE_EXECUTOR_MODE_PLATFORM, RemoteUtils.getRemoteExecutorMode());
+        
+        System.setProperty("remote.executor.mode", "VIRTUAL");
+        Assert.assertEquals(RemoteUtils.REMOTE_EXECUTOR_MODE_VIRTUAL, RemoteUtils.getRemoteExecutorMode());
+        
+        System.setProperty("remote.executor.mode", "unknown");
+        Assert.assertEquals(RemoteUtils.REMOTE_EXECUTOR_MODE_PLATFORM, RemoteUtils.getRemoteExecutorMode());
+        System.clearProperty("remote.executor.mode");
+    }
 }
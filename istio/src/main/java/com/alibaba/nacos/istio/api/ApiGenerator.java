@@ -17,6 +17,7 @@
 package com.alibaba.nacos.istio.api;
 
 import com.alibaba.nacos.istio.common.ResourceSnapshot;
+import io.envoyproxy.envoy.service.discovery.v3.Resource;
 
 import java.util.List;
 
@@ -34,4 +35,14 @@ public interface ApiGenerator<T> {
      * @return data
      */
     List<T> generate(ResourceSnapshot resourceSnapshot);
+
+    /**
+     * Generate named and versioned resources based on resource snapshot, used by incremental xds.
+     *
+     * @param resourceSnapshot Resource snapshot
+     * @return all resources of this type, or {@code null} if incremental xds is not supported by this type
+     */
+    default List<Resource> deltaGenerate(ResourceSnapshot resourceSnapshot) {
+        return null;
+    }
 }
@@ -0,0 +1,172 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.istio.common;
+
+import com.alibaba.nacos.istio.model.IstioService;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Versioned and read-only index of istio services.
+ *
+ * <p>The services are split into fixed segments by name. {@link #apply(Map)} copies only the segments which contain
+ * changed services and shares the others with the old index, so publishing a new index costs the changed segments
+ * rather than the whole map.
+ *
+ * @author xiweng.yy
+ */
+public final class IstioServiceIndex extends AbstractMap<String, IstioService> {
+
+    private static final int SEGMENT_COUNT = 64;
+
+    private static final IstioServiceIndex EMPTY = new IstioServiceIndex(emptySegments(), 0, 0L);
+
+    private final Map<String, IstioService>[] segments;
+
+    private final int size;
+
+    private final long version;
+
+    private IstioServiceIndex(Map<String, IstioService>[] segments, int size, long version) {
+        this.segments = segments;
+        this.size = size;
+        this.version = version;
+    }
+
+    public static IstioServiceIndex empty() {
+        return EMPTY;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, IstioService>[] emptySegments() {
+        Map<String, IstioService>[] result = new Map[SEGMENT_COUNT];
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            result[i] = Collections.emptyMap();
+        }
+        return result;
+    }
+
+    private static int segmentOf(Object serviceName) {
+        int hash = serviceName.hashCode();
+        return (hash ^ (hash >>> 16)) & (SEGMENT_COUNT - 1);
+    }
+
+    /**
+     * Create a new index with the changes applied, this index is not modified.
+     *
+     * @param changes changed services, {@code null} value means the service is removed
+     * @return new index with next version, or this index if nothing is actually changed
+     */
+    public IstioServiceIndex apply(Map<String, IstioService> changes) {
+        if (changes.isEmpty()) {
+            return this;
+        }
+        Map<String, IstioService>[] newSegments = segments.clone();
+        boolean[] copied = new boolean[SEGMENT_COUNT];
+        int newSize = size;
+        boolean changed = false;
+        for (Map.Entry<String, IstioService> entry : changes.entrySet()) {
+            int index = segmentOf(entry.getKey());
+            if (!copied[index]) {
+                newSegments[index] = new HashMap<>(newSegments[index]);
+                copied[index] = true;
+            }
+            IstioService old = null == entry.getValue() ? newSegments[index].remove(entry.getKey())
+                    : newSegments[index].put(entry.getKey(), entry.getValue());
+            if (null == old && null != entry.getValue()) {
+                newSize++;
+            } else if (null != old && null == entry.getValue()) {
+                newSize--;
+            }
+            changed |= old != entry.getValue();
+        }
+        if (!changed) {
+            return this;
+        }
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            if (copied[i]) {
+                newSegments[i] = Collections.unmodifiableMap(newSegments[i]);
+            }
+        }
+        return new IstioServiceIndex(newSegments, newSize, version + 1);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public IstioService get(Object key) {
+        return null == key ? null : segments[segmentOf(key)].get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return null != key && segments[segmentOf(key)].containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Set<Entry<String, IstioService>> entrySet() {
+        return new AbstractSet<Entry<String, IstioService>>() {
+
+            @Override
+            public Iterator<Entry<String, IstioService>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private class EntryIterator implements Iterator<Entry<String, IstioService>> {
+
+        private int segment;
+
+        private Iterator<Entry<String, IstioService>> current = Collections.emptyIterator();
+
+        @Override
+        public boolean hasNext() {
+            while (!current.hasNext() && segment < SEGMENT_COUNT) {
+                current = segments[segment++].entrySet().iterator();
+            }
+            return current.hasNext();
+        }
+
+        @Override
+        public Entry<String, IstioService> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return current.next();
+        }
+    }
+}
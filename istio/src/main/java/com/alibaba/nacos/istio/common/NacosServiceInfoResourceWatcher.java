@@ -22,6 +22,7 @@ import com.alibaba.nacos.common.notify.listener.SmartSubscriber;
 import com.alibaba.nacos.istio.model.IstioService;
 import com.alibaba.nacos.istio.util.IstioCrdUtil;
 import com.alibaba.nacos.naming.core.v2.ServiceManager;
+import com.alibaba.nacos.naming.core.v2.event.metadata.MetadataEvent;
 import com.alibaba.nacos.naming.core.v2.event.publisher.NamingEventPublisherFactory;
 import com.alibaba.nacos.naming.core.v2.event.service.ServiceEvent;
 import com.alibaba.nacos.naming.core.v2.index.ClientServiceIndexesManager;
@@ -29,28 +30,34 @@ import com.alibaba.nacos.naming.core.v2.index.ServiceStorage;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import org.springframework.beans.factory.annotation.Autowired;
 
-import java.io.IOException;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Optional;
 
 /**
  * NacosServiceInfoResourceWatcher.
  *
+ * <p>Only the changed service is rebuilt for each event. The changes are buffered and applied to the copy-on-write
+ * {@link IstioServiceIndex} when the next snapshot is required, so creating a snapshot is proportional to the changes.
+ *
  * @author special.fy
  */
 @org.springframework.stereotype.Service
 public class NacosServiceInfoResourceWatcher extends SmartSubscriber {
 
-    private final Map<String, IstioService> serviceInfoMap = new ConcurrentHashMap<>(16);
+    /**
+     * Changed services since the last snapshot, {@code null} value means the service is removed.
+     */
+    private final Map<String, IstioService> pendingChanges = new HashMap<>(16);
+
+    private volatile IstioServiceIndex serviceIndex = IstioServiceIndex.empty();
 
     @Autowired
     private ServiceStorage serviceStorage;
 
+    @Autowired
     private ClientServiceIndexesManager clientServiceIndexesManager;
 
     @Autowired
@@ -60,14 +67,26 @@ public class NacosServiceInfoResourceWatcher extends SmartSubscriber {
         NotifyCenter.registerSubscriber(this, NamingEventPublisherFactory.getInstance());
     }
 
-    public Map<String, IstioService> snapshot() {
-        return new HashMap<>(serviceInfoMap);
+    /**
+     * Apply the pending changes and return the newest read-only index.
+     *
+     * @return newest service index
+     */
+    public IstioServiceIndex snapshot() {
+        synchronized (pendingChanges) {
+            if (!pendingChanges.isEmpty()) {
+                serviceIndex = serviceIndex.apply(pendingChanges);
+                pendingChanges.clear();
+            }
+            return serviceIndex;
+        }
     }
 
     @Override
     public List<Class<? extends com.alibaba.nacos.common.notify.Event>> subscribeTypes() {
         List<Class<? extends com.alibaba.nacos.common.notify.Event>> result = new LinkedList<>();
         result.add(ServiceEvent.ServiceChangedEvent.class);
+        result.add(MetadataEvent.ServiceMetadataEvent.class);
         return result;
     }
 
@@ -80,12 +99,12 @@ public class NacosServiceInfoResourceWatcher extends SmartSubscriber {
         if (event instanceof ServiceEvent.ServiceChangedEvent) {
             // If service changed, push to all subscribers.
             ServiceEvent.ServiceChangedEvent serviceChangedEvent = (ServiceEvent.ServiceChangedEvent) event;
-            Service service = serviceChangedEvent.getService();
-
-            try {
-                handleEvent(service);
-            } catch (IOException e) {
-                throw new RuntimeException(e);
+            handleEvent(serviceChangedEvent.getService());
+        } else if (event instanceof MetadataEvent.ServiceMetadataEvent) {
+            // Deleted or expired empty service has been removed from service manager.
+            MetadataEvent.ServiceMetadataEvent metadataEvent = (MetadataEvent.ServiceMetadataEvent) event;
+            if (metadataEvent.isExpired()) {
+                handleEvent(metadataEvent.getService());
             }
         }
     }
@@ -95,39 +114,42 @@ public class NacosServiceInfoResourceWatcher extends SmartSubscriber {
      * @param: [service]
      * @return: void
      */
-    public void handleEvent(Service eventService) throws IOException {
-        String namespace = eventService.getNamespace();
-        Set<Service> services = ServiceManager.getInstance().getSingletons(namespace);
-        Set<String> allServices = new HashSet<>();
-
-        for (Service service : services) {
-            String serviceName = IstioCrdUtil.buildServiceName(service);
-            allServices.add(serviceName);
-
-            IstioService old = serviceInfoMap.get(serviceName);
-            // Service not changed
-            if (old != null && old.getRevision().equals(service.getRevision())) {
-                continue;
+    public void handleEvent(Service eventService) {
+        String serviceName = IstioCrdUtil.buildServiceName(eventService);
+        Optional<Service> singleton = ServiceManager.getInstance().getSingletonIfExist(eventService);
+        IstioService old = currentService(serviceName);
+        IstioService newer = null;
+
+        if (singleton.isPresent()) {
+            Service service = singleton.get();
+            // Service not changed, a removed and recreated service may restart with the same revision
+            if (old != null && old.isFor(service) && old.getRevision().equals(service.getRevision())) {
+                return;
             }
             // Update the resource
             ServiceInfo serviceInfo = serviceStorage.getPushData(service);
-            if (!serviceInfo.isValid()) {
-                serviceInfoMap.remove(serviceName);
-            }
-
-            if (old != null) {
-                serviceInfoMap.put(serviceName, new IstioService(service, serviceInfo, old, clientServiceIndexesManager));
-            } else {
-                serviceInfoMap.put(serviceName, new IstioService(service, serviceInfo, clientServiceIndexesManager));
+            if (serviceInfo.isValid()) {
+                newer = old != null ? new IstioService(service, serviceInfo, old, clientServiceIndexesManager)
+                        : new IstioService(service, serviceInfo, clientServiceIndexesManager);
             }
+        } else if (old == null) {
+            // Service has been removed and never pushed
+            return;
         }
 
-        for (String key : serviceInfoMap.keySet()) {
-            if (!allServices.contains(key)) {
-                serviceInfoMap.remove(key);
-            }
+        synchronized (pendingChanges) {
+            pendingChanges.put(serviceName, newer);
         }
 
         eventProcessor.notify(Event.SERVICE_UPDATE_EVENT);
     }
+
+    private IstioService currentService(String serviceName) {
+        synchronized (pendingChanges) {
+            if (pendingChanges.containsKey(serviceName)) {
+                return pendingChanges.get(serviceName);
+            }
+            return serviceIndex.get(serviceName);
+        }
+    }
 }
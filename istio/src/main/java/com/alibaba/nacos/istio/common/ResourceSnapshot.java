@@ -67,6 +67,7 @@ public class ResourceSnapshot {
     }
 
     private void initIstioContext(NacosResourceManager manager) {
+        istioConfig = manager.getIstioConfig();
         istioContext.setIstioServiceMap(manager.services());
     }
 
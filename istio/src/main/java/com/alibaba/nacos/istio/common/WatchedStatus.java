@@ -16,6 +16,10 @@
 
 package com.alibaba.nacos.istio.common;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * @author special.fy
  */
@@ -31,6 +35,16 @@ public class WatchedStatus {
 
     private String ackedNonce;
 
+    /**
+     * Versions of the resources acked by client, only used by incremental xds.
+     */
+    private final Map<String, String> ackedResourceVersions = new HashMap<>(16);
+
+    /**
+     * Versions of the resources pushed with the latest nonce but not acked, {@code null} version means removed.
+     */
+    private Map<String, String> pendingResourceVersions = Collections.emptyMap();
+
     public String getType() {
         return type;
     }
@@ -70,4 +84,26 @@ public class WatchedStatus {
     public void setAckedNonce(String ackedNonce) {
         this.ackedNonce = ackedNonce;
     }
+
+    public Map<String, String> getAckedResourceVersions() {
+        return ackedResourceVersions;
+    }
+
+    public void setPendingResourceVersions(Map<String, String> pendingResourceVersions) {
+        this.pendingResourceVersions = pendingResourceVersions;
+    }
+
+    /**
+     * Apply the resource versions pushed with the latest nonce after client acked it.
+     */
+    public void ackPendingResourceVersions() {
+        for (Map.Entry<String, String> entry : pendingResourceVersions.entrySet()) {
+            if (entry.getValue() == null) {
+                ackedResourceVersions.remove(entry.getKey());
+            } else {
+                ackedResourceVersions.put(entry.getKey(), entry.getValue());
+            }
+        }
+        pendingResourceVersions = Collections.emptyMap();
+    }
 }
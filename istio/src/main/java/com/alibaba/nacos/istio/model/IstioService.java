@@ -39,7 +39,7 @@ public class IstioService {
 
     private Long revision;
 
-    private List<Integer> ports;
+    private final List<Integer> ports = new ArrayList<>();
 
     private List<IstioEndpoint> hosts;
 
@@ -49,11 +49,14 @@ public class IstioService {
 
     private Date createTimeStamp;
 
+    private Service service;
+
     public IstioService(Service service, ServiceInfo serviceInfo, ClientServiceIndexesManager manager) {
         this.name = serviceInfo.getName();
         this.groupName = serviceInfo.getGroupName();
         this.namespace = service.getNamespace();
         this.revision = service.getRevision();
+        this.service = service;
         this.publisherIndexes = manager.getAllClientsRegisteredService(service);
         this.subscriberIndexes = manager.getAllClientsSubscribeService(service);
         // Record the create time of service to avoid trigger istio pull push.
@@ -68,6 +71,7 @@ public class IstioService {
         this.groupName = serviceInfo.getGroupName();
         this.namespace = service.getNamespace();
         this.revision = service.getRevision();
+        this.service = service;
         this.publisherIndexes = manager.getAllClientsRegisteredService(service);
         this.subscriberIndexes = manager.getAllClientsSubscribeService(service);
         // set the create time of service as old time to avoid trigger istio pull push.
@@ -135,4 +139,14 @@ public class IstioService {
     public Date getCreateTimeStamp() {
         return createTimeStamp;
     }
+
+    /**
+     * Whether this istio service is built from the given service singleton, a recreated service is a new singleton.
+     *
+     * @param service service singleton
+     * @return true if built from the given singleton
+     */
+    public boolean isFor(Service service) {
+        return this.service == service;
+    }
 }
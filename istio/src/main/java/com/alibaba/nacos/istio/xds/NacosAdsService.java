@@ -23,14 +23,22 @@ import com.alibaba.nacos.istio.misc.Loggers;
 import com.alibaba.nacos.istio.util.NonceGenerator;
 import com.google.protobuf.Any;
 import io.envoyproxy.envoy.service.discovery.v3.AggregatedDiscoveryServiceGrpc;
+import io.envoyproxy.envoy.service.discovery.v3.DeltaDiscoveryRequest;
+import io.envoyproxy.envoy.service.discovery.v3.DeltaDiscoveryResponse;
 import io.envoyproxy.envoy.service.discovery.v3.DiscoveryRequest;
 import io.envoyproxy.envoy.service.discovery.v3.DiscoveryResponse;
+import io.envoyproxy.envoy.service.discovery.v3.Resource;
 import io.grpc.stub.StreamObserver;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import static com.alibaba.nacos.istio.api.ApiConstants.MESH_CONFIG_PROTO_PACKAGE;
@@ -44,8 +52,10 @@ public class NacosAdsService extends AggregatedDiscoveryServiceGrpc.AggregatedDi
 
     private final Map<String, AbstractConnection<DiscoveryResponse>> connections = new ConcurrentHashMap<>(16);
 
+    private final Map<String, AbstractConnection<DeltaDiscoveryResponse>> deltaConnections = new ConcurrentHashMap<>(16);
+
     public boolean hasClientConnection() {
-        return connections.size() != 0;
+        return connections.size() != 0 || deltaConnections.size() != 0;
     }
 
     @Autowired
@@ -96,6 +106,49 @@ public class NacosAdsService extends AggregatedDiscoveryServiceGrpc.AggregatedDi
         };
     }
 
+    @Override
+    public StreamObserver<DeltaDiscoveryRequest> deltaAggregatedResources(
+            StreamObserver<DeltaDiscoveryResponse> responseObserver) {
+        // TODO add authN
+
+        // Init snapshot of nacos service info.
+        resourceManager.initResourceSnapshot();
+        AbstractConnection<DeltaDiscoveryResponse> newConnection = new DeltaXdsConnection(responseObserver);
+
+        return new StreamObserver<DeltaDiscoveryRequest>() {
+            private boolean initRequest = true;
+
+            @Override
+            public void onNext(DeltaDiscoveryRequest deltaDiscoveryRequest) {
+                // init connection
+                if (initRequest) {
+                    newConnection.setConnectionId(deltaDiscoveryRequest.getNode().getId());
+                    deltaConnections.put(newConnection.getConnectionId(), newConnection);
+                    initRequest = false;
+                }
+
+                processDelta(deltaDiscoveryRequest, newConnection);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                Loggers.MAIN.error("delta ads: {} stream error.", newConnection.getConnectionId(), throwable);
+                clear();
+            }
+
+            @Override
+            public void onCompleted() {
+                Loggers.MAIN.info("delta ads: {} stream close.", newConnection.getConnectionId());
+                responseObserver.onCompleted();
+                clear();
+            }
+
+            private void clear() {
+                deltaConnections.remove(newConnection.getConnectionId());
+            }
+        };
+    }
+
     public void process(DiscoveryRequest discoveryRequest, AbstractConnection<DiscoveryResponse> connection) {
         if (!shouldPush(discoveryRequest, connection)) {
             return;
@@ -161,27 +214,177 @@ public class NacosAdsService extends AggregatedDiscoveryServiceGrpc.AggregatedDi
         return false;
     }
 
+    /**
+     * Process the request of incremental xds, push the resources which are different from the acked versions.
+     *
+     * @param deltaDiscoveryRequest delta discovery request
+     * @param connection            connection of incremental xds
+     */
+    public void processDelta(DeltaDiscoveryRequest deltaDiscoveryRequest,
+            AbstractConnection<DeltaDiscoveryResponse> connection) {
+        if (!shouldPushDelta(deltaDiscoveryRequest, connection)) {
+            return;
+        }
+
+        String type = deltaDiscoveryRequest.getTypeUrl();
+        ResourceSnapshot resourceSnapshot = resourceManager.getResourceSnapshot();
+        List<Resource> resources = apiGeneratorFactory.getApiGenerator(type).deltaGenerate(resourceSnapshot);
+        if (resources == null) {
+            // Resources of this type are unknown here, answer without any change rather than removing them.
+            Loggers.MAIN.warn("delta xds: type {} is not supported, connection-id {}", type,
+                    connection.getConnectionId());
+            pushNoChange(type, resourceSnapshot.getVersion(), connection);
+            return;
+        }
+        pushDelta(type, resources, resourceSnapshot.getVersion(), connection, true);
+    }
+
+    private boolean shouldPushDelta(DeltaDiscoveryRequest deltaDiscoveryRequest,
+            AbstractConnection<DeltaDiscoveryResponse> connection) {
+        String type = deltaDiscoveryRequest.getTypeUrl();
+        String connectionId = connection.getConnectionId();
+
+        // Suitable for bug of istio
+        // See https://github.com/istio/istio/pull/34633
+        if (type.equals(MESH_CONFIG_PROTO_PACKAGE)) {
+            Loggers.MAIN.info("delta xds: type {} should be ignored.", type);
+            return false;
+        }
+
+        WatchedStatus watchedStatus = connection.getWatchedStatusByType(type);
+        if (deltaDiscoveryRequest.getErrorDetail().getCode() != 0) {
+            Loggers.MAIN.error("delta xds: ACK error, connection-id: {}, code: {}, message: {}",
+                    connectionId,
+                    deltaDiscoveryRequest.getErrorDetail().getCode(),
+                    deltaDiscoveryRequest.getErrorDetail().getMessage());
+            if (watchedStatus != null) {
+                synchronized (watchedStatus) {
+                    // The rejected resources will be pushed again with next change.
+                    watchedStatus.setPendingResourceVersions(Collections.emptyMap());
+                }
+            }
+            return false;
+        }
+
+        if (watchedStatus == null) {
+            Loggers.MAIN.info("delta xds: init request, type {}, connection-id {}, nonce {}, initial resources {}",
+                    type, connectionId, deltaDiscoveryRequest.getResponseNonce(),
+                    deltaDiscoveryRequest.getInitialResourceVersionsCount());
+            watchedStatus = new WatchedStatus();
+            watchedStatus.setType(type);
+            // The client already has these resources, only the differences should be pushed.
+            watchedStatus.getAckedResourceVersions().putAll(deltaDiscoveryRequest.getInitialResourceVersionsMap());
+            connection.addWatchedResource(type, watchedStatus);
+
+            return true;
+        }
+
+        if (deltaDiscoveryRequest.getResponseNonce().isEmpty()) {
+            // Only wildcard subscription is supported, so subscription changes need no push.
+            return false;
+        }
+
+        synchronized (watchedStatus) {
+            if (!deltaDiscoveryRequest.getResponseNonce().equals(watchedStatus.getLatestNonce())) {
+                Loggers.MAIN.warn("delta xds: request dis match, type {}, connection-id {}", type, connectionId);
+                return false;
+            }
+
+            // This request is ack, we should record version, nonce and the acked resources.
+            watchedStatus.setAckedVersion(watchedStatus.getLatestVersion());
+            watchedStatus.setAckedNonce(deltaDiscoveryRequest.getResponseNonce());
+            watchedStatus.ackPendingResourceVersions();
+        }
+        Loggers.MAIN.info("delta xds: ack, type {}, connection-id {}, nonce {}", type, connectionId,
+                deltaDiscoveryRequest.getResponseNonce());
+        return false;
+    }
+
+    private void pushDelta(String type, List<Resource> resources, String version,
+            AbstractConnection<DeltaDiscoveryResponse> connection, boolean force) {
+        WatchedStatus watchedStatus = connection.getWatchedStatusByType(type);
+        if (watchedStatus == null) {
+            return;
+        }
+        synchronized (watchedStatus) {
+            Map<String, String> ackedVersions = watchedStatus.getAckedResourceVersions();
+            Map<String, String> pendingVersions = new HashMap<>(16);
+            Set<String> names = new HashSet<>(resources.size());
+            List<Resource> changed = new ArrayList<>();
+            for (Resource resource : resources) {
+                names.add(resource.getName());
+                if (!resource.getVersion().equals(ackedVersions.get(resource.getName()))) {
+                    changed.add(resource);
+                    pendingVersions.put(resource.getName(), resource.getVersion());
+                }
+            }
+            List<String> removed = new ArrayList<>();
+            for (String name : ackedVersions.keySet()) {
+                if (!names.contains(name)) {
+                    removed.add(name);
+                    pendingVersions.put(name, null);
+                }
+            }
+            if (!force && changed.isEmpty() && removed.isEmpty()) {
+                return;
+            }
+
+            DeltaDiscoveryResponse response = DeltaDiscoveryResponse.newBuilder()
+                    .setTypeUrl(type)
+                    .setSystemVersionInfo(version)
+                    .addAllResources(changed)
+                    .addAllRemovedResources(removed)
+                    .setNonce(NonceGenerator.generateNonce()).build();
+            watchedStatus.setPendingResourceVersions(pendingVersions);
+            connection.push(response, watchedStatus);
+        }
+    }
+
+    private void pushNoChange(String type, String version, AbstractConnection<DeltaDiscoveryResponse> connection) {
+        WatchedStatus watchedStatus = connection.getWatchedStatusByType(type);
+        synchronized (watchedStatus) {
+            DeltaDiscoveryResponse response = DeltaDiscoveryResponse.newBuilder()
+                    .setTypeUrl(type)
+                    .setSystemVersionInfo(version)
+                    .setNonce(NonceGenerator.generateNonce()).build();
+            watchedStatus.setPendingResourceVersions(Collections.emptyMap());
+            connection.push(response, watchedStatus);
+        }
+    }
+
     public void handleEvent(ResourceSnapshot resourceSnapshot, Event event) {
         switch (event.getType()) {
             case Service:
-                if (connections.size() == 0) {
+                if (!hasClientConnection()) {
                     return;
                 }
 
                 Loggers.MAIN.info("xds: event {} trigger push.", event.getType());
 
-                // Service Entry via MCP
-                DiscoveryResponse serviceEntryResponse = buildDiscoveryResponse(SERVICE_ENTRY_PROTO_PACKAGE, resourceSnapshot);
-                // TODO CDS, EDS
+                if (connections.size() != 0) {
+                    // Service Entry via MCP
+                    DiscoveryResponse serviceEntryResponse = buildDiscoveryResponse(SERVICE_ENTRY_PROTO_PACKAGE,
+                            resourceSnapshot);
+                    // TODO CDS, EDS
 
+                    for (AbstractConnection<DiscoveryResponse> connection : connections.values()) {
+                        // Service Entry via MCP
+                        WatchedStatus watchedStatus = connection.getWatchedStatusByType(SERVICE_ENTRY_PROTO_PACKAGE);
+                        if (watchedStatus != null) {
+                            connection.push(serviceEntryResponse, watchedStatus);
+                        }
+                        // TODO CDS, EDS
+                    }
+                }
 
-                for (AbstractConnection<DiscoveryResponse> connection : connections.values()) {
-                    // Service Entry via MCP
-                    WatchedStatus watchedStatus = connection.getWatchedStatusByType(SERVICE_ENTRY_PROTO_PACKAGE);
-                    if (watchedStatus != null) {
-                        connection.push(serviceEntryResponse, watchedStatus);
+                // The encoded resources are shared by all delta connections, each gets its own differences.
+                List<Resource> serviceEntryResources = deltaConnections.size() != 0 ? apiGeneratorFactory
+                        .getApiGenerator(SERVICE_ENTRY_PROTO_PACKAGE).deltaGenerate(resourceSnapshot) : null;
+                if (serviceEntryResources != null) {
+                    for (AbstractConnection<DeltaDiscoveryResponse> connection : deltaConnections.values()) {
+                        pushDelta(SERVICE_ENTRY_PROTO_PACKAGE, serviceEntryResources, resourceSnapshot.getVersion(),
+                                connection, false);
                     }
-                    // TODO CDS, EDS
                 }
                 break;
 
@@ -26,11 +26,12 @@ import com.google.protobuf.Any;
 import com.google.protobuf.Timestamp;
 import istio.mcp.v1alpha1.MetadataOuterClass;
 import istio.mcp.v1alpha1.MetadataOuterClass.Metadata;
-import istio.mcp.v1alpha1.ResourceOuterClass.Resource;
+import istio.mcp.v1alpha1.ResourceOuterClass;
 import istio.networking.v1alpha3.GatewayOuterClass;
 import istio.networking.v1alpha3.ServiceEntryOuterClass;
 import istio.networking.v1alpha3.ServiceEntryOuterClass.ServiceEntry;
 import istio.networking.v1alpha3.WorkloadEntryOuterClass;
+import io.envoyproxy.envoy.service.discovery.v3.Resource;
 import org.apache.commons.lang.StringUtils;
 
 import java.util.ArrayList;
@@ -38,6 +39,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 import static com.alibaba.nacos.istio.api.ApiConstants.*;
@@ -52,7 +54,10 @@ public final class ServiceEntryXdsGenerator implements ApiGenerator<Any> {
 
     private static volatile ServiceEntryXdsGenerator singleton = null;
 
-    private List<ServiceEntryWrapper> serviceEntries;
+    /**
+     * Encoded resource of each service, reused until the istio service is rebuilt.
+     */
+    private final Map<String, EncodedResource> encodedResources = new ConcurrentHashMap<>(16);
 
     public static ServiceEntryXdsGenerator getInstance() {
         if (singleton == null) {
@@ -67,32 +72,54 @@ public final class ServiceEntryXdsGenerator implements ApiGenerator<Any> {
 
     @Override
     public List<Any> generate(ResourceSnapshot resourceSnapshot) {
-        List<Resource> resources = new ArrayList<>();
-        IstioConfig istioConfig = resourceSnapshot.getIstioConfig();
+        List<Resource> resources = deltaGenerate(resourceSnapshot);
+        List<Any> result = new ArrayList<>(resources.size());
+        for (Resource resource : resources) {
+            result.add(resource.getResource());
+        }
+        return result;
+    }
+
+    @Override
+    public List<Resource> deltaGenerate(ResourceSnapshot resourceSnapshot) {
+        String domainSuffix = resourceSnapshot.getIstioConfig().getDomainSuffix();
         Map<String, IstioService> serviceInfoMap = resourceSnapshot.getIstioContext().getIstioServiceMap();
+        List<Resource> result = new ArrayList<>(serviceInfoMap.size());
 
-        for (String serviceName : serviceInfoMap.keySet()) {
-            ServiceEntryWrapper serviceEntryWrapper = buildServiceEntry(serviceName, istioConfig
-                    .getDomainSuffix(), serviceInfoMap.get(serviceName));
-            if (serviceEntryWrapper != null) {
-                serviceEntries.add(serviceEntryWrapper);
+        for (Map.Entry<String, IstioService> entry : serviceInfoMap.entrySet()) {
+            Resource resource = encode(entry.getKey(), domainSuffix, entry.getValue());
+            if (resource != null) {
+                result.add(resource);
             }
         }
-        for (ServiceEntryWrapper serviceEntryWrapper : serviceEntries) {
+        encodedResources.keySet().retainAll(serviceInfoMap.keySet());
+
+        return result;
+    }
+
+    private Resource encode(String serviceName, String domainSuffix, IstioService istioService) {
+        EncodedResource encoded = encodedResources.get(serviceName);
+        if (encoded != null && encoded.istioService == istioService && encoded.domainSuffix.equals(domainSuffix)) {
+            return encoded.resource;
+        }
+
+        ServiceEntryWrapper serviceEntryWrapper = buildServiceEntry(serviceName, domainSuffix, istioService);
+        Resource resource = null;
+        if (serviceEntryWrapper != null) {
             Metadata metadata = serviceEntryWrapper.getMetadata();
             ServiceEntry serviceEntry = serviceEntryWrapper.getServiceEntry();
 
             Any any = Any.newBuilder().setValue(serviceEntry.toByteString()).setTypeUrl(SERVICE_ENTRY_PROTO).build();
+            ResourceOuterClass.Resource mcpResource = ResourceOuterClass.Resource.newBuilder().setBody(any)
+                    .setMetadata(metadata).build();
 
-            resources.add(Resource.newBuilder().setBody(any).setMetadata(metadata).build());
-        }
-
-        List<Any> result = new ArrayList<>();
-        for (Resource resource : resources) {
-            result.add(Any.newBuilder().setValue(resource.toByteString()).setTypeUrl(MCP_RESOURCE_PROTO).build());
+            resource = Resource.newBuilder().setName(metadata.getName()).setVersion(metadata.getVersion())
+                    .setResource(Any.newBuilder().setValue(mcpResource.toByteString())
+                            .setTypeUrl(MCP_RESOURCE_PROTO).build()).build();
         }
+        encodedResources.put(serviceName, new EncodedResource(istioService, domainSuffix, resource));
 
-        return result;
+        return resource;
     }
 
     /**
@@ -170,4 +197,19 @@ public final class ServiceEntryXdsGenerator implements ApiGenerator<Any> {
 
         return new ServiceEntryWrapper(metadata, serviceEntry);
     }
+
+    private static class EncodedResource {
+
+        private final IstioService istioService;
+
+        private final String domainSuffix;
+
+        private final Resource resource;
+
+        EncodedResource(IstioService istioService, String domainSuffix, Resource resource) {
+            this.istioService = istioService;
+            this.domainSuffix = domainSuffix;
+            this.resource = resource;
+        }
+    }
 }
@@ -0,0 +1,146 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.istio.common;
+
+import com.alibaba.nacos.istio.model.IstioService;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public class IstioServiceIndexTest {
+    
+    private final IstioService serviceA = mock(IstioService.class);
+    
+    private final IstioService serviceB = mock(IstioService.class);
+    
+    private final IstioService serviceC = mock(IstioService.class);
+    
+    @Test
+    public void testApplyAddService() {
+        IstioServiceIndex index = IstioServiceIndex.empty().apply(changes("a", serviceA, "b", serviceB));
+        assertEquals(2, index.size());
+        assertEquals(2, index.entrySet().size());
+        assertSame(serviceA, index.get("a"));
+        assertSame(serviceB, index.get("b"));
+        assertEquals(1L, index.getVersion());
+    }
+    
+    @Test
+    public void testApplyReplaceService() {
+        IstioServiceIndex index = IstioServiceIndex.empty().apply(changes("a", serviceA, "b", serviceB));
+        IstioServiceIndex newer = index.apply(changes("a", serviceC));
+        assertEquals(2, newer.size());
+        assertSame(serviceC, newer.get("a"));
+        assertSame(serviceB, newer.get("b"));
+    }
+    
+    @Test
+    public void testApplyRemoveService() {
+        IstioServiceIndex index = IstioServiceIndex.empty().apply(changes("a", serviceA, "b", serviceB));
+        IstioServiceIndex newer = index.apply(changes("a", null));
+        assertEquals(1, newer.size());
+        assertFalse(newer.containsKey("a"));
+        assertSame(serviceB, newer.get("b"));
+        assertEquals(Collections.singletonMap("b", serviceB), new HashMap<>(newer));
+    }
+    
+    @Test
+    public void testApplyRemoveMissingService() {
+        IstioServiceIndex index = IstioServiceIndex.empty().apply(changes("a", serviceA));
+        IstioServiceIndex newer = index.apply(changes("b", null));
+        assertEquals(1, newer.size());
+        assertEquals(1, newer.entrySet().size());
+        assertFalse(newer.containsKey("b"));
+        assertSame(index, newer);
+    }
+    
+    @Test
+    public void testApplyNotModifyOldIndex() {
+        IstioServiceIndex index = IstioServiceIndex.empty().apply(changes("a", serviceA, "b", serviceB));
+        index.apply(changes("a", serviceC, "b", null, "c", serviceC));
+        assertEquals(2, index.size());
+        assertSame(serviceA, index.get("a"));
+        assertSame(serviceB, index.get("b"));
+        assertFalse(index.containsKey("c"));
+        assertEquals(1L, index.getVersion());
+        assertEquals(0, IstioServiceIndex.empty().size());
+        assertEquals(0L, IstioServiceIndex.empty().getVersion());
+    }
+    
+    @Test
+    public void testApplyShareUnchangedSegments() throws Exception {
+        Map<String, IstioService> services = new HashMap<>();
+        for (int i = 0; i < 256; i++) {
+            services.put("service" + i, serviceA);
+        }
+        IstioServiceIndex index = IstioServiceIndex.empty().apply(services);
+        IstioServiceIndex newer = index.apply(changes("service0", serviceB));
+        Map<String, IstioService>[] oldSegments = segments(index);
+        Map<String, IstioService>[] newSegments = segments(newer);
+        int copied = 0;
+        for (int i = 0; i < oldSegments.length; i++) {
+            if (oldSegments[i] != newSegments[i]) {
+                copied++;
+                assertTrue(newSegments[i].containsKey("service0"));
+            }
+        }
+        assertEquals(1, copied);
+        assertEquals(256, newer.size());
+    }
+    
+    @Test
+    public void testApplyBumpVersionOnlyWithChanges() {
+        IstioServiceIndex index = IstioServiceIndex.empty().apply(changes("a", serviceA));
+        assertSame(index, index.apply(Collections.emptyMap()));
+        assertSame(index, index.apply(changes("a", serviceA)));
+        assertSame(index, index.apply(changes("b", null)));
+        assertEquals(1L, index.getVersion());
+        assertEquals(2L, index.apply(changes("a", null)).getVersion());
+    }
+    
+    @Test
+    public void testGetNullKey() {
+        IstioServiceIndex index = IstioServiceIndex.empty().apply(changes("a", serviceA));
+        assertNull(index.get(null));
+        assertFalse(index.containsKey(null));
+    }
+    
+    private static Map<String, IstioService> changes(Object... keyAndValues) {
+        Map<String, IstioService> result = new HashMap<>();
+        for (int i = 0; i < keyAndValues.length; i += 2) {
+            result.put((String) keyAndValues[i], (IstioService) keyAndValues[i + 1]);
+        }
+        return result;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static Map<String, IstioService>[] segments(IstioServiceIndex index) throws Exception {
+        Field field = IstioServiceIndex.class.getDeclaredField("segments");
+        field.setAccessible(true);
+        return (Map<String, IstioService>[]) field.get(index);
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.istio.common;
+
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.istio.model.IstioService;
+import com.alibaba.nacos.istio.util.IstioCrdUtil;
+import com.alibaba.nacos.naming.core.v2.ServiceManager;
+import com.alibaba.nacos.naming.core.v2.index.ClientServiceIndexesManager;
+import com.alibaba.nacos.naming.core.v2.index.ServiceStorage;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class NacosServiceInfoResourceWatcherTest {
+    
+    private static final String NAMESPACE = "watcherTest";
+    
+    @Mock
+    private ServiceStorage serviceStorage;
+    
+    @Mock
+    private ClientServiceIndexesManager clientServiceIndexesManager;
+    
+    @Mock
+    private EventProcessor eventProcessor;
+    
+    private NacosServiceInfoResourceWatcher watcher;
+    
+    private Service service;
+    
+    private String serviceName;
+    
+    @Before
+    public void setUp() throws Exception {
+        watcher = new NacosServiceInfoResourceWatcher();
+        setField("serviceStorage", serviceStorage);
+        setField("clientServiceIndexesManager", clientServiceIndexesManager);
+        setField("eventProcessor", eventProcessor);
+        service = Service.newService(NAMESPACE, "group", "service");
+        serviceName = IstioCrdUtil.buildServiceName(service);
+        ServiceInfo serviceInfo = new ServiceInfo("group@@service");
+        serviceInfo.setHosts(new ArrayList<>());
+        when(serviceStorage.getPushData(any(Service.class))).thenReturn(serviceInfo);
+    }
+    
+    @After
+    public void tearDown() {
+        ServiceManager.getInstance().removeSingleton(service);
+        NotifyCenter.deregisterSubscriber(watcher);
+    }
+    
+    @Test
+    public void testHandleEventForNewService() {
+        ServiceManager.getInstance().getSingleton(service);
+        watcher.handleEvent(service);
+        verify(eventProcessor).notify(Event.SERVICE_UPDATE_EVENT);
+        IstioServiceIndex index = watcher.snapshot();
+        assertEquals(1, index.size());
+        assertTrue(index.get(serviceName).isFor(service));
+        assertSame(index, watcher.snapshot());
+    }
+    
+    @Test
+    public void testHandleEventWithPendingChange() {
+        ServiceManager.getInstance().getSingleton(service);
+        watcher.handleEvent(service);
+        // Pending change not applied yet, but the same revision should still be recognized.
+        watcher.handleEvent(service);
+        verify(eventProcessor).notify(Event.SERVICE_UPDATE_EVENT);
+        service.incrementRevision();
+        watcher.handleEvent(service);
+        verify(eventProcessor, times(2)).notify(Event.SERVICE_UPDATE_EVENT);
+        IstioServiceIndex index = watcher.snapshot();
+        assertEquals(1L, index.getVersion());
+        assertEquals(Long.valueOf(1L), index.get(serviceName).getRevision());
+    }
+    
+    @Test
+    public void testHandleEventForUnchangedService() {
+        ServiceManager.getInstance().getSingleton(service);
+        watcher.handleEvent(service);
+        IstioServiceIndex index = watcher.snapshot();
+        watcher.handleEvent(service);
+        verify(eventProcessor).notify(Event.SERVICE_UPDATE_EVENT);
+        assertSame(index, watcher.snapshot());
+    }
+    
+    @Test
+    public void testHandleEventForRecreatedService() {
+        ServiceManager.getInstance().getSingleton(service);
+        watcher.handleEvent(service);
+        IstioService old = watcher.snapshot().get(serviceName);
+        ServiceManager.getInstance().removeSingleton(service);
+        Service recreated = Service.newService(NAMESPACE, "group", "service");
+        ServiceManager.getInstance().getSingleton(recreated);
+        // Recreated service restarts with the same revision, but should not be taken as unchanged.
+        watcher.handleEvent(recreated);
+        verify(eventProcessor, times(2)).notify(Event.SERVICE_UPDATE_EVENT);
+        IstioService newer = watcher.snapshot().get(serviceName);
+        assertNotSame(old, newer);
+        assertTrue(newer.isFor(recreated));
+        assertFalse(newer.isFor(service));
+        assertEquals(old.getCreateTimeStamp(), newer.getCreateTimeStamp());
+    }
+    
+    @Test
+    public void testHandleEventForRemovedService() {
+        ServiceManager.getInstance().getSingleton(service);
+        watcher.handleEvent(service);
+        watcher.snapshot();
+        ServiceManager.getInstance().removeSingleton(service);
+        watcher.handleEvent(service);
+        verify(eventProcessor, times(2)).notify(Event.SERVICE_UPDATE_EVENT);
+        IstioServiceIndex index = watcher.snapshot();
+        assertEquals(0, index.size());
+        assertEquals(2L, index.getVersion());
+    }
+    
+    @Test
+    public void testHandleEventForRemovedPendingService() {
+        ServiceManager.getInstance().getSingleton(service);
+        watcher.handleEvent(service);
+        ServiceManager.getInstance().removeSingleton(service);
+        watcher.handleEvent(service);
+        verify(eventProcessor, times(2)).notify(Event.SERVICE_UPDATE_EVENT);
+        IstioServiceIndex index = watcher.snapshot();
+        assertEquals(0, index.size());
+        assertSame(IstioServiceIndex.empty(), index);
+    }
+    
+    @Test
+    public void testHandleEventForRemovedServiceNeverPushed() {
+        watcher.handleEvent(service);
+        verify(eventProcessor, never()).notify(any());
+        assertSame(IstioServiceIndex.empty(), watcher.snapshot());
+    }
+    
+    private void setField(String name, Object value) throws Exception {
+        Field field = NacosServiceInfoResourceWatcher.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(watcher, value);
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.istio.xds;
+
+import com.alibaba.nacos.istio.api.ApiGenerator;
+import com.alibaba.nacos.istio.api.ApiGeneratorFactory;
+import com.alibaba.nacos.istio.common.Event;
+import com.alibaba.nacos.istio.common.NacosResourceManager;
+import com.alibaba.nacos.istio.common.ResourceSnapshot;
+import com.google.rpc.Status;
+import io.envoyproxy.envoy.config.core.v3.Node;
+import io.envoyproxy.envoy.service.discovery.v3.DeltaDiscoveryRequest;
+import io.envoyproxy.envoy.service.discovery.v3.DeltaDiscoveryResponse;
+import io.envoyproxy.envoy.service.discovery.v3.Resource;
+import io.grpc.stub.StreamObserver;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.alibaba.nacos.istio.api.ApiConstants.CLUSTER_TYPE;
+import static com.alibaba.nacos.istio.api.ApiConstants.SERVICE_ENTRY_PROTO_PACKAGE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class NacosAdsServiceTest {
+
+    @Mock
+    private ApiGeneratorFactory apiGeneratorFactory;
+
+    @Mock
+    private NacosResourceManager resourceManager;
+
+    @Mock
+    private ResourceSnapshot resourceSnapshot;
+
+    @Mock
+    private ApiGenerator<?> serviceEntryGenerator;
+
+    @Mock
+    private StreamObserver<DeltaDiscoveryResponse> responseObserver;
+
+    private NacosAdsService adsService;
+
+    private StreamObserver<DeltaDiscoveryRequest> requestObserver;
+
+    @Before
+    public void setUp() {
+        adsService = new NacosAdsService();
+        adsService.apiGeneratorFactory = apiGeneratorFactory;
+        adsService.resourceManager = resourceManager;
+        when(resourceManager.getResourceSnapshot()).thenReturn(resourceSnapshot);
+        when(resourceSnapshot.getVersion()).thenReturn("v1");
+        doReturn(serviceEntryGenerator).when(apiGeneratorFactory).getApiGenerator(SERVICE_ENTRY_PROTO_PACKAGE);
+        requestObserver = adsService.deltaAggregatedResources(responseObserver);
+    }
+
+    @Test
+    public void testInitRequestOnlyPushDifferences() {
+        mockResources(resource("a", "1"), resource("b", "2"), resource("d", "1"));
+        Map<String, String> initialVersions = new HashMap<>(4);
+        initialVersions.put("a", "1");
+        initialVersions.put("b", "1");
+        initialVersions.put("c", "1");
+        requestObserver.onNext(initRequest(SERVICE_ENTRY_PROTO_PACKAGE, initialVersions));
+
+        DeltaDiscoveryResponse response = lastResponse(1);
+        assertEquals(SERVICE_ENTRY_PROTO_PACKAGE, response.getTypeUrl());
+        assertEquals(Arrays.asList("b", "d"), resourceNames(response));
+        assertEquals(Collections.singletonList("c"), response.getRemovedResourcesList());
+    }
+
+    @Test
+    public void testAckAppliesPendingVersions() {
+        mockResources(resource("a", "1"));
+        requestObserver.onNext(initRequest(SERVICE_ENTRY_PROTO_PACKAGE, Collections.emptyMap()));
+        requestObserver.onNext(ackRequest(SERVICE_ENTRY_PROTO_PACKAGE, lastResponse(1).getNonce()));
+
+        // Acked resources without change should not be pushed again.
+        adsService.handleEvent(resourceSnapshot, Event.SERVICE_UPDATE_EVENT);
+        verify(responseObserver, times(1)).onNext(any(DeltaDiscoveryResponse.class));
+
+        mockResources(resource("a", "2"));
+        adsService.handleEvent(resourceSnapshot, Event.SERVICE_UPDATE_EVENT);
+        DeltaDiscoveryResponse response = lastResponse(2);
+        assertEquals(Collections.singletonList("a"), resourceNames(response));
+        assertEquals("2", response.getResources(0).getVersion());
+    }
+
+    @Test
+    public void testNackResendsPendingResources() {
+        mockResources(resource("a", "1"));
+        requestObserver.onNext(initRequest(SERVICE_ENTRY_PROTO_PACKAGE, Collections.emptyMap()));
+        requestObserver.onNext(ackRequest(SERVICE_ENTRY_PROTO_PACKAGE, lastResponse(1).getNonce()).toBuilder()
+                .setErrorDetail(Status.newBuilder().setCode(3).setMessage("rejected")).build());
+
+        adsService.handleEvent(resourceSnapshot, Event.SERVICE_UPDATE_EVENT);
+        assertEquals(Collections.singletonList("a"), resourceNames(lastResponse(2)));
+    }
+
+    @Test
+    public void testPushRemovedResources() {
+        mockResources(resource("a", "1"), resource("b", "1"));
+        requestObserver.onNext(initRequest(SERVICE_ENTRY_PROTO_PACKAGE, Collections.emptyMap()));
+        requestObserver.onNext(ackRequest(SERVICE_ENTRY_PROTO_PACKAGE, lastResponse(1).getNonce()));
+
+        mockResources(resource("a", "1"));
+        adsService.handleEvent(resourceSnapshot, Event.SERVICE_UPDATE_EVENT);
+        DeltaDiscoveryResponse response = lastResponse(2);
+        assertTrue(response.getResourcesList().isEmpty());
+        assertEquals(Collections.singletonList("b"), response.getRemovedResourcesList());
+        requestObserver.onNext(ackRequest(SERVICE_ENTRY_PROTO_PACKAGE, response.getNonce()));
+
+        // Removed resource has been acked, nothing left to push.
+        adsService.handleEvent(resourceSnapshot, Event.SERVICE_UPDATE_EVENT);
+        verify(responseObserver, times(2)).onNext(any(DeltaDiscoveryResponse.class));
+    }
+
+    @Test
+    public void testUnsupportedTypeNotRemoveResources() {
+        ApiGenerator<?> cdsGenerator = CdsGenerator.getInstance();
+        doReturn(cdsGenerator).when(apiGeneratorFactory).getApiGenerator(CLUSTER_TYPE);
+        requestObserver.onNext(initRequest(CLUSTER_TYPE, Collections.singletonMap("outbound|80||a", "1")));
+
+        DeltaDiscoveryResponse response = lastResponse(1);
+        assertEquals(CLUSTER_TYPE, response.getTypeUrl());
+        assertTrue(response.getResourcesList().isEmpty());
+        assertTrue(response.getRemovedResourcesList().isEmpty());
+        verify(serviceEntryGenerator, never()).deltaGenerate(any());
+    }
+
+    @Test
+    public void testUnsupportedTypeNotPushedOnEvent() {
+        requestObserver.onNext(initRequest(SERVICE_ENTRY_PROTO_PACKAGE, Collections.emptyMap()));
+        doReturn(null).when(serviceEntryGenerator).deltaGenerate(resourceSnapshot);
+        adsService.handleEvent(resourceSnapshot, Event.SERVICE_UPDATE_EVENT);
+        verify(responseObserver, times(1)).onNext(any(DeltaDiscoveryResponse.class));
+    }
+
+    private void mockResources(Resource... resources) {
+        doReturn(Arrays.asList(resources)).when(serviceEntryGenerator).deltaGenerate(resourceSnapshot);
+    }
+
+    private Resource resource(String name, String version) {
+        return Resource.newBuilder().setName(name).setVersion(version).build();
+    }
+
+    private DeltaDiscoveryRequest initRequest(String type, Map<String, String> initialVersions) {
+        return DeltaDiscoveryRequest.newBuilder().setNode(Node.newBuilder().setId("sidecar")).setTypeUrl(type)
+                .putAllInitialResourceVersions(initialVersions).build();
+    }
+
+    private DeltaDiscoveryRequest ackRequest(String type, String nonce) {
+        return DeltaDiscoveryRequest.newBuilder().setNode(Node.newBuilder().setId("sidecar")).setTypeUrl(type)
+                .setResponseNonce(nonce).build();
+    }
+
+    private DeltaDiscoveryResponse lastResponse(int pushedTimes) {
+        ArgumentCaptor<DeltaDiscoveryResponse> captor = ArgumentCaptor.forClass(DeltaDiscoveryResponse.class);
+        verify(responseObserver, times(pushedTimes)).onNext(captor.capture());
+        return captor.getValue();
+    }
+
+    private List<String> resourceNames(DeltaDiscoveryResponse response) {
+        List<String> result = new ArrayList<>();
+        for (Resource each : response.getResourcesList()) {
+            result.add(each.getName());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.istio.xds;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.istio.common.ResourceSnapshot;
+import com.alibaba.nacos.istio.misc.IstioConfig;
+import com.alibaba.nacos.istio.model.IstioContext;
+import com.alibaba.nacos.istio.model.IstioService;
+import com.alibaba.nacos.naming.core.v2.index.ClientServiceIndexesManager;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import com.google.protobuf.InvalidProtocolBufferException;
+import io.envoyproxy.envoy.service.discovery.v3.Resource;
+import istio.mcp.v1alpha1.ResourceOuterClass;
+import istio.networking.v1alpha3.ServiceEntryOuterClass.ServiceEntry;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ServiceEntryXdsGeneratorTest {
+    
+    @Mock
+    private ClientServiceIndexesManager clientServiceIndexesManager;
+    
+    @Mock
+    private ResourceSnapshot resourceSnapshot;
+    
+    @Mock
+    private IstioConfig istioConfig;
+    
+    private final Map<String, IstioService> serviceMap = new HashMap<>(4);
+    
+    private final Service service = Service.newService("public", "group", "service");
+    
+    private ServiceEntryXdsGenerator generator;
+    
+    @Before
+    public void setUp() {
+        generator = new ServiceEntryXdsGenerator();
+        when(resourceSnapshot.getIstioConfig()).thenReturn(istioConfig);
+        when(resourceSnapshot.getIstioContext()).thenReturn(new IstioContext(serviceMap));
+        when(istioConfig.getDomainSuffix()).thenReturn("nacos");
+    }
+    
+    @Test
+    public void testReuseEncodedResourceAcrossSnapshots() {
+        serviceMap.put("service", istioService(null));
+        Resource first = generator.deltaGenerate(resourceSnapshot).get(0);
+        Resource second = generator.deltaGenerate(resourceSnapshot).get(0);
+        assertSame(first, second);
+        assertEquals("0", second.getVersion());
+    }
+    
+    @Test
+    public void testEncodeAgainForRebuiltService() {
+        final IstioService old = istioService(null);
+        serviceMap.put("service", old);
+        Resource first = generator.deltaGenerate(resourceSnapshot).get(0);
+        service.incrementRevision();
+        serviceMap.put("service", istioService(old));
+        Resource second = generator.deltaGenerate(resourceSnapshot).get(0);
+        assertNotSame(first, second);
+        assertEquals("1", second.getVersion());
+    }
+    
+    @Test
+    public void testEncodeAgainForChangedDomainSuffix() throws InvalidProtocolBufferException {
+        serviceMap.put("service", istioService(null));
+        Resource first = generator.deltaGenerate(resourceSnapshot).get(0);
+        when(istioConfig.getDomainSuffix()).thenReturn("mesh");
+        Resource second = generator.deltaGenerate(resourceSnapshot).get(0);
+        assertNotSame(first, second);
+        assertEquals(Collections.singletonList("service.mesh"), hosts(second));
+        assertSame(second, generator.deltaGenerate(resourceSnapshot).get(0));
+    }
+    
+    @Test
+    public void testNotGenerateRemovedService() {
+        serviceMap.put("service", istioService(null));
+        generator.deltaGenerate(resourceSnapshot);
+        serviceMap.clear();
+        assertTrue(generator.deltaGenerate(resourceSnapshot).isEmpty());
+        assertTrue(generator.generate(resourceSnapshot).isEmpty());
+    }
+    
+    private IstioService istioService(IstioService old) {
+        Instance instance = new Instance();
+        instance.setIp("1.1.1.1");
+        instance.setPort(8080);
+        ServiceInfo serviceInfo = new ServiceInfo("group@@service");
+        serviceInfo.setHosts(Collections.singletonList(instance));
+        return null == old ? new IstioService(service, serviceInfo, clientServiceIndexesManager)
+                : new IstioService(service, serviceInfo, old, clientServiceIndexesManager);
+    }
+    
+    private List<String> hosts(Resource resource) throws InvalidProtocolBufferException {
+        ResourceOuterClass.Resource mcpResource = ResourceOuterClass.Resource.parseFrom(resource.getResource()
+                .getValue());
+        return ServiceEntry.parseFrom(mcpResource.getBody().getValue()).getHostsList();
+    }
+}
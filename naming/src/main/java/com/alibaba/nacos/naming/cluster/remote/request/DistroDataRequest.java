@@ -19,6 +19,8 @@ package com.alibaba.nacos.naming.cluster.remote.request;
 import com.alibaba.nacos.consistency.DataOperation;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 
+import java.util.List;
+
 /**
  * Distro data request.
  *
@@ -30,6 +32,8 @@ public class DistroDataRequest extends AbstractClusterRequest {
     
     private DataOperation dataOperation;
     
+    private List<DistroData> distroDataList;
+    
     public DistroDataRequest() {
     }
     
@@ -53,4 +57,12 @@ public class DistroDataRequest extends AbstractClusterRequest {
     public void setDataOperation(DataOperation dataOperation) {
         this.dataOperation = dataOperation;
     }
+    
+    public List<DistroData> getDistroDataList() {
+        return distroDataList;
+    }
+    
+    public void setDistroDataList(List<DistroData> distroDataList) {
+        this.distroDataList = distroDataList;
+    }
 }
@@ -157,8 +157,47 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
         }
     }
     
+    /**
+     * Process a batch of client data, the serializer is only looked up once and the received clients are logged by one
+     * line for the whole batch.
+     *
+     * @param distroDataList received data list
+     * @return true if process all data successfully, otherwise false
+     */
+    @Override
+    public boolean processBatchData(List<DistroData> distroDataList) {
+        Serializer serializer = ApplicationUtils.getBean(Serializer.class);
+        boolean result = true;
+        int changed = 0;
+        int deleted = 0;
+        for (DistroData each : distroDataList) {
+            switch (each.getType()) {
+                case ADD:
+                case CHANGE:
+                    ClientSyncData clientSyncData = serializer.deserialize(each.getContent(), ClientSyncData.class);
+                    applyClientSyncData(clientSyncData);
+                    changed++;
+                    break;
+                case DELETE:
+                    clientManager.clientDisconnected(each.getDistroKey().getResourceKey());
+                    deleted++;
+                    break;
+                default:
+                    result = false;
+                    break;
+            }
+        }
+        Loggers.DISTRO.info("[Client-Batch] Received distro client batch sync data, changed: {}, deleted: {}",
+                changed, deleted);
+        return result;
+    }
+    
     private void handlerClientSyncData(ClientSyncData clientSyncData) {
         Loggers.DISTRO.info("[Client-Add] Received distro client sync data {}", clientSyncData.getClientId());
+        applyClientSyncData(clientSyncData);
+    }
+    
+    private void applyClientSyncData(ClientSyncData clientSyncData) {
         clientManager.syncClientConnected(clientSyncData.getClientId(), clientSyncData.getAttributes());
         Client client = clientManager.getClient(clientSyncData.getClientId());
         upgradeClient(client, clientSyncData);
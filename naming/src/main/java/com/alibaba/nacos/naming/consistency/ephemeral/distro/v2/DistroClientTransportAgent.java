@@ -39,6 +39,7 @@ import com.alibaba.nacos.naming.misc.GlobalExecutor;
 import com.alibaba.nacos.naming.misc.Loggers;
 import com.alibaba.nacos.naming.monitor.NamingTpsMonitor;
 
+import java.util.List;
 import java.util.concurrent.Executor;
 
 /**
@@ -155,6 +156,55 @@ public class DistroClientTransportAgent implements DistroTransportAgent {
         }
     }
     
+    @Override
+    public boolean supportBatchSync() {
+        return true;
+    }
+    
+    @Override
+    public boolean syncBatchData(List<DistroData> batchData, String targetServer) {
+        if (isNoExistTarget(targetServer)) {
+            return true;
+        }
+        DistroDataRequest request = new DistroDataRequest(null, DataOperation.BATCH);
+        request.setDistroDataList(batchData);
+        Member member = memberManager.find(targetServer);
+        if (checkTargetServerStatusUnhealthy(member)) {
+            Loggers.DISTRO.warn("[DISTRO] Cancel distro batch sync caused by target server {} unhealthy, size: {}",
+                    targetServer, batchData.size());
+            return false;
+        }
+        try {
+            Response response = clusterRpcClientProxy.sendRequest(member, request);
+            return checkResponse(response);
+        } catch (NacosException e) {
+            Loggers.DISTRO.error("[DISTRO-FAILED] Batch sync distro data failed! size: {}", batchData.size(), e);
+        }
+        return false;
+    }
+    
+    @Override
+    public void syncBatchData(List<DistroData> batchData, String targetServer, DistroCallback callback) {
+        if (isNoExistTarget(targetServer)) {
+            callback.onSuccess();
+            return;
+        }
+        DistroDataRequest request = new DistroDataRequest(null, DataOperation.BATCH);
+        request.setDistroDataList(batchData);
+        Member member = memberManager.find(targetServer);
+        if (checkTargetServerStatusUnhealthy(member)) {
+            Loggers.DISTRO.warn("[DISTRO] Cancel distro batch sync caused by target server {} unhealthy, size: {}",
+                    targetServer, batchData.size());
+            callback.onFailed(null);
+            return;
+        }
+        try {
+            clusterRpcClientProxy.asyncRequest(member, request, new DistroRpcCallbackWrapper(callback, member));
+        } catch (NacosException nacosException) {
+            callback.onFailed(nacosException);
+        }
+    }
+    
     @Override
     public DistroData getData(DistroKey key, String targetServer) {
         Member member = memberManager.find(targetServer);
@@ -43,4 +43,11 @@ public class PushConstants {
     public static final String PUSH_TASK_RETRY_DELAY = "nacos.naming.push.pushTaskRetryDelay";
     
     public static final long DEFAULT_PUSH_TASK_RETRY_DELAY = 1000L;
+    
+    /**
+     * Whether push the delta of instances to subscribers which support delta push.
+     */
+    public static final String PUSH_DELTA_ENABLED = "nacos.naming.push.delta.enabled";
+    
+    public static final boolean DEFAULT_PUSH_DELTA_ENABLED = false;
 }
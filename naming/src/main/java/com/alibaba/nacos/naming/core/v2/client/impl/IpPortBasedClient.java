@@ -81,7 +81,9 @@ public class IpPortBasedClient extends AbstractClient {
     
     @Override
     public boolean addServiceInstance(Service service, InstancePublishInfo instancePublishInfo) {
-        return super.addServiceInstance(service, parseToHealthCheckInstance(instancePublishInfo));
+        boolean result = super.addServiceInstance(service, parseToHealthCheckInstance(instancePublishInfo));
+        refreshBeatCheck();
+        return result;
     }
     
     @Override
@@ -142,5 +144,16 @@ public class IpPortBasedClient extends AbstractClient {
         if (null == publishers.put(service, parseToHealthCheckInstance(instance))) {
             MetricsMonitor.incrementInstanceCount();
         }
+        refreshBeatCheck();
+    }
+    
+    /**
+     * Recalculate the next beat check time soon, used when the instances changed or become healthy again, which may be
+     * overdue earlier than the scheduled check time.
+     */
+    public void refreshBeatCheck() {
+        if (ephemeral && null != beatCheckTask) {
+            HealthCheckReactor.refreshCheck(beatCheckTask);
+        }
     }
 }
@@ -78,4 +78,31 @@ public class MetadataEvent extends Event {
             return metadataId;
         }
     }
+    
+    /**
+     * Instance metadata changed event, which is used to refresh the instances using the metadata.
+     *
+     * <p>Different from {@link InstanceMetadataEvent}, it doesn't change the expired status of the metadata.
+     */
+    public static class InstanceMetadataChangedEvent extends Event {
+        
+        private static final long serialVersionUID = -3196183567735396207L;
+        
+        private final Service service;
+        
+        private final String metadataId;
+        
+        public InstanceMetadataChangedEvent(Service service, String metadataId) {
+            this.service = service;
+            this.metadataId = metadataId;
+        }
+        
+        public Service getService() {
+            return service;
+        }
+        
+        public String getMetadataId() {
+            return metadataId;
+        }
+    }
 }
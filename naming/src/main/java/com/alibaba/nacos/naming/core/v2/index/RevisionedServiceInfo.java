@@ -0,0 +1,44 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.core.v2.index;
+
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+
+/**
+ * Read-only service info published by {@link ServiceInstancesSnapshot} with its revision.
+ *
+ * @author xiweng.yy
+ */
+public class RevisionedServiceInfo {
+    
+    private final ServiceInfo serviceInfo;
+    
+    private final long revision;
+    
+    public RevisionedServiceInfo(ServiceInfo serviceInfo, long revision) {
+        this.serviceInfo = serviceInfo;
+        this.revision = revision;
+    }
+    
+    public ServiceInfo getServiceInfo() {
+        return serviceInfo;
+    }
+    
+    public long getRevision() {
+        return revision;
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.core.v2.index;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.common.utils.ConcurrentHashSet;
+import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Incremental instances snapshot of one service.
+ *
+ * <p>The snapshot keeps the parsed instances of each publisher client. Changes only mark the related client dirty, and
+ * the dirty clients are re-parsed when the next {@link ServiceInfo} is required, so the cost of one instance change is
+ * not proportional to the size of the service. Each rebuilt {@link ServiceInfo} is tagged with a monotonically increasing
+ * revision and must be treated as read-only by callers. Revisions are generated globally, so that a removed and
+ * recreated service never reuses the revision of the removed one.
+ *
+ * @author xiweng.yy
+ */
+public class ServiceInstancesSnapshot {
+    
+    private static final AtomicLong REVISION_GENERATOR = new AtomicLong();
+    
+    private final Map<String, List<Instance>> clientInstances = new HashMap<>();
+    
+    private final Map<String, String> metadataIdIndex = new HashMap<>();
+    
+    private final Map<String, Integer> clusterCounts = new HashMap<>();
+    
+    private final Set<String> dirtyClients = new ConcurrentHashSet<>();
+    
+    private volatile RevisionedServiceInfo current;
+    
+    private volatile Set<String> clusters = Collections.emptySet();
+    
+    /**
+     * Mark the instances published by the client should be re-parsed.
+     *
+     * @param clientId client id
+     */
+    public void markDirty(String clientId) {
+        dirtyClients.add(clientId);
+    }
+    
+    /**
+     * Mark the instances of the client which hold the metadata should be re-parsed.
+     *
+     * @param metadataId instance metadata id
+     */
+    public void markMetadataDirty(String metadataId) {
+        String clientId;
+        synchronized (this) {
+            clientId = metadataIdIndex.get(metadataId);
+        }
+        if (null != clientId) {
+            markDirty(clientId);
+        }
+    }
+    
+    /**
+     * Whether the snapshot need to be refreshed before used.
+     *
+     * @return {@code true} if some changes not applied yet
+     */
+    public boolean isStale() {
+        return null == current || !dirtyClients.isEmpty();
+    }
+    
+    public RevisionedServiceInfo getCurrent() {
+        return current;
+    }
+    
+    public Set<String> getClusters() {
+        return clusters;
+    }
+    
+    public long getRevision() {
+        RevisionedServiceInfo result = current;
+        return null == result ? 0L : result.getRevision();
+    }
+    
+    /**
+     * Apply the pending changes and publish a new read-only {@link ServiceInfo}.
+     *
+     * @param loader   loader to parse the newest instances of one client, return empty list if client not publish
+     * @param allClients all publisher clients of this service, used for the first build
+     * @param template empty service info which holds the base information of this service
+     * @return newest service info of this snapshot with its revision
+     */
+    public synchronized RevisionedServiceInfo refresh(InstancesLoader loader, Collection<String> allClients,
+            ServiceInfo template) {
+        if (!isStale()) {
+            return current;
+        }
+        if (null == current) {
+            dirtyClients.clear();
+            for (String each : allClients) {
+                putEntry(each, loader.load(each));
+            }
+        } else {
+            for (String each : new ArrayList<>(dirtyClients)) {
+                dirtyClients.remove(each);
+                removeEntry(each);
+                putEntry(each, loader.load(each));
+            }
+        }
+        // Same instance may be published by different clients, such as re-registered after client id changed.
+        Set<Instance> hosts = new LinkedHashSet<>();
+        for (List<Instance> each : clientInstances.values()) {
+            hosts.addAll(each);
+        }
+        template.setHosts(new ArrayList<>(hosts));
+        clusters = Collections.unmodifiableSet(new HashSet<>(clusterCounts.keySet()));
+        current = new RevisionedServiceInfo(template, REVISION_GENERATOR.incrementAndGet());
+        return current;
+    }
+    
+    private void putEntry(String clientId, List<Instance> instances) {
+        if (instances.isEmpty()) {
+            return;
+        }
+        clientInstances.put(clientId, instances);
+        for (Instance each : instances) {
+            clusterCounts.merge(each.getClusterName(), 1, Integer::sum);
+            metadataIdIndex.put(metadataIdOf(each), clientId);
+        }
+    }
+    
+    private void removeEntry(String clientId) {
+        List<Instance> old = clientInstances.remove(clientId);
+        if (null == old) {
+            return;
+        }
+        for (Instance each : old) {
+            clusterCounts.computeIfPresent(each.getClusterName(), (key, count) -> count > 1 ? count - 1 : null);
+            metadataIdIndex.remove(metadataIdOf(each), clientId);
+        }
+    }
+    
+    private String metadataIdOf(Instance instance) {
+        return InstancePublishInfo.genMetadataId(instance.getIp(), instance.getPort(), instance.getClusterName());
+    }
+    
+    /**
+     * Loader of the instances published by one client.
+     */
+    @FunctionalInterface
+    public interface InstancesLoader {
+        
+        /**
+         * Load the newest instances published by client.
+         *
+         * @param clientId client id
+         * @return instances, empty if the client doesn't publish this service any more
+         */
+        List<Instance> load(String clientId);
+    }
+}
@@ -18,10 +18,17 @@ package com.alibaba.nacos.naming.core.v2.index;
 
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.common.notify.Event;
+import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.common.notify.listener.SmartSubscriber;
 import com.alibaba.nacos.naming.core.v2.ServiceManager;
 import com.alibaba.nacos.naming.core.v2.client.Client;
 import com.alibaba.nacos.naming.core.v2.client.manager.ClientManager;
 import com.alibaba.nacos.naming.core.v2.client.manager.ClientManagerDelegate;
+import com.alibaba.nacos.naming.core.v2.event.client.ClientEvent;
+import com.alibaba.nacos.naming.core.v2.event.client.ClientOperationEvent;
+import com.alibaba.nacos.naming.core.v2.event.metadata.MetadataEvent;
+import com.alibaba.nacos.naming.core.v2.event.publisher.NamingEventPublisherFactory;
 import com.alibaba.nacos.naming.core.v2.metadata.InstanceMetadata;
 import com.alibaba.nacos.naming.core.v2.metadata.NamingMetadataManager;
 import com.alibaba.nacos.naming.core.v2.pojo.BatchInstancePublishInfo;
@@ -32,6 +39,7 @@ import com.alibaba.nacos.naming.utils.InstanceUtil;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
@@ -43,10 +51,13 @@ import java.util.concurrent.ConcurrentMap;
 /**
  * Service storage.
  *
+ * <p>The instances of each service are cached in {@link ServiceInstancesSnapshot} and maintained incrementally by
+ * client operation events, so only changed clients are re-parsed when generating push data.
+ *
  * @author xiweng.yy
  */
 @Component
-public class ServiceStorage {
+public class ServiceStorage extends SmartSubscriber {
     
     private final ClientServiceIndexesManager serviceIndexesManager;
     
@@ -60,6 +71,8 @@ public class ServiceStorage {
     
     private final ConcurrentMap<Service, Set<String>> serviceClusterIndex;
     
+    private final ConcurrentMap<Service, ServiceInstancesSnapshot> serviceSnapshots;
+    
     public ServiceStorage(ClientServiceIndexesManager serviceIndexesManager, ClientManagerDelegate clientManager,
             SwitchDomain switchDomain, NamingMetadataManager metadataManager) {
         this.serviceIndexesManager = serviceIndexesManager;
@@ -68,6 +81,8 @@ public class ServiceStorage {
         this.metadataManager = metadataManager;
         this.serviceDataIndexes = new ConcurrentHashMap<>();
         this.serviceClusterIndex = new ConcurrentHashMap<>();
+        this.serviceSnapshots = new ConcurrentHashMap<>();
+        NotifyCenter.registerSubscriber(this, NamingEventPublisherFactory.getInstance());
     }
     
     public Set<String> getClusters(Service service) {
@@ -78,20 +93,105 @@ public class ServiceStorage {
         return serviceDataIndexes.containsKey(service) ? serviceDataIndexes.get(service) : getPushData(service);
     }
     
+    /**
+     * Get the newest push data of service.
+     *
+     * <p>The returned {@link ServiceInfo} is shared by all callers until the next change of service, so callers should
+     * not modify it directly.
+     *
+     * @param service service
+     * @return newest service info
+     */
     public ServiceInfo getPushData(Service service) {
+        return getRevisionedPushData(service).getServiceInfo();
+    }
+    
+    /**
+     * Get the newest push data of service with the revision of it.
+     *
+     * @param service service
+     * @return newest service info and revision, revision is {@code 0} if service not exist
+     */
+    public RevisionedServiceInfo getRevisionedPushData(Service service) {
         ServiceInfo result = emptyServiceInfo(service);
         if (!ServiceManager.getInstance().containSingleton(service)) {
-            return result;
+            return new RevisionedServiceInfo(result, 0L);
         }
         Service singleton = ServiceManager.getInstance().getSingleton(service);
-        result.setHosts(getAllInstancesFromIndex(singleton));
-        serviceDataIndexes.put(singleton, result);
-        return result;
+        ServiceInstancesSnapshot snapshot = serviceSnapshots
+                .computeIfAbsent(singleton, key -> new ServiceInstancesSnapshot());
+        RevisionedServiceInfo revisioned = snapshot.getCurrent();
+        if (snapshot.isStale()) {
+            revisioned = snapshot.refresh(clientId -> getInstancesFromClient(clientId, singleton),
+                    serviceIndexesManager.getAllClientsRegisteredService(singleton), result);
+            // cache clusters of this service
+            serviceClusterIndex.put(singleton, snapshot.getClusters());
+        }
+        serviceDataIndexes.put(singleton, revisioned.getServiceInfo());
+        return revisioned;
     }
     
+    /**
+     * Get the revision of the newest push data of service.
+     *
+     * @param service service
+     * @return revision of snapshot, {@code 0} if no snapshot generated
+     */
+    public long getRevision(Service service) {
+        ServiceInstancesSnapshot snapshot = serviceSnapshots.get(service);
+        return null == snapshot ? 0L : snapshot.getRevision();
+    }
+    
+    /**
+     * Remove all cached data of service.
+     *
+     * @param service service
+     */
     public void removeData(Service service) {
         serviceDataIndexes.remove(service);
         serviceClusterIndex.remove(service);
+        serviceSnapshots.remove(service);
+    }
+    
+    @Override
+    public List<Class<? extends Event>> subscribeTypes() {
+        List<Class<? extends Event>> result = new LinkedList<>();
+        result.add(ClientOperationEvent.ClientRegisterServiceEvent.class);
+        result.add(ClientOperationEvent.ClientDeregisterServiceEvent.class);
+        result.add(ClientEvent.ClientChangedEvent.class);
+        result.add(ClientEvent.ClientDisconnectEvent.class);
+        result.add(MetadataEvent.InstanceMetadataChangedEvent.class);
+        return result;
+    }
+    
+    @Override
+    public void onEvent(Event event) {
+        if (event instanceof ClientOperationEvent) {
+            ClientOperationEvent operationEvent = (ClientOperationEvent) event;
+            markClientDirty(operationEvent.getService(), operationEvent.getClientId());
+        } else if (event instanceof ClientEvent) {
+            Client client = ((ClientEvent) event).getClient();
+            if (null == client) {
+                return;
+            }
+            for (Service each : client.getAllPublishedService()) {
+                markClientDirty(each, client.getClientId());
+            }
+        } else if (event instanceof MetadataEvent.InstanceMetadataChangedEvent) {
+            MetadataEvent.InstanceMetadataChangedEvent metadataEvent =
+                    (MetadataEvent.InstanceMetadataChangedEvent) event;
+            ServiceInstancesSnapshot snapshot = serviceSnapshots.get(metadataEvent.getService());
+            if (null != snapshot) {
+                snapshot.markMetadataDirty(metadataEvent.getMetadataId());
+            }
+        }
+    }
+    
+    private void markClientDirty(Service service, String clientId) {
+        ServiceInstancesSnapshot snapshot = serviceSnapshots.get(service);
+        if (null != snapshot) {
+            snapshot.markDirty(clientId);
+        }
     }
     
     private ServiceInfo emptyServiceInfo(Service service) {
@@ -103,28 +203,20 @@ public class ServiceStorage {
         return result;
     }
     
-    private List<Instance> getAllInstancesFromIndex(Service service) {
-        Set<Instance> result = new HashSet<>();
-        Set<String> clusters = new HashSet<>();
-        for (String each : serviceIndexesManager.getAllClientsRegisteredService(service)) {
-            Optional<InstancePublishInfo> instancePublishInfo = getInstanceInfo(each, service);
-            if (instancePublishInfo.isPresent()) {
-                InstancePublishInfo publishInfo = instancePublishInfo.get();
-                //If it is a BatchInstancePublishInfo type, it will be processed manually and added to the instance list
-                if (publishInfo instanceof BatchInstancePublishInfo) {
-                    BatchInstancePublishInfo batchInstancePublishInfo = (BatchInstancePublishInfo) publishInfo;
-                    List<Instance> batchInstance = parseBatchInstance(service, batchInstancePublishInfo, clusters);
-                    result.addAll(batchInstance);
-                } else {
-                    Instance instance = parseInstance(service, instancePublishInfo.get());
-                    result.add(instance);
-                    clusters.add(instance.getClusterName());
-                }
-            }
+    private List<Instance> getInstancesFromClient(String clientId, Service service) {
+        if (!serviceIndexesManager.getAllClientsRegisteredService(service).contains(clientId)) {
+            return Collections.emptyList();
+        }
+        Optional<InstancePublishInfo> instancePublishInfo = getInstanceInfo(clientId, service);
+        if (!instancePublishInfo.isPresent()) {
+            return Collections.emptyList();
+        }
+        InstancePublishInfo publishInfo = instancePublishInfo.get();
+        //If it is a BatchInstancePublishInfo type, it will be processed manually and added to the instance list
+        if (publishInfo instanceof BatchInstancePublishInfo) {
+            return parseBatchInstance(service, (BatchInstancePublishInfo) publishInfo);
         }
-        // cache clusters of this service
-        serviceClusterIndex.put(service, clusters);
-        return new LinkedList<>(result);
+        return Collections.singletonList(parseInstance(service, publishInfo));
     }
     
     /**
@@ -133,13 +225,11 @@ public class ServiceStorage {
      * @param batchInstancePublishInfo batchInstancePublishInfo
      * @return batch instance list
      */
-    private List<Instance> parseBatchInstance(Service service, BatchInstancePublishInfo batchInstancePublishInfo, Set<String> clusters) {
+    private List<Instance> parseBatchInstance(Service service, BatchInstancePublishInfo batchInstancePublishInfo) {
         List<Instance> resultInstanceList = new ArrayList<>();
         List<InstancePublishInfo> instancePublishInfos = batchInstancePublishInfo.getInstancePublishInfos();
         for (InstancePublishInfo instancePublishInfo : instancePublishInfos) {
-            Instance instance = parseInstance(service, instancePublishInfo);
-            resultInstanceList.add(instance);
-            clusters.add(instance.getClusterName());
+            resultInstanceList.add(parseInstance(service, instancePublishInfo));
         }
         return resultInstanceList;
     }
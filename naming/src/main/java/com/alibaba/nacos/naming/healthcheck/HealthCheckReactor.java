@@ -17,6 +17,7 @@
 package com.alibaba.nacos.naming.healthcheck;
 
 import com.alibaba.nacos.naming.healthcheck.heartbeat.BeatCheckTask;
+import com.alibaba.nacos.naming.healthcheck.heartbeat.BeatCheckWheel;
 import com.alibaba.nacos.naming.healthcheck.interceptor.HealthCheckTaskInterceptWrapper;
 import com.alibaba.nacos.naming.healthcheck.v2.HealthCheckTaskV2;
 import com.alibaba.nacos.naming.misc.GlobalExecutor;
@@ -35,7 +36,12 @@ import java.util.concurrent.TimeUnit;
 @SuppressWarnings("PMD.ThreadPoolCreationRule")
 public class HealthCheckReactor {
     
-    private static Map<String, ScheduledFuture> futureMap = new ConcurrentHashMap<>();
+    private static final long BEAT_CHECK_INTERVAL = 5000L;
+    
+    private static final BeatCheckWheel BEAT_CHECK_WHEEL = new BeatCheckWheel(1000L, 64, BEAT_CHECK_INTERVAL,
+            command -> GlobalExecutor.scheduleNamingHealth(command, 0, TimeUnit.MILLISECONDS));
+    
+    private static Map<String, BeatCheckWheel.BeatCheckTimeout> futureMap = new ConcurrentHashMap<>();
     
     /**
      * Schedule health check task.
@@ -62,14 +68,27 @@ public class HealthCheckReactor {
     /**
      * Schedule client beat check task with a delay.
      *
+     * <p>The task is tracked by the beat check wheel, and only checked again after its instances may be overdue.
+     *
      * @param task client beat check task
      */
     public static void scheduleCheck(BeatCheckTask task) {
         Runnable wrapperTask =
                 task instanceof NacosHealthCheckTask ? new HealthCheckTaskInterceptWrapper((NacosHealthCheckTask) task)
                         : task;
-        futureMap.computeIfAbsent(task.taskKey(),
-                k -> GlobalExecutor.scheduleNamingHealth(wrapperTask, 5000, 5000, TimeUnit.MILLISECONDS));
+        futureMap.computeIfAbsent(task.taskKey(), k -> BEAT_CHECK_WHEEL.schedule(task, wrapperTask));
+    }
+    
+    /**
+     * Recalculate the next check time of client beat check task soon, used when the instances of task changed.
+     *
+     * @param task client beat check task
+     */
+    public static void refreshCheck(BeatCheckTask task) {
+        BeatCheckWheel.BeatCheckTimeout timeout = futureMap.get(task.taskKey());
+        if (timeout != null) {
+            timeout.refresh();
+        }
     }
     
     /**
@@ -78,12 +97,12 @@ public class HealthCheckReactor {
      * @param task client beat check task
      */
     public static void cancelCheck(BeatCheckTask task) {
-        ScheduledFuture scheduledFuture = futureMap.get(task.taskKey());
-        if (scheduledFuture == null) {
+        BeatCheckWheel.BeatCheckTimeout timeout = futureMap.get(task.taskKey());
+        if (timeout == null) {
             return;
         }
         try {
-            scheduledFuture.cancel(true);
+            timeout.cancel();
             futureMap.remove(task.taskKey());
         } catch (Exception e) {
             Loggers.EVT_LOG.error("[CANCEL-CHECK] cancel failed!", e);
@@ -30,4 +30,12 @@ public interface BeatCheckTask extends Runnable {
      */
     String taskKey();
     
+    /**
+     * Get the time after which some instances of this task may be overdue and need to be checked.
+     *
+     * @return next check time in milliseconds, checked in the default interval if it is not after now
+     */
+    default long nextCheckTime() {
+        return 0L;
+    }
 }
@@ -0,0 +1,343 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.healthcheck.heartbeat;
+
+import com.alibaba.nacos.common.executor.ExecutorFactory;
+import com.alibaba.nacos.common.executor.NameThreadFactory;
+import com.alibaba.nacos.naming.misc.Loggers;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hashed timing wheel to schedule {@link BeatCheckTask}s by the deadline of their instances.
+ *
+ * <p>Each task is tracked by one {@link BeatCheckTimeout} instead of a periodic scheduled future. When its slot comes,
+ * the ticker re-reads the next check time of the task, so beats which only postpone it cost nothing on the wheel, and
+ * only the overdue tasks are dispatched to the check executor. After checked, the task is put back with its next check time,
+ * or the default interval if it is still overdue, such as checked by other responsible server.
+ *
+ * @author xiweng.yy
+ */
+public class BeatCheckWheel {
+    
+    private static final int ST_INIT = 0;
+    
+    private static final int ST_RUNNING = 1;
+    
+    private static final int ST_CANCELLED = 2;
+    
+    private final long tickMillis;
+    
+    private final long defaultIntervalMillis;
+    
+    private final int mask;
+    
+    private final Bucket[] wheel;
+    
+    private final Queue<BeatCheckTimeout> registeredTimeouts = new ConcurrentLinkedQueue<>();
+    
+    private final Queue<BeatCheckTimeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+    
+    private final AtomicInteger scheduledCount = new AtomicInteger();
+    
+    private final Executor checkExecutor;
+    
+    private final ScheduledExecutorService ticker;
+    
+    private final long startTime;
+    
+    /**
+     * Only accessed by ticker thread.
+     */
+    private long tick;
+    
+    public BeatCheckWheel(long tickMillis, int wheelSize, long defaultIntervalMillis, Executor checkExecutor) {
+        this(tickMillis, wheelSize, defaultIntervalMillis, checkExecutor, true);
+    }
+    
+    BeatCheckWheel(long tickMillis, int wheelSize, long defaultIntervalMillis, Executor checkExecutor,
+            boolean startTicker) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis must be greater than 0: " + tickMillis);
+        }
+        this.tickMillis = tickMillis;
+        this.defaultIntervalMillis = defaultIntervalMillis;
+        int normalizedSize = normalizeWheelSize(wheelSize);
+        this.mask = normalizedSize - 1;
+        this.wheel = new Bucket[normalizedSize];
+        for (int i = 0; i < normalizedSize; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.checkExecutor = checkExecutor;
+        this.startTime = System.currentTimeMillis();
+        this.ticker = ExecutorFactory
+                .newSingleScheduledExecutorService(new NameThreadFactory("com.alibaba.nacos.naming.beat.check.wheel"));
+        if (startTicker) {
+            this.ticker.scheduleAtFixedRate(() -> advance(System.currentTimeMillis()), tickMillis, tickMillis,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    private static int normalizeWheelSize(int wheelSize) {
+        if (wheelSize <= 0) {
+            throw new IllegalArgumentException("wheelSize must be greater than 0: " + wheelSize);
+        }
+        int result = 1;
+        while (result < wheelSize) {
+            result <<= 1;
+        }
+        return result;
+    }
+    
+    /**
+     * Schedule the beat check task, which is first checked after the default interval.
+     *
+     * @param task    beat check task, used to get the next check time
+     * @param command command to run the check, such as the task wrapped by interceptors
+     * @return timeout handle, which should be cancelled when the task is cancelled
+     */
+    public BeatCheckTimeout schedule(BeatCheckTask task, Runnable command) {
+        BeatCheckTimeout result = new BeatCheckTimeout(task, command,
+                System.currentTimeMillis() + defaultIntervalMillis);
+        scheduledCount.incrementAndGet();
+        registeredTimeouts.offer(result);
+        return result;
+    }
+    
+    /**
+     * Get count of tasks which are scheduled and not cancelled.
+     *
+     * @return scheduled task count
+     */
+    public int getScheduledCount() {
+        return scheduledCount.get();
+    }
+    
+    /**
+     * Stop the ticker, scheduled tasks will never be checked after shutdown.
+     */
+    public void shutdown() {
+        ticker.shutdownNow();
+    }
+    
+    void advance(long nowMillis) {
+        try {
+            while (startTime + (tick + 1) * tickMillis <= nowMillis) {
+                processCancelledTimeouts();
+                transferRegisteredTimeouts();
+                wheel[(int) (tick & mask)].expire(nowMillis);
+                tick++;
+            }
+        } catch (Throwable e) {
+            Loggers.SRV_LOG.error("[BEAT-CHECK-WHEEL] advance wheel failed", e);
+        }
+    }
+    
+    private void processCancelledTimeouts() {
+        BeatCheckTimeout each;
+        while (null != (each = cancelledTimeouts.poll())) {
+            if (null != each.bucket) {
+                each.bucket.remove(each);
+            }
+        }
+    }
+    
+    private void transferRegisteredTimeouts() {
+        BeatCheckTimeout each;
+        while (null != (each = registeredTimeouts.poll())) {
+            if (ST_INIT != each.state.get()) {
+                continue;
+            }
+            if (null != each.bucket) {
+                // Refreshed to an earlier deadline, move it out of the current slot.
+                each.bucket.remove(each);
+            }
+            long calculated = Math.max(each.deadline - startTime, 0L) / tickMillis;
+            each.remainingRounds = (calculated - tick) / wheel.length;
+            long ticks = Math.max(calculated, tick);
+            wheel[(int) (ticks & mask)].add(each);
+        }
+    }
+    
+    private long nextCheckTime(BeatCheckTask task) {
+        long now = System.currentTimeMillis();
+        long result = task.nextCheckTime();
+        return result > now ? result : now + defaultIntervalMillis;
+    }
+    
+    /**
+     * Schedule handle of one beat check task.
+     */
+    public class BeatCheckTimeout implements Runnable {
+        
+        private final BeatCheckTask task;
+        
+        private final Runnable command;
+        
+        private final AtomicInteger state = new AtomicInteger(ST_INIT);
+        
+        private volatile long deadline;
+        
+        private long remainingRounds;
+        
+        private BeatCheckTimeout prev;
+        
+        private BeatCheckTimeout next;
+        
+        private Bucket bucket;
+        
+        private BeatCheckTimeout(BeatCheckTask task, Runnable command, long deadline) {
+            this.task = task;
+            this.command = command;
+            this.deadline = deadline;
+        }
+        
+        public long getDeadline() {
+            return deadline;
+        }
+        
+        /**
+         * Recalculate the next check time soon, used when the instances of the task changed and may be overdue
+         * earlier than the current deadline.
+         */
+        public void refresh() {
+            deadline = System.currentTimeMillis();
+            if (ST_INIT == state.get()) {
+                registeredTimeouts.offer(this);
+            }
+        }
+        
+        /**
+         * Cancel this task.
+         *
+         * @return {@code true} if cancelled by this call, {@code false} if already cancelled
+         */
+        public boolean cancel() {
+            while (true) {
+                int current = state.get();
+                if (ST_CANCELLED == current) {
+                    return false;
+                }
+                if (state.compareAndSet(current, ST_CANCELLED)) {
+                    scheduledCount.decrementAndGet();
+                    cancelledTimeouts.offer(this);
+                    return true;
+                }
+            }
+        }
+        
+        public boolean isCancelled() {
+            return ST_CANCELLED == state.get();
+        }
+        
+        @Override
+        public void run() {
+            try {
+                command.run();
+            } catch (Throwable e) {
+                Loggers.SRV_LOG.warn("[BEAT-CHECK-WHEEL] check task {} failed", task.taskKey(), e);
+            } finally {
+                deadline = nextCheckTime(task);
+                if (state.compareAndSet(ST_RUNNING, ST_INIT)) {
+                    registeredTimeouts.offer(this);
+                }
+            }
+        }
+        
+        private void onSlot(long nowMillis) {
+            long nextCheckTime = task.nextCheckTime();
+            if (nextCheckTime > nowMillis) {
+                // Beats received since the deadline was calculated, move to the slot of next check time without check.
+                deadline = nextCheckTime;
+                registeredTimeouts.offer(this);
+                return;
+            }
+            if (!state.compareAndSet(ST_INIT, ST_RUNNING)) {
+                return;
+            }
+            try {
+                checkExecutor.execute(this);
+            } catch (Throwable e) {
+                Loggers.SRV_LOG.warn("[BEAT-CHECK-WHEEL] dispatch check task {} failed", task.taskKey(), e);
+                deadline = nowMillis + defaultIntervalMillis;
+                if (state.compareAndSet(ST_RUNNING, ST_INIT)) {
+                    registeredTimeouts.offer(this);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Doubly linked tasks of one wheel slot, only accessed by ticker thread.
+     */
+    private class Bucket {
+        
+        private BeatCheckTimeout head;
+        
+        private BeatCheckTimeout tail;
+        
+        private void add(BeatCheckTimeout timeout) {
+            timeout.bucket = this;
+            if (null == head) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+        
+        private BeatCheckTimeout remove(BeatCheckTimeout timeout) {
+            BeatCheckTimeout next = timeout.next;
+            if (null != timeout.prev) {
+                timeout.prev.next = next;
+            }
+            if (null != next) {
+                next.prev = timeout.prev;
+            }
+            if (timeout == head) {
+                head = next;
+            }
+            if (timeout == tail) {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+            return next;
+        }
+        
+        private void expire(long nowMillis) {
+            BeatCheckTimeout each = head;
+            while (null != each) {
+                if (each.remainingRounds <= 0) {
+                    BeatCheckTimeout current = each;
+                    each = remove(current);
+                    current.onSlot(nowMillis);
+                } else {
+                    each.remainingRounds--;
+                    each = each.next;
+                }
+            }
+        }
+    }
+}
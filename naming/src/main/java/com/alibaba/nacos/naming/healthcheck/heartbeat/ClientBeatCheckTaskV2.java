@@ -75,6 +75,19 @@ public class ClientBeatCheckTaskV2 extends AbstractExecuteTask implements BeatCh
         }
     }
     
+    @Override
+    public long nextCheckTime() {
+        long result = Long.MAX_VALUE;
+        for (Service each : client.getAllPublishedService()) {
+            HealthCheckInstancePublishInfo instance = (HealthCheckInstancePublishInfo) client
+                    .getInstancePublishInfo(each);
+            if (null != instance) {
+                result = Math.min(result, InstanceBeatCheckTask.nextCheckTime(client, each, instance));
+            }
+        }
+        return result;
+    }
+    
     @Override
     public void run() {
         doHealthCheck();
@@ -0,0 +1,77 @@
+/*
+ * Copyright 1999-2018 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.healthcheck.heartbeat;
+
+import com.alibaba.nacos.common.notify.Event;
+import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.common.notify.listener.SmartSubscriber;
+import com.alibaba.nacos.naming.core.v2.client.Client;
+import com.alibaba.nacos.naming.core.v2.client.impl.IpPortBasedClient;
+import com.alibaba.nacos.naming.core.v2.client.manager.ClientManagerDelegate;
+import com.alibaba.nacos.naming.core.v2.event.metadata.MetadataEvent;
+import com.alibaba.nacos.naming.core.v2.event.publisher.NamingEventPublisherFactory;
+import com.alibaba.nacos.naming.core.v2.index.ClientServiceIndexesManager;
+import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Refresh the beat check of instances whose metadata changed, the heartbeat timeout and delete timeout in metadata
+ * change the next check time of the instances.
+ *
+ * @author xiweng.yy
+ */
+@Component
+public class InstanceBeatCheckRefresher extends SmartSubscriber {
+    
+    private final ClientServiceIndexesManager clientServiceIndexesManager;
+    
+    private final ClientManagerDelegate clientManager;
+    
+    public InstanceBeatCheckRefresher(ClientServiceIndexesManager clientServiceIndexesManager,
+            ClientManagerDelegate clientManager) {
+        this.clientServiceIndexesManager = clientServiceIndexesManager;
+        this.clientManager = clientManager;
+        NotifyCenter.registerSubscriber(this, NamingEventPublisherFactory.getInstance());
+    }
+    
+    @Override
+    public List<Class<? extends Event>> subscribeTypes() {
+        List<Class<? extends Event>> result = new LinkedList<>();
+        result.add(MetadataEvent.InstanceMetadataChangedEvent.class);
+        return result;
+    }
+    
+    @Override
+    public void onEvent(Event event) {
+        MetadataEvent.InstanceMetadataChangedEvent metadataEvent = (MetadataEvent.InstanceMetadataChangedEvent) event;
+        Service service = metadataEvent.getService();
+        for (String each : clientServiceIndexesManager.getAllClientsRegisteredService(service)) {
+            Client client = clientManager.getClient(each);
+            if (!(client instanceof IpPortBasedClient)) {
+                continue;
+            }
+            InstancePublishInfo instance = client.getInstancePublishInfo(service);
+            if (null != instance && metadataEvent.getMetadataId().equals(instance.getMetadataId())) {
+                ((IpPortBasedClient) client).refreshBeatCheck();
+            }
+        }
+    }
+}
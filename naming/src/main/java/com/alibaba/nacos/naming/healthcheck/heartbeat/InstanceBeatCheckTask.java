@@ -52,6 +52,23 @@ public class InstanceBeatCheckTask implements Interceptable {
         this.instancePublishInfo = instancePublishInfo;
     }
     
+    /**
+     * Get the earliest time after which one of the checkers may change the instance.
+     *
+     * @param client   client
+     * @param service  service of instance
+     * @param instance instance publish info
+     * @return next check time in milliseconds
+     */
+    public static long nextCheckTime(IpPortBasedClient client, Service service,
+            HealthCheckInstancePublishInfo instance) {
+        long result = Long.MAX_VALUE;
+        for (InstanceBeatChecker each : CHECKERS) {
+            result = Math.min(result, each.nextCheckTime(client, service, instance));
+        }
+        return result;
+    }
+    
     @Override
     public void passIntercept() {
         for (InstanceBeatChecker each : CHECKERS) {
@@ -35,4 +35,16 @@ public interface InstanceBeatChecker {
      * @param instance instance publish info
      */
     void doCheck(Client client, Service service, HealthCheckInstancePublishInfo instance);
+    
+    /**
+     * Get the time after which this checker may change the input instance.
+     *
+     * @param client   client
+     * @param service  service of instance
+     * @param instance instance publish info
+     * @return next check time in milliseconds, {@link Long#MAX_VALUE} if never, default checks every round
+     */
+    default long nextCheckTime(Client client, Service service, HealthCheckInstancePublishInfo instance) {
+        return 0L;
+    }
 }
@@ -51,6 +51,11 @@ public class UnhealthyInstanceChecker implements InstanceBeatChecker {
         }
     }
     
+    @Override
+    public long nextCheckTime(Client client, Service service, HealthCheckInstancePublishInfo instance) {
+        return instance.isHealthy() ? instance.getLastHeartBeatTime() + getTimeout(service, instance) : Long.MAX_VALUE;
+    }
+    
     private boolean isUnhealthy(Service service, HealthCheckInstancePublishInfo instance) {
         long beatTimeout = getTimeout(service, instance);
         return System.currentTimeMillis() - instance.getLastHeartBeatTime() > beatTimeout;
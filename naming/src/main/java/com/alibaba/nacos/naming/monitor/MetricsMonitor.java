@@ -65,6 +65,10 @@ public class MetricsMonitor {
     
     private final AtomicInteger failedPush = new AtomicInteger();
     
+    private final AtomicLong pushPayloadCacheHit = new AtomicLong();
+    
+    private final AtomicLong pushPayloadCacheMiss = new AtomicLong();
+    
     private MetricsMonitor() {
         for (Field each : MetricsMonitor.class.getDeclaredFields()) {
             if (Number.class.isAssignableFrom(each.getType())) {
@@ -129,6 +133,14 @@ public class MetricsMonitor {
         return INSTANCE.failedPush;
     }
     
+    public static AtomicLong getPushPayloadCacheHitCount() {
+        return INSTANCE.pushPayloadCacheHit;
+    }
+    
+    public static AtomicLong getPushPayloadCacheMissCount() {
+        return INSTANCE.pushPayloadCacheMiss;
+    }
+    
     public static AtomicInteger getTotalPushCountForAvg() {
         return INSTANCE.totalPushCountForAvg;
     }
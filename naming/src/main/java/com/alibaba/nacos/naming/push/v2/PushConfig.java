@@ -37,6 +37,8 @@ public class PushConfig extends AbstractDynamicConfig {
     
     private long pushTaskRetryDelay = PushConstants.DEFAULT_PUSH_TASK_RETRY_DELAY;
     
+    private boolean pushDeltaEnabled = PushConstants.DEFAULT_PUSH_DELTA_ENABLED;
+    
     private PushConfig() {
         super(PUSH);
         resetConfig();
@@ -50,12 +52,14 @@ public class PushConfig extends AbstractDynamicConfig {
                 .getProperty(PushConstants.PUSH_TASK_TIMEOUT, Long.class, PushConstants.DEFAULT_PUSH_TASK_TIMEOUT);
         pushTaskRetryDelay = EnvUtil.getProperty(PushConstants.PUSH_TASK_RETRY_DELAY, Long.class,
                 PushConstants.DEFAULT_PUSH_TASK_RETRY_DELAY);
+        pushDeltaEnabled = EnvUtil.getProperty(PushConstants.PUSH_DELTA_ENABLED, Boolean.class,
+                PushConstants.DEFAULT_PUSH_DELTA_ENABLED);
     }
     
     @Override
     protected String printConfig() {
         return "PushConfig{" + "pushTaskDelay=" + pushTaskDelay + ", pushTaskTimeout=" + pushTaskTimeout
-                + ", pushTaskRetryDelay=" + pushTaskRetryDelay + '}';
+                + ", pushTaskRetryDelay=" + pushTaskRetryDelay + ", pushDeltaEnabled=" + pushDeltaEnabled + '}';
     }
     
     public static PushConfig getInstance() {
@@ -73,4 +77,8 @@ public class PushConfig extends AbstractDynamicConfig {
     public long getPushTaskRetryDelay() {
         return pushTaskRetryDelay;
     }
+    
+    public boolean isPushDeltaEnabled() {
+        return pushDeltaEnabled;
+    }
 }
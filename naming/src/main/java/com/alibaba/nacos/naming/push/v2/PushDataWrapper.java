@@ -34,11 +34,18 @@ public class PushDataWrapper {
     
     private final ServiceInfo originalData;
     
+    private final long revision;
+    
     private final Map<String, Object> processedDatum;
     
     public PushDataWrapper(ServiceMetadata serviceMetadata, ServiceInfo originalData) {
+        this(serviceMetadata, originalData, 0L);
+    }
+    
+    public PushDataWrapper(ServiceMetadata serviceMetadata, ServiceInfo originalData, long revision) {
         this.serviceMetadata = serviceMetadata;
         this.originalData = originalData;
+        this.revision = revision;
         processedDatum = new HashMap<>(1);
     }
     
@@ -50,6 +57,10 @@ public class PushDataWrapper {
         return serviceMetadata;
     }
     
+    public long getRevision() {
+        return revision;
+    }
+    
     public <T> Optional<T> getProcessedPushData(String key) {
         return Optional.ofNullable((T) processedDatum.get(key));
     }
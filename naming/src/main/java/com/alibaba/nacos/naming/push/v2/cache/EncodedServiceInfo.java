@@ -0,0 +1,118 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.push.v2.cache;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberDeltaRequest;
+import com.alibaba.nacos.common.utils.JacksonUtils;
+import com.alibaba.nacos.naming.push.v2.delta.ServiceInfoDelta;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.json.JsonGeneratorImpl;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Service info with the pre-encoded json content.
+ *
+ * <p>The json content is generated once when created, and written directly as the raw value when the push request
+ * holding it is serialized to json, so the same service info pushed to many subscribers is only serialized one time.
+ * Other payload codecs such as smile can't embed raw json, so the source service info is serialized for them. The
+ * instance should be treated as read-only.
+ *
+ * <p>The hosts indexed by instance key and the deltas from other pushed service infos are also computed once and shared
+ * by all subscribers, so delta push costs nothing proportional to the subscriber count except the comparison result.
+ *
+ * @author xiweng.yy
+ */
+@JsonSerialize(using = EncodedServiceInfo.EncodedServiceInfoSerializer.class)
+public class EncodedServiceInfo extends ServiceInfo {
+    
+    private final ServiceInfo source;
+    
+    private final SerializedString encoded;
+    
+    private final ConcurrentMap<EncodedServiceInfo, ServiceInfoDelta> deltas = new ConcurrentHashMap<>(2);
+    
+    private volatile Map<String, Instance> hostIndex;
+    
+    public EncodedServiceInfo(ServiceInfo source) {
+        setName(source.getName());
+        setGroupName(source.getGroupName());
+        setClusters(source.getClusters());
+        setCacheMillis(source.getCacheMillis());
+        setHosts(source.getHosts());
+        setLastRefTime(source.getLastRefTime());
+        setChecksum(source.getChecksum());
+        setAllIPs(source.isAllIPs());
+        setReachProtectionThreshold(source.isReachProtectionThreshold());
+        this.source = source;
+        this.encoded = new SerializedString(JacksonUtils.toJson(source));
+    }
+    
+    public String getEncoded() {
+        return encoded.getValue();
+    }
+    
+    /**
+     * Get the read-only hosts indexed by {@link NotifySubscriberDeltaRequest#buildInstanceKey(Instance)}.
+     *
+     * @return indexed hosts
+     */
+    public Map<String, Instance> getHostIndex() {
+        Map<String, Instance> result = hostIndex;
+        if (null == result) {
+            result = Collections.unmodifiableMap(ServiceInfoDelta.indexHosts(source));
+            hostIndex = result;
+        }
+        return result;
+    }
+    
+    /**
+     * Get the delta from the base service info to this one, the delta of the same base is only compared once.
+     *
+     * <p>The bases are service infos recorded as pushed to subscribers, which are only several revisions of the same
+     * service, and are released together with this service info.
+     *
+     * @param base service info pushed before
+     * @return delta from base to this
+     */
+    public ServiceInfoDelta deltaFrom(EncodedServiceInfo base) {
+        return deltas.computeIfAbsent(base, key -> ServiceInfoDelta.compare(key.getHostIndex(), getHostIndex()));
+    }
+    
+    public static class EncodedServiceInfoSerializer extends JsonSerializer<EncodedServiceInfo> {
+        
+        @Override
+        public void serialize(EncodedServiceInfo value, JsonGenerator gen, SerializerProvider serializers)
+                throws IOException {
+            if (gen instanceof JsonGeneratorImpl) {
+                gen.writeRawValue(value.encoded);
+            } else {
+                serializers.defaultSerializeValue(value.source, gen);
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.push.v2.cache;
+
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.selector.Selector;
+import com.alibaba.nacos.common.notify.Event;
+import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.common.notify.listener.SmartSubscriber;
+import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.naming.core.v2.event.metadata.MetadataEvent;
+import com.alibaba.nacos.naming.core.v2.event.publisher.NamingEventPublisherFactory;
+import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import com.alibaba.nacos.naming.monitor.MetricsMonitor;
+import com.alibaba.nacos.naming.pojo.Subscriber;
+import com.alibaba.nacos.naming.push.v2.PushDataWrapper;
+import com.alibaba.nacos.naming.selector.NoneSelector;
+import com.alibaba.nacos.naming.utils.ServiceUtil;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Cache of the pre-encoded service info pushed to subscribers.
+ *
+ * <p>The cache is keyed by service, identity of push data and the selector filter of subscriber. Only the latest push
+ * data of each service is cached, so the service info selected and serialized for one subscriber can be reused by all
+ * other subscribers of the same service with the same filter result.
+ *
+ * @author xiweng.yy
+ */
+@Component
+public class PushPayloadCache extends SmartSubscriber {
+    
+    private final ConcurrentMap<Service, ServicePayloads> payloads = new ConcurrentHashMap<>();
+    
+    public PushPayloadCache() {
+        NotifyCenter.registerSubscriber(this, NamingEventPublisherFactory.getInstance());
+    }
+    
+    /**
+     * Get the encoded service info should be pushed to the subscriber.
+     *
+     * @param service    subscribed service
+     * @param data       push data of service
+     * @param subscriber subscriber
+     * @return encoded service info after selected for subscriber
+     */
+    public EncodedServiceInfo getServiceInfo(Service service, PushDataWrapper data, Subscriber subscriber) {
+        // Push data is compared by identity, so the payloads of a removed service are never reused after recreated.
+        ServicePayloads servicePayloads = payloads
+                .compute(service, (key, old) -> null != old && old.isFor(data) ? old : new ServicePayloads(data));
+        String filterKey = buildFilterKey(data.getServiceMetadata(), subscriber);
+        EncodedServiceInfo result = servicePayloads.encoded.get(filterKey);
+        if (null != result) {
+            MetricsMonitor.getPushPayloadCacheHitCount().incrementAndGet();
+            return result;
+        }
+        return servicePayloads.encoded.computeIfAbsent(filterKey, key -> {
+            MetricsMonitor.getPushPayloadCacheMissCount().incrementAndGet();
+            return encode(data, subscriber);
+        });
+    }
+    
+    private EncodedServiceInfo encode(PushDataWrapper data, Subscriber subscriber) {
+        ServiceInfo selected = ServiceUtil
+                .selectInstancesWithHealthyProtection(data.getOriginalData(), data.getServiceMetadata(), false, true,
+                        subscriber);
+        return new EncodedServiceInfo(selected);
+    }
+    
+    /**
+     * Only the selector of service depends on subscriber, so the subscribers with the same ip share the same result.
+     */
+    private String buildFilterKey(ServiceMetadata serviceMetadata, Subscriber subscriber) {
+        Selector selector = null == serviceMetadata ? null : serviceMetadata.getSelector();
+        if (null == selector || selector instanceof NoneSelector) {
+            return StringUtils.EMPTY;
+        }
+        return null == subscriber.getIp() ? StringUtils.EMPTY : subscriber.getIp();
+    }
+    
+    public int size() {
+        return payloads.size();
+    }
+    
+    @Override
+    public List<Class<? extends Event>> subscribeTypes() {
+        List<Class<? extends Event>> result = new LinkedList<>();
+        result.add(MetadataEvent.ServiceMetadataEvent.class);
+        return result;
+    }
+    
+    @Override
+    public void onEvent(Event event) {
+        MetadataEvent.ServiceMetadataEvent metadataEvent = (MetadataEvent.ServiceMetadataEvent) event;
+        if (metadataEvent.isExpired()) {
+            payloads.remove(metadataEvent.getService());
+        }
+    }
+    
+    private static class ServicePayloads {
+        
+        private final ServiceInfo originalData;
+        
+        private final ServiceMetadata serviceMetadata;
+        
+        private final long revision;
+        
+        private final ConcurrentMap<String, EncodedServiceInfo> encoded = new ConcurrentHashMap<>(2);
+        
+        private ServicePayloads(PushDataWrapper data) {
+            this.originalData = data.getOriginalData();
+            this.serviceMetadata = data.getServiceMetadata();
+            this.revision = data.getRevision();
+        }
+        
+        /**
+         * Service info of storage and service metadata are replaced rather than modified when changed, so compare the
+         * reference can make sure the cached results are generated from the same push data.
+         */
+        private boolean isFor(PushDataWrapper data) {
+            return revision == data.getRevision() && originalData == data.getOriginalData()
+                    && serviceMetadata == data.getServiceMetadata();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.push.v2.delta;
+
+import com.alibaba.nacos.common.notify.Event;
+import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.common.notify.listener.SmartSubscriber;
+import com.alibaba.nacos.naming.core.v2.event.client.ClientEvent;
+import com.alibaba.nacos.naming.core.v2.event.client.ClientOperationEvent;
+import com.alibaba.nacos.naming.core.v2.event.publisher.NamingEventPublisherFactory;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import com.alibaba.nacos.naming.push.v2.cache.EncodedServiceInfo;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Recorder of the service info pushed to each subscriber, which is the base of following delta push.
+ *
+ * @author xiweng.yy
+ */
+@Component
+public class DeltaPushRecorder extends SmartSubscriber {
+    
+    private final ConcurrentMap<String, ConcurrentMap<Service, PushedRecord>> records = new ConcurrentHashMap<>();
+    
+    public DeltaPushRecorder() {
+        NotifyCenter.registerSubscriber(this, NamingEventPublisherFactory.getInstance());
+    }
+    
+    /**
+     * Get the record pushed to the subscriber.
+     *
+     * @param clientId client id of subscriber
+     * @param service  subscribed service
+     * @return pushed record if exist
+     */
+    public Optional<PushedRecord> getRecord(String clientId, Service service) {
+        ConcurrentMap<Service, PushedRecord> clientRecords = records.get(clientId);
+        return null == clientRecords ? Optional.empty() : Optional.ofNullable(clientRecords.get(service));
+    }
+    
+    /**
+     * Record the service info pushed to subscriber.
+     *
+     * @param clientId client id of subscriber
+     * @param service  subscribed service
+     * @param revision revision of pushed service info
+     * @param pushed   pushed service info, which is shared by all subscribers of the same revision
+     */
+    public void record(String clientId, Service service, long revision, EncodedServiceInfo pushed) {
+        records.computeIfAbsent(clientId, key -> new ConcurrentHashMap<>(4))
+                .put(service, new PushedRecord(revision, pushed));
+    }
+    
+    /**
+     * Remove the record of subscriber, the next push will be full push.
+     *
+     * @param clientId client id of subscriber
+     * @param service  subscribed service
+     */
+    public void remove(String clientId, Service service) {
+        ConcurrentMap<Service, PushedRecord> clientRecords = records.get(clientId);
+        if (null != clientRecords) {
+            clientRecords.remove(service);
+        }
+    }
+    
+    @Override
+    public List<Class<? extends Event>> subscribeTypes() {
+        List<Class<? extends Event>> result = new LinkedList<>();
+        result.add(ClientOperationEvent.ClientUnsubscribeServiceEvent.class);
+        result.add(ClientEvent.ClientDisconnectEvent.class);
+        return result;
+    }
+    
+    @Override
+    public void onEvent(Event event) {
+        if (event instanceof ClientEvent.ClientDisconnectEvent) {
+            records.remove(((ClientEvent.ClientDisconnectEvent) event).getClient().getClientId());
+        } else if (event instanceof ClientOperationEvent.ClientUnsubscribeServiceEvent) {
+            ClientOperationEvent operationEvent = (ClientOperationEvent) event;
+            remove(operationEvent.getClientId(), operationEvent.getService());
+        }
+    }
+    
+    /**
+     * Service info pushed to one subscriber, only references the shared service info instead of copying its hosts.
+     */
+    public static class PushedRecord {
+        
+        private final long revision;
+        
+        private final EncodedServiceInfo serviceInfo;
+        
+        public PushedRecord(long revision, EncodedServiceInfo serviceInfo) {
+            this.revision = revision;
+            this.serviceInfo = serviceInfo;
+        }
+        
+        public long getRevision() {
+            return revision;
+        }
+        
+        public EncodedServiceInfo getServiceInfo() {
+            return serviceInfo;
+        }
+    }
+}
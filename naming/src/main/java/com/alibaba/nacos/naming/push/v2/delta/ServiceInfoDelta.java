@@ -0,0 +1,95 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.push.v2.delta;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberDeltaRequest;
+
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Delta of instances between the service info acknowledged by subscriber and the newest one.
+ *
+ * @author xiweng.yy
+ */
+public class ServiceInfoDelta {
+    
+    private final List<Instance> addedHosts = new LinkedList<>();
+    
+    private final List<Instance> removedHosts = new LinkedList<>();
+    
+    private final List<Instance> modifiedHosts = new LinkedList<>();
+    
+    /**
+     * Compare the base hosts and target hosts.
+     *
+     * @param baseHosts   base hosts which indexed by {@link NotifySubscriberDeltaRequest#buildInstanceKey(Instance)}
+     * @param targetHosts target hosts which indexed by {@link NotifySubscriberDeltaRequest#buildInstanceKey(Instance)}
+     * @return delta from base to target
+     */
+    public static ServiceInfoDelta compare(Map<String, Instance> baseHosts, Map<String, Instance> targetHosts) {
+        ServiceInfoDelta result = new ServiceInfoDelta();
+        for (Map.Entry<String, Instance> entry : targetHosts.entrySet()) {
+            Instance base = baseHosts.get(entry.getKey());
+            if (null == base) {
+                result.addedHosts.add(entry.getValue());
+            } else if (base != entry.getValue() && !base.equals(entry.getValue())) {
+                result.modifiedHosts.add(entry.getValue());
+            }
+        }
+        for (Map.Entry<String, Instance> entry : baseHosts.entrySet()) {
+            if (!targetHosts.containsKey(entry.getKey())) {
+                result.removedHosts.add(entry.getValue());
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Index hosts of service info by instance key.
+     *
+     * @param serviceInfo service info
+     * @return hosts indexed by {@link NotifySubscriberDeltaRequest#buildInstanceKey(Instance)}
+     */
+    public static Map<String, Instance> indexHosts(ServiceInfo serviceInfo) {
+        Map<String, Instance> result = new HashMap<>(serviceInfo.getHosts().size());
+        for (Instance each : serviceInfo.getHosts()) {
+            result.put(NotifySubscriberDeltaRequest.buildInstanceKey(each), each);
+        }
+        return result;
+    }
+    
+    public int size() {
+        return addedHosts.size() + removedHosts.size() + modifiedHosts.size();
+    }
+    
+    public List<Instance> getAddedHosts() {
+        return addedHosts;
+    }
+    
+    public List<Instance> getRemovedHosts() {
+        return removedHosts;
+    }
+    
+    public List<Instance> getModifiedHosts() {
+        return modifiedHosts;
+    }
+}
@@ -16,48 +16,183 @@
 
 package com.alibaba.nacos.naming.push.v2.executor;
 
+import com.alibaba.nacos.api.ability.ClientAbilities;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberDeltaRequest;
 import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.api.remote.request.ServerRequest;
+import com.alibaba.nacos.core.remote.Connection;
+import com.alibaba.nacos.core.remote.ConnectionManager;
 import com.alibaba.nacos.core.remote.RpcPushService;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.misc.GlobalExecutor;
 import com.alibaba.nacos.naming.pojo.Subscriber;
+import com.alibaba.nacos.naming.push.v2.PushConfig;
 import com.alibaba.nacos.naming.push.v2.PushDataWrapper;
+import com.alibaba.nacos.naming.push.v2.cache.EncodedServiceInfo;
+import com.alibaba.nacos.naming.push.v2.cache.PushPayloadCache;
+import com.alibaba.nacos.naming.push.v2.delta.DeltaPushRecorder;
+import com.alibaba.nacos.naming.push.v2.delta.ServiceInfoDelta;
 import com.alibaba.nacos.naming.push.v2.task.NamingPushCallback;
-import com.alibaba.nacos.naming.utils.ServiceUtil;
 import org.springframework.stereotype.Component;
 
+import java.util.Optional;
+
 /**
  * Push execute service for rpc.
  *
+ * <p>If delta push is enabled and the subscriber supports it, only the changed instances relative to the service info
+ * last pushed to the subscriber are sent. Any failure of push removes the base record so that the next push is full.
+ *
+ * <p>The service info pushed to subscribers is selected and serialized once by {@link PushPayloadCache} and shared by
+ * all subscribers of the same service. The delta between two shared service infos is also compared only once.
+ *
  * @author xiweng.yy
  */
 @Component
 public class PushExecutorRpcImpl implements PushExecutor {
     
+    /**
+     * Delta push is used only when the changed instances are less than 1/n of all instances.
+     */
+    private static final int DELTA_PUSH_RATIO = 2;
+    
     private final RpcPushService pushService;
     
-    public PushExecutorRpcImpl(RpcPushService pushService) {
+    private final ConnectionManager connectionManager;
+    
+    private final DeltaPushRecorder deltaPushRecorder;
+    
+    private final PushPayloadCache pushPayloadCache;
+    
+    public PushExecutorRpcImpl(RpcPushService pushService, ConnectionManager connectionManager,
+            DeltaPushRecorder deltaPushRecorder, PushPayloadCache pushPayloadCache) {
         this.pushService = pushService;
+        this.connectionManager = connectionManager;
+        this.deltaPushRecorder = deltaPushRecorder;
+        this.pushPayloadCache = pushPayloadCache;
     }
     
     @Override
     public void doPush(String clientId, Subscriber subscriber, PushDataWrapper data) {
-        pushService.pushWithoutAck(clientId,
-                NotifySubscriberRequest.buildNotifySubscriberRequest(getServiceInfo(data, subscriber)));
+        pushService.pushWithoutAck(clientId, NotifySubscriberRequest
+                .buildNotifySubscriberRequest(getServiceInfo(buildService(data, subscriber), data, subscriber)));
     }
     
     @Override
     public void doPushWithCallback(String clientId, Subscriber subscriber, PushDataWrapper data,
             NamingPushCallback callBack) {
-        ServiceInfo actualServiceInfo = getServiceInfo(data, subscriber);
+        Service service = buildService(data, subscriber);
+        EncodedServiceInfo actualServiceInfo = getServiceInfo(service, data, subscriber);
         callBack.setActualServiceInfo(actualServiceInfo);
-        pushService.pushWithCallback(clientId, NotifySubscriberRequest.buildNotifySubscriberRequest(actualServiceInfo),
-                callBack, GlobalExecutor.getCallbackExecutor());
+        if (!isDeltaPushSupported(clientId)) {
+            pushService.pushWithCallback(clientId,
+                    NotifySubscriberRequest.buildNotifySubscriberRequest(actualServiceInfo), callBack,
+                    GlobalExecutor.getCallbackExecutor());
+            return;
+        }
+        ServerRequest request = buildDeltaOrFullRequest(clientId, service, actualServiceInfo, data.getRevision());
+        pushService.pushWithCallback(clientId, request, new DeltaPushCallback(clientId, service, callBack),
+                GlobalExecutor.getCallbackExecutor());
+    }
+    
+    private Service buildService(PushDataWrapper data, Subscriber subscriber) {
+        return Service.newService(subscriber.getNamespaceId(), data.getOriginalData().getGroupName(),
+                data.getOriginalData().getName());
+    }
+    
+    private EncodedServiceInfo getServiceInfo(Service service, PushDataWrapper data, Subscriber subscriber) {
+        return pushPayloadCache.getServiceInfo(service, data, subscriber);
+    }
+    
+    private boolean isDeltaPushSupported(String clientId) {
+        if (!PushConfig.getInstance().isPushDeltaEnabled()) {
+            return false;
+        }
+        Connection connection = connectionManager.getConnection(clientId);
+        if (null == connection) {
+            return false;
+        }
+        ClientAbilities abilities = connection.getAbilities();
+        return null != abilities && null != abilities.getNamingAbility() && abilities.getNamingAbility()
+                .isSupportDeltaPush();
+    }
+    
+    private ServerRequest buildDeltaOrFullRequest(String clientId, Service service,
+            EncodedServiceInfo actualServiceInfo, long revision) {
+        Optional<DeltaPushRecorder.PushedRecord> baseRecord = deltaPushRecorder.getRecord(clientId, service);
+        deltaPushRecorder.record(clientId, service, revision, actualServiceInfo);
+        if (!baseRecord.isPresent()) {
+            return buildFullRequest(actualServiceInfo, revision);
+        }
+        ServiceInfoDelta delta = actualServiceInfo.deltaFrom(baseRecord.get().getServiceInfo());
+        // If most of instances changed, full push is cheaper than delta push.
+        if (delta.size() * DELTA_PUSH_RATIO > actualServiceInfo.getHosts().size()) {
+            return buildFullRequest(actualServiceInfo, revision);
+        }
+        NotifySubscriberDeltaRequest result = new NotifySubscriberDeltaRequest();
+        result.setServiceInfo(withoutHosts(actualServiceInfo));
+        result.setBaseRevision(baseRecord.get().getRevision());
+        result.setRevision(revision);
+        result.setAddedHosts(delta.getAddedHosts());
+        result.setRemovedHosts(delta.getRemovedHosts());
+        result.setModifiedHosts(delta.getModifiedHosts());
+        return result;
+    }
+    
+    private NotifySubscriberRequest buildFullRequest(ServiceInfo actualServiceInfo, long revision) {
+        NotifySubscriberRequest result = NotifySubscriberRequest.buildNotifySubscriberRequest(actualServiceInfo);
+        result.setRevision(revision);
+        return result;
+    }
+    
+    private ServiceInfo withoutHosts(ServiceInfo serviceInfo) {
+        ServiceInfo result = new ServiceInfo();
+        result.setName(serviceInfo.getName());
+        result.setGroupName(serviceInfo.getGroupName());
+        result.setClusters(serviceInfo.getClusters());
+        result.setCacheMillis(serviceInfo.getCacheMillis());
+        result.setLastRefTime(serviceInfo.getLastRefTime());
+        result.setChecksum(serviceInfo.getChecksum());
+        result.setAllIPs(serviceInfo.isAllIPs());
+        result.setReachProtectionThreshold(serviceInfo.isReachProtectionThreshold());
+        return result;
     }
     
-    private ServiceInfo getServiceInfo(PushDataWrapper data, Subscriber subscriber) {
-        return ServiceUtil
-                .selectInstancesWithHealthyProtection(data.getOriginalData(), data.getServiceMetadata(), false, true,
-                        subscriber);
+    private class DeltaPushCallback implements NamingPushCallback {
+        
+        private final String clientId;
+        
+        private final Service service;
+        
+        private final NamingPushCallback delegate;
+        
+        private DeltaPushCallback(String clientId, Service service, NamingPushCallback delegate) {
+            this.clientId = clientId;
+            this.service = service;
+            this.delegate = delegate;
+        }
+        
+        @Override
+        public void setActualServiceInfo(ServiceInfo serviceInfo) {
+            delegate.setActualServiceInfo(serviceInfo);
+        }
+        
+        @Override
+        public long getTimeout() {
+            return delegate.getTimeout();
+        }
+        
+        @Override
+        public void onSuccess() {
+            delegate.onSuccess();
+        }
+        
+        @Override
+        public void onFail(Throwable e) {
+            // client state is unknown, next push should be full push.
+            deltaPushRecorder.remove(clientId, service);
+            delegate.onFail(e);
+        }
     }
 }
@@ -27,11 +27,20 @@ import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.misc.Loggers;
 import com.alibaba.nacos.naming.misc.NamingExecuteTaskDispatcher;
 import com.alibaba.nacos.naming.misc.SwitchDomain;
+import com.alibaba.nacos.naming.push.v2.PushConfig;
 import com.alibaba.nacos.naming.push.v2.executor.PushExecutor;
 
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Nacos naming push delay task execute engine.
  *
+ * <p>Changes of whole services are recorded into a lock-free dirty set by {@link #addServiceChanged(Service)} and
+ * turned into {@link PushDelayTask} once per service by the processing tick, so that bursts of changes for the same
+ * service don't contend on the task lock of the engine.
+ *
  * @author xiweng.yy
  */
 public class PushDelayTaskExecuteEngine extends NacosDelayTaskExecuteEngine {
@@ -48,6 +57,11 @@ public class PushDelayTaskExecuteEngine extends NacosDelayTaskExecuteEngine {
     
     private final SwitchDomain switchDomain;
     
+    /**
+     * Changed services which are waiting to push, value is the time of the first change not pushed yet.
+     */
+    private final ConcurrentHashMap<Service, Long> dirtyServices = new ConcurrentHashMap<>();
+    
     public PushDelayTaskExecuteEngine(ClientManager clientManager, ClientServiceIndexesManager indexesManager,
                                       ServiceStorage serviceStorage, NamingMetadataManager metadataManager,
                                       PushExecutor pushExecutor, SwitchDomain switchDomain) {
@@ -81,14 +95,56 @@ public class PushDelayTaskExecuteEngine extends NacosDelayTaskExecuteEngine {
         return pushExecutor;
     }
     
+    /**
+     * Mark the service changed and push it to all subscribers after the push task delay.
+     *
+     * <p>Repeated changes before the push are coalesced without locking or creating new tasks.
+     *
+     * @param service changed service
+     */
+    public void addServiceChanged(Service service) {
+        if (!dirtyServices.containsKey(service)) {
+            dirtyServices.putIfAbsent(service, System.currentTimeMillis());
+        }
+    }
+    
+    @Override
+    public int size() {
+        return super.size() + dirtyServices.size();
+    }
+    
+    @Override
+    public boolean isEmpty() {
+        return super.isEmpty() && dirtyServices.isEmpty();
+    }
+    
     @Override
     protected void processTasks() {
         if (!switchDomain.isPushEnabled()) {
             return;
         }
+        drainDirtyServices();
         super.processTasks();
     }
     
+    private void drainDirtyServices() {
+        if (dirtyServices.isEmpty()) {
+            return;
+        }
+        long deadline = System.currentTimeMillis() - PushConfig.getInstance().getPushTaskDelay();
+        Iterator<Map.Entry<Service, Long>> iterator = dirtyServices.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Service, Long> entry = iterator.next();
+            if (entry.getValue() > deadline) {
+                continue;
+            }
+            // Remove only the observed mark, a newer mark will be handled by next tick.
+            if (dirtyServices.remove(entry.getKey(), entry.getValue())) {
+                addTask(entry.getKey(), new PushDelayTask(entry.getKey(), 0L));
+            }
+        }
+    }
+    
     private static class PushDelayTaskProcessor implements NacosTaskProcessor {
         
         private final PushDelayTaskExecuteEngine executeEngine;
@@ -22,6 +22,7 @@ import com.alibaba.nacos.common.task.AbstractExecuteTask;
 import com.alibaba.nacos.common.trace.event.naming.PushServiceTraceEvent;
 import com.alibaba.nacos.naming.core.v2.client.Client;
 import com.alibaba.nacos.naming.core.v2.client.manager.ClientManager;
+import com.alibaba.nacos.naming.core.v2.index.RevisionedServiceInfo;
 import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.misc.Loggers;
@@ -75,9 +76,9 @@ public class PushExecuteTask extends AbstractExecuteTask {
     }
     
     private PushDataWrapper generatePushData() {
-        ServiceInfo serviceInfo = delayTaskEngine.getServiceStorage().getPushData(service);
+        RevisionedServiceInfo pushData = delayTaskEngine.getServiceStorage().getRevisionedPushData(service);
         ServiceMetadata serviceMetadata = delayTaskEngine.getMetadataManager().getServiceMetadata(service).orElse(null);
-        return new PushDataWrapper(serviceMetadata, serviceInfo);
+        return new PushDataWrapper(serviceMetadata, pushData.getServiceInfo(), pushData.getRevision());
     }
     
     private Collection<String> getTargetClientIds() {
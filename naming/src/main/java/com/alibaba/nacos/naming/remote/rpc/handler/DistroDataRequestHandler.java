@@ -29,6 +29,8 @@ import com.alibaba.nacos.naming.consistency.ephemeral.distro.v2.DistroClientData
 import com.alibaba.nacos.naming.misc.Loggers;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * Distro data request handler.
  *
@@ -55,6 +57,8 @@ public class DistroDataRequestHandler extends RequestHandler<DistroDataRequest,
                 case CHANGE:
                 case DELETE:
                     return handleSyncData(request.getDistroData());
+                case BATCH:
+                    return handleBatchSyncData(request.getDistroDataList());
                 case QUERY:
                     return handleQueryData(request.getDistroData());
                 default:
@@ -93,6 +97,15 @@ public class DistroDataRequestHandler extends RequestHandler<DistroDataRequest,
         return result;
     }
     
+    private DistroDataResponse handleBatchSyncData(List<DistroData> distroDataList) {
+        DistroDataResponse result = new DistroDataResponse();
+        if (!distroProtocol.onReceiveBatch(distroDataList)) {
+            result.setErrorCode(ResponseCode.FAIL.getCode());
+            result.setMessage("[DISTRO-FAILED] distro batch data handle failed");
+        }
+        return result;
+    }
+    
     private DistroDataResponse handleQueryData(DistroData distroData) {
         DistroDataResponse result = new DistroDataResponse();
         DistroKey distroKey = distroData.getDistroKey();
@@ -20,6 +20,7 @@ import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.remote.RequestCallBack;
 import com.alibaba.nacos.api.remote.response.Response;
 import com.alibaba.nacos.api.remote.response.ResponseCode;
+import com.alibaba.nacos.consistency.DataOperation;
 import com.alibaba.nacos.core.cluster.Member;
 import com.alibaba.nacos.core.cluster.NodeState;
 import com.alibaba.nacos.core.cluster.ServerMemberManager;
@@ -29,6 +30,7 @@ import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
 import com.alibaba.nacos.core.distributed.distro.exception.DistroException;
 import com.alibaba.nacos.core.remote.control.TpsMonitorManager;
+import com.alibaba.nacos.naming.cluster.remote.request.DistroDataRequest;
 import com.alibaba.nacos.naming.cluster.remote.response.DistroDataResponse;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import com.alibaba.nacos.sys.utils.ApplicationUtils;
@@ -42,9 +44,13 @@ import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.mock.env.MockEnvironment;
 
+import java.util.Collections;
+import java.util.List;
+
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
@@ -234,6 +240,50 @@ public class DistroClientTransportAgentTest {
         verify(distroCallback).onSuccess();
     }
     
+    @Test
+    public void testSupportBatchSync() {
+        assertTrue(transportAgent.supportBatchSync());
+    }
+    
+    @Test
+    public void testSyncBatchDataForMemberNonExist() throws NacosException {
+        assertTrue(transportAgent.syncBatchData(Collections.singletonList(new DistroData()), member.getAddress()));
+        verify(clusterRpcClientProxy, never()).sendRequest(any(Member.class), any());
+    }
+    
+    @Test
+    public void testSyncBatchDataSuccess() throws NacosException {
+        when(memberManager.hasMember(member.getAddress())).thenReturn(true);
+        member.setState(NodeState.UP);
+        when(clusterRpcClientProxy.isRunning(member)).thenReturn(true);
+        List<DistroData> batchData = Collections.singletonList(new DistroData());
+        assertTrue(transportAgent.syncBatchData(batchData, member.getAddress()));
+        verify(clusterRpcClientProxy).sendRequest(eq(member), argThat(request -> {
+            DistroDataRequest distroDataRequest = (DistroDataRequest) request;
+            return DataOperation.BATCH == distroDataRequest.getDataOperation()
+                    && batchData == distroDataRequest.getDistroDataList();
+        }));
+    }
+    
+    @Test
+    public void testSyncBatchDataWithCallbackForMemberUnhealthy() throws NacosException {
+        when(memberManager.hasMember(member.getAddress())).thenReturn(true);
+        transportAgent.syncBatchData(Collections.singletonList(new DistroData()), member.getAddress(), distroCallback);
+        verify(distroCallback).onFailed(null);
+        verify(clusterRpcClientProxy, never()).asyncRequest(any(Member.class), any(), any());
+    }
+    
+    @Test
+    public void testSyncBatchDataWithCallbackSuccess() throws NacosException {
+        when(memberManager.hasMember(member.getAddress())).thenReturn(true);
+        member.setState(NodeState.UP);
+        when(clusterRpcClientProxy.isRunning(member)).thenReturn(true);
+        transportAgent.syncBatchData(Collections.singletonList(new DistroData()), member.getAddress(), distroCallback);
+        verify(distroCallback).onSuccess();
+        verify(clusterRpcClientProxy).asyncRequest(eq(member), argThat(
+                request -> DataOperation.BATCH == ((DistroDataRequest) request).getDataOperation()), any());
+    }
+    
     @Test
     public void testSyncVerifyDataForMemberNonExist() throws NacosException {
         DistroData verifyData = new DistroData();
@@ -0,0 +1,123 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.core.v2.index;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ServiceInstancesSnapshotTest {
+    
+    private ServiceInstancesSnapshot snapshot;
+    
+    private Map<String, List<Instance>> clientData;
+    
+    private AtomicInteger loadCount;
+    
+    @Before
+    public void setUp() {
+        snapshot = new ServiceInstancesSnapshot();
+        clientData = new HashMap<>();
+        clientData.put("client1", Collections.singletonList(newInstance("1.1.1.1", "A")));
+        clientData.put("client2", Collections.singletonList(newInstance("1.1.1.2", "B")));
+        loadCount = new AtomicInteger();
+    }
+    
+    @Test
+    public void testFirstRefreshLoadAllClients() {
+        assertTrue(snapshot.isStale());
+        ServiceInfo actual = refresh().getServiceInfo();
+        assertEquals(2, actual.getHosts().size());
+        assertEquals(2, loadCount.get());
+        assertTrue(snapshot.getRevision() > 0L);
+        assertEquals(2, snapshot.getClusters().size());
+        assertFalse(snapshot.isStale());
+    }
+    
+    @Test
+    public void testRefreshWithoutChangeReturnSameSnapshot() {
+        RevisionedServiceInfo first = refresh();
+        RevisionedServiceInfo second = refresh();
+        assertSame(first, second);
+        assertEquals(first.getRevision(), snapshot.getRevision());
+        assertEquals(2, loadCount.get());
+    }
+    
+    @Test
+    public void testRefreshOnlyDirtyClient() {
+        final long firstRevision = refresh().getRevision();
+        clientData.put("client2", Collections.emptyList());
+        snapshot.markDirty("client2");
+        ServiceInfo actual = refresh().getServiceInfo();
+        assertEquals(1, actual.getHosts().size());
+        assertEquals("1.1.1.1", actual.getHosts().get(0).getIp());
+        assertEquals(3, loadCount.get());
+        assertEquals(firstRevision + 1, snapshot.getRevision());
+        assertEquals(Collections.singleton("A"), snapshot.getClusters());
+    }
+    
+    @Test
+    public void testMarkMetadataDirty() {
+        refresh();
+        snapshot.markMetadataDirty("1.1.1.1:8848:A");
+        assertTrue(snapshot.isStale());
+        refresh();
+        assertEquals(3, loadCount.get());
+    }
+    
+    @Test
+    public void testSameInstanceOfDifferentClientsDeduplicated() {
+        clientData.put("client3", Arrays.asList(newInstance("1.1.1.1", "A"), newInstance("1.1.1.3", "A")));
+        ServiceInfo actual = refresh().getServiceInfo();
+        assertEquals(3, actual.getHosts().size());
+    }
+    
+    @Test
+    public void testRevisionNotReusedByNewSnapshot() {
+        long removedRevision = refresh().getRevision();
+        snapshot = new ServiceInstancesSnapshot();
+        assertTrue(refresh().getRevision() > removedRevision);
+    }
+    
+    private RevisionedServiceInfo refresh() {
+        return snapshot.refresh(clientId -> {
+            loadCount.incrementAndGet();
+            return clientData.getOrDefault(clientId, Collections.emptyList());
+        }, clientData.keySet(), new ServiceInfo());
+    }
+    
+    private Instance newInstance(String ip, String cluster) {
+        Instance result = new Instance();
+        result.setIp(ip);
+        result.setPort(8848);
+        result.setClusterName(cluster);
+        return result;
+    }
+}
@@ -18,7 +18,10 @@ package com.alibaba.nacos.naming.core.v2.index;
 
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.naming.core.v2.ServiceManager;
+import com.alibaba.nacos.naming.core.v2.client.Client;
 import com.alibaba.nacos.naming.core.v2.client.manager.ClientManagerDelegate;
+import com.alibaba.nacos.naming.core.v2.event.metadata.MetadataEvent;
 import com.alibaba.nacos.naming.core.v2.metadata.NamingMetadataManager;
 import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
@@ -34,6 +37,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -66,6 +70,8 @@ public class ServiceStorageTest {
     
     private static final Service SERVICE = Service.newService("namespaceId", "groupName", "serviceName");
     
+    private static final Service SNAPSHOT_SERVICE = Service.newService("namespaceId", "groupName", "snapshotService");
+    
     private static final String NACOS = "nacos";
     
     @Before
@@ -130,15 +136,97 @@ public class ServiceStorageTest {
     }
     
     @Test
-    public void testGetAllInstancesFromIndex()
+    public void testGetInstancesFromClient()
             throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
         Class<ServiceStorage> serviceStorageClass = ServiceStorage.class;
-        Method getAllInstancesFromIndex = serviceStorageClass
-                .getDeclaredMethod("getAllInstancesFromIndex", Service.class);
-        getAllInstancesFromIndex.setAccessible(true);
-        List<Instance> list = (List<Instance>) getAllInstancesFromIndex.invoke(serviceStorage, SERVICE);
+        Method getInstancesFromClient = serviceStorageClass
+                .getDeclaredMethod("getInstancesFromClient", String.class, Service.class);
+        getInstancesFromClient.setAccessible(true);
+        List<Instance> list = (List<Instance>) getInstancesFromClient.invoke(serviceStorage, NACOS, SERVICE);
         
         Assert.assertNotNull(list);
+        Assert.assertTrue(list.isEmpty());
+    }
+    
+    @Test
+    public void testGetRevisionWithoutSnapshot() {
+        Assert.assertEquals(0L, serviceStorage.getRevision(SERVICE));
+    }
+    
+    @Test
+    public void testGetPushDataFromSnapshot() {
+        Service service = ServiceManager.getInstance().getSingleton(SNAPSHOT_SERVICE);
+        try {
+            mockPublishers(service);
+            ServiceInfo pushData = serviceStorage.getPushData(service);
+            
+            Set<String> ips = new HashSet<>();
+            for (Instance each : pushData.getHosts()) {
+                ips.add(each.getIp());
+            }
+            // Same instance published by client1 and client2 only appears once.
+            Assert.assertEquals(2, pushData.getHosts().size());
+            Assert.assertEquals(new HashSet<>(Arrays.asList("1.1.1.1", "1.1.1.2")), ips);
+            Assert.assertEquals(Collections.singleton(NACOS), serviceStorage.getClusters(service));
+            Assert.assertSame(pushData, serviceStorage.getPushData(service));
+        } finally {
+            ServiceManager.getInstance().removeSingleton(service);
+        }
+    }
+    
+    @Test
+    public void testRevisionNotReusedAfterServiceRecreated() {
+        Service service = ServiceManager.getInstance().getSingleton(SNAPSHOT_SERVICE);
+        try {
+            mockPublishers(service);
+            final long removedRevision = serviceStorage.getRevisionedPushData(service).getRevision();
+            serviceStorage.removeData(service);
+            ServiceManager.getInstance().removeSingleton(service);
+            
+            Service recreated = ServiceManager.getInstance().getSingleton(SNAPSHOT_SERVICE);
+            Assert.assertEquals(0L, serviceStorage.getRevision(recreated));
+            Assert.assertTrue(serviceStorage.getRevisionedPushData(recreated).getRevision() > removedRevision);
+        } finally {
+            ServiceManager.getInstance().removeSingleton(SNAPSHOT_SERVICE);
+        }
+    }
+    
+    @Test
+    public void testNotSubscribeExpiredStatusOfInstanceMetadata() {
+        Assert.assertTrue(serviceStorage.subscribeTypes().contains(MetadataEvent.InstanceMetadataChangedEvent.class));
+        Assert.assertFalse(serviceStorage.subscribeTypes().contains(MetadataEvent.InstanceMetadataEvent.class));
+    }
+    
+    @Test
+    public void testRefreshSnapshotAfterInstanceMetadataChanged() {
+        Service service = ServiceManager.getInstance().getSingleton(SNAPSHOT_SERVICE);
+        try {
+            mockPublishers(service);
+            long revision = serviceStorage.getRevisionedPushData(service).getRevision();
+            String metadataId = InstancePublishInfo.genMetadataId("1.1.1.2", 8848, NACOS);
+            serviceStorage.onEvent(new MetadataEvent.InstanceMetadataEvent(service, metadataId, true));
+            Assert.assertEquals(revision, serviceStorage.getRevisionedPushData(service).getRevision());
+            serviceStorage.onEvent(new MetadataEvent.InstanceMetadataChangedEvent(service, metadataId));
+            Assert.assertTrue(serviceStorage.getRevisionedPushData(service).getRevision() > revision);
+        } finally {
+            ServiceManager.getInstance().removeSingleton(service);
+        }
+    }
+    
+    private void mockPublishers(Service service) {
+        Mockito.when(clientServiceIndexesManager.getAllClientsRegisteredService(service))
+                .thenReturn(Arrays.asList("client1", "client2", "client3"));
+        mockPublisher(service, "client1", "1.1.1.1");
+        mockPublisher(service, "client2", "1.1.1.1");
+        mockPublisher(service, "client3", "1.1.1.2");
+    }
+    
+    private void mockPublisher(Service service, String clientId, String ip) {
+        InstancePublishInfo publishInfo = new InstancePublishInfo(ip, 8848);
+        publishInfo.setCluster(NACOS);
+        Client client = Mockito.mock(Client.class);
+        Mockito.when(client.getInstancePublishInfo(service)).thenReturn(publishInfo);
+        Mockito.when(clientManagerDelegate.getClient(clientId)).thenReturn(client);
     }
     
     @Test
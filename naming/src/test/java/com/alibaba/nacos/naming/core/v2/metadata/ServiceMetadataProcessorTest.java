@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.naming.core.v2.metadata;
 
+import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.consistency.SerializeFactory;
 import com.alibaba.nacos.consistency.Serializer;
 import com.alibaba.nacos.consistency.cp.CPProtocol;
@@ -26,6 +27,7 @@ import com.alibaba.nacos.consistency.snapshot.SnapshotOperation;
 import com.alibaba.nacos.core.distributed.ProtocolManager;
 import com.alibaba.nacos.naming.constants.Constants;
 import com.alibaba.nacos.naming.core.v2.ServiceManager;
+import com.alibaba.nacos.naming.core.v2.event.metadata.MetadataEvent;
 import com.alibaba.nacos.naming.core.v2.index.ServiceStorage;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.core.v2.upgrade.doublewrite.delay.DoubleWriteEventListener;
@@ -36,6 +38,7 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
+import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.context.ConfigurableApplicationContext;
@@ -43,6 +46,7 @@ import org.springframework.context.ConfigurableApplicationContext;
 import java.lang.reflect.Field;
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -152,6 +156,25 @@ public class ServiceMetadataProcessorTest {
         Assert.assertFalse(otherResponse.getSuccess());
     }
     
+    @Test
+    public void testDeleteServiceMetadataPublishRemovedEvent() throws NoSuchFieldException, IllegalAccessException {
+        MetadataOperation<ServiceMetadata> metadataOperation = new MetadataOperation<>();
+        metadataOperation.setMetadata(new ServiceMetadata());
+        metadataOperation.setServiceName("removed");
+        metadataOperation.setNamespace("namespace");
+        metadataOperation.setGroup("group");
+        WriteRequest deleteRequest = WriteRequest.newBuilder().setOperation("DELETE")
+                .setData(ByteString.copyFrom(SerializeFactory.getDefault().serialize(metadataOperation))).build();
+        Service service = ServiceManager.getInstance().getSingleton(Service.newService("namespace", "group", "removed"));
+        try (MockedStatic<NotifyCenter> notifyCenter = Mockito.mockStatic(NotifyCenter.class)) {
+            Assert.assertTrue(serviceMetadataProcessor.onApply(deleteRequest).getSuccess());
+            notifyCenter.verify(() -> NotifyCenter.publishEvent(argThat(
+                    event -> event instanceof MetadataEvent.ServiceMetadataEvent && ((MetadataEvent) event).isExpired()
+                            && service == ((MetadataEvent) event).getService())));
+        }
+        Assert.assertFalse(ServiceManager.getInstance().containSingleton(service));
+    }
+    
     @Test
     public void testGroup() {
         String group = serviceMetadataProcessor.group();
@@ -0,0 +1,136 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.healthcheck.heartbeat;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class BeatCheckWheelTest {
+    
+    private static final long TICK = 10L;
+    
+    private static final long DEFAULT_INTERVAL = 100L;
+    
+    private BeatCheckWheel wheel;
+    
+    private long startTime;
+    
+    @Before
+    public void setUp() {
+        wheel = new BeatCheckWheel(TICK, 8, DEFAULT_INTERVAL, Runnable::run, false);
+        startTime = System.currentTimeMillis();
+    }
+    
+    @After
+    public void tearDown() {
+        wheel.shutdown();
+    }
+    
+    @Test
+    public void testFirstCheckAfterDefaultInterval() {
+        MockBeatCheckTask task = new MockBeatCheckTask(startTime);
+        wheel.schedule(task, task);
+        wheel.advance(startTime + DEFAULT_INTERVAL / 2);
+        assertEquals(0, task.count.get());
+        wheel.advance(startTime + DEFAULT_INTERVAL * 3);
+        assertEquals(1, task.count.get());
+        assertEquals(1, wheel.getScheduledCount());
+    }
+    
+    @Test
+    public void testPostponeUntilNextCheckTime() {
+        MockBeatCheckTask task = new MockBeatCheckTask(startTime);
+        BeatCheckWheel.BeatCheckTimeout timeout = wheel.schedule(task, task);
+        wheel.advance(startTime + DEFAULT_INTERVAL * 3);
+        assertEquals(1, task.count.get());
+        assertEquals(task.nextCheckTime, timeout.getDeadline());
+        wheel.advance(startTime + DEFAULT_INTERVAL * 30);
+        assertEquals(1, task.count.get());
+    }
+    
+    @Test
+    public void testNotCheckIfBeatAfterScheduled() {
+        MockBeatCheckTask task = new MockBeatCheckTask(startTime);
+        final BeatCheckWheel.BeatCheckTimeout timeout = wheel.schedule(task, task);
+        // Beat received after scheduled, the cached deadline is stale now.
+        task.nextCheckTime = startTime + DEFAULT_INTERVAL * 5;
+        wheel.advance(startTime + DEFAULT_INTERVAL * 3);
+        assertEquals(0, task.count.get());
+        assertEquals(task.nextCheckTime, timeout.getDeadline());
+        wheel.advance(startTime + DEFAULT_INTERVAL * 6);
+        assertEquals(1, task.count.get());
+    }
+    
+    @Test
+    public void testRefresh() {
+        MockBeatCheckTask task = new MockBeatCheckTask(startTime);
+        final BeatCheckWheel.BeatCheckTimeout timeout = wheel.schedule(task, task);
+        wheel.advance(startTime + DEFAULT_INTERVAL * 3);
+        assertEquals(1, task.count.get());
+        task.nextCheckTime = startTime;
+        timeout.refresh();
+        wheel.advance(startTime + DEFAULT_INTERVAL * 6);
+        assertEquals(2, task.count.get());
+    }
+    
+    @Test
+    public void testCancel() {
+        MockBeatCheckTask task = new MockBeatCheckTask(0L);
+        BeatCheckWheel.BeatCheckTimeout timeout = wheel.schedule(task, task);
+        assertTrue(timeout.cancel());
+        assertTrue(timeout.isCancelled());
+        assertFalse(timeout.cancel());
+        wheel.advance(startTime + DEFAULT_INTERVAL * 3);
+        assertEquals(0, task.count.get());
+        assertEquals(0, wheel.getScheduledCount());
+    }
+    
+    private static class MockBeatCheckTask implements BeatCheckTask {
+        
+        private final AtomicInteger count = new AtomicInteger();
+        
+        private volatile long nextCheckTime;
+        
+        private MockBeatCheckTask(long nextCheckTime) {
+            this.nextCheckTime = nextCheckTime;
+        }
+        
+        @Override
+        public String taskKey() {
+            return "mock";
+        }
+        
+        @Override
+        public long nextCheckTime() {
+            return nextCheckTime;
+        }
+        
+        @Override
+        public void run() {
+            count.incrementAndGet();
+            // Overdue instances are handled by the check, so nothing to check until the next beat timeout.
+            nextCheckTime = System.currentTimeMillis() + 60000L;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 1999-2018 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.healthcheck.heartbeat;
+
+import com.alibaba.nacos.api.naming.utils.NamingUtils;
+import com.alibaba.nacos.naming.core.v2.client.impl.IpPortBasedClient;
+import com.alibaba.nacos.naming.core.v2.pojo.HealthCheckInstancePublishInfo;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import com.alibaba.nacos.naming.healthcheck.RsInfo;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ClientBeatProcessorV2Test {
+    
+    private static final String NAMESPACE = "namespace";
+    
+    @Mock
+    private IpPortBasedClient client;
+    
+    private HealthCheckInstancePublishInfo instance;
+    
+    private ClientBeatProcessorV2 beatProcessor;
+    
+    @Before
+    public void setUp() {
+        instance = new HealthCheckInstancePublishInfo("1.1.1.1", 10000);
+        when(client.getInstancePublishInfo(any(Service.class))).thenReturn(instance);
+        RsInfo rsInfo = new RsInfo();
+        rsInfo.setIp(instance.getIp());
+        rsInfo.setPort(instance.getPort());
+        rsInfo.setServiceName(NamingUtils.getGroupedName("service", "group"));
+        rsInfo.setEphemeral(true);
+        beatProcessor = new ClientBeatProcessorV2(NAMESPACE, rsInfo, client);
+    }
+    
+    @Test
+    public void testRefreshBeatCheckWhenBecomeHealthy() {
+        instance.setHealthy(false);
+        beatProcessor.run();
+        assertTrue(instance.isHealthy());
+        verify(client).refreshBeatCheck();
+    }
+    
+    @Test
+    public void testNotRefreshBeatCheckWhenStillHealthy() {
+        instance.setHealthy(true);
+        beatProcessor.run();
+        verify(client, never()).refreshBeatCheck();
+    }
+}
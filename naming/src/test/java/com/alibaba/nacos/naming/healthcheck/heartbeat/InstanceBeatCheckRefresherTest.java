@@ -0,0 +1,81 @@
+/*
+ * Copyright 1999-2018 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.healthcheck.heartbeat;
+
+import com.alibaba.nacos.naming.core.v2.client.impl.IpPortBasedClient;
+import com.alibaba.nacos.naming.core.v2.client.manager.ClientManagerDelegate;
+import com.alibaba.nacos.naming.core.v2.event.metadata.MetadataEvent;
+import com.alibaba.nacos.naming.core.v2.index.ClientServiceIndexesManager;
+import com.alibaba.nacos.naming.core.v2.pojo.HealthCheckInstancePublishInfo;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Arrays;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class InstanceBeatCheckRefresherTest {
+    
+    private static final String CHANGED_CLIENT = "1.1.1.1:10000#true";
+    
+    private static final String OTHER_CLIENT = "1.1.1.2:10000#true";
+    
+    @Mock
+    private ClientServiceIndexesManager clientServiceIndexesManager;
+    
+    @Mock
+    private ClientManagerDelegate clientManager;
+    
+    @Mock
+    private IpPortBasedClient changedClient;
+    
+    @Mock
+    private IpPortBasedClient otherClient;
+    
+    private Service service;
+    
+    private InstanceBeatCheckRefresher refresher;
+    
+    @Before
+    public void setUp() {
+        service = Service.newService("namespace", "group", "service");
+        when(clientServiceIndexesManager.getAllClientsRegisteredService(service))
+                .thenReturn(Arrays.asList(CHANGED_CLIENT, OTHER_CLIENT));
+        when(clientManager.getClient(CHANGED_CLIENT)).thenReturn(changedClient);
+        when(clientManager.getClient(OTHER_CLIENT)).thenReturn(otherClient);
+        when(changedClient.getInstancePublishInfo(service))
+                .thenReturn(new HealthCheckInstancePublishInfo("1.1.1.1", 10000));
+        when(otherClient.getInstancePublishInfo(service))
+                .thenReturn(new HealthCheckInstancePublishInfo("1.1.1.2", 10000));
+        refresher = new InstanceBeatCheckRefresher(clientServiceIndexesManager, clientManager);
+    }
+    
+    @Test
+    public void testRefreshBeatCheckOfChangedInstance() {
+        String metadataId = new HealthCheckInstancePublishInfo("1.1.1.1", 10000).getMetadataId();
+        refresher.onEvent(new MetadataEvent.InstanceMetadataChangedEvent(service, metadataId));
+        verify(changedClient).refreshBeatCheck();
+        verify(otherClient, never()).refreshBeatCheck();
+    }
+}
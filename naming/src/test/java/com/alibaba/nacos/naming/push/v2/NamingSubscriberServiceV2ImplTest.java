@@ -123,6 +123,12 @@ public class NamingSubscriberServiceV2ImplTest {
     @Test
     public void onEvent() {
         subscriberService.onEvent(new ServiceEvent.ServiceChangedEvent(service));
+        verify(delayTaskEngine).addServiceChanged(service);
+    }
+    
+    @Test
+    public void onSubscribedEvent() {
+        subscriberService.onEvent(new ServiceEvent.ServiceSubscribedEvent(service, "testClient"));
         verify(delayTaskEngine).addTask(eq(service), any(PushDelayTask.class));
     }
 }
@@ -0,0 +1,191 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.push.v2.cache;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.api.selector.Selector;
+import com.alibaba.nacos.common.remote.codec.PayloadCodec;
+import com.alibaba.nacos.common.remote.codec.PayloadCodecManager;
+import com.alibaba.nacos.common.utils.JacksonUtils;
+import com.alibaba.nacos.naming.core.v2.event.metadata.MetadataEvent;
+import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import com.alibaba.nacos.naming.monitor.MetricsMonitor;
+import com.alibaba.nacos.naming.pojo.Subscriber;
+import com.alibaba.nacos.naming.push.v2.PushDataWrapper;
+import com.alibaba.nacos.naming.push.v2.delta.ServiceInfoDelta;
+import com.alibaba.nacos.naming.selector.SelectorManager;
+import com.alibaba.nacos.sys.utils.ApplicationUtils;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PushPayloadCacheTest {
+    
+    private final Service service = Service.newService("N", "G", "S");
+    
+    @Mock
+    private ConfigurableApplicationContext context;
+    
+    @Mock
+    private SelectorManager selectorManager;
+    
+    private PushPayloadCache pushPayloadCache;
+    
+    private ServiceMetadata serviceMetadata;
+    
+    private PushDataWrapper pushData;
+    
+    @Before
+    public void setUp() throws Exception {
+        ApplicationUtils.injectContext(context);
+        when(context.getBean(SelectorManager.class)).thenReturn(selectorManager);
+        when(selectorManager.select(any(), any(), any()))
+                .then((Answer<List<Instance>>) invocationOnMock -> invocationOnMock.getArgument(2));
+        pushPayloadCache = new PushPayloadCache();
+        serviceMetadata = new ServiceMetadata();
+        pushData = new PushDataWrapper(serviceMetadata, buildServiceInfo(), 1L);
+    }
+    
+    private ServiceInfo buildServiceInfo() {
+        Instance instance = new Instance();
+        instance.setIp("1.1.1.1");
+        instance.setPort(8848);
+        instance.setClusterName("DEFAULT");
+        ServiceInfo result = new ServiceInfo("G@@S");
+        result.setHosts(Collections.singletonList(instance));
+        return result;
+    }
+    
+    private Subscriber buildSubscriber(String ip) {
+        return new Subscriber(ip + ":0", "", "", ip, "N", "G@@S", 0);
+    }
+    
+    @Test
+    public void testGetServiceInfoReusedBySubscribers() {
+        final long hit = MetricsMonitor.getPushPayloadCacheHitCount().get();
+        final long miss = MetricsMonitor.getPushPayloadCacheMissCount().get();
+        EncodedServiceInfo actual1 = pushPayloadCache.getServiceInfo(service, pushData, buildSubscriber("2.2.2.1"));
+        EncodedServiceInfo actual2 = pushPayloadCache.getServiceInfo(service, pushData, buildSubscriber("2.2.2.2"));
+        assertSame(actual1, actual2);
+        assertEquals(1, actual1.getHosts().size());
+        assertEquals(hit + 1, MetricsMonitor.getPushPayloadCacheHitCount().get());
+        assertEquals(miss + 1, MetricsMonitor.getPushPayloadCacheMissCount().get());
+    }
+    
+    @Test
+    public void testGetServiceInfoWithNewRevision() {
+        EncodedServiceInfo actual1 = pushPayloadCache.getServiceInfo(service, pushData, buildSubscriber("2.2.2.1"));
+        PushDataWrapper newPushData = new PushDataWrapper(serviceMetadata, buildServiceInfo(), 2L);
+        EncodedServiceInfo actual2 = pushPayloadCache.getServiceInfo(service, newPushData, buildSubscriber("2.2.2.1"));
+        assertNotSame(actual1, actual2);
+        assertSame(actual2, pushPayloadCache.getServiceInfo(service, newPushData, buildSubscriber("2.2.2.2")));
+    }
+    
+    @Test
+    public void testDeltaComparedOnceForSameBase() {
+        final EncodedServiceInfo base = pushPayloadCache.getServiceInfo(service, pushData, buildSubscriber("2.2.2.1"));
+        final ServiceInfo newServiceInfo = buildServiceInfo();
+        Instance added = new Instance();
+        added.setIp("1.1.1.2");
+        added.setPort(8848);
+        added.setClusterName("DEFAULT");
+        newServiceInfo.setHosts(Arrays.asList(newServiceInfo.getHosts().get(0), added));
+        PushDataWrapper newPushData = new PushDataWrapper(serviceMetadata, newServiceInfo, 2L);
+        EncodedServiceInfo target = pushPayloadCache.getServiceInfo(service, newPushData, buildSubscriber("2.2.2.1"));
+        
+        ServiceInfoDelta delta = target.deltaFrom(base);
+        assertEquals(1, delta.size());
+        assertEquals(added, delta.getAddedHosts().get(0));
+        assertSame(delta, target.deltaFrom(base));
+        assertSame(target.getHostIndex(), target.getHostIndex());
+        assertEquals(2, target.getHostIndex().size());
+    }
+    
+    @Test
+    public void testGetServiceInfoAfterServiceRecreated() {
+        PushDataWrapper oldPushData = new PushDataWrapper(serviceMetadata, buildServiceInfo(), 5L);
+        EncodedServiceInfo actual1 = pushPayloadCache.getServiceInfo(service, oldPushData, buildSubscriber("2.2.2.1"));
+        // push data is rebuilt after the service data removed and created again.
+        ServiceInfo recreated = new ServiceInfo("G@@S");
+        PushDataWrapper newPushData = new PushDataWrapper(serviceMetadata, recreated, 1L);
+        EncodedServiceInfo actual2 = pushPayloadCache.getServiceInfo(service, newPushData, buildSubscriber("2.2.2.1"));
+        assertNotSame(actual1, actual2);
+        assertEquals(0, actual2.getHosts().size());
+        assertSame(actual2, pushPayloadCache.getServiceInfo(service, newPushData, buildSubscriber("2.2.2.2")));
+    }
+    
+    @Test
+    public void testGetServiceInfoWithSelector() {
+        serviceMetadata.setSelector(mock(Selector.class));
+        EncodedServiceInfo actual1 = pushPayloadCache.getServiceInfo(service, pushData, buildSubscriber("2.2.2.1"));
+        EncodedServiceInfo actual2 = pushPayloadCache.getServiceInfo(service, pushData, buildSubscriber("2.2.2.2"));
+        EncodedServiceInfo actual3 = pushPayloadCache.getServiceInfo(service, pushData, buildSubscriber("2.2.2.1"));
+        assertNotSame(actual1, actual2);
+        assertSame(actual1, actual3);
+    }
+    
+    @Test
+    public void testEncodedServiceInfoSerialize() {
+        EncodedServiceInfo encoded = pushPayloadCache.getServiceInfo(service, pushData, buildSubscriber("2.2.2.1"));
+        NotifySubscriberRequest request = NotifySubscriberRequest.buildNotifySubscriberRequest(encoded);
+        String json = JacksonUtils.toJson(request);
+        NotifySubscriberRequest actual = JacksonUtils.toObj(json, NotifySubscriberRequest.class);
+        assertEquals(pushData.getOriginalData().toString(), actual.getServiceInfo().toString());
+        assertEquals(1, actual.getServiceInfo().getHosts().size());
+    }
+    
+    @Test
+    public void testEncodedServiceInfoSerializeBySmile() {
+        EncodedServiceInfo encoded = pushPayloadCache.getServiceInfo(service, pushData, buildSubscriber("2.2.2.1"));
+        NotifySubscriberRequest request = NotifySubscriberRequest.buildNotifySubscriberRequest(encoded);
+        PayloadCodec codec = PayloadCodecManager.getCodec(PayloadCodecManager.SMILE);
+        NotifySubscriberRequest actual = codec
+                .decode(new ByteArrayInputStream(codec.encode(request)), NotifySubscriberRequest.class);
+        assertEquals(pushData.getOriginalData().toString(), actual.getServiceInfo().toString());
+        assertEquals(1, actual.getServiceInfo().getHosts().size());
+    }
+    
+    @Test
+    public void testRemoveExpiredService() {
+        pushPayloadCache.getServiceInfo(service, pushData, buildSubscriber("2.2.2.1"));
+        assertEquals(1, pushPayloadCache.size());
+        pushPayloadCache.onEvent(new MetadataEvent.ServiceMetadataEvent(service, false));
+        assertEquals(1, pushPayloadCache.size());
+        pushPayloadCache.onEvent(new MetadataEvent.ServiceMetadataEvent(service, true));
+        assertEquals(0, pushPayloadCache.size());
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.push.v2.delta;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+
+public class ServiceInfoDeltaTest {
+    
+    @Test
+    public void testCompare() {
+        Instance unchanged = newInstance("1.1.1.1");
+        Instance removed = newInstance("1.1.1.2");
+        Instance modified = newInstance("1.1.1.3");
+        ServiceInfo base = newServiceInfo(unchanged, removed, modified);
+        Map<String, Instance> baseHosts = ServiceInfoDelta.indexHosts(base);
+        
+        Instance newModified = newInstance("1.1.1.3");
+        newModified.setHealthy(false);
+        Instance added = newInstance("1.1.1.4");
+        ServiceInfoDelta actual = ServiceInfoDelta
+                .compare(baseHosts, ServiceInfoDelta.indexHosts(newServiceInfo(unchanged, newModified, added)));
+        
+        assertEquals(3, actual.size());
+        assertEquals(added, actual.getAddedHosts().get(0));
+        assertEquals(removed, actual.getRemovedHosts().get(0));
+        assertEquals(newModified, actual.getModifiedHosts().get(0));
+    }
+    
+    @Test
+    public void testCompareWithoutChange() {
+        ServiceInfo base = newServiceInfo(newInstance("1.1.1.1"), newInstance("1.1.1.2"));
+        ServiceInfo target = newServiceInfo(newInstance("1.1.1.1"), newInstance("1.1.1.2"));
+        ServiceInfoDelta actual = ServiceInfoDelta
+                .compare(ServiceInfoDelta.indexHosts(base), ServiceInfoDelta.indexHosts(target));
+        assertEquals(0, actual.size());
+    }
+    
+    private ServiceInfo newServiceInfo(Instance... instances) {
+        ServiceInfo result = new ServiceInfo("G@@S");
+        List<Instance> hosts = new ArrayList<>();
+        for (Instance each : instances) {
+            hosts.add(each);
+        }
+        result.setHosts(hosts);
+        return result;
+    }
+    
+    private Instance newInstance(String ip) {
+        Instance result = new Instance();
+        result.setIp(ip);
+        result.setPort(8848);
+        result.setClusterName("DEFAULT");
+        return result;
+    }
+}
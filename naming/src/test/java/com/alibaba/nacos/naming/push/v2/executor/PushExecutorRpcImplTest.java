@@ -16,19 +16,34 @@
 
 package com.alibaba.nacos.naming.push.v2.executor;
 
+import com.alibaba.nacos.api.ability.ClientAbilities;
+import com.alibaba.nacos.api.grpc.auto.Payload;
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberDeltaRequest;
 import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
 import com.alibaba.nacos.api.remote.PushCallBack;
+import com.alibaba.nacos.api.remote.request.ServerRequest;
+import com.alibaba.nacos.common.event.ServerConfigChangeEvent;
+import com.alibaba.nacos.common.remote.PayloadRegistry;
+import com.alibaba.nacos.common.remote.client.grpc.GrpcUtils;
+import com.alibaba.nacos.common.remote.codec.PayloadCodecManager;
+import com.alibaba.nacos.core.remote.Connection;
+import com.alibaba.nacos.core.remote.ConnectionManager;
 import com.alibaba.nacos.core.remote.RpcPushService;
+import com.alibaba.nacos.naming.constants.PushConstants;
 import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
 import com.alibaba.nacos.naming.misc.GlobalExecutor;
 import com.alibaba.nacos.naming.pojo.Subscriber;
+import com.alibaba.nacos.naming.push.v2.PushConfig;
 import com.alibaba.nacos.naming.push.v2.PushDataWrapper;
+import com.alibaba.nacos.naming.push.v2.cache.PushPayloadCache;
+import com.alibaba.nacos.naming.push.v2.delta.DeltaPushRecorder;
 import com.alibaba.nacos.naming.push.v2.task.NamingPushCallback;
 import com.alibaba.nacos.naming.selector.SelectorManager;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import com.alibaba.nacos.sys.utils.ApplicationUtils;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -39,13 +54,18 @@ import org.mockito.stubbing.Answer;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.mock.env.MockEnvironment;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -69,6 +89,11 @@ public class PushExecutorRpcImplTest {
     @Mock
     private ConfigurableApplicationContext context;
     
+    @Mock
+    private ConnectionManager connectionManager;
+    
+    private DeltaPushRecorder deltaPushRecorder;
+    
     private PushDataWrapper pushData;
     
     private PushExecutorRpcImpl pushExecutor;
@@ -80,7 +105,9 @@ public class PushExecutorRpcImplTest {
         EnvUtil.setEnvironment(new MockEnvironment());
         serviceMetadata = new ServiceMetadata();
         pushData = new PushDataWrapper(serviceMetadata, new ServiceInfo("G@@S"));
-        pushExecutor = new PushExecutorRpcImpl(pushService);
+        deltaPushRecorder = new DeltaPushRecorder();
+        pushExecutor = new PushExecutorRpcImpl(pushService, connectionManager, deltaPushRecorder,
+                new PushPayloadCache());
         EnvUtil.setEnvironment(new MockEnvironment());
         doAnswer(new CallbackAnswer()).when(pushService)
                 .pushWithCallback(eq(rpcClientId), any(NotifySubscriberRequest.class), eq(pushCallBack),
@@ -103,6 +130,124 @@ public class PushExecutorRpcImplTest {
         verify(pushCallBack).onSuccess();
     }
     
+    @Test
+    public void testDoPushWithSmileCodec() {
+        Instance instance = new Instance();
+        instance.setIp("1.1.1.1");
+        instance.setPort(8848);
+        instance.setClusterName("DEFAULT");
+        ServiceInfo serviceInfo = new ServiceInfo("G@@S");
+        serviceInfo.setHosts(Collections.singletonList(instance));
+        List<ServerRequest> requests = new ArrayList<>();
+        doAnswer(invocationOnMock -> requests.add(invocationOnMock.getArgument(1))).when(pushService)
+                .pushWithoutAck(eq(rpcClientId), any(ServerRequest.class));
+        pushExecutor.doPush(rpcClientId, subscriber, new PushDataWrapper(serviceMetadata, serviceInfo, 1L));
+        assertEquals(1, requests.size());
+        PayloadRegistry.init();
+        Payload payload = GrpcUtils
+                .convert(requests.get(0), PayloadCodecManager.getCodec(PayloadCodecManager.SMILE));
+        NotifySubscriberRequest actual = (NotifySubscriberRequest) GrpcUtils.parse(payload);
+        assertEquals(serviceInfo.toString(), actual.getServiceInfo().toString());
+        assertEquals(1, actual.getServiceInfo().getHosts().size());
+        assertEquals("1.1.1.1", actual.getServiceInfo().getHosts().get(0).getIp());
+    }
+    
+    @After
+    public void tearDown() {
+        EnvUtil.setEnvironment(new MockEnvironment());
+        PushConfig.getInstance().onEvent(ServerConfigChangeEvent.newEvent());
+    }
+    
+    @Test
+    public void testDoPushWithCallbackByDelta() {
+        MockEnvironment environment = new MockEnvironment();
+        environment.setProperty(PushConstants.PUSH_DELTA_ENABLED, "true");
+        EnvUtil.setEnvironment(environment);
+        PushConfig.getInstance().onEvent(ServerConfigChangeEvent.newEvent());
+        Connection connection = mock(Connection.class);
+        ClientAbilities abilities = new ClientAbilities();
+        abilities.getNamingAbility().setSupportDeltaPush(true);
+        when(connection.getAbilities()).thenReturn(abilities);
+        when(connectionManager.getConnection(rpcClientId)).thenReturn(connection);
+        when(subscriber.getNamespaceId()).thenReturn("N");
+        List<ServerRequest> requests = new ArrayList<>();
+        doAnswer(invocationOnMock -> {
+            requests.add(invocationOnMock.getArgument(1));
+            ((PushCallBack) invocationOnMock.getArgument(2)).onSuccess();
+            return null;
+        }).when(pushService).pushWithCallback(eq(rpcClientId), any(ServerRequest.class), any(PushCallBack.class),
+                eq(GlobalExecutor.getCallbackExecutor()));
+        ServiceInfo serviceInfo = new ServiceInfo("G@@S");
+        List<Instance> hosts = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Instance instance = new Instance();
+            instance.setIp("1.1.1." + i);
+            instance.setPort(8848);
+            instance.setClusterName("DEFAULT");
+            hosts.add(instance);
+        }
+        serviceInfo.setHosts(hosts);
+        pushExecutor.doPushWithCallback(rpcClientId, subscriber, new PushDataWrapper(serviceMetadata, serviceInfo, 1L),
+                pushCallBack);
+        ServiceInfo newServiceInfo = new ServiceInfo("G@@S");
+        newServiceInfo.setHosts(new ArrayList<>(hosts.subList(1, 4)));
+        pushExecutor.doPushWithCallback(rpcClientId, subscriber,
+                new PushDataWrapper(serviceMetadata, newServiceInfo, 2L), pushCallBack);
+        assertEquals(2, requests.size());
+        assertTrue(requests.get(0) instanceof NotifySubscriberRequest);
+        assertEquals(1L, ((NotifySubscriberRequest) requests.get(0)).getRevision());
+        assertTrue(requests.get(1) instanceof NotifySubscriberDeltaRequest);
+        NotifySubscriberDeltaRequest deltaRequest = (NotifySubscriberDeltaRequest) requests.get(1);
+        assertEquals(1L, deltaRequest.getBaseRevision());
+        assertEquals(2L, deltaRequest.getRevision());
+        assertEquals(1, deltaRequest.getRemovedHosts().size());
+        assertTrue(deltaRequest.getAddedHosts().isEmpty());
+        assertTrue(deltaRequest.getModifiedHosts().isEmpty());
+        assertTrue(deltaRequest.getServiceInfo().getHosts().isEmpty());
+    }
+    
+    @Test
+    public void testDeltaSharedBySubscribersOfSameRevisions() {
+        MockEnvironment environment = new MockEnvironment();
+        environment.setProperty(PushConstants.PUSH_DELTA_ENABLED, "true");
+        EnvUtil.setEnvironment(environment);
+        PushConfig.getInstance().onEvent(ServerConfigChangeEvent.newEvent());
+        Connection connection = mock(Connection.class);
+        ClientAbilities abilities = new ClientAbilities();
+        abilities.getNamingAbility().setSupportDeltaPush(true);
+        when(connection.getAbilities()).thenReturn(abilities);
+        when(connectionManager.getConnection(any())).thenReturn(connection);
+        when(subscriber.getNamespaceId()).thenReturn("N");
+        List<ServerRequest> requests = new ArrayList<>();
+        doAnswer(invocationOnMock -> requests.add(invocationOnMock.getArgument(1))).when(pushService)
+                .pushWithCallback(any(), any(ServerRequest.class), any(PushCallBack.class),
+                        eq(GlobalExecutor.getCallbackExecutor()));
+        List<Instance> hosts = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Instance instance = new Instance();
+            instance.setIp("1.1.1." + i);
+            instance.setPort(8848);
+            instance.setClusterName("DEFAULT");
+            hosts.add(instance);
+        }
+        ServiceInfo serviceInfo = new ServiceInfo("G@@S");
+        serviceInfo.setHosts(hosts);
+        ServiceInfo newServiceInfo = new ServiceInfo("G@@S");
+        newServiceInfo.setHosts(new ArrayList<>(hosts.subList(1, 4)));
+        PushDataWrapper oldData = new PushDataWrapper(serviceMetadata, serviceInfo, 1L);
+        PushDataWrapper newData = new PushDataWrapper(serviceMetadata, newServiceInfo, 2L);
+        String anotherClientId = UUID.randomUUID().toString();
+        pushExecutor.doPushWithCallback(rpcClientId, subscriber, oldData, pushCallBack);
+        pushExecutor.doPushWithCallback(anotherClientId, subscriber, oldData, pushCallBack);
+        pushExecutor.doPushWithCallback(rpcClientId, subscriber, newData, pushCallBack);
+        pushExecutor.doPushWithCallback(anotherClientId, subscriber, newData, pushCallBack);
+        assertEquals(4, requests.size());
+        NotifySubscriberDeltaRequest delta1 = (NotifySubscriberDeltaRequest) requests.get(2);
+        NotifySubscriberDeltaRequest delta2 = (NotifySubscriberDeltaRequest) requests.get(3);
+        assertEquals(1, delta1.getRemovedHosts().size());
+        assertSame(delta1.getRemovedHosts(), delta2.getRemovedHosts());
+    }
+    
     private class CallbackAnswer implements Answer<Void> {
         
         @Override
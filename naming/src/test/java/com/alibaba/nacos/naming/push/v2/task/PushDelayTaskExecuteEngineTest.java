@@ -20,11 +20,13 @@ import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.naming.core.v2.client.Client;
 import com.alibaba.nacos.naming.core.v2.client.manager.ClientManager;
 import com.alibaba.nacos.naming.core.v2.index.ClientServiceIndexesManager;
+import com.alibaba.nacos.naming.core.v2.index.RevisionedServiceInfo;
 import com.alibaba.nacos.naming.core.v2.index.ServiceStorage;
 import com.alibaba.nacos.naming.core.v2.metadata.NamingMetadataManager;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.misc.SwitchDomain;
 import com.alibaba.nacos.naming.pojo.Subscriber;
+import com.alibaba.nacos.naming.push.v2.PushConfig;
 import com.alibaba.nacos.naming.push.v2.PushDataWrapper;
 import com.alibaba.nacos.naming.push.v2.executor.PushExecutor;
 import org.junit.After;
@@ -37,6 +39,8 @@ import org.mockito.junit.MockitoJUnitRunner;
 import java.util.Collections;
 import java.util.concurrent.TimeUnit;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.verify;
@@ -77,7 +81,8 @@ public class PushDelayTaskExecuteEngineTest {
     
     @Before
     public void setUp() throws Exception {
-        when(serviceStorage.getPushData(service)).thenReturn(new ServiceInfo("G@@S"));
+        when(serviceStorage.getRevisionedPushData(service))
+                .thenReturn(new RevisionedServiceInfo(new ServiceInfo("G@@S"), 1L));
         when(indexesManager.getAllClientsSubscribeService(service)).thenReturn(Collections.singletonList(clientId));
         when(clientManager.getClient(clientId)).thenReturn(client);
         when(client.getSubscriber(service)).thenReturn(subscriber);
@@ -99,4 +104,16 @@ public class PushDelayTaskExecuteEngineTest {
         verify(pushExecutor).doPushWithCallback(anyString(), any(Subscriber.class), any(PushDataWrapper.class),
                 any(NamingPushCallback.class));
     }
+    
+    @Test
+    public void testAddServiceChanged() throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            executeEngine.addServiceChanged(service);
+        }
+        assertEquals(1, executeEngine.size());
+        TimeUnit.MILLISECONDS.sleep(PushConfig.getInstance().getPushTaskDelay() + 300L);
+        verify(pushExecutor).doPushWithCallback(anyString(), any(Subscriber.class), any(PushDataWrapper.class),
+                any(NamingPushCallback.class));
+        assertTrue(executeEngine.isEmpty());
+    }
 }
@@ -21,6 +21,7 @@ import com.alibaba.nacos.core.remote.control.TpsMonitorManager;
 import com.alibaba.nacos.naming.core.v2.client.Client;
 import com.alibaba.nacos.naming.core.v2.client.manager.ClientManager;
 import com.alibaba.nacos.naming.core.v2.index.ClientServiceIndexesManager;
+import com.alibaba.nacos.naming.core.v2.index.RevisionedServiceInfo;
 import com.alibaba.nacos.naming.core.v2.index.ServiceStorage;
 import com.alibaba.nacos.naming.core.v2.metadata.NamingMetadataManager;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
@@ -87,7 +88,8 @@ public class PushExecuteTaskTest {
         when(indexesManager.getAllClientsSubscribeService(service)).thenReturn(Collections.singletonList(clientId));
         when(clientManager.getClient(clientId)).thenReturn(client);
         when(client.getSubscriber(service)).thenReturn(subscriber);
-        when(serviceStorage.getPushData(service)).thenReturn(new ServiceInfo("G@@S"));
+        when(serviceStorage.getRevisionedPushData(service))
+                .thenReturn(new RevisionedServiceInfo(new ServiceInfo("G@@S"), 1L));
         when(delayTaskExecuteEngine.getClientManager()).thenReturn(clientManager);
         when(delayTaskExecuteEngine.getIndexesManager()).thenReturn(indexesManager);
         when(delayTaskExecuteEngine.getPushExecutor()).thenReturn(pushExecutor);
@@ -32,7 +32,10 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.util.Collections;
+
 import static com.alibaba.nacos.consistency.DataOperation.ADD;
+import static com.alibaba.nacos.consistency.DataOperation.BATCH;
 import static com.alibaba.nacos.consistency.DataOperation.DELETE;
 import static com.alibaba.nacos.consistency.DataOperation.QUERY;
 import static com.alibaba.nacos.consistency.DataOperation.SNAPSHOT;
@@ -82,5 +85,12 @@ public class DistroDataRequestHandlerTest {
         distroDataRequest.setDataOperation(ADD);
         DistroDataResponse response4 = distroDataRequestHandler.handle(distroDataRequest, requestMeta);
         Assert.assertNull(response4.getDistroData());
+        
+        distroDataRequest.setDataOperation(BATCH);
+        distroDataRequest.setDistroDataList(Collections.singletonList(distroData));
+        Mockito.when(distroProtocol.onReceiveBatch(Mockito.any())).thenReturn(false);
+        DistroDataResponse response5 = distroDataRequestHandler.handle(distroDataRequest, requestMeta);
+        Assert.assertEquals(response5.getErrorCode(), ResponseCode.FAIL.getCode());
+        Mockito.verify(distroProtocol).onReceiveBatch(distroDataRequest.getDistroDataList());
     }
 }